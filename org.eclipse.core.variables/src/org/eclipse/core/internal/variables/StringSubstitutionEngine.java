@@ -14,8 +14,11 @@
 package org.eclipse.core.internal.variables;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Stack;
 
 import org.eclipse.core.runtime.CoreException;
@@ -29,6 +32,12 @@ import org.eclipse.osgi.util.NLS;
 
 /**
  * Performs string substitution for context and value variables.
+ * <p>
+ * Expressions are parsed once into templates, which are cached by expression
+ * text and shared by all engines. The values of dynamic variables are
+ * resolved once per engine, that is once per substitution, for each distinct
+ * reference.
+ * </p>
  */
 public class StringSubstitutionEngine {
 
@@ -40,6 +49,23 @@ public class StringSubstitutionEngine {
 	private static final int SCAN_FOR_START = 0;
 	private static final int SCAN_FOR_END = 1;
 
+	/**
+	 * Maximum number of cached templates
+	 */
+	private static final int MAX_TEMPLATES = 256;
+
+	/**
+	 * Templates by expression, in access order
+	 */
+	private static final Map<String, Template> fgTemplates = new LinkedHashMap<String, Template>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Template> eldest) {
+			return size() > MAX_TEMPLATES;
+		}
+	};
+
 	/**
 	 * Resulting string
 	 */
@@ -51,26 +77,43 @@ public class StringSubstitutionEngine {
 	private boolean fSubs;
 
 	/**
-	 * Stack of variables to resolve
+	 * Whether value variables were resolved
 	 */
-	private Stack<VariableReference> fStack;
+	private boolean fValues;
 
-	class VariableReference {
+	/**
+	 * Whether dynamic variables were resolved or undefined variables were
+	 * left as is
+	 */
+	private boolean fVolatile;
 
-		// the text inside the variable reference
-		private StringBuilder fText;
+	/**
+	 * Values of the dynamic variables resolved by this engine, by variable
+	 * reference text
+	 */
+	private Map<String, String> fDynamicValues = new HashMap<>();
 
-		public VariableReference() {
-			fText = new StringBuilder();
-		}
+	/**
+	 * Parsed expression: a sequence of text segments and variable references.
+	 * Templates are not modified once parsed.
+	 */
+	static class Template {
 
-		public void append(String text) {
-			fText.append(text);
-		}
+		// text segments and variable references, in order
+		final List<Object> fSegments = new ArrayList<>(1);
 
-		public String getText() {
-			return fText.toString();
-		}
+	}
+
+	/**
+	 * Variable reference, possibly containing nested variable references.
+	 */
+	static class VariableReference extends Template {
+
+		// text between the last nested reference, if any, and the end of the reference
+		String fTail;
+
+		// whether the reference is terminated
+		boolean fComplete;
 
 	}
 
@@ -87,6 +130,8 @@ public class StringSubstitutionEngine {
 	 *  in referenced variables
 	 */
 	public String performStringSubstitution(String expression, boolean reportUndefinedVariables, boolean resolveVariables, IStringVariableManager manager) throws CoreException {
+		fValues = false;
+		fVolatile = false;
 		substitute(expression, reportUndefinedVariables, resolveVariables, manager);
 		List<HashSet<String>> resolvedVariableSets = new ArrayList<>();
 		while (fSubs) {
@@ -125,6 +170,18 @@ public class StringSubstitutionEngine {
 		performStringSubstitution(expression, true, false, manager);
 	}
 
+	/**
+	 * Returns whether the last substitution performed by this engine resolved
+	 * value variables only, such that its result remains valid until value
+	 * variables are added, changed or removed.
+	 *
+	 * @return whether the result of the last substitution depends on value
+	 *         variables only
+	 */
+	public boolean isStatic() {
+		return fValues && !fVolatile;
+	}
+
 	/**
 	 * Makes a substitution pass of the given expression returns a Set of the variables that were resolved in this
 	 *  pass
@@ -138,10 +195,85 @@ public class StringSubstitutionEngine {
 	 */
 	private HashSet<String> substitute(String expression, boolean reportUndefinedVariables, boolean resolveVariables, IStringVariableManager manager) throws CoreException {
 		fResult = new StringBuilder(expression.length());
-		fStack = new Stack<>();
 		fSubs = false;
 
 		HashSet<String> resolvedVariables = new HashSet<>();
+		substitute(getTemplate(expression), fResult, resolvedVariables, reportUndefinedVariables, resolveVariables, manager);
+		return resolvedVariables;
+	}
+
+	/**
+	 * Appends the given template to the given buffer, substituting its
+	 * variable references.
+	 *
+	 * @param template template to substitute
+	 * @param buffer buffer to append to
+	 * @param resolvedVariables set of the variables resolved in this pass
+	 * @param reportUndefinedVariables whether to report undefined variables as an error
+	 * @param resolveVariables whether to resolve the value of any variables
+	 * @param manager the {@link IStringVariableManager} to use for the substitution
+	 * @exception CoreException if unable to resolve a variable
+	 */
+	private void substitute(Template template, StringBuilder buffer, HashSet<String> resolvedVariables, boolean reportUndefinedVariables, boolean resolveVariables, IStringVariableManager manager) throws CoreException {
+		for (Object segment : template.fSegments) {
+			if (segment instanceof String) {
+				buffer.append((String) segment);
+				continue;
+			}
+			VariableReference var = (VariableReference) segment;
+			StringBuilder text = new StringBuilder();
+			substitute(var, text, resolvedVariables, reportUndefinedVariables, resolveVariables, manager);
+			if (var.fComplete) {
+				resolvedVariables.add(var.fTail);
+				String value = resolve(text.toString(), reportUndefinedVariables, resolveVariables, manager);
+				if (value == null) {
+					value = ""; //$NON-NLS-1$
+				}
+				buffer.append(value);
+			} else {
+				// incomplete variable reference
+				buffer.append(VARIABLE_START);
+				buffer.append(text);
+			}
+		}
+	}
+
+	/**
+	 * Returns the template of the given expression, parsing the expression if
+	 * its template is not cached.
+	 *
+	 * @param expression expression to parse
+	 * @return template of the expression
+	 */
+	static Template getTemplate(String expression) {
+		if (expression.indexOf(VARIABLE_START) < 0) {
+			// no variable references, not worth caching
+			Template template = new Template();
+			template.fSegments.add(expression);
+			return template;
+		}
+		Template template;
+		synchronized (fgTemplates) {
+			template = fgTemplates.get(expression);
+		}
+		if (template == null) {
+			template = parse(expression);
+			synchronized (fgTemplates) {
+				fgTemplates.put(expression, template);
+			}
+		}
+		return template;
+	}
+
+	/**
+	 * Parses the given expression into a template.
+	 *
+	 * @param expression expression to parse
+	 * @return template of the expression
+	 */
+	private static Template parse(String expression) {
+		Template template = new Template();
+		Stack<VariableReference> stack = new Stack<>();
 
 		int pos = 0;
 		int state = SCAN_FOR_START;
@@ -153,15 +285,15 @@ public class StringSubstitutionEngine {
 						int length = start - pos;
 						// copy non-variable text to the result
 						if (length > 0) {
-							fResult.append(expression.substring(pos, start));
+							template.fSegments.add(expression.substring(pos, start));
 						}
 						pos = start + 2;
 						state = SCAN_FOR_END;
 
-						fStack.push(new VariableReference());
+						stack.push(new VariableReference());
 					} else {
 						// done - no more variables
-						fResult.append(expression.substring(pos));
+						template.fSegments.add(expression.substring(pos));
 						pos = expression.length();
 					}
 					break;
@@ -171,39 +303,35 @@ public class StringSubstitutionEngine {
 					int end = expression.indexOf(VARIABLE_END, pos);
 					if (end < 0) {
 						// variables are not completed
-						VariableReference tos = fStack.peek();
-						tos.append(expression.substring(pos));
+						VariableReference tos = stack.peek();
+						tos.fSegments.add(expression.substring(pos));
 						pos = expression.length();
 					} else {
 						if (start >= 0 && start < end) {
 							// start of a nested variable
 							int length = start - pos;
 							if (length > 0) {
-								VariableReference tos = fStack.peek();
-								tos.append(expression.substring(pos, start));
+								VariableReference tos = stack.peek();
+								tos.fSegments.add(expression.substring(pos, start));
 							}
 							pos = start + 2;
-							fStack.push(new VariableReference());
+							stack.push(new VariableReference());
 						} else {
 							// end of variable reference
-							VariableReference tos = fStack.pop();
+							VariableReference tos = stack.pop();
 							String substring = expression.substring(pos, end);
-							tos.append(substring);
-							resolvedVariables.add(substring);
+							if (substring.length() > 0) {
+								tos.fSegments.add(substring);
+							}
+							tos.fTail = substring;
+							tos.fComplete = true;
 
 							pos = end + 1;
-							String value= resolve(tos, reportUndefinedVariables, resolveVariables, manager);
-							if (value == null) {
-								value = ""; //$NON-NLS-1$
-							}
-							if (fStack.isEmpty()) {
-								// append to result
-								fResult.append(value);
+							if (stack.isEmpty()) {
+								template.fSegments.add(tos);
 								state = SCAN_FOR_START;
 							} else {
-								// append to previous variable
-								tos = fStack.peek();
-								tos.append(value);
+								stack.peek().fSegments.add(tos);
 							}
 						}
 					}
@@ -212,28 +340,23 @@ public class StringSubstitutionEngine {
 					break;
 			}
 		}
-		// process incomplete variable references
-		while (!fStack.isEmpty()) {
-			VariableReference tos = fStack.pop();
-			if (fStack.isEmpty()) {
-				fResult.append(VARIABLE_START);
-				fResult.append(tos.getText());
+		// incomplete variable references
+		while (!stack.isEmpty()) {
+			VariableReference tos = stack.pop();
+			if (stack.isEmpty()) {
+				template.fSegments.add(tos);
 			} else {
-				VariableReference var = fStack.peek();
-				var.append(VARIABLE_START);
-				var.append(tos.getText());
+				stack.peek().fSegments.add(tos);
 			}
 		}
-
-
-		return resolvedVariables;
+		return template;
 	}
 
 	/**
 	 * Resolve and return the value of the given variable reference,
 	 * possibly <code>null</code>.
 	 *
-	 * @param var the {@link VariableReference} to try and resolve
+	 * @param text the text of the variable reference to try and resolve
 	 * @param reportUndefinedVariables whether to report undefined variables as
 	 *  an error
 	 * @param resolveVariables whether to resolve the variables value or just to validate that this variable is valid
@@ -241,8 +364,7 @@ public class StringSubstitutionEngine {
 	 * @return variable value, possibly <code>null</code>
 	 * @exception CoreException if unable to resolve a value
 	 */
-	private String resolve(VariableReference var, boolean reportUndefinedVariables, boolean resolveVariables, IStringVariableManager manager) throws CoreException {
-		String text = var.getText();
+	private String resolve(String text, boolean reportUndefinedVariables, boolean resolveVariables, IStringVariableManager manager) throws CoreException {
 		int pos = text.indexOf(VARIABLE_ARG);
 		String name = null;
 		String arg = null;
@@ -264,31 +386,39 @@ public class StringSubstitutionEngine {
 					throw new CoreException(new Status(IStatus.ERROR, VariablesPlugin.getUniqueIdentifier(), VariablesPlugin.INTERNAL_ERROR, NLS.bind(VariablesMessages.StringSubstitutionEngine_3, new String[]{name}), null));
 				}
 				// leave as is
-				return getOriginalVarText(var);
+				fVolatile = true;
+				return getOriginalVarText(text);
 			}
 
 			if (resolveVariables) {
 				fSubs = true;
-				return dynamicVariable.getValue(arg);
+				fVolatile = true;
+				if (fDynamicValues.containsKey(text)) {
+					return fDynamicValues.get(text);
+				}
+				String value = dynamicVariable.getValue(arg);
+				fDynamicValues.put(text, value);
+				return value;
 			}
 			//leave as is
-			return getOriginalVarText(var);
+			return getOriginalVarText(text);
 		}
 
 		if (arg == null) {
 			if (resolveVariables) {
 				fSubs = true;
+				fValues = true;
 				return valueVariable.getValue();
 			}
 			//leave as is
-			return getOriginalVarText(var);
+			return getOriginalVarText(text);
 		}
 		// error - an argument specified for a value variable
 		throw new CoreException(new Status(IStatus.ERROR, VariablesPlugin.getUniqueIdentifier(), VariablesPlugin.INTERNAL_ERROR, NLS.bind(VariablesMessages.StringSubstitutionEngine_4, new String[]{valueVariable.getName()}), null));
 	}
 
-	private String getOriginalVarText(VariableReference var) {
-		StringBuilder res = new StringBuilder(var.getText());
+	private String getOriginalVarText(String text) {
+		StringBuilder res = new StringBuilder(text);
 		res.insert(0, VARIABLE_START);
 		res.append(VARIABLE_END);
 		return res.toString();
@@ -20,7 +20,9 @@ import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -37,6 +39,7 @@ import javax.xml.transform.stream.StreamResult;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.IExtensionPoint;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.ListenerList;
@@ -44,6 +47,7 @@ import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences.IPreferenceChangeListener;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences.PreferenceChangeEvent;
@@ -64,24 +68,85 @@ import org.xml.sax.helpers.DefaultHandler;
 
 /**
  * Singleton string variable manager.
+ * <p>
+ * Variables are held in maps that are never modified once published: changes
+ * copy the map under the manager's lock and replace it, such that lookups
+ * need no lock. Value variables are persisted asynchronously, shortly after
+ * the last change.
+ * </p>
  */
 public class StringVariableManager implements IStringVariableManager, IPreferenceChangeListener {
 
 	/**
-	 * Dynamic variables - maps variable names to variables.
+	 * Dynamic variables - maps variable names to variables. Not modified once
+	 * published, <code>null</code> until initialized.
 	 */
-	private Map<String, IDynamicVariable> fDynamicVariables;
+	private volatile Map<String, IDynamicVariable> fDynamicVariables;
 
 	/**
-	 * Value variables - maps variable names to variables.
+	 * Value variables - maps variable names to variables. Not modified once
+	 * published, replaced on change.
 	 */
-	private Map<String, IStringVariable> fValueVariables;
+	private volatile Map<String, IStringVariable> fValueVariables;
 
 	/**
 	 * Variable listeners
 	 */
 	private ListenerList<IValueVariableListener> fListeners;
 
+	/**
+	 * Maximum number of cached substitutions
+	 */
+	private static final int MAX_SUBSTITUTIONS = 256;
+
+	/**
+	 * Results of substitutions that resolved value variables only, by
+	 * expression, in access order. Cleared when value variables are added,
+	 * changed or removed.
+	 */
+	private final Map<String, String> fSubstitutions = new LinkedHashMap<String, String>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+			return size() > MAX_SUBSTITUTIONS;
+		}
+	};
+
+	/**
+	 * Incremented when the cached substitutions are cleared, such that
+	 * results of substitutions started before are not cached.
+	 */
+	private long fSubstitutionsGeneration;
+
+	/**
+	 * Delay in milliseconds after the last change before value variables are
+	 * persisted
+	 */
+	private static final long STORE_DELAY = 500;
+
+	/**
+	 * Persists value variables, scheduled on change
+	 */
+	private final Job fStoreJob = new Job("Store value variables") { //$NON-NLS-1$
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			storeValueVariables();
+			return Status.OK_STATUS;
+		}
+	};
+
+	/**
+	 * Whether value variables changed since they were last persisted
+	 */
+	private volatile boolean fStorePending;
+
+	/**
+	 * Value variables being persisted by this manager, such that the resulting
+	 * preference change is ignored, <code>null</code> otherwise
+	 */
+	private volatile String fStoredValueVariables;
+
 	// notifications
 	private static final int ADDED = 0;
 	private static final int CHANGED = 1;
@@ -159,6 +224,7 @@ public class StringVariableManager implements IStringVariableManager, IPreferenc
 		 * @param update the type of change
 		 */
 		public void notify(IValueVariable[] variables, int update) {
+			clearSubstitutions();
 			fVariables = variables;
 			fType = update;
 			for (IValueVariableListener iValueVariableListener : fListeners) {
@@ -168,7 +234,7 @@ public class StringVariableManager implements IStringVariableManager, IPreferenc
 			fVariables = null;
 			fListener = null;
 			// persist variables whenever there is an add/change/remove
-			storeValueVariables();
+			scheduleStore();
 		}
 	}
 
@@ -198,28 +264,57 @@ public class StringVariableManager implements IStringVariableManager, IPreferenc
 	 */
 	private StringVariableManager() {
 		fListeners = new ListenerList<>();
+		fStoreJob.setSystem(true);
+	}
+
+	/**
+	 * Persists pending changes of value variables of the default manager, if
+	 * any. Called when the plug-in is stopped.
+	 */
+	public static void shutdown() {
+		StringVariableManager manager = fgManager;
+		if (manager != null) {
+			manager.fStoreJob.cancel();
+			try {
+				manager.fStoreJob.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			if (manager.fStorePending) {
+				manager.storeValueVariables();
+			}
+		}
 	}
 
 	/**
 	 * Load contributed variables and persisted variables
 	 */
-	private synchronized void initialize() {
+	private void initialize() {
 		if (fDynamicVariables == null) {
-			fInternalChange = true;
-			fDynamicVariables = new HashMap<>(5);
-			fValueVariables = new HashMap<>(5);
-			loadContributedValueVariables();
-			loadPersistedValueVariables();
-			loadDynamicVariables();
-			InstanceScope.INSTANCE.getNode(VariablesPlugin.PI_CORE_VARIABLES).addPreferenceChangeListener(this);
-			fInternalChange = false;
+			synchronized (this) {
+				if (fDynamicVariables == null) {
+					fInternalChange = true;
+					Map<String, IDynamicVariable> dynamicVariables = new HashMap<>(5);
+					Map<String, IStringVariable> valueVariables = new HashMap<>(5);
+					loadContributedValueVariables(valueVariables);
+					loadPersistedValueVariables(valueVariables);
+					loadDynamicVariables(dynamicVariables);
+					fValueVariables = Collections.unmodifiableMap(valueVariables);
+					// published last, as it marks the manager initialized
+					fDynamicVariables = Collections.unmodifiableMap(dynamicVariables);
+					InstanceScope.INSTANCE.getNode(VariablesPlugin.PI_CORE_VARIABLES).addPreferenceChangeListener(this);
+					fInternalChange = false;
+				}
+			}
 		}
 	}
 
 	/**
 	 * Loads contributed dynamic variables
+	 *
+	 * @param dynamicVariables map to add the variables to
 	 */
-	private void loadDynamicVariables() {
+	private void loadDynamicVariables(Map<String, IDynamicVariable> dynamicVariables) {
 		IExtensionPoint point = Platform.getExtensionRegistry().getExtensionPoint(VariablesPlugin.PI_CORE_VARIABLES, EXTENSION_POINT_DYNAMIC_VARIABLES);
 		IConfigurationElement elements[]= point.getConfigurationElements();
 		for (int i = 0; i < elements.length; i++) {
@@ -231,7 +326,7 @@ public class StringVariableManager implements IStringVariableManager, IPreferenc
 			}
 			String description= element.getAttribute(ATTR_DESCRIPTION);
 			DynamicVariable variable= new DynamicVariable(name, description, element);
-			Object old = fDynamicVariables.put(variable.getName(), variable);
+			Object old = dynamicVariables.put(variable.getName(), variable);
 			if (old != null) {
 				DynamicVariable oldVariable = (DynamicVariable)old;
 				VariablesPlugin.logMessage(NLS.bind("Dynamic variable extension from bundle ''{0}'' overrides existing extension variable ''{1}'' from bundle ''{2}''", //$NON-NLS-1$
@@ -243,8 +338,10 @@ public class StringVariableManager implements IStringVariableManager, IPreferenc
 
 	/**
 	 * Loads contributed value variables. This is done before loading persisted values.
+	 *
+	 * @param valueVariables map to add the variables to
 	 */
-	private void loadContributedValueVariables() {
+	private void loadContributedValueVariables(Map<String, IStringVariable> valueVariables) {
 		IExtensionPoint point = Platform.getExtensionRegistry().getExtensionPoint(VariablesPlugin.PI_CORE_VARIABLES, EXTENSION_POINT_VALUE_VARIABLES);
 		IConfigurationElement elements[]= point.getConfigurationElements();
 		for (int i = 0; i < elements.length; i++) {
@@ -258,7 +355,7 @@ public class StringVariableManager implements IStringVariableManager, IPreferenc
 			boolean isReadOnly = TRUE_VALUE.equals(element.getAttribute(ATTR_READ_ONLY));
 
 			IValueVariable variable = new ContributedValueVariable(name, description, isReadOnly, element);
-			Object old = fValueVariables.put(name, variable);
+			Object old = valueVariables.put(name, variable);
 			if (old != null) {
 				StringVariable oldVariable = (StringVariable)old;
 				VariablesPlugin.logMessage(NLS.bind("Contributed variable extension from bundle ''{0}'' overrides existing extension variable ''{1}'' from  bundle ''{2}''", //$NON-NLS-1$
@@ -274,8 +371,10 @@ public class StringVariableManager implements IStringVariableManager, IPreferenc
 	 * same name as a extension contributed variable the variable's value will be set to
 	 * the persisted value unless either a) The persisted value is <code>null</code>, or
 	 * b) the variable is read-only.
+	 *
+	 * @param valueVariables map to add the variables to
 	 */
-	private void loadPersistedValueVariables() {
+	private void loadPersistedValueVariables(Map<String, IStringVariable> valueVariables) {
 		String variablesString = Platform.getPreferencesService().getString(VariablesPlugin.PI_CORE_VARIABLES, PREF_VALUE_VARIABLES, "", null); //$NON-NLS-1$
 		if (variablesString.length() == 0) {
 			return;
@@ -309,10 +408,10 @@ public class StringVariableManager implements IStringVariableManager, IPreferenc
 					String description= element.getAttribute(DESCRIPTION_TAG);
 					boolean readOnly= TRUE_VALUE.equals(element.getAttribute(READ_ONLY_TAG));
 
-					IValueVariable existing = getValueVariable(name);
+					IValueVariable existing = (IValueVariable) valueVariables.get(name);
 					if (existing == null){
 						ValueVariable variable = new ValueVariable(name, description, readOnly, value);
-						fValueVariables.put(name, variable);
+						valueVariables.put(name, variable);
 					} else if (!existing.isReadOnly() && value != null){
 						existing.setValue(value);
 					}
@@ -324,24 +423,28 @@ public class StringVariableManager implements IStringVariableManager, IPreferenc
 	}
 
 	@Override
-	public synchronized IStringVariable[] getVariables() {
+	public IStringVariable[] getVariables() {
 		initialize();
-		List<IStringVariable> list = new ArrayList<>(fDynamicVariables.size() + fValueVariables.size());
-		list.addAll(fDynamicVariables.values());
-		list.addAll(fValueVariables.values());
+		Map<String, IDynamicVariable> dynamicVariables = fDynamicVariables;
+		Map<String, IStringVariable> valueVariables = fValueVariables;
+		List<IStringVariable> list = new ArrayList<>(dynamicVariables.size() + valueVariables.size());
+		list.addAll(dynamicVariables.values());
+		list.addAll(valueVariables.values());
 		return list.toArray(new IStringVariable[list.size()]);
 	}
 
 	@Override
-	public synchronized IValueVariable[] getValueVariables() {
+	public IValueVariable[] getValueVariables() {
 		initialize();
-		return fValueVariables.values().toArray(new IValueVariable[fValueVariables.size()]);
+		Map<String, IStringVariable> valueVariables = fValueVariables;
+		return valueVariables.values().toArray(new IValueVariable[valueVariables.size()]);
 	}
 
 	@Override
-	public synchronized IDynamicVariable[] getDynamicVariables() {
+	public IDynamicVariable[] getDynamicVariables() {
 		initialize();
-		return fDynamicVariables.values().toArray(new IDynamicVariable[fDynamicVariables.size()]);
+		Map<String, IDynamicVariable> dynamicVariables = fDynamicVariables;
+		return dynamicVariables.values().toArray(new IDynamicVariable[dynamicVariables.size()]);
 	}
 
 	@Override
@@ -370,10 +473,12 @@ public class StringVariableManager implements IStringVariableManager, IPreferenc
 			}
 		}
 		if (status.isOK()) {
+			Map<String, IStringVariable> valueVariables = new HashMap<>(fValueVariables);
 			for (int i = 0; i < variables.length; i++) {
 				IValueVariable variable = variables[i];
-				fValueVariables.put(variable.getName(), variable);
+				valueVariables.put(variable.getName(), variable);
 			}
+			fValueVariables = Collections.unmodifiableMap(valueVariables);
 			IValueVariable[] copy = new IValueVariable[variables.length];
 			System.arraycopy(variables, 0, copy, 0, variables.length);
 			getNotifier().notify(copy, ADDED);
@@ -386,25 +491,27 @@ public class StringVariableManager implements IStringVariableManager, IPreferenc
 	public synchronized void removeVariables(IValueVariable[] variables) {
 		initialize();
 		List<IValueVariable> removed = new ArrayList<>(variables.length);
+		Map<String, IStringVariable> valueVariables = new HashMap<>(fValueVariables);
 		for (int i = 0; i < variables.length; i++) {
 			IValueVariable variable = variables[i];
-			if (fValueVariables.remove(variable.getName()) != null) {
+			if (valueVariables.remove(variable.getName()) != null) {
 				removed.add(variable);
 			}
 		}
 		if (removed.size() > 0) {
+			fValueVariables = Collections.unmodifiableMap(valueVariables);
 			getNotifier().notify(removed.toArray(new IValueVariable[removed.size()]), REMOVED);
 		}
 	}
 
 	@Override
-	public synchronized IDynamicVariable getDynamicVariable(String name) {
+	public IDynamicVariable getDynamicVariable(String name) {
 		initialize();
 		return fDynamicVariables.get(name);
 	}
 
 	@Override
-	public synchronized IValueVariable getValueVariable(String name) {
+	public IValueVariable getValueVariable(String name) {
 		initialize();
 		return (IValueVariable) fValueVariables.get(name);
 	}
@@ -488,11 +595,21 @@ public class StringVariableManager implements IStringVariableManager, IPreferenc
 		return s.toString("UTF8"); //$NON-NLS-1$
 	}
 
+	/**
+	 * Schedules the value variables to be persisted after a delay. Changes
+	 * made within the delay are persisted together.
+	 */
+	private void scheduleStore() {
+		fStorePending = true;
+		fStoreJob.schedule(STORE_DELAY);
+	}
+
 	/**
 	 * Saves the value variables currently registered in the
 	 * preference store.
 	 */
-	private synchronized void storeValueVariables() {
+	private void storeValueVariables() {
+		fStorePending = false;
 		String variableString= ""; //$NON-NLS-1$
 		if (!fValueVariables.isEmpty()) {
 			try {
@@ -508,7 +625,8 @@ public class StringVariableManager implements IStringVariableManager, IPreferenc
 				return;
 			}
 		}
-		fInternalChange = true;
+		// the resulting preference change, notified while putting, is ignored
+		fStoredValueVariables = variableString;
 		try {
 			IEclipsePreferences prefs = InstanceScope.INSTANCE.getNode(VariablesPlugin.PI_CORE_VARIABLES);
 			prefs.put(PREF_VALUE_VARIABLES, variableString);
@@ -516,8 +634,9 @@ public class StringVariableManager implements IStringVariableManager, IPreferenc
 		}
 		catch(BackingStoreException bse) {
 			VariablesPlugin.log(bse);
+		} finally {
+			fStoredValueVariables = null;
 		}
-		fInternalChange = false;
 	}
 
 	/**
@@ -550,7 +669,35 @@ public class StringVariableManager implements IStringVariableManager, IPreferenc
 
 	@Override
 	public String performStringSubstitution(String expression,	boolean reportUndefinedVariables) throws CoreException {
-		return new StringSubstitutionEngine().performStringSubstitution(expression, reportUndefinedVariables, true, this);
+		long generation;
+		synchronized (fSubstitutions) {
+			String result = fSubstitutions.get(expression);
+			if (result != null) {
+				return result;
+			}
+			generation = fSubstitutionsGeneration;
+		}
+		StringSubstitutionEngine engine = new StringSubstitutionEngine();
+		String result = engine.performStringSubstitution(expression, reportUndefinedVariables, true, this);
+		if (engine.isStatic()) {
+			synchronized (fSubstitutions) {
+				if (generation == fSubstitutionsGeneration) {
+					fSubstitutions.put(expression, result);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Clears the cached results of substitutions, as value variables were
+	 * added, changed or removed.
+	 */
+	private void clearSubstitutions() {
+		synchronized (fSubstitutions) {
+			fSubstitutionsGeneration++;
+			fSubstitutions.clear();
+		}
 	}
 
 	@Override
@@ -569,11 +716,20 @@ public class StringVariableManager implements IStringVariableManager, IPreferenc
 	@Override
 	public void preferenceChange(PreferenceChangeEvent event) {
 		if (PREF_VALUE_VARIABLES.equals(event.getKey())) {
+			Object newValue = event.getNewValue();
+			String stored = fStoredValueVariables;
+			if (newValue != null && newValue.equals(stored)) {
+				// being persisted by this manager
+				fStoredValueVariables = null;
+				return;
+			}
 			synchronized (this) {
 				if (!fInternalChange) {
-					fValueVariables.clear();
-					loadPersistedValueVariables();
-					loadContributedValueVariables();
+					clearSubstitutions();
+					Map<String, IStringVariable> valueVariables = new HashMap<>(5);
+					loadPersistedValueVariables(valueVariables);
+					loadContributedValueVariables(valueVariables);
+					fValueVariables = Collections.unmodifiableMap(valueVariables);
 				}
 			}
 		}
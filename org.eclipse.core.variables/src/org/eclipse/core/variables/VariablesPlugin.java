@@ -18,6 +18,7 @@ import org.eclipse.core.internal.variables.StringVariableManager;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Plugin;
 import org.eclipse.core.runtime.Status;
+import org.osgi.framework.BundleContext;
 
 /**
  * The plug-in runtime class for the Core Variables plug-in.
@@ -115,4 +116,13 @@ public class VariablesPlugin extends Plugin {
 	public IStringVariableManager getStringVariableManager() {
 		return StringVariableManager.getDefault();
 	}
+
+	@Override
+	public void stop(BundleContext context) throws Exception {
+		try {
+			StringVariableManager.shutdown();
+		} finally {
+			super.stop(context);
+		}
+	}
 }
@@ -70,6 +70,7 @@ import org.eclipse.debug.internal.core.LaunchManager;
 import org.eclipse.debug.internal.core.LogicalStructureManager;
 import org.eclipse.debug.internal.core.MemoryBlockManager;
 import org.eclipse.debug.internal.core.Preferences;
+import org.eclipse.debug.internal.core.ProblemMarkerIndex;
 import org.eclipse.debug.internal.core.StepFilterManager;
 import org.eclipse.debug.internal.core.commands.CommandAdapterFactory;
 import org.eclipse.debug.internal.core.groups.GroupMemberChangeListener;
@@ -665,6 +666,7 @@ public class DebugPlugin extends Plugin {
             fEventFilters.clear();
 
 			SourceLookupUtils.shutdown();
+			ProblemMarkerIndex.shutdown();
 			Preferences.savePreferences(DebugPlugin.getUniqueIdentifier());
 			ResourcesPlugin.getWorkspace().removeSaveParticipant(getUniqueIdentifier());
 		} finally {
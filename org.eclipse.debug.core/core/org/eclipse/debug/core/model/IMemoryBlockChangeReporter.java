@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.core.model;
+
+import java.math.BigInteger;
+
+import org.eclipse.debug.core.DebugException;
+
+/**
+ * Extension to a memory block that reports which pages of memory may have
+ * changed, such that clients only need to retrieve those pages again.
+ * <p>
+ * Clients should implement this interface, in addition to
+ * <code>IMemoryBlockExtension</code>, if the debug target is able to tell
+ * cheaply whether a range of memory changed, for example by computing a hash
+ * of the memory on the target side or by tracking writes to the memory.
+ * Clients that do not implement this interface have all of their memory
+ * retrieved again whenever it may have changed.
+ * </p>
+ * @since 3.14
+ */
+public interface IMemoryBlockChangeReporter extends IMemoryBlockExtension {
+
+	/**
+	 * Returns a stamp for each of the given consecutive pages of memory. The
+	 * stamp of a page must differ from any stamp previously returned for the
+	 * page whenever the content of the page changed in between, and should
+	 * be the same otherwise. A stamp may for example be a hash of the content
+	 * of the page, or a counter of the writes to the page.
+	 *
+	 * @param address address of the first page, in terms of addressable
+	 *            units
+	 * @param pageSize size of each page, in terms of addressable units
+	 * @param numPages number of pages
+	 * @return one stamp per page, or <code>null</code> if the stamps are not
+	 *         available, in which case all pages are considered changed
+	 * @throws DebugException if unable to compute the stamps due to a failure
+	 *             communicating with the target
+	 */
+	long[] getPageStamps(BigInteger address, int pageSize, int numPages) throws DebugException;
+}
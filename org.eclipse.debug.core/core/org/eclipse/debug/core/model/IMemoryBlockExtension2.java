@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.core.model;
+
+import java.math.BigInteger;
+
+import org.eclipse.debug.core.DebugException;
+
+/**
+ * Extension to a memory block that retrieves memory as a compact
+ * {@link MemoryBuffer} rather than as one {@link MemoryByte} object per byte.
+ * <p>
+ * Clients should implement this interface, in addition to
+ * <code>IMemoryBlockExtension</code>, if they are able to retrieve large
+ * ranges of memory efficiently. The memory renderings use the buffer based
+ * methods when available. The <code>MemoryByte</code> based methods of
+ * <code>IMemoryBlockExtension</code> must still be implemented for existing
+ * clients, typically by returning {@link MemoryBuffer#toMemoryBytes()}.
+ * </p>
+ * @since 3.14
+ */
+public interface IMemoryBlockExtension2 extends IMemoryBlockExtension {
+
+	/**
+	 * Returns memory from this memory block based on the base address and
+	 * addressable size of this memory block.
+	 * <p>
+	 * The same rules as for
+	 * {@link IMemoryBlockExtension#getBytesFromOffset(BigInteger, long)}
+	 * apply: bytes outside the accessible range are returned with the
+	 * <code>READABLE</code> bit turned off, an exception is not thrown in this
+	 * case.
+	 * </p>
+	 *
+	 * @param unitOffset zero based offset into this memory block at which to
+	 *            start retrieving bytes in terms of addressable units
+	 * @param addressableUnits the number of addressable units to retrieve
+	 * @return buffer whose length is equal to <code>addressableUnits</code> *
+	 *         <code>getAddressableSize()</code>
+	 * @throws DebugException if unable to retrieve the specified bytes due to a
+	 *             failure communicating with the target
+	 */
+	MemoryBuffer getBufferFromOffset(BigInteger unitOffset, long addressableUnits) throws DebugException;
+
+	/**
+	 * Returns memory from this memory block based on the given address and the
+	 * addressable size of this memory block.
+	 * <p>
+	 * The same rules as for
+	 * {@link IMemoryBlockExtension#getBytesFromAddress(BigInteger, long)}
+	 * apply: bytes outside the accessible range are returned with the
+	 * <code>READABLE</code> bit turned off, an exception is not thrown in this
+	 * case.
+	 * </p>
+	 *
+	 * @param address address at which to begin retrieving bytes in terms of
+	 *            addressable units
+	 * @param units the number of addressable units of memory to retrieve
+	 * @return buffer whose length is equal to <code>units</code> *
+	 *         <code>getAddressableSize()</code>
+	 * @throws DebugException if unable to retrieve the specified bytes due to a
+	 *             failure communicating with the target
+	 */
+	MemoryBuffer getBufferFromAddress(BigInteger address, long units) throws DebugException;
+}
@@ -43,6 +43,7 @@ import org.eclipse.debug.core.ILaunchManager;
 import org.eclipse.debug.core.IStatusHandler;
 import org.eclipse.debug.internal.core.DebugCoreMessages;
 import org.eclipse.debug.internal.core.IInternalDebugCoreConstants;
+import org.eclipse.debug.internal.core.ProblemMarkerIndex;
 
 import com.ibm.icu.text.MessageFormat;
 
@@ -109,6 +110,25 @@ public abstract class LaunchConfigurationDelegate implements ILaunchConfiguratio
 	 */
 	protected static final IStatus complileErrorProjectPromptStatus = new Status(IStatus.INFO, DEBUG_CORE, 203, IInternalDebugCoreConstants.EMPTY_STRING, null);
 
+	/**
+	 * Whether delegates of a class use the default {@link #isLaunchProblem(IMarker)},
+	 * such that errors can be answered from the {@link ProblemMarkerIndex}.
+	 */
+	private static final ClassValue<Boolean> fgDefaultLaunchProblems = new ClassValue<Boolean>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			for (Class<?> c = type; c != LaunchConfigurationDelegate.class; c = c.getSuperclass()) {
+				try {
+					c.getDeclaredMethod("isLaunchProblem", IMarker.class); //$NON-NLS-1$
+					return Boolean.FALSE;
+				} catch (NoSuchMethodException e) {
+					// not overridden in this class
+				}
+			}
+			return Boolean.TRUE;
+		}
+	};
+
 	@Override
 	public ILaunch getLaunch(ILaunchConfiguration configuration, String mode) throws CoreException {
 		return null;
@@ -365,6 +385,11 @@ public abstract class LaunchConfigurationDelegate implements ILaunchConfiguratio
 	/**
 	 * Returns whether the given project contains any problem markers of the
 	 * specified severity.
+	 * <p>
+	 * Unless {@link #isLaunchProblem(IMarker)} is overridden, problem markers
+	 * of error severity are counted incrementally as markers change, rather
+	 * than searched each time.
+	 * </p>
 	 *
 	 * @param proj the project to search
 	 * @return whether the given project contains any problems that should
@@ -373,6 +398,10 @@ public abstract class LaunchConfigurationDelegate implements ILaunchConfiguratio
 	 *  problem markers
 	 */
 	protected boolean existsProblems(IProject proj) throws CoreException {
+		if (fgDefaultLaunchProblems.get(getClass()).booleanValue()) {
+			// problems of error severity are indexed
+			return ProblemMarkerIndex.getDefault().getErrorCount(proj) > 0;
+		}
 		IMarker[] markers = proj.findMarkers(IMarker.PROBLEM, true, IResource.DEPTH_INFINITE);
 		if (markers.length > 0) {
 			for (int i = 0; i < markers.length; i++) {
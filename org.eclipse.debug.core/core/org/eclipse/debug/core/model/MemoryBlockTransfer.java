@@ -0,0 +1,689 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.core.model;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.internal.core.DebugCoreMessages;
+
+import com.ibm.icu.text.MessageFormat;
+
+/**
+ * Streams the memory of a memory block to and from channels in raw binary,
+ * Intel HEX or Motorola S-record format.
+ * <p>
+ * Memory is retrieved from and written to the memory block in chunks, and
+ * encoded or decoded through a fixed size buffer, such that the size of the
+ * transferred memory is not limited by the heap. Addresses in Intel HEX and
+ * S-record files are byte addresses and limited to 32 bits.
+ * </p>
+ * <p>
+ * This class is not intended to be instantiated or subclassed by clients.
+ * </p>
+ * @since 3.14
+ */
+public final class MemoryBlockTransfer {
+
+	/**
+	 * Format of transferred memory.
+	 */
+	public enum Format {
+		/**
+		 * Plain bytes. Unreadable bytes are exported as zero.
+		 */
+		RAW,
+		/**
+		 * Intel HEX records with extended linear addresses. Unreadable bytes
+		 * are omitted.
+		 */
+		INTEL_HEX,
+		/**
+		 * Motorola S-records with 32 bit addresses. Unreadable bytes are
+		 * omitted.
+		 */
+		S_RECORD
+	}
+
+	/**
+	 * Number of addressable units retrieved from or written to the memory
+	 * block at once.
+	 */
+	private static final int CHUNK_UNITS = 64 * 1024;
+
+	/**
+	 * Size of the buffer between the channels and the encoders.
+	 */
+	private static final int CHANNEL_BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * Number of data bytes per Intel HEX or S-record record.
+	 */
+	private static final int RECORD_BYTES = 16;
+
+	private static final long MAX_RECORD_ADDRESS = 0xFFFFFFFFL;
+
+	private static final byte[] HEX_DIGITS = { '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F' };
+
+	private MemoryBlockTransfer() {
+	}
+
+	/**
+	 * Writes the memory of the given range to the given channel. The channel
+	 * is not closed.
+	 *
+	 * @param memoryBlock memory block to export
+	 * @param address address of the first addressable unit to export
+	 * @param units number of addressable units to export
+	 * @param format format to write
+	 * @param channel channel to write to
+	 * @param monitor progress monitor, or <code>null</code>
+	 * @throws DebugException if the memory cannot be retrieved, cannot be
+	 *             represented in the format, or writing fails
+	 * @throws OperationCanceledException if the monitor is canceled
+	 */
+	public static void exportMemory(IMemoryBlockExtension memoryBlock, BigInteger address, long units, Format format, WritableByteChannel channel, IProgressMonitor monitor) throws DebugException {
+		int addressableSize = memoryBlock.getAddressableSize();
+		long chunks = (units + CHUNK_UNITS - 1) / CHUNK_UNITS;
+		SubMonitor progress = SubMonitor.convert(monitor, DebugCoreMessages.MemoryBlockTransfer_0, (int) Math.min(chunks, Integer.MAX_VALUE));
+		ChannelWriter writer = new ChannelWriter(channel);
+		RecordEncoder encoder = createEncoder(format, writer);
+		byte[] values = new byte[CHUNK_UNITS * addressableSize];
+		try {
+			encoder.begin();
+			BigInteger current = address;
+			long remaining = units;
+			while (remaining > 0) {
+				if (progress.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+				int chunk = (int) Math.min(remaining, CHUNK_UNITS);
+				int length = chunk * addressableSize;
+				MemoryBuffer memory = getMemory(memoryBlock, current, chunk);
+				int available = Math.min(length, memory.length());
+				memory.getValues(0, values, 0, available);
+				BigInteger byteAddress = current.multiply(BigInteger.valueOf(addressableSize));
+				int runCount = memory.getRunCount();
+				for (int run = 0; run < runCount; run++) {
+					int start = memory.getRunStart(run);
+					if (start >= available) {
+						break;
+					}
+					int end = run + 1 < runCount ? Math.min(memory.getRunStart(run + 1), available) : available;
+					if ((memory.getRunFlags(run) & MemoryByte.READABLE) != 0) {
+						encoder.data(byteAddress.add(BigInteger.valueOf(start)), values, start, end - start);
+					} else {
+						encoder.gap(end - start);
+					}
+				}
+				// memory the memory block did not return is unreadable
+				if (available < length) {
+					encoder.gap(length - available);
+				}
+				current = current.add(BigInteger.valueOf(chunk));
+				remaining -= chunk;
+				progress.worked(1);
+			}
+			encoder.end();
+			writer.flush();
+		} catch (IOException e) {
+			throw new DebugException(new Status(IStatus.ERROR, DebugPlugin.getUniqueIdentifier(), DebugException.REQUEST_FAILED, DebugCoreMessages.MemoryBlockTransfer_1, e));
+		} finally {
+			progress.done();
+		}
+	}
+
+	/**
+	 * Reads memory in the given format from the given channel and writes it
+	 * to the memory block. The channel is not closed.
+	 *
+	 * @param memoryBlock memory block to import into
+	 * @param address address at which to write raw memory, in addressable
+	 *            units. Not used for formats that contain addresses.
+	 * @param format format to read
+	 * @param channel channel to read from
+	 * @param monitor progress monitor, or <code>null</code>
+	 * @throws DebugException if the input is malformed, reading fails or the
+	 *             memory block fails to write the memory
+	 * @throws OperationCanceledException if the monitor is canceled
+	 */
+	public static void importMemory(IMemoryBlockExtension memoryBlock, BigInteger address, Format format, ReadableByteChannel channel, IProgressMonitor monitor) throws DebugException {
+		int totalWork = IProgressMonitor.UNKNOWN;
+		if (channel instanceof SeekableByteChannel) {
+			try {
+				long size = ((SeekableByteChannel) channel).size();
+				totalWork = (int) Math.min((size + CHANNEL_BUFFER_SIZE - 1) / CHANNEL_BUFFER_SIZE, Integer.MAX_VALUE);
+			} catch (IOException e) {
+				// size is only used for progress
+			}
+		}
+		SubMonitor progress = SubMonitor.convert(monitor, DebugCoreMessages.MemoryBlockTransfer_2, totalWork);
+		MemoryWriter memoryWriter = new MemoryWriter(memoryBlock);
+		ByteBuffer buffer = ByteBuffer.allocateDirect(CHANNEL_BUFFER_SIZE);
+		RecordDecoder decoder = format == Format.RAW ? null : new RecordDecoder(format, memoryWriter);
+		BigInteger byteAddress = format == Format.RAW ? address.multiply(BigInteger.valueOf(memoryBlock.getAddressableSize())) : null;
+		byte[] bytes = new byte[CHANNEL_BUFFER_SIZE];
+		try {
+			int read;
+			while ((read = channel.read(buffer)) >= 0) {
+				if (progress.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+				// a non-blocking channel may have nothing to read yet
+				if (read == 0) {
+					continue;
+				}
+				buffer.flip();
+				int length = buffer.remaining();
+				buffer.get(bytes, 0, length);
+				buffer.clear();
+				if (decoder == null) {
+					memoryWriter.write(byteAddress, bytes, 0, length);
+					byteAddress = byteAddress.add(BigInteger.valueOf(length));
+				} else {
+					decoder.decode(bytes, length);
+				}
+				progress.worked(1);
+			}
+			if (decoder != null) {
+				decoder.end();
+			}
+			memoryWriter.flush();
+		} catch (IOException e) {
+			throw new DebugException(new Status(IStatus.ERROR, DebugPlugin.getUniqueIdentifier(), DebugException.REQUEST_FAILED, DebugCoreMessages.MemoryBlockTransfer_1, e));
+		} finally {
+			progress.done();
+		}
+	}
+
+	private static MemoryBuffer getMemory(IMemoryBlockExtension memoryBlock, BigInteger address, long units) throws DebugException {
+		if (memoryBlock instanceof IMemoryBlockExtension2) {
+			return ((IMemoryBlockExtension2) memoryBlock).getBufferFromAddress(address, units);
+		}
+		return MemoryBuffer.fromMemoryBytes(memoryBlock.getBytesFromAddress(address, units));
+	}
+
+	private static RecordEncoder createEncoder(Format format, ChannelWriter writer) {
+		switch (format) {
+			case INTEL_HEX:
+				return new IntelHexEncoder(writer);
+			case S_RECORD:
+				return new SRecordEncoder(writer);
+			default:
+				return new RawEncoder(writer);
+		}
+	}
+
+	private static DebugException invalidAddress(BigInteger byteAddress) {
+		return new DebugException(new Status(IStatus.ERROR, DebugPlugin.getUniqueIdentifier(), DebugException.REQUEST_FAILED, MessageFormat.format(DebugCoreMessages.MemoryBlockTransfer_3, new Object[] { byteAddress.toString(16) }), null));
+	}
+
+	/**
+	 * Buffers output to a channel.
+	 */
+	private static class ChannelWriter {
+
+		private final WritableByteChannel fChannel;
+		private final ByteBuffer fBuffer = ByteBuffer.allocateDirect(CHANNEL_BUFFER_SIZE);
+
+		ChannelWriter(WritableByteChannel channel) {
+			fChannel = channel;
+		}
+
+		void put(byte b) throws IOException {
+			if (!fBuffer.hasRemaining()) {
+				flush();
+			}
+			fBuffer.put(b);
+		}
+
+		void put(byte[] bytes, int offset, int length) throws IOException {
+			while (length > 0) {
+				if (!fBuffer.hasRemaining()) {
+					flush();
+				}
+				int count = Math.min(length, fBuffer.remaining());
+				fBuffer.put(bytes, offset, count);
+				offset += count;
+				length -= count;
+			}
+		}
+
+		void putZeros(int length) throws IOException {
+			for (int i = 0; i < length; i++) {
+				put((byte) 0);
+			}
+		}
+
+		void putHex(long value, int digits) throws IOException {
+			for (int i = digits - 1; i >= 0; i--) {
+				put(HEX_DIGITS[(int) (value >>> (i * 4)) & 0xF]);
+			}
+		}
+
+		void putAscii(String str) throws IOException {
+			for (int i = 0; i < str.length(); i++) {
+				put((byte) str.charAt(i));
+			}
+		}
+
+		void flush() throws IOException {
+			fBuffer.flip();
+			while (fBuffer.hasRemaining()) {
+				fChannel.write(fBuffer);
+			}
+			fBuffer.clear();
+		}
+	}
+
+	/**
+	 * Encodes memory in a format.
+	 */
+	private static abstract class RecordEncoder {
+
+		protected final ChannelWriter fWriter;
+
+		RecordEncoder(ChannelWriter writer) {
+			fWriter = writer;
+		}
+
+		void begin() throws IOException {
+		}
+
+		/**
+		 * Encodes readable bytes starting at the given byte address.
+		 */
+		abstract void data(BigInteger byteAddress, byte[] values, int offset, int length) throws IOException, DebugException;
+
+		/**
+		 * Encodes the given number of unreadable bytes.
+		 */
+		void gap(int length) throws IOException {
+		}
+
+		void end() throws IOException {
+		}
+	}
+
+	private static class RawEncoder extends RecordEncoder {
+
+		RawEncoder(ChannelWriter writer) {
+			super(writer);
+		}
+
+		@Override
+		void data(BigInteger byteAddress, byte[] values, int offset, int length) throws IOException {
+			fWriter.put(values, offset, length);
+		}
+
+		@Override
+		void gap(int length) throws IOException {
+			fWriter.putZeros(length);
+		}
+	}
+
+	private static class IntelHexEncoder extends RecordEncoder {
+
+		/**
+		 * Upper 16 bits of the address set by the last extended linear
+		 * address record, or -1.
+		 */
+		private long fUpperAddress = -1;
+
+		IntelHexEncoder(ChannelWriter writer) {
+			super(writer);
+		}
+
+		@Override
+		void data(BigInteger byteAddress, byte[] values, int offset, int length) throws IOException, DebugException {
+			if (byteAddress.bitLength() > 32 || byteAddress.longValue() + length - 1 > MAX_RECORD_ADDRESS) {
+				throw invalidAddress(byteAddress);
+			}
+			long address = byteAddress.longValue();
+			while (length > 0) {
+				// records must not cross a 64K boundary
+				int count = (int) Math.min(Math.min(length, RECORD_BYTES), 0x10000 - (address & 0xFFFF));
+				long upper = address >>> 16;
+				if (upper != fUpperAddress) {
+					record(0, 4, new byte[] { (byte) (upper >>> 8), (byte) upper }, 0, 2);
+					fUpperAddress = upper;
+				}
+				record(address & 0xFFFF, 0, values, offset, count);
+				address += count;
+				offset += count;
+				length -= count;
+			}
+		}
+
+		@Override
+		void end() throws IOException {
+			record(0, 1, new byte[0], 0, 0);
+		}
+
+		private void record(long address, int type, byte[] values, int offset, int length) throws IOException {
+			int sum = length + (int) (address >>> 8) + (int) (address & 0xFF) + type;
+			fWriter.put((byte) ':');
+			fWriter.putHex(length, 2);
+			fWriter.putHex(address, 4);
+			fWriter.putHex(type, 2);
+			for (int i = offset; i < offset + length; i++) {
+				fWriter.putHex(values[i] & 0xFF, 2);
+				sum += values[i] & 0xFF;
+			}
+			fWriter.putHex(-sum & 0xFF, 2);
+			fWriter.put((byte) '\n');
+		}
+	}
+
+	private static class SRecordEncoder extends RecordEncoder {
+
+		SRecordEncoder(ChannelWriter writer) {
+			super(writer);
+		}
+
+		@Override
+		void begin() throws IOException {
+			// header record without content
+			fWriter.putAscii("S0030000FC\n"); //$NON-NLS-1$
+		}
+
+		@Override
+		void data(BigInteger byteAddress, byte[] values, int offset, int length) throws IOException, DebugException {
+			if (byteAddress.bitLength() > 32 || byteAddress.longValue() + length - 1 > MAX_RECORD_ADDRESS) {
+				throw invalidAddress(byteAddress);
+			}
+			long address = byteAddress.longValue();
+			while (length > 0) {
+				int count = Math.min(length, RECORD_BYTES);
+				int byteCount = 4 + count + 1;
+				int sum = byteCount;
+				fWriter.putAscii("S3"); //$NON-NLS-1$
+				fWriter.putHex(byteCount, 2);
+				fWriter.putHex(address, 8);
+				for (int i = 0; i < 4; i++) {
+					sum += (int) (address >>> (i * 8)) & 0xFF;
+				}
+				for (int i = offset; i < offset + count; i++) {
+					fWriter.putHex(values[i] & 0xFF, 2);
+					sum += values[i] & 0xFF;
+				}
+				fWriter.putHex(~sum & 0xFF, 2);
+				fWriter.put((byte) '\n');
+				address += count;
+				offset += count;
+				length -= count;
+			}
+		}
+
+		@Override
+		void end() throws IOException {
+			// termination record with a start address of 0
+			fWriter.putAscii("S70500000000FA\n"); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Collects contiguous bytes and writes them to the memory block in chunks.
+	 */
+	private static class MemoryWriter {
+
+		private final IMemoryBlockExtension fMemoryBlock;
+		private final int fAddressableSize;
+		private BigInteger fBaseAddress;
+		private final byte[] fPending;
+		private int fPendingLength;
+		private BigInteger fPendingAddress;
+
+		MemoryWriter(IMemoryBlockExtension memoryBlock) throws DebugException {
+			fMemoryBlock = memoryBlock;
+			fAddressableSize = memoryBlock.getAddressableSize();
+			fPending = new byte[CHUNK_UNITS * fAddressableSize];
+		}
+
+		/**
+		 * Writes the given bytes at the given byte address.
+		 */
+		void write(BigInteger byteAddress, byte[] bytes, int offset, int length) throws DebugException {
+			if (fPendingLength > 0 && !byteAddress.equals(fPendingAddress.add(BigInteger.valueOf(fPendingLength)))) {
+				flush();
+			}
+			while (length > 0) {
+				if (fPendingLength == 0) {
+					fPendingAddress = byteAddress;
+				}
+				int count = Math.min(length, fPending.length - fPendingLength);
+				System.arraycopy(bytes, offset, fPending, fPendingLength, count);
+				fPendingLength += count;
+				offset += count;
+				length -= count;
+				byteAddress = byteAddress.add(BigInteger.valueOf(count));
+				if (fPendingLength == fPending.length) {
+					flush();
+				}
+			}
+		}
+
+		void flush() throws DebugException {
+			if (fPendingLength == 0) {
+				return;
+			}
+			BigInteger[] unitAddress = fPendingAddress.divideAndRemainder(BigInteger.valueOf(fAddressableSize));
+			if (unitAddress[1].signum() != 0 || fPendingLength % fAddressableSize != 0) {
+				throw new DebugException(new Status(IStatus.ERROR, DebugPlugin.getUniqueIdentifier(), DebugException.REQUEST_FAILED, MessageFormat.format(DebugCoreMessages.MemoryBlockTransfer_4, new Object[] { fPendingAddress.toString(16) }), null));
+			}
+			if (fBaseAddress == null) {
+				fBaseAddress = fMemoryBlock.getBigBaseAddress();
+			}
+			fMemoryBlock.setValue(unitAddress[0].subtract(fBaseAddress), Arrays.copyOf(fPending, fPendingLength));
+			fPendingLength = 0;
+		}
+	}
+
+	/**
+	 * Decodes Intel HEX or S-record input line by line.
+	 */
+	private static class RecordDecoder {
+
+		private final Format fFormat;
+		private final MemoryWriter fWriter;
+
+		/**
+		 * Current line, without line terminator.
+		 */
+		private byte[] fLine = new byte[128];
+		private int fLineLength;
+		private int fLineNumber;
+
+		/**
+		 * Bytes of the current record, large enough for an Intel HEX record
+		 * with 255 data bytes.
+		 */
+		private final byte[] fRecord = new byte[260];
+
+		/**
+		 * Base address set by Intel HEX extended address records.
+		 */
+		private long fBaseAddress;
+
+		private boolean fEnded;
+
+		RecordDecoder(Format format, MemoryWriter writer) {
+			fFormat = format;
+			fWriter = writer;
+		}
+
+		void decode(byte[] bytes, int length) throws DebugException {
+			for (int i = 0; i < length; i++) {
+				byte b = bytes[i];
+				if (b == '\n' || b == '\r') {
+					line();
+				} else {
+					if (fLineLength == fLine.length) {
+						fLine = Arrays.copyOf(fLine, fLine.length * 2);
+					}
+					fLine[fLineLength++] = b;
+				}
+			}
+		}
+
+		void end() throws DebugException {
+			line();
+		}
+
+		private void line() throws DebugException {
+			if (fLineLength == 0) {
+				return;
+			}
+			fLineNumber++;
+			try {
+				if (!fEnded) {
+					if (fFormat == Format.INTEL_HEX) {
+						intelHexRecord();
+					} else {
+						sRecord();
+					}
+				}
+			} finally {
+				fLineLength = 0;
+			}
+		}
+
+		private void intelHexRecord() throws DebugException {
+			if (fLine[0] != ':') {
+				throw invalidRecord();
+			}
+			int count = parseBytes(1);
+			if (count < 5 || (fRecord[0] & 0xFF) + 5 != count) {
+				throw invalidRecord();
+			}
+			int sum = 0;
+			for (int i = 0; i < count; i++) {
+				sum += fRecord[i] & 0xFF;
+			}
+			if ((sum & 0xFF) != 0) {
+				throw invalidRecord();
+			}
+			int length = fRecord[0] & 0xFF;
+			long address = ((fRecord[1] & 0xFF) << 8) | (fRecord[2] & 0xFF);
+			switch (fRecord[3]) {
+				case 0:
+					fWriter.write(BigInteger.valueOf(fBaseAddress + address), fRecord, 4, length);
+					break;
+				case 1:
+					fEnded = true;
+					break;
+				case 2:
+					if (length != 2) {
+						throw invalidRecord();
+					}
+					fBaseAddress = (((fRecord[4] & 0xFF) << 8) | (fRecord[5] & 0xFF)) << 4;
+					break;
+				case 4:
+					if (length != 2) {
+						throw invalidRecord();
+					}
+					fBaseAddress = ((long) (((fRecord[4] & 0xFF) << 8) | (fRecord[5] & 0xFF))) << 16;
+					break;
+				default:
+					// start address records
+					break;
+			}
+		}
+
+		private void sRecord() throws DebugException {
+			if (fLineLength < 4 || fLine[0] != 'S') {
+				throw invalidRecord();
+			}
+			char type = (char) fLine[1];
+			int count = parseBytes(2);
+			if (count < 1 || (fRecord[0] & 0xFF) + 1 != count) {
+				throw invalidRecord();
+			}
+			int sum = 0;
+			for (int i = 0; i < count; i++) {
+				sum += fRecord[i] & 0xFF;
+			}
+			if ((sum & 0xFF) != 0xFF) {
+				throw invalidRecord();
+			}
+			int addressBytes;
+			switch (type) {
+				case '1':
+					addressBytes = 2;
+					break;
+				case '2':
+					addressBytes = 3;
+					break;
+				case '3':
+					addressBytes = 4;
+					break;
+				case '7':
+				case '8':
+				case '9':
+					fEnded = true;
+					return;
+				default:
+					// header and count records
+					return;
+			}
+			int length = count - 2 - addressBytes;
+			if (length < 0) {
+				throw invalidRecord();
+			}
+			long address = 0;
+			for (int i = 0; i < addressBytes; i++) {
+				address = (address << 8) | (fRecord[1 + i] & 0xFF);
+			}
+			fWriter.write(BigInteger.valueOf(address), fRecord, 1 + addressBytes, length);
+		}
+
+		/**
+		 * Parses the hexadecimal digits of the current line from the given
+		 * offset into {@link #fRecord}.
+		 *
+		 * @return number of bytes parsed
+		 */
+		private int parseBytes(int offset) throws DebugException {
+			int digits = fLineLength - offset;
+			if (digits % 2 != 0 || digits / 2 > fRecord.length) {
+				throw invalidRecord();
+			}
+			for (int i = 0; i < digits / 2; i++) {
+				int high = Character.digit(fLine[offset + i * 2], 16);
+				int low = Character.digit(fLine[offset + i * 2 + 1], 16);
+				if (high < 0 || low < 0) {
+					throw invalidRecord();
+				}
+				fRecord[i] = (byte) ((high << 4) | low);
+			}
+			return digits / 2;
+		}
+
+		private DebugException invalidRecord() {
+			return new DebugException(new Status(IStatus.ERROR, DebugPlugin.getUniqueIdentifier(), DebugException.REQUEST_FAILED, MessageFormat.format(DebugCoreMessages.MemoryBlockTransfer_5, new Object[] { Integer.toString(fLineNumber) }), null));
+		}
+	}
+}
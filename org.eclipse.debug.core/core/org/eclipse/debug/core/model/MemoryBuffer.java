@@ -0,0 +1,412 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.core.model;
+
+import java.util.Arrays;
+
+/**
+ * A compact, immutable sequence of memory bytes. Unlike an array of
+ * {@link MemoryByte} objects, a memory buffer stores the byte values in a
+ * single <code>byte[]</code> and the attribute flags run-length encoded, such
+ * that a uniform region (for example a range of readable, writable bytes or a
+ * range of unreadable bytes) needs a single flag entry no matter its size.
+ * <p>
+ * The attribute flags of a buffer are the bit masks defined by
+ * {@link MemoryByte}.
+ * </p>
+ * <p>
+ * Clients may instantiate this class. This class is not intended to be
+ * subclassed.
+ * </p>
+ * @since 3.14
+ * @see IMemoryBlockExtension2
+ */
+public final class MemoryBuffer {
+
+	/**
+	 * Attribute flags of bytes that could not be retrieved: not readable, not
+	 * writable and of unknown endianess.
+	 */
+	public static final byte UNREADABLE_FLAGS = 0;
+
+	private static final MemoryBuffer EMPTY = new MemoryBuffer(new byte[0], new int[0], new byte[0], 0);
+
+	/**
+	 * Byte values, owned by this buffer.
+	 */
+	private final byte[] fValues;
+
+	/**
+	 * Index of the first byte of each run, ascending. The first run always
+	 * starts at 0.
+	 */
+	private final int[] fRunStarts;
+
+	/**
+	 * Attribute flags of each run.
+	 */
+	private final byte[] fRunFlags;
+
+	/**
+	 * Number of runs in use in {@link #fRunStarts} and {@link #fRunFlags}.
+	 */
+	private final int fRunCount;
+
+	private MemoryBuffer(byte[] values, int[] runStarts, byte[] runFlags, int runCount) {
+		fValues = values;
+		fRunStarts = runStarts;
+		fRunFlags = runFlags;
+		fRunCount = runCount;
+	}
+
+	/**
+	 * Constructs a buffer containing the given values, all of which have the
+	 * same attribute flags. The buffer takes ownership of the given array;
+	 * callers must not modify it afterwards.
+	 *
+	 * @param values byte values
+	 * @param flags attribute flags of all bytes, as a bit mask of the
+	 *            constants defined by {@link MemoryByte}
+	 */
+	public MemoryBuffer(byte[] values, byte flags) {
+		this(values, new int[] { 0 }, new byte[] { flags }, values.length == 0 ? 0 : 1);
+	}
+
+	/**
+	 * Constructs a buffer containing the given values and per byte attribute
+	 * flags. The flags are run-length encoded. The buffer takes ownership of
+	 * the given value array; callers must not modify it afterwards.
+	 *
+	 * @param values byte values
+	 * @param flags attribute flags of each byte, must have the same length as
+	 *            <code>values</code>
+	 */
+	public MemoryBuffer(byte[] values, byte[] flags) {
+		if (values.length != flags.length) {
+			throw new IllegalArgumentException("values and flags differ in length"); //$NON-NLS-1$
+		}
+		fValues = values;
+		int runCount = 0;
+		for (int i = 0; i < flags.length; i++) {
+			if (i == 0 || flags[i] != flags[i - 1]) {
+				runCount++;
+			}
+		}
+		fRunStarts = new int[runCount];
+		fRunFlags = new byte[runCount];
+		int run = 0;
+		for (int i = 0; i < flags.length; i++) {
+			if (i == 0 || flags[i] != flags[i - 1]) {
+				fRunStarts[run] = i;
+				fRunFlags[run] = flags[i];
+				run++;
+			}
+		}
+		fRunCount = runCount;
+	}
+
+	/**
+	 * Returns a buffer of the given length whose bytes have a value of 0 and
+	 * the given attribute flags.
+	 *
+	 * @param length number of bytes
+	 * @param flags attribute flags of all bytes
+	 * @return a uniform buffer
+	 */
+	public static MemoryBuffer fill(int length, byte flags) {
+		if (length == 0) {
+			return EMPTY;
+		}
+		return new MemoryBuffer(new byte[length], flags);
+	}
+
+	/**
+	 * Returns a buffer holding the values and attribute flags of the given
+	 * memory bytes. This is the adapter from the {@link MemoryByte} based
+	 * retrieval methods of {@link IMemoryBlockExtension}.
+	 *
+	 * @param bytes memory bytes
+	 * @return buffer with the same contents
+	 */
+	public static MemoryBuffer fromMemoryBytes(MemoryByte[] bytes) {
+		byte[] values = new byte[bytes.length];
+		byte[] flags = new byte[bytes.length];
+		for (int i = 0; i < bytes.length; i++) {
+			values[i] = bytes[i].getValue();
+			flags[i] = bytes[i].getFlags();
+		}
+		return new MemoryBuffer(values, flags);
+	}
+
+	/**
+	 * Returns a buffer containing the bytes of the given buffers, in order.
+	 *
+	 * @param buffers buffers to concatenate
+	 * @return concatenated buffer
+	 */
+	public static MemoryBuffer concat(MemoryBuffer... buffers) {
+		int length = 0;
+		int runCount = 0;
+		for (MemoryBuffer buffer : buffers) {
+			length += buffer.length();
+			runCount += buffer.fRunCount;
+		}
+		if (length == 0) {
+			return EMPTY;
+		}
+		byte[] values = new byte[length];
+		int[] runStarts = new int[runCount];
+		byte[] runFlags = new byte[runCount];
+		int offset = 0;
+		int run = 0;
+		for (MemoryBuffer buffer : buffers) {
+			System.arraycopy(buffer.fValues, 0, values, offset, buffer.length());
+			for (int i = 0; i < buffer.fRunCount; i++) {
+				if (run > 0 && runFlags[run - 1] == buffer.fRunFlags[i]) {
+					// adjacent runs with the same flags
+					continue;
+				}
+				runStarts[run] = offset + buffer.fRunStarts[i];
+				runFlags[run] = buffer.fRunFlags[i];
+				run++;
+			}
+			offset += buffer.length();
+		}
+		return new MemoryBuffer(values, runStarts, runFlags, run);
+	}
+
+	/**
+	 * Returns the number of bytes in this buffer.
+	 *
+	 * @return the number of bytes in this buffer
+	 */
+	public int length() {
+		return fValues.length;
+	}
+
+	/**
+	 * Returns the value of the byte at the given index.
+	 *
+	 * @param index zero based index
+	 * @return value of the byte
+	 */
+	public byte getValue(int index) {
+		return fValues[index];
+	}
+
+	/**
+	 * Returns the attribute flags of the byte at the given index.
+	 *
+	 * @param index zero based index
+	 * @return attribute flags of the byte, as a bit mask of the constants
+	 *         defined by {@link MemoryByte}
+	 */
+	public byte getFlags(int index) {
+		if (index < 0 || index >= fValues.length) {
+			throw new ArrayIndexOutOfBoundsException(index);
+		}
+		return fRunFlags[findRun(index)];
+	}
+
+	/**
+	 * Copies values of this buffer into the given array.
+	 *
+	 * @param start index of the first byte to copy
+	 * @param dest destination array
+	 * @param destStart index in the destination array
+	 * @param length number of bytes to copy
+	 */
+	public void getValues(int start, byte[] dest, int destStart, int length) {
+		System.arraycopy(fValues, start, dest, destStart, length);
+	}
+
+	/**
+	 * Returns the number of runs of bytes with identical attribute flags in
+	 * this buffer.
+	 *
+	 * @return number of flag runs
+	 */
+	public int getRunCount() {
+		return fRunCount;
+	}
+
+	/**
+	 * Returns the index of the first byte of the given run.
+	 *
+	 * @param run zero based run index
+	 * @return index of the first byte of the run
+	 */
+	public int getRunStart(int run) {
+		return fRunStarts[run];
+	}
+
+	/**
+	 * Returns the attribute flags of all bytes in the given run.
+	 *
+	 * @param run zero based run index
+	 * @return flags of the run
+	 */
+	public byte getRunFlags(int run) {
+		return fRunFlags[run];
+	}
+
+	/**
+	 * Returns whether all bytes in this buffer have the given attribute flags.
+	 *
+	 * @param flags attribute flags
+	 * @return whether the buffer is uniform with the given flags
+	 */
+	public boolean isUniform(byte flags) {
+		return fRunCount == 0 || (fRunCount == 1 && fRunFlags[0] == flags);
+	}
+
+	/**
+	 * Returns a buffer holding a range of this buffer.
+	 *
+	 * @param start index of the first byte
+	 * @param length number of bytes
+	 * @return buffer with the given range
+	 */
+	public MemoryBuffer slice(int start, int length) {
+		if (start < 0 || length < 0 || start + length > fValues.length) {
+			throw new IndexOutOfBoundsException();
+		}
+		if (start == 0 && length == fValues.length) {
+			return this;
+		}
+		if (length == 0) {
+			return EMPTY;
+		}
+		int first = findRun(start);
+		int last = findRun(start + length - 1);
+		int runCount = last - first + 1;
+		int[] runStarts = new int[runCount];
+		byte[] runFlags = new byte[runCount];
+		for (int i = 0; i < runCount; i++) {
+			runStarts[i] = Math.max(0, fRunStarts[first + i] - start);
+			runFlags[i] = fRunFlags[first + i];
+		}
+		return new MemoryBuffer(Arrays.copyOfRange(fValues, start, start + length), runStarts, runFlags, runCount);
+	}
+
+	/**
+	 * Returns a buffer with the same values as this buffer whose attribute
+	 * flags have the given bits turned off.
+	 *
+	 * @param mask bits to clear
+	 * @return buffer with cleared flags, possibly this buffer
+	 */
+	public MemoryBuffer clearFlags(byte mask) {
+		return updateFlags((byte) 0, mask);
+	}
+
+	/**
+	 * Returns a buffer with the same values as this buffer whose attribute
+	 * flags have the given bits turned on.
+	 *
+	 * @param mask bits to set
+	 * @return buffer with set flags, possibly this buffer
+	 */
+	public MemoryBuffer setFlags(byte mask) {
+		return updateFlags(mask, (byte) 0);
+	}
+
+	private MemoryBuffer updateFlags(byte setMask, byte clearMask) {
+		boolean affected = false;
+		for (int i = 0; i < fRunCount && !affected; i++) {
+			affected = (fRunFlags[i] & clearMask) != 0 || (fRunFlags[i] & setMask) != setMask;
+		}
+		if (!affected) {
+			return this;
+		}
+		int[] runStarts = new int[fRunCount];
+		byte[] runFlags = new byte[fRunCount];
+		int run = 0;
+		for (int i = 0; i < fRunCount; i++) {
+			byte flags = (byte) ((fRunFlags[i] | setMask) & ~clearMask);
+			if (run > 0 && runFlags[run - 1] == flags) {
+				continue;
+			}
+			runStarts[run] = fRunStarts[i];
+			runFlags[run] = flags;
+			run++;
+		}
+		return new MemoryBuffer(fValues, runStarts, runFlags, run);
+	}
+
+	/**
+	 * Returns a new memory byte holding the value and attribute flags of the
+	 * byte at the given index.
+	 *
+	 * @param index zero based index
+	 * @return a new memory byte
+	 */
+	public MemoryByte getMemoryByte(int index) {
+		return new MemoryByte(getValue(index), getFlags(index));
+	}
+
+	/**
+	 * Returns new memory bytes for all bytes in this buffer. This is the
+	 * adapter for clients of the {@link MemoryByte} based API.
+	 *
+	 * @return new memory bytes
+	 */
+	public MemoryByte[] toMemoryBytes() {
+		return toMemoryBytes(0, fValues.length);
+	}
+
+	/**
+	 * Returns new memory bytes for a range of this buffer.
+	 *
+	 * @param start index of the first byte
+	 * @param length number of bytes
+	 * @return new memory bytes
+	 */
+	public MemoryByte[] toMemoryBytes(int start, int length) {
+		if (start < 0 || length < 0 || start + length > fValues.length) {
+			throw new IndexOutOfBoundsException();
+		}
+		MemoryByte[] bytes = new MemoryByte[length];
+		if (length == 0) {
+			return bytes;
+		}
+		int run = findRun(start);
+		int runEnd = run + 1 < fRunCount ? fRunStarts[run + 1] : fValues.length;
+		for (int i = start; i < start + length; i++) {
+			while (i >= runEnd) {
+				run++;
+				runEnd = run + 1 < fRunCount ? fRunStarts[run + 1] : fValues.length;
+			}
+			bytes[i - start] = new MemoryByte(fValues[i], fRunFlags[run]);
+		}
+		return bytes;
+	}
+
+	/**
+	 * Returns the run containing the byte at the given index.
+	 */
+	private int findRun(int index) {
+		int low = 0;
+		int high = fRunCount - 1;
+		while (low < high) {
+			int mid = (low + high + 1) >>> 1;
+			if (fRunStarts[mid] <= index) {
+				low = mid;
+			} else {
+				high = mid - 1;
+			}
+		}
+		return low;
+	}
+}
@@ -24,6 +24,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.debug.core.DebugPlugin;
@@ -35,6 +36,8 @@ import org.eclipse.debug.core.ILaunchManager;
 import org.eclipse.debug.core.IStatusHandler;
 import org.eclipse.debug.core.model.IStackFrame;
 import org.eclipse.debug.core.sourcelookup.containers.DefaultSourceContainer;
+import org.eclipse.debug.internal.core.sourcelookup.ParallelSourceLookup;
+import org.eclipse.debug.internal.core.sourcelookup.SourceLookupCache;
 import org.eclipse.debug.internal.core.sourcelookup.SourceLookupMessages;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -133,6 +136,9 @@ public abstract class AbstractSourceLookupDirector implements ISourceLookupDirec
 			ISourceLookupParticipant[] participants = getParticipants();
 			try {
 				for(int i=0; i < participants.length; i++) {
+					if (ParallelSourceLookup.isCanceled()) {
+						throw new OperationCanceledException();
+					}
 					setCurrentParticipant(participants[i]);
 					Object[] sourceArray;
 					try {
@@ -220,6 +226,7 @@ public abstract class AbstractSourceLookupDirector implements ISourceLookupDirec
 		}
 		fSourceContainers = null;
 		fResolvedElements = null;
+		SourceLookupCache.dispose(this);
 	}
 
 	/**
@@ -300,6 +307,7 @@ public abstract class AbstractSourceLookupDirector implements ISourceLookupDirec
 	@Override
 	public void setFindDuplicates(boolean duplicates) {
 		fDuplicates = duplicates;
+		SourceLookupCache.invalidate(this);
 	}
 
 	/**
@@ -310,6 +318,7 @@ public abstract class AbstractSourceLookupDirector implements ISourceLookupDirec
 	 */
 	private synchronized void removeSourceLookupParticipant(ISourceLookupParticipant participant) {
 		if (fParticipants.remove(participant)) {
+			SourceLookupCache.invalidate(this);
 			participant.dispose();
 		}
 	}
@@ -448,6 +457,7 @@ public abstract class AbstractSourceLookupDirector implements ISourceLookupDirec
 		}
 		// clear resolved duplicates
 		fResolvedElements = null;
+		SourceLookupCache.invalidate(this);
 		// notify participants
 		ISourceLookupParticipant[] participants = getParticipants();
 		for (int i = 0; i < participants.length; i++) {
@@ -483,7 +493,7 @@ public abstract class AbstractSourceLookupDirector implements ISourceLookupDirec
 				if (ce.getStatus().getSeverity() == IStatus.ERROR) {
 					DebugPlugin.log(ce);
 				}
-			} else {
+			} else if (!(exception instanceof OperationCanceledException)) {
 				DebugPlugin.log(exception);
 			}
 		}
@@ -653,6 +663,7 @@ public abstract class AbstractSourceLookupDirector implements ISourceLookupDirec
 
 	@Override
 	public void clearSourceElements(Object element) {
+		SourceLookupCache.invalidate(this);
 		List<Object> list = doSourceLookup(element);
 		if (list.size() > 0) {
 			for (Object obj : list) {
@@ -13,14 +13,9 @@
  *******************************************************************************/
 package org.eclipse.debug.core.sourcelookup;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import org.eclipse.core.runtime.CoreException;
-import org.eclipse.core.runtime.IStatus;
-import org.eclipse.core.runtime.MultiStatus;
-import org.eclipse.debug.core.DebugPlugin;
-import org.eclipse.debug.internal.core.sourcelookup.SourceLookupMessages;
+import org.eclipse.debug.internal.core.sourcelookup.ParallelSourceLookup;
+import org.eclipse.debug.internal.core.sourcelookup.SourceLookupCache;
 
 
 /**
@@ -48,56 +43,32 @@ public abstract class AbstractSourceLookupParticipant implements ISourceLookupPa
 
 	@Override
 	public Object[] findSourceElements(Object object) throws CoreException {
-		List<Object> results = null;
-		CoreException single = null;
-		MultiStatus multiStatus = null;
-		if (isFindDuplicates()) {
-			results = new ArrayList<>();
+		final String name = getSourceName(object);
+		if (name == null) {
+			return EMPTY;
 		}
-		String name = getSourceName(object);
-		if (name != null) {
-			ISourceContainer[] containers = getSourceContainers();
-			for (int i = 0; i < containers.length; i++) {
-				try {
-					ISourceContainer container = getDelegateContainer(containers[i]);
-					if (container != null) {
-						Object[] objects = container.findSourceElements(name);
-						if (objects.length > 0) {
-							//it will only not be null when we care about duplicates
-							//saves the computation in isFindDuplicates()
-							if (results != null) {
-								for (int j = 0; j < objects.length; j++) {
-									results.add(objects[j]);
-								}
-							} else {
-								if (objects.length == 1) {
-									return objects;
-								}
-								return new Object[]{objects[0]};
-							}
-						}
-					}
-				} catch (CoreException e) {
-					if (single == null) {
-						single = e;
-					} else if (multiStatus == null) {
-						multiStatus = new MultiStatus(DebugPlugin.getUniqueIdentifier(), DebugPlugin.ERROR, new IStatus[]{single.getStatus()}, SourceLookupMessages.Source_Lookup_Error, null);
-						multiStatus.add(e.getStatus());
-					} else {
-						multiStatus.add(e.getStatus());
-					}
-				}
+		SourceLookupCache cache = SourceLookupCache.getCache(getDirector());
+		long generation = 0;
+		if (cache != null) {
+			Object[] cached = cache.get(this, name);
+			if (cached != null) {
+				return cached;
 			}
+			generation = cache.getGeneration();
 		}
-		if (results == null) {
-			if (multiStatus != null) {
-				throw new CoreException(multiStatus);
-			} else if (single != null) {
-				throw single;
+		final ISourceContainer[] containers = getSourceContainers();
+		Object[] elements = ParallelSourceLookup.findSourceElements(containers.length, isFindDuplicates(), index -> {
+			ISourceContainer container = getDelegateContainer(containers[index]);
+			if (container != null) {
+				return container.findSourceElements(name);
 			}
 			return EMPTY;
+		});
+		// a canceled lookup may have missed source elements
+		if (cache != null && !ParallelSourceLookup.isCanceled()) {
+			cache.put(this, name, elements, generation);
 		}
-		return results.toArray();
+		return elements;
 	}
 
 	/**
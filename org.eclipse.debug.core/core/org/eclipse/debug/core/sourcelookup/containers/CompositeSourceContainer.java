@@ -13,15 +13,9 @@
  *******************************************************************************/
 package org.eclipse.debug.core.sourcelookup.containers;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import org.eclipse.core.runtime.CoreException;
-import org.eclipse.core.runtime.IStatus;
-import org.eclipse.core.runtime.MultiStatus;
-import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.sourcelookup.ISourceContainer;
-import org.eclipse.debug.internal.core.sourcelookup.SourceLookupMessages;
+import org.eclipse.debug.internal.core.sourcelookup.ParallelSourceLookup;
 
 /**
  * A source container of source containers.
@@ -65,51 +59,8 @@ public abstract class CompositeSourceContainer extends AbstractSourceContainer {
 	 * @return a collection of source elements corresponding to the given name
 	 * @exception CoreException if an exception occurs while searching for source elements
 	 */
-	protected Object[] findSourceElements(String name, ISourceContainer[] containers) throws CoreException {
-		List<Object> results = null;
-		CoreException single = null;
-		MultiStatus multiStatus = null;
-		if (isFindDuplicates()) {
-			results = new ArrayList<>();
-		}
-		for (int i = 0; i < containers.length; i++) {
-			ISourceContainer container = containers[i];
-			try {
-				Object[] objects = container.findSourceElements(name);
-				if (objects.length > 0) {
-					//it will only not be null when we care about duplicates
-					//saves the computation in isFindDuplicates()
-					if (results != null) {
-						for (int j = 0; j < objects.length; j++) {
-							results.add(objects[j]);
-						}
-					} else {
-						if (objects.length == 1) {
-							return objects;
-						}
-						return new Object[]{objects[0]};
-					}
-				}
-			} catch (CoreException e) {
-				if (single == null) {
-					single = e;
-				} else if (multiStatus == null) {
-					multiStatus = new MultiStatus(DebugPlugin.getUniqueIdentifier(), DebugPlugin.ERROR, new IStatus[]{single.getStatus()}, SourceLookupMessages.Source_Lookup_Error, null);
-					multiStatus.add(e.getStatus());
-				} else {
-					multiStatus.add(e.getStatus());
-				}
-			}
-		}
-		if (results == null) {
-			if (multiStatus != null) {
-				throw new CoreException(multiStatus);
-			} else if (single != null) {
-				throw single;
-			}
-			return EMPTY;
-		}
-		return results.toArray();
+	protected Object[] findSourceElements(final String name, final ISourceContainer[] containers) throws CoreException {
+		return ParallelSourceLookup.findSourceElements(containers.length, isFindDuplicates(), index -> containers[index].findSourceElements(name));
 	}
 
 	/**
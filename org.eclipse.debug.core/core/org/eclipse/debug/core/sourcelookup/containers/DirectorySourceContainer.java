@@ -22,6 +22,7 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.sourcelookup.ISourceContainer;
 import org.eclipse.debug.core.sourcelookup.ISourceContainerType;
+import org.eclipse.debug.internal.core.sourcelookup.DirectoryIndex;
 
 /**
  * A directory in the local file system. Source elements returned
@@ -40,6 +41,8 @@ public class DirectorySourceContainer extends CompositeSourceContainer {
 	private File fDirectory;
 	// whether to search sub-folders
 	private boolean fSubfolders = false;
+	// index of the files in sub-folders, created on first search
+	private DirectoryIndex fIndex;
 	/**
 	 * Unique identifier for the directory source container type
 	 * (value <code>org.eclipse.debug.core.containerType.directory</code>).
@@ -94,6 +97,20 @@ public class DirectorySourceContainer extends CompositeSourceContainer {
 
 	@Override
 	public Object[] findSourceElements(String name) throws CoreException {
+		if (fSubfolders) {
+			List<File> files = getIndex().find(name, isFindDuplicates());
+			if (files != null) {
+				if (files.isEmpty()) {
+					return EMPTY;
+				}
+				Object[] sources = new Object[files.size()];
+				for (int i = 0; i < sources.length; i++) {
+					sources[i] = new LocalFileStorage(files.get(i));
+				}
+				return sources;
+			}
+		}
+		// probe the file system for names the index cannot answer
 		ArrayList<Object> sources = new ArrayList<>();
 		File directory = getDirectory();
 		File file = new File(directory, name);
@@ -126,11 +143,34 @@ public class DirectorySourceContainer extends CompositeSourceContainer {
 		return sources.toArray();
 	}
 
+	/**
+	 * Returns the index of the files in the sub-folders of this container.
+	 *
+	 * @return index of the files in the sub-folders
+	 */
+	private synchronized DirectoryIndex getIndex() {
+		if (fIndex == null) {
+			fIndex = new DirectoryIndex(fDirectory);
+		}
+		return fIndex;
+	}
+
 	@Override
 	public boolean isComposite() {
 		return fSubfolders;
 	}
 
+	@Override
+	public void dispose() {
+		super.dispose();
+		synchronized (this) {
+			if (fIndex != null) {
+				fIndex.dispose();
+				fIndex = null;
+			}
+		}
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj instanceof DirectorySourceContainer) {
@@ -16,11 +16,7 @@ package org.eclipse.debug.core.sourcelookup.containers;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Enumeration;
-import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -29,8 +25,10 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.sourcelookup.ISourceContainerType;
+import org.eclipse.debug.internal.core.sourcelookup.ArchiveIndex;
 import org.eclipse.debug.internal.core.sourcelookup.SourceLookupMessages;
 import org.eclipse.debug.internal.core.sourcelookup.SourceLookupUtils;
+import org.eclipse.debug.internal.core.sourcelookup.SourceLookupUtils.ArchiveReference;
 
 import com.ibm.icu.text.MessageFormat;
 
@@ -47,7 +45,6 @@ public class ExternalArchiveSourceContainer extends AbstractSourceContainer {
 
 	private boolean fDisposed;
 	private boolean fDetectRoots;
-	private Set<String> fPotentialRoots;
 	private List<String> fRoots = new ArrayList<>();
 	private String fArchivePath;
 	/**
@@ -78,70 +75,64 @@ public class ExternalArchiveSourceContainer extends AbstractSourceContainer {
 		fDetectRoots = detectRootPaths;
 	}
 
-	@SuppressWarnings("resource")
 	@Override
 	public Object[] findSourceElements(String name) throws CoreException {
 		String newname = name.replace('\\', '/');
-		ZipFile file = getArchive();
-		if (file == null) {
+		ArchiveReference archive = acquireArchive();
+		if (archive == null) {
 			return EMPTY;
 		}
-		// NOTE: archive can be closed between get (above) and synchronized block (below)
-		synchronized (file) {
-			boolean isQualfied = newname.indexOf('/') > 0;
-			if (fDetectRoots && isQualfied) {
-				ZipEntry entry = searchRoots(file, newname);
-				if (entry != null) {
-					return new Object[]{new ZipEntryStorage(file, entry)};
-				}
-			} else {
-				// try exact match
-				ZipEntry entry = null;
-				try {
-					entry = file.getEntry(newname);
-				} catch (IllegalStateException e) {
-					// archive was closed between retrieving and locking
-					throw new CoreException(new Status(IStatus.ERROR, DebugPlugin.getUniqueIdentifier(),
-							e.getMessage(), e));
-				}
-				if (entry != null) {
-					// can't be any duplicates if there is an exact match
-					return new Object[]{new ZipEntryStorage(file, entry)};
-				}
-				// search
-				Enumeration<? extends ZipEntry> entries = file.entries();
-				List<ZipEntryStorage> matches = null;
-				try {
-					File zipFile = new File(fArchivePath);
-					String zipFileCanonical = zipFile.getCanonicalPath();
-					while (entries.hasMoreElements()) {
-						entry = entries.nextElement();
-						String entryName = entry.getName();
-						if (entryName.endsWith(newname)) {
-							String zipEntryCanonical = (new File(zipFile, entryName)).getCanonicalPath();
-							if (!zipEntryCanonical.startsWith(zipFileCanonical + File.separator)) {
-								throw new CoreException(new Status(IStatus.ERROR, DebugPlugin.getUniqueIdentifier(), "Invalid path: " + zipEntryCanonical)); //$NON-NLS-1$
-							}
-							if (isQualfied || entryName.length() == newname.length() || entryName.charAt(entryName.length() - newname.length() - 1) == '/') {
-								if (isFindDuplicates()) {
-									if (matches == null) {
-										matches = new ArrayList<>();
-									}
-									matches.add(new ZipEntryStorage(file, entry));
-								} else {
-									return new Object[] {
-											new ZipEntryStorage(file, entry) };
-								}
+		// the archive stays open until the search completes, the index is
+		// built by the first search, lookups go through the index and do not
+		// lock the archive
+		try {
+			return findSourceElements(archive.getArchive(), archive.getIndex(), newname);
+		} finally {
+			archive.close();
+		}
+	}
+
+	/**
+	 * Searches the given index of this container's archive.
+	 */
+	private Object[] findSourceElements(ZipFile file, ArchiveIndex index, String newname) throws CoreException {
+		boolean isQualfied = newname.indexOf('/') > 0;
+		if (fDetectRoots && isQualfied) {
+			ZipEntry entry = searchRoots(index, newname);
+			if (entry != null) {
+				return new Object[]{new ZipEntryStorage(file, entry)};
+			}
+		} else {
+			// try exact match
+			ZipEntry entry = index.getEntry(newname);
+			if (entry != null) {
+				// can't be any duplicates if there is an exact match
+				return new Object[]{new ZipEntryStorage(file, entry)};
+			}
+			// search the entries with the same file name
+			List<ZipEntryStorage> matches = null;
+			for (ZipEntry candidate : index.getEntriesByFileName(ArchiveIndex.getFileName(newname))) {
+				String entryName = candidate.getName();
+				if (entryName.endsWith(newname)) {
+					if (!index.isValid(candidate)) {
+						throw new CoreException(new Status(IStatus.ERROR, DebugPlugin.getUniqueIdentifier(), "Invalid path: " + entryName)); //$NON-NLS-1$
+					}
+					if (isQualfied || entryName.length() == newname.length() || entryName.charAt(entryName.length() - newname.length() - 1) == '/') {
+						if (isFindDuplicates()) {
+							if (matches == null) {
+								matches = new ArrayList<>();
 							}
+							matches.add(new ZipEntryStorage(file, candidate));
+						} else {
+							return new Object[] {
+									new ZipEntryStorage(file, candidate) };
 						}
 					}
-				} catch (IOException e) {
-					throw new CoreException(new Status(IStatus.ERROR, DebugPlugin.getUniqueIdentifier(), "Invalid path: " + fArchivePath)); //$NON-NLS-1$
-				}
-				if (matches != null) {
-					return matches.toArray();
 				}
 			}
+			if (matches != null) {
+				return matches.toArray();
+			}
 		}
 		return EMPTY;
 	}
@@ -150,91 +141,67 @@ public class ExternalArchiveSourceContainer extends AbstractSourceContainer {
 	 * Returns the root path in this archive for the given file name, based
 	 * on its type, or <code>null</code> if none. Detects a root if a root has
 	 * not yet been detected for the given file type.
+	 * <p>
+	 * Any directory of the archive is a potential root, unless nested in a
+	 * root already detected. Rather than trying every potential root, the
+	 * entries with the same file name are looked up in the index.
+	 * </p>
 	 *
-	 * @param file zip file to search in
+	 * @param index index of the archive to search in
 	 * @param name file name
 	 * @return the {@link ZipEntry} with the given name or <code>null</code>
 	 * @exception CoreException if an exception occurs while detecting the root
 	 */
-	private synchronized ZipEntry searchRoots(ZipFile file, String name) throws CoreException {
+	private synchronized ZipEntry searchRoots(ArchiveIndex index, String name) throws CoreException {
 		if (fDisposed) {
 			return null;
 		}
-		if (fPotentialRoots == null) {
-			fPotentialRoots = new HashSet<>();
-			fPotentialRoots.add(""); //$NON-NLS-1$
-			// all potential roots are the directories
-			try {
-				Enumeration<? extends ZipEntry> entries = file.entries();
-				while (entries.hasMoreElements()) {
-					ZipEntry entry = entries.nextElement();
-					if (entry.isDirectory()) {
-						fPotentialRoots.add(entry.getName());
-					} else {
-						String entryName = entry.getName();
-						int index = entryName.lastIndexOf("/"); //$NON-NLS-1$
-						while (index > 0) {
-							if (fPotentialRoots.add(entryName.substring(0, index + 1))) {
-								entryName = entryName.substring(0, index);
-								index = entryName.lastIndexOf("/"); //$NON-NLS-1$
-							} else {
-								break;
-							}
-						}
-					}
-				}
-			} catch (IllegalStateException e) {
-				// archive was closed between retrieving and locking
-				throw new CoreException(new Status(IStatus.ERROR, DebugPlugin.getUniqueIdentifier(),
-					e.getMessage(), e));
-			}
-		}
-		int i = 0;
-		while (i < fRoots.size()) {
-			String root = fRoots.get(i);
-			ZipEntry entry = file.getEntry(root+name);
+		for (String root : fRoots) {
+			ZipEntry entry = index.getEntry(root + name);
 			if (entry != null) {
 				return entry;
 			}
-			i++;
 		}
-		if (!fPotentialRoots.isEmpty()) {
-			for (String root : fPotentialRoots) {
-				ZipEntry entry = file.getEntry(root + name);
-				if (entry != null) {
-					if (root != null) {
-						fRoots.add(root);
-						fPotentialRoots.remove(root);
-						// remove any roots that begin with the new root, as
-						// roots
-						// cannot be nested
-						Iterator<String> rs = fPotentialRoots.iterator();
-						while (rs.hasNext()) {
-							String r = rs.next();
-							if (r.startsWith(root)) {
-								rs.remove();
-							}
-						}
-					}
-					return entry;
-				}
+		for (ZipEntry entry : index.getEntriesByFileName(ArchiveIndex.getFileName(name))) {
+			String entryName = entry.getName();
+			if (!entryName.endsWith(name)) {
+				continue;
+			}
+			String root = entryName.substring(0, entryName.length() - name.length());
+			if ((root.length() == 0 || root.endsWith("/")) && !isNestedRoot(root)) { //$NON-NLS-1$
+				fRoots.add(root);
+				return entry;
 			}
 		}
 		return null;
 	}
 
 	/**
-	 * Returns the archive to search in.
-	 * @return the {@link ZipFile} to search in
+	 * Returns whether the given potential root is nested in a detected root,
+	 * as roots cannot be nested.
+	 */
+	private boolean isNestedRoot(String root) {
+		for (String detected : fRoots) {
+			if (root.startsWith(detected)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns a reference to the archive to search in, to be closed when
+	 * done.
+	 * @return the {@link ArchiveReference} to search in
 	 *
 	 * @throws CoreException if unable to access the archive
 	 */
-	private synchronized ZipFile getArchive() throws CoreException {
+	private synchronized ArchiveReference acquireArchive() throws CoreException {
 		if (fDisposed) {
 			return null;
 		}
 		try {
-			return SourceLookupUtils.getZipFile(fArchivePath);
+			return SourceLookupUtils.acquireArchive(fArchivePath);
 		} catch (IOException e) {
 			File file = new File(fArchivePath);
 			if (file.exists()) {
@@ -281,9 +248,6 @@ public class ExternalArchiveSourceContainer extends AbstractSourceContainer {
 	@Override
 	public synchronized void dispose() {
 		super.dispose();
-		if (fPotentialRoots != null) {
-			fPotentialRoots.clear();
-		}
 		fRoots.clear();
 		fDisposed = true;
 	}
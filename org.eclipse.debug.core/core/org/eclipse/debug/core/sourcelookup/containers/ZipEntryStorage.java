@@ -28,6 +28,7 @@ import org.eclipse.core.runtime.PlatformObject;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.internal.core.sourcelookup.SourceLookupMessages;
+import org.eclipse.debug.internal.core.sourcelookup.SourceLookupUtils;
 
 /**
  * Storage implementation for zip entries.
@@ -65,7 +66,7 @@ public class ZipEntryStorage extends PlatformObject implements IStorage {
 	@Override
 	public InputStream getContents() throws CoreException {
 		try {
-			return getArchive().getInputStream(getZipEntry());
+			return SourceLookupUtils.getContents(getArchive(), getZipEntry());
 		} catch (IOException e) {
 			throw new CoreException(new Status(IStatus.ERROR, DebugPlugin.getUniqueIdentifier(), DebugPlugin.ERROR, SourceLookupMessages.ZipEntryStorage_0, e));
 		}
@@ -131,13 +132,14 @@ public class ZipEntryStorage extends PlatformObject implements IStorage {
 
 	@Override
 	public boolean equals(Object object) {
+		// the zip file of an archive is replaced when the archive is reopened
 		return object instanceof ZipEntryStorage &&
-			 getArchive().equals(((ZipEntryStorage)object).getArchive()) &&
+			 getArchive().getName().equals(((ZipEntryStorage)object).getArchive().getName()) &&
 			 getZipEntry().getName().equals(((ZipEntryStorage)object).getZipEntry().getName());
 	}
 
 	@Override
 	public int hashCode() {
-		return getZipEntry().getName().hashCode();
+		return getArchive().getName().hashCode() * 31 + getZipEntry().getName().hashCode();
 	}
 }
@@ -39,6 +39,7 @@ public class DebugCoreMessages extends NLS {
 	public static String GroupLaunchConfigurationDelegate_waiting;
 	public static String GroupLaunchConfigurationDelegate_Delay;
 	public static String GroupLaunchConfigurationDelegate_Delaying;
+	public static String GroupLaunchConfigurationDelegate_dependency_cycle;
 	public static String GroupLaunchConfigurationDelegate_Launching;
 	public static String GroupLaunchConfigurationDelegate_mode_debug;
 	public static String GroupLaunchConfigurationDelegate_mode_inherit;
@@ -85,6 +86,12 @@ public class DebugCoreMessages extends NLS {
 	public static String LaunchManager_29;
 	public static String LaunchManager_31;
 	public static String LaunchMode_1;
+	public static String MemoryBlockTransfer_0;
+	public static String MemoryBlockTransfer_1;
+	public static String MemoryBlockTransfer_2;
+	public static String MemoryBlockTransfer_3;
+	public static String MemoryBlockTransfer_4;
+	public static String MemoryBlockTransfer_5;
 	public static String LogicalStructureProvider_0;
 	public static String LogicalStructureProvider_1;
 	public static String LogicalStructureType_1;
@@ -36,7 +36,7 @@ public class EnvironmentVariableResolver implements IDynamicVariableResolver {
 		if (argument == null) {
 			throw new CoreException(new Status(IStatus.ERROR, DebugPlugin.getUniqueIdentifier(), IStatus.ERROR, DebugCoreMessages.EnvironmentVariableResolver_0, null));
 		}
-		Map<String, String> map = DebugPlugin.getDefault().getLaunchManager().getNativeEnvironmentCasePreserved();
+		Map<String, String> map = ((LaunchManager) DebugPlugin.getDefault().getLaunchManager()).getNativeEnvironmentCasePreservedView();
 		String value = map.get(argument);
 		if (value == null && Platform.getOS().equals(Constants.OS_WIN32)) {
 			// On Win32, env variables are case insensitive, so we search the map
@@ -44,4 +44,37 @@ public interface IInternalDebugCoreConstants {
 	 */
 	String PREF_BREAKPOINT_MANAGER_ENABLED_STATE =  DebugPlugin.getUniqueIdentifier() + ".PREF_BREAKPOINT_MANAGER_ENABLED_STATE"; //$NON-NLS-1$
 
+	/**
+	 * Boolean preference controlling whether source lookups search the
+	 * source containers concurrently. Default value is <code>false</code>.
+	 *
+	 * @since 3.14
+	 */
+	String PREF_PARALLEL_SOURCE_LOOKUP = DebugPlugin.getUniqueIdentifier() + ".PREF_PARALLEL_SOURCE_LOOKUP"; //$NON-NLS-1$
+
+	/**
+	 * Integer preference holding the maximum number of source lookup results
+	 * cached per source lookup director. Default value is <code>1000</code>,
+	 * <code>0</code> disables caching.
+	 *
+	 * @since 3.14
+	 */
+	String PREF_SOURCE_LOOKUP_CACHE_SIZE = DebugPlugin.getUniqueIdentifier() + ".PREF_SOURCE_LOOKUP_CACHE_SIZE"; //$NON-NLS-1$
+
+	/**
+	 * Integer preference holding the maximum number of archives kept open
+	 * for source lookup. Default value is <code>64</code>.
+	 *
+	 * @since 3.14
+	 */
+	String PREF_MAX_OPEN_ARCHIVES = DebugPlugin.getUniqueIdentifier() + ".PREF_MAX_OPEN_ARCHIVES"; //$NON-NLS-1$
+
+	/**
+	 * Integer preference holding the maximum number of members of a launch
+	 * group launched concurrently. Default value is <code>4</code>.
+	 *
+	 * @since 3.14
+	 */
+	String PREF_MAX_PARALLEL_GROUP_LAUNCHES = DebugPlugin.getUniqueIdentifier() + ".PREF_MAX_PARALLEL_GROUP_LAUNCHES"; //$NON-NLS-1$
+
 }
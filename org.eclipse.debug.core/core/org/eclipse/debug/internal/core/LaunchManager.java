@@ -45,6 +45,7 @@ import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.TreeMap;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -503,10 +504,17 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 
 	/**
 	 * The collection of native environment variables on the user's system. Cached
-	 * after being computed once as the environment cannot change.
+	 * after being computed once as the environment cannot change. The maps are
+	 * unmodifiable and shared.
 	 */
-	private static HashMap<String, String> fgNativeEnv = null;
-	private static HashMap<String, String> fgNativeEnvCasePreserved = null;
+	private static Map<String, String> fgNativeEnv = null;
+	private static Map<String, String> fgNativeEnvCasePreserved = null;
+
+	/**
+	 * Case preserved names of the native environment variables by upper case
+	 * name, on WIN32 only.
+	 */
+	private static Map<String, String> fgNativeEnvNames = null;
 
 	/**
 	 * Path to the local directory where local launch configurations
@@ -724,10 +732,35 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	 * method preserves mixed-case keys using the variable names
 	 * recorded by the OS.
 	 * </p>
+	 * <p>
+	 * The environment is read from the running VM with
+	 * {@link System#getenv()}, which holds the environment a native command
+	 * started from this process would print. Only when it cannot be read, the
+	 * environment is read from the output of a native command
+	 * (<code>env</code>, or <code>set</code> on WIN32).
+	 * </p>
 	 * @param cache the map
 	 * @since 3.1
 	 */
 	private void cacheNativeEnvironment(Map<String, String> cache) {
+		try {
+			cache.putAll(System.getenv());
+		} catch (SecurityException e) {
+			// not permitted, try the native command
+		}
+		if (cache.isEmpty()) {
+			cacheNativeEnvironmentFromCommand(cache);
+		}
+	}
+
+	/**
+	 * Computes and caches the native system environment variables in the
+	 * given map from the output of a native command.
+	 *
+	 * @param cache the map
+	 * @since 3.14
+	 */
+	private void cacheNativeEnvironmentFromCommand(Map<String, String> cache) {
 		try {
 			String nativeCommand= null;
 			boolean isWin9xME= false; //see bug 50567
@@ -1281,53 +1314,56 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 		if (configEnv == null) {
 			return null;
 		}
-		Map<String, String> env = new HashMap<>();
-		// build base environment
+		// the native environment is shared, only the variables of the
+		// configuration are collected, overriding native variables
+		Map<String, String> nativeEnv = Collections.emptyMap();
 		boolean append = configuration.getAttribute(ATTR_APPEND_ENVIRONMENT_VARIABLES, true);
 		if (append) {
-			env.putAll(getNativeEnvironmentCasePreserved());
+			nativeEnv = getNativeEnvironmentCasePreservedView();
 		}
 
 		// Add variables from config
 		boolean win32= Platform.getOS().equals(Constants.OS_WIN32);
+		Map<String, String> env;
+		Map<String, String> nativeNames = null;
+		if (win32) {
+			// Win32 variables are case-insensitive. We maintain the key's case
+			// (see bug 86725), but do a case-insensitive comparison (for
+			// example, "pAtH" will still override "PATH").
+			env = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+			if (append) {
+				nativeNames = getNativeEnvironmentNames();
+			}
+		} else {
+			env = new HashMap<>();
+		}
 		String key = null;
 		String value = null;
-		Object nativeValue = null;
-		String nativeKey = null;
 		for (Entry<String, String> entry : configEnv.entrySet()) {
 			key = entry.getKey();
-            value = entry.getValue();
-            // translate any string substitution variables
-            if (value != null) {
-                value = VariablesPlugin.getDefault().getStringVariableManager().performStringSubstitution(value);
-            }
-            boolean added= false;
-			if (win32) {
-                // First, check if the key is an exact match for an existing key.
-				nativeValue = env.get(key);
-                if (nativeValue != null) {
-                    // If an exact match is found, just replace the value
-                    env.put(key, value);
-                } else {
-                    // Win32 variables are case-insensitive. If an exact match isn't found, iterate to
-                    // check for a case-insensitive match. We maintain the key's case (see bug 86725),
-                    // but do a case-insensitive comparison (for example, "pAtH" will still override "PATH").
-					for (Entry<String, String> nativeEntry : env.entrySet()) {
-						nativeKey = (nativeEntry).getKey();
-                        if (nativeKey.equalsIgnoreCase(key)) {
-                            nativeEntry.setValue(value);
-                            added = true;
-                            break;
-                        }
-                    }
-                }
+			value = entry.getValue();
+			// translate any string substitution variables
+			if (value != null) {
+				value = VariablesPlugin.getDefault().getStringVariableManager().performStringSubstitution(value);
+			}
+			if (nativeNames != null && !env.containsKey(key) && !nativeEnv.containsKey(key)) {
+				// override the native variable using its case
+				String nativeKey = nativeNames.get(key.toUpperCase());
+				if (nativeKey != null) {
+					key = nativeKey;
+				}
 			}
-            if (!added) {
-                env.put(key, value);
-            }
+			env.put(key, value);
 		}
-		List<String> strings = new ArrayList<>(env.size());
+		List<String> strings = new ArrayList<>(nativeEnv.size() + env.size());
 		StringBuilder buffer = null;
+		for (Entry<String, String> entry : nativeEnv.entrySet()) {
+			if (!env.containsKey(entry.getKey())) {
+				buffer = new StringBuilder(entry.getKey());
+				buffer.append('=').append(entry.getValue());
+				strings.add(buffer.toString());
+			}
+		}
 		for (Entry<String, String> entry : env.entrySet()) {
 			buffer = new StringBuilder(entry.getKey());
 			buffer.append('=').append(entry.getValue());
@@ -1811,26 +1847,55 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	@Override
 	public synchronized Map<String, String> getNativeEnvironment() {
 		if (fgNativeEnv == null) {
-			Map<String, String> casePreserved = getNativeEnvironmentCasePreserved();
+			Map<String, String> casePreserved = getNativeEnvironmentCasePreservedView();
 			if (Platform.getOS().equals(Constants.OS_WIN32)) {
-				fgNativeEnv = new HashMap<>();
+				Map<String, String> nativeEnv = new HashMap<>();
 				for (Entry<String, String> entry : casePreserved.entrySet()) {
-					fgNativeEnv.put(entry.getKey().toUpperCase(), entry.getValue());
+					nativeEnv.put(entry.getKey().toUpperCase(), entry.getValue());
 				}
+				fgNativeEnv = Collections.unmodifiableMap(nativeEnv);
 			} else {
-				fgNativeEnv = new HashMap<>(casePreserved);
+				fgNativeEnv = casePreserved;
 			}
 		}
 		return new HashMap<>(fgNativeEnv);
 	}
 
 	@Override
-	public synchronized Map<String, String> getNativeEnvironmentCasePreserved() {
+	public Map<String, String> getNativeEnvironmentCasePreserved() {
+		return new HashMap<>(getNativeEnvironmentCasePreservedView());
+	}
+
+	/**
+	 * Returns the native system environment variables like
+	 * {@link #getNativeEnvironmentCasePreserved()}, as an unmodifiable map
+	 * shared by all callers rather than a copy.
+	 *
+	 * @return the native system environment variables, unmodifiable
+	 * @since 3.14
+	 */
+	public synchronized Map<String, String> getNativeEnvironmentCasePreservedView() {
 		if (fgNativeEnvCasePreserved == null) {
-			fgNativeEnvCasePreserved = new HashMap<>();
-			cacheNativeEnvironment(fgNativeEnvCasePreserved);
+			Map<String, String> casePreserved = new HashMap<>();
+			cacheNativeEnvironment(casePreserved);
+			fgNativeEnvCasePreserved = Collections.unmodifiableMap(casePreserved);
+		}
+		return fgNativeEnvCasePreserved;
+	}
+
+	/**
+	 * @return the case preserved names of the native environment variables by
+	 *         upper case name
+	 */
+	private synchronized Map<String, String> getNativeEnvironmentNames() {
+		if (fgNativeEnvNames == null) {
+			Map<String, String> names = new HashMap<>();
+			for (String name : getNativeEnvironmentCasePreservedView().keySet()) {
+				names.put(name.toUpperCase(), name);
+			}
+			fgNativeEnvNames = names;
 		}
-		return new HashMap<>(fgNativeEnvCasePreserved);
+		return fgNativeEnvNames;
 	}
 
 	@Override
@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core;
+
+import java.math.BigInteger;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.model.IMemoryBlockChangeReporter;
+import org.eclipse.debug.core.model.IMemoryBlockExtension;
+import org.eclipse.debug.core.model.MemoryBuffer;
+
+/**
+ * Tracks changes to the pages of a memory block by a hash of the content of
+ * each page.
+ * <p>
+ * After the memory may have changed, for example when the debug target
+ * suspends, the tracker is invalidated and all pages become stale. A stale
+ * page has to be retrieved again, unless the memory block is an
+ * {@link IMemoryBlockChangeReporter} reporting the same stamp for the page as
+ * before. When a page has been retrieved again, comparing its hash tells
+ * whether its content actually changed, without comparing every byte.
+ * </p>
+ * <p>
+ * Hashes are 64 bits wide, a change that leaves the hash of a page unchanged
+ * is not detected.
+ * </p>
+ *
+ * @since 3.14
+ */
+public class MemoryBlockChangeTracker {
+
+	/**
+	 * Maximum number of pages tracked, the least recently used pages are
+	 * forgotten beyond.
+	 */
+	private static final int MAX_PAGES = 4096;
+
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	/**
+	 * State of a tracked page.
+	 */
+	private static class PageState {
+		long fHash;
+		boolean fHasHash;
+		long fStamp;
+		boolean fHasStamp;
+		boolean fStale;
+	}
+
+	private final IMemoryBlockExtension fMemoryBlock;
+
+	private final int fPageSize;
+
+	private final BigInteger fBigPageSize;
+
+	/**
+	 * Tracked pages by page index, in access order.
+	 */
+	private final LinkedHashMap<BigInteger, PageState> fPages = new LinkedHashMap<BigInteger, PageState>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<BigInteger, PageState> eldest) {
+			return size() > MAX_PAGES;
+		}
+	};
+
+	/**
+	 * Constructs a tracker for the given memory block.
+	 *
+	 * @param memoryBlock memory block
+	 * @param pageSize size of a page, in addressable units
+	 */
+	public MemoryBlockChangeTracker(IMemoryBlockExtension memoryBlock, int pageSize) {
+		fMemoryBlock = memoryBlock;
+		fPageSize = pageSize;
+		fBigPageSize = BigInteger.valueOf(pageSize);
+	}
+
+	/**
+	 * Marks all pages as stale, to be called when the memory of the memory
+	 * block may have changed.
+	 */
+	public synchronized void invalidate() {
+		for (PageState state : fPages.values()) {
+			state.fStale = true;
+		}
+	}
+
+	/**
+	 * Returns whether each of the given pages has to be retrieved again. A
+	 * page has to be retrieved if it is not tracked, or if it is stale and the
+	 * memory block does not report an unchanged stamp for it. Stale pages
+	 * whose stamp is unchanged are no longer stale afterwards.
+	 *
+	 * @param firstPage index of the first page
+	 * @param numPages number of pages
+	 * @return for each page, whether it has to be retrieved
+	 * @throws DebugException if the memory block fails to report the stamps
+	 *             of the pages
+	 */
+	public boolean[] getPagesToRetrieve(BigInteger firstPage, int numPages) throws DebugException {
+		boolean[] retrieve = new boolean[numPages];
+		boolean anyRetrieve = false;
+		synchronized (this) {
+			for (int i = 0; i < numPages; i++) {
+				PageState state = fPages.get(firstPage.add(BigInteger.valueOf(i)));
+				retrieve[i] = state == null || state.fStale;
+				anyRetrieve |= retrieve[i];
+			}
+		}
+		if (!anyRetrieve || !(fMemoryBlock instanceof IMemoryBlockChangeReporter)) {
+			return retrieve;
+		}
+		long[] stamps = ((IMemoryBlockChangeReporter) fMemoryBlock).getPageStamps(firstPage.multiply(fBigPageSize), fPageSize, numPages);
+		if (stamps == null || stamps.length != numPages) {
+			return retrieve;
+		}
+		synchronized (this) {
+			for (int i = 0; i < numPages; i++) {
+				if (!retrieve[i]) {
+					continue;
+				}
+				BigInteger page = firstPage.add(BigInteger.valueOf(i));
+				PageState state = fPages.get(page);
+				if (state == null) {
+					state = new PageState();
+					state.fStale = true;
+					fPages.put(page, state);
+				}
+				if (state.fHasHash && state.fHasStamp && state.fStamp == stamps[i]) {
+					state.fStale = false;
+					retrieve[i] = false;
+				}
+				// the page is retrieved after the stamp was taken, such that a
+				// change in between is caught by the next stamp
+				state.fStamp = stamps[i];
+				state.fHasStamp = true;
+			}
+		}
+		return retrieve;
+	}
+
+	/**
+	 * Records the content of a page that has just been retrieved.
+	 *
+	 * @param page index of the page
+	 * @param content content of the page
+	 * @return whether the content differs from the content last recorded for
+	 *         the page, <code>true</code> if the page was not tracked
+	 */
+	public synchronized boolean update(BigInteger page, MemoryBuffer content) {
+		long hash = hash(content);
+		PageState state = fPages.get(page);
+		if (state == null) {
+			state = new PageState();
+			fPages.put(page, state);
+		}
+		boolean changed = !state.fHasHash || state.fHash != hash;
+		state.fHash = hash;
+		state.fHasHash = true;
+		state.fStale = false;
+		return changed;
+	}
+
+	/**
+	 * Forgets all pages.
+	 */
+	public synchronized void clear() {
+		fPages.clear();
+	}
+
+	/**
+	 * Returns a 64 bit FNV-1a hash of the values and attribute flags of the
+	 * given memory.
+	 *
+	 * @param content memory to hash
+	 * @return hash of the memory
+	 */
+	public static long hash(MemoryBuffer content) {
+		long hash = FNV_OFFSET_BASIS;
+		int length = content.length();
+		for (int i = 0; i < length; i++) {
+			hash = (hash ^ (content.getValue(i) & 0xFF)) * FNV_PRIME;
+		}
+		int runCount = content.getRunCount();
+		for (int run = 0; run < runCount; run++) {
+			hash = (hash ^ content.getRunStart(run)) * FNV_PRIME;
+			hash = (hash ^ (content.getRunFlags(run) & 0xFF)) * FNV_PRIME;
+		}
+		return hash;
+	}
+}
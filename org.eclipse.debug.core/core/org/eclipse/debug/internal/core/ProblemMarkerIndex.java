@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IMarkerDelta;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * Index of the problem markers of error severity in the projects of the
+ * workspace, answering whether a project has errors before a launch without
+ * searching all the problem markers of the project.
+ * <p>
+ * A project is searched for problem markers once, when first asked for,
+ * without holding the lock of the index. Markers changing during the search
+ * are recorded and their current severity is merged into the search result.
+ * The index of the project is then maintained from the marker deltas of
+ * resource change events. The index of a project is discarded when the project
+ * is removed, closed, opened or replaced, and rebuilt when next asked for.
+ * </p>
+ *
+ * @since 3.14
+ */
+public class ProblemMarkerIndex implements IResourceChangeListener {
+
+	private static ProblemMarkerIndex fgDefault;
+
+	/**
+	 * Identifiers of the problem markers of error severity, by indexed project
+	 */
+	private final Map<IProject, Set<Long>> fErrors = new HashMap<>();
+
+	/**
+	 * Problem markers changed while a project is searched, by identifier, by
+	 * project being searched
+	 */
+	private final Map<IProject, Map<Long, IMarker>> fSearching = new HashMap<>();
+
+	private ProblemMarkerIndex() {
+	}
+
+	/**
+	 * Returns the index of the problem markers of the workspace, starting to
+	 * track marker changes if not already done.
+	 *
+	 * @return the problem marker index
+	 */
+	public static synchronized ProblemMarkerIndex getDefault() {
+		if (fgDefault == null) {
+			fgDefault = new ProblemMarkerIndex();
+			ResourcesPlugin.getWorkspace().addResourceChangeListener(fgDefault, IResourceChangeEvent.POST_CHANGE);
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Stops tracking marker changes. Called when the debug plug-in is
+	 * stopped.
+	 */
+	public static synchronized void shutdown() {
+		if (fgDefault != null) {
+			ResourcesPlugin.getWorkspace().removeResourceChangeListener(fgDefault);
+			fgDefault = null;
+		}
+	}
+
+	/**
+	 * Returns the number of problem markers of error severity on the given
+	 * project and its resources.
+	 *
+	 * @param project project
+	 * @return number of problem markers of error severity
+	 * @throws CoreException if the project is not accessible or its markers
+	 *             cannot be searched
+	 */
+	public int getErrorCount(IProject project) throws CoreException {
+		Map<Long, IMarker> changed;
+		synchronized (this) {
+			Set<Long> errors = fErrors.get(project);
+			if (errors != null) {
+				return errors.size();
+			}
+			changed = fSearching.get(project);
+			if (changed == null) {
+				changed = new HashMap<>();
+				fSearching.put(project, changed);
+			}
+		}
+		Set<Long> errors = new HashSet<>();
+		try {
+			IMarker[] markers = project.findMarkers(IMarker.PROBLEM, true, IResource.DEPTH_INFINITE);
+			for (IMarker marker : markers) {
+				if (isError(marker)) {
+					errors.add(Long.valueOf(marker.getId()));
+				}
+			}
+		} catch (CoreException e) {
+			synchronized (this) {
+				if (fSearching.get(project) == changed) {
+					fSearching.remove(project);
+				}
+			}
+			throw e;
+		}
+		synchronized (this) {
+			Set<Long> indexed = fErrors.get(project);
+			if (indexed != null) {
+				// indexed by a concurrent search
+				return indexed.size();
+			}
+			// not indexed if the project was closed or removed meanwhile
+			if (fSearching.get(project) == changed) {
+				fSearching.remove(project);
+				for (Map.Entry<Long, IMarker> entry : changed.entrySet()) {
+					if (isError(entry.getValue())) {
+						errors.add(entry.getKey());
+					} else {
+						errors.remove(entry.getKey());
+					}
+				}
+				fErrors.put(project, errors);
+			}
+			return errors.size();
+		}
+	}
+
+	/**
+	 * Returns whether the given marker exists and has error severity.
+	 */
+	private static boolean isError(IMarker marker) {
+		return marker.getAttribute(IMarker.SEVERITY, -1) >= IMarker.SEVERITY_ERROR;
+	}
+
+	@Override
+	public synchronized void resourceChanged(IResourceChangeEvent event) {
+		IResourceDelta delta = event.getDelta();
+		if (delta == null || (fErrors.isEmpty() && fSearching.isEmpty())) {
+			return;
+		}
+		for (IResourceDelta child : delta.getAffectedChildren()) {
+			if (child.getKind() != IResourceDelta.CHANGED || (child.getFlags() & (IResourceDelta.OPEN | IResourceDelta.REPLACED)) != 0) {
+				fErrors.remove(child.getResource());
+				fSearching.remove(child.getResource());
+			}
+		}
+		for (IMarkerDelta markerDelta : event.findMarkerDeltas(IMarker.PROBLEM, true)) {
+			IResource resource = markerDelta.getResource();
+			Long id = Long.valueOf(markerDelta.getId());
+			Map<Long, IMarker> changed = fSearching.get(resource.getProject());
+			if (changed != null) {
+				// merged into the result of the search
+				changed.put(id, markerDelta.getMarker());
+			}
+			Set<Long> errors = fErrors.get(resource.getProject());
+			if (errors == null) {
+				continue;
+			}
+			// the current severity is read, such that deltas of markers
+			// already searched have no effect
+			if (markerDelta.getKind() != IResourceDelta.REMOVED && isError(markerDelta.getMarker())) {
+				errors.add(id);
+			} else {
+				errors.remove(id);
+			}
+		}
+	}
+}
@@ -15,22 +15,33 @@
  *******************************************************************************/
 package org.eclipse.debug.internal.core.groups;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.debug.core.DebugPlugin;
@@ -38,15 +49,17 @@ import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
 import org.eclipse.debug.core.ILaunchManager;
+import org.eclipse.debug.core.ILaunchesListener2;
 import org.eclipse.debug.core.IStatusHandler;
 import org.eclipse.debug.core.model.ILaunchConfigurationDelegate2;
 import org.eclipse.debug.core.model.IProcess;
+import org.eclipse.debug.core.model.IStreamsProxy;
 import org.eclipse.debug.core.model.LaunchConfigurationDelegate;
 import org.eclipse.debug.internal.core.DebugCoreMessages;
 import org.eclipse.debug.internal.core.IInternalDebugCoreConstants;
 import org.eclipse.debug.internal.core.groups.GroupLaunchElement.GroupElementPostLaunchAction;
 import org.eclipse.debug.internal.core.groups.observer.ProcessObserver;
-import org.eclipse.debug.internal.core.groups.observer.StreamObserver;
+import org.eclipse.debug.internal.core.groups.observer.StreamMatcher;
 import org.eclipse.osgi.util.NLS;
 
 /**
@@ -64,6 +77,7 @@ public class GroupLaunchConfigurationDelegate extends LaunchConfigurationDelegat
 	private static final String MODE_PROP = "mode"; //$NON-NLS-1$
 	private static final String ACTION_PROP = "action"; //$NON-NLS-1$
 	private static final String ACTION_PARAM_PROP = "actionParam"; //$NON-NLS-1$
+	private static final String DEPENDENCIES_PROP = "dependsOn"; //$NON-NLS-1$
 	private static final String MULTI_LAUNCH_CONSTANTS_PREFIX = "org.eclipse.debug.core.launchGroup"; //$NON-NLS-1$
 
 	private static final String DEBUG_CORE = "org.eclipse.debug.core"; //$NON-NLS-1$
@@ -75,6 +89,17 @@ public class GroupLaunchConfigurationDelegate extends LaunchConfigurationDelegat
 	private static final Status GROUP_LAUNCH_START = new Status(IStatus.INFO, DEBUG_CORE, CODE_GROUP_LAUNCH_START, IInternalDebugCoreConstants.EMPTY_STRING, null);
 	private static final Status GROUP_LAUNCH_DONE = new Status(IStatus.INFO, DEBUG_CORE, CODE_GROUP_LAUNCH_DONE, IInternalDebugCoreConstants.EMPTY_STRING, null);
 
+	/**
+	 * Default maximum number of members launched concurrently
+	 */
+	public static final int DEFAULT_MAX_PARALLEL_LAUNCHES = 4;
+
+	/**
+	 * Interval in milliseconds at which waits for post-launch actions check
+	 * for cancellation
+	 */
+	private static final long CANCEL_CHECK_INTERVAL = 250;
+
 	@Override
 	public ILaunch getLaunch(ILaunchConfiguration configuration, String mode) throws CoreException {
 		return new GroupLaunch(configuration, mode);
@@ -91,63 +116,295 @@ public class GroupLaunchConfigurationDelegate extends LaunchConfigurationDelegat
 			SubMonitor progress = SubMonitor.convert(monitor, NLS.bind(DebugCoreMessages.GroupLaunchConfigurationDelegate_Launching, groupConfig.getName()), 1000);
 
 			List<GroupLaunchElement> launches = createLaunchElements(groupConfig);
-			for (int i = 0; i < launches.size(); ++i) {
-				GroupLaunchElement le = launches.get(i);
+			launchMembers(groupConfig, mode, group, launches, monitor, progress);
 
-				if (!le.enabled) {
-					continue;
-				}
+			if (!group.hasChildren()) {
+				DebugPlugin.getDefault().getLaunchManager().removeLaunch(group);
+			}
+		} finally {
+			// safety net - launching is finished also in case of a problem.
+			group.markLaunched();
+			groupStateHandler.handleStatus(GROUP_LAUNCH_DONE, group);
+			monitor.done();
+		}
+	}
+
+	/**
+	 * A member of the group being launched.
+	 */
+	private static class Member {
+		final GroupLaunchElement element;
+
+		/**
+		 * Members launched once this member is ready
+		 */
+		final List<Member> dependents = new ArrayList<>();
+
+		/**
+		 * Number of dependencies not yet ready
+		 */
+		int pending;
+
+		/**
+		 * Whether a dependency failed to launch or become ready
+		 */
+		boolean failed;
+
+		/**
+		 * Whether this member launched and became ready, set when done
+		 */
+		boolean ready;
+
+		/**
+		 * Failure launching this member, set when done
+		 */
+		Throwable exception;
+
+		private boolean launched;
+
+		Member(GroupLaunchElement element) {
+			this.element = element;
+		}
 
-				// find launch; if not found, skip (error?)
-				final ILaunchConfiguration conf = findLaunchConfiguration(le.name);
-				if (conf == null) {
-					continue;
+		/**
+		 * Marks the group launched once this is the last member being
+		 * launched.
+		 */
+		void launched(AtomicInteger unlaunched, GroupLaunch group) {
+			synchronized (this) {
+				if (launched) {
+					return;
 				}
+				launched = true;
+			}
+			if (unlaunched.decrementAndGet() == 0) {
+				group.markLaunched();
+			}
+		}
+	}
+
+	/**
+	 * Progress monitor of a member launched concurrently with others,
+	 * forwarding cancellation and sub-task names to the monitor of the group
+	 * launch.
+	 */
+	private static class MemberMonitor extends NullProgressMonitor {
+		private final IProgressMonitor groupMonitor;
+
+		MemberMonitor(IProgressMonitor groupMonitor) {
+			this.groupMonitor = groupMonitor;
+		}
+
+		@Override
+		public boolean isCanceled() {
+			return groupMonitor.isCanceled();
+		}
+
+		@Override
+		public void setCanceled(boolean cancelled) {
+			groupMonitor.setCanceled(cancelled);
+		}
+
+		@Override
+		public void subTask(String name) {
+			synchronized (groupMonitor) {
+				groupMonitor.subTask(name);
+			}
+		}
+	}
 
-				// determine mode for each launch
-				final String localMode;
-				if (!le.mode.equals(GroupLaunchElement.MODE_INHERIT)) {
-					localMode = le.mode;
-				} else {
-					localMode = mode;
+	/**
+	 * Launches the members of the group in the order of their dependencies.
+	 * Members become ready once launched and their post-launch action
+	 * completed, and are launched as soon as all their dependencies are ready,
+	 * on a bounded number of threads. Members depending on a member which
+	 * failed are not launched. No new members are launched once the group
+	 * terminated or the launch is canceled.
+	 */
+	private void launchMembers(ILaunchConfiguration groupConfig, String mode, GroupLaunch group, List<GroupLaunchElement> elements, IProgressMonitor monitor, SubMonitor progress) throws CoreException {
+		List<Member> members = createMembers(groupConfig, elements);
+		if (members.isEmpty()) {
+			return;
+		}
+		progress.setWorkRemaining(members.size());
+		int maxThreads = Platform.getPreferencesService().getInt(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_MAX_PARALLEL_GROUP_LAUNCHES, DEFAULT_MAX_PARALLEL_LAUNCHES, null);
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(maxThreads, members.size())), runnable -> {
+			Thread thread = new Thread(runnable, "Launch Group Member"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		BlockingQueue<Member> done = new LinkedBlockingQueue<>();
+		AtomicInteger unlaunched = new AtomicInteger(members.size());
+		IProgressMonitor memberMonitor = new MemberMonitor(monitor);
+		Deque<Member> ready = new ArrayDeque<>();
+		for (Member member : members) {
+			if (member.pending == 0) {
+				ready.add(member);
+			}
+		}
+		Throwable exception = null;
+		int remaining = members.size();
+		try {
+			while (remaining > 0) {
+				while (!ready.isEmpty()) {
+					Member member = ready.poll();
+					if (member.failed || exception != null || group.isTerminated() || monitor.isCanceled()) {
+						member.launched(unlaunched, group);
+						done.add(member);
+					} else {
+						executor.execute(() -> {
+							try {
+								member.ready = launchMember(groupConfig, mode, group, member, unlaunched, memberMonitor);
+							} catch (CoreException | RuntimeException e) {
+								member.exception = e;
+							} finally {
+								member.launched(unlaunched, group);
+								done.add(member);
+							}
+						});
+					}
 				}
-				if (!conf.supportsMode(localMode)) {
-					IStatusHandler handler = DebugPlugin.getDefault().getStatusHandler(UNSUPPORTED_MODE);
-					handler.handleStatus(UNSUPPORTED_MODE, new String[] {
-							conf.getName(), localMode });
-					continue;
+				Member member;
+				try {
+					member = done.take();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+				remaining--;
+				synchronized (monitor) {
+					progress.worked(1);
+				}
+				if (member.exception != null && exception == null) {
+					exception = member.exception;
+				}
+				for (Member dependent : member.dependents) {
+					dependent.failed |= !member.ready;
+					if (--dependent.pending == 0) {
+						ready.add(dependent);
+					}
 				}
+			}
+		} finally {
+			// members still running finish in the background
+			executor.shutdown();
+		}
+		if (exception instanceof CoreException) {
+			throw (CoreException) exception;
+		}
+		if (exception instanceof RuntimeException) {
+			throw (RuntimeException) exception;
+		}
+	}
 
-				if (groupConfig.getName().equals(conf.getName())) {
-					// loop detected. report as appropriate and die.
-					IStatusHandler cycleHandler = DebugPlugin.getDefault().getStatusHandler(GROUP_CYCLE);
-					cycleHandler.handleStatus(GROUP_CYCLE, conf.getName());
-				} else {
-					if (!launchChild(progress.newChild(1000 / launches.size()), group, le, conf, localMode, (i == launches.size() - 1))) {
-						break;
+	/**
+	 * Creates the members to launch for the given elements, linked to the
+	 * members they depend on.
+	 *
+	 * @throws CoreException if elements depend on each other
+	 */
+	private static List<Member> createMembers(ILaunchConfiguration groupConfig, List<GroupLaunchElement> elements) throws CoreException {
+		Map<GroupLaunchElement, Member> members = new LinkedHashMap<>();
+		for (GroupLaunchElement element : elements) {
+			if (element != null) {
+				members.put(element, new Member(element));
+			}
+		}
+		Member previous = null;
+		for (Member member : members.values()) {
+			List<Member> dependencies = new ArrayList<>();
+			if (member.element.dependencies == null) {
+				if (previous != null) {
+					dependencies.add(previous);
+				}
+			} else {
+				for (GroupLaunchElement dependency : member.element.dependencies) {
+					Member other = members.get(dependency);
+					if (other != null && other != member && !dependencies.contains(other)) {
+						dependencies.add(other);
 					}
 				}
+			}
+			for (Member dependency : dependencies) {
+				dependency.dependents.add(member);
+			}
+			member.pending = dependencies.size();
+			previous = member;
+		}
 
-				// in case the group has been terminated while waiting in the
-				// post launch action.
-				if (group.isTerminated()) {
-					break;
+		// members on a cycle never become ready
+		Map<Member, Integer> pending = new HashMap<>();
+		Deque<Member> ready = new ArrayDeque<>();
+		for (Member member : members.values()) {
+			pending.put(member, member.pending);
+			if (member.pending == 0) {
+				ready.add(member);
+			}
+		}
+		while (!ready.isEmpty()) {
+			for (Member dependent : ready.poll().dependents) {
+				if (pending.merge(dependent, -1, Integer::sum) == 0) {
+					ready.add(dependent);
 				}
 			}
+		}
+		StringBuilder cycle = new StringBuilder();
+		for (Member member : members.values()) {
+			if (pending.get(member) > 0) {
+				if (cycle.length() > 0) {
+					cycle.append(", "); //$NON-NLS-1$
+				}
+				cycle.append(member.element.name);
+			}
+		}
+		if (cycle.length() > 0) {
+			throw new CoreException(new Status(IStatus.ERROR, DEBUG_CORE, NLS.bind(DebugCoreMessages.GroupLaunchConfigurationDelegate_dependency_cycle, groupConfig.getName(), cycle)));
+		}
+		return new ArrayList<>(members.values());
+	}
 
+	/**
+	 * Launches the given member, unless disabled or not launchable, and
+	 * performs its post-launch action.
+	 *
+	 * @return whether members depending on the given member may be launched
+	 */
+	private boolean launchMember(ILaunchConfiguration groupConfig, String mode, GroupLaunch group, Member member, AtomicInteger unlaunched, IProgressMonitor monitor) throws CoreException {
+		GroupLaunchElement le = member.element;
+		if (!le.enabled) {
+			return true;
+		}
 
-			if (!group.hasChildren()) {
-				DebugPlugin.getDefault().getLaunchManager().removeLaunch(group);
-			}
-		} finally {
-			// safety net - launching is finished also in case of a problem.
-			group.markLaunched();
-			groupStateHandler.handleStatus(GROUP_LAUNCH_DONE, group);
-			monitor.done();
+		// find launch; if not found, skip (error?)
+		final ILaunchConfiguration conf = findLaunchConfiguration(le.name);
+		if (conf == null) {
+			return true;
+		}
+
+		// determine mode for each launch
+		final String localMode;
+		if (!le.mode.equals(GroupLaunchElement.MODE_INHERIT)) {
+			localMode = le.mode;
+		} else {
+			localMode = mode;
 		}
+		if (!conf.supportsMode(localMode)) {
+			IStatusHandler handler = DebugPlugin.getDefault().getStatusHandler(UNSUPPORTED_MODE);
+			handler.handleStatus(UNSUPPORTED_MODE, new String[] {
+					conf.getName(), localMode });
+			return true;
+		}
+
+		if (groupConfig.getName().equals(conf.getName())) {
+			// loop detected. report as appropriate and die.
+			IStatusHandler cycleHandler = DebugPlugin.getDefault().getStatusHandler(GROUP_CYCLE);
+			cycleHandler.handleStatus(GROUP_CYCLE, conf.getName());
+			return true;
+		}
+		return launchChild(monitor, group, le, conf, localMode, () -> member.launched(unlaunched, group));
 	}
 
-	private boolean launchChild(SubMonitor monitor, final GroupLaunch group, GroupLaunchElement le, final ILaunchConfiguration child, final String localMode, boolean lastConfig) throws CoreException {
+	private boolean launchChild(IProgressMonitor monitor, final GroupLaunch group, GroupLaunchElement le, final ILaunchConfiguration child, final String localMode, Runnable launchedCallback) throws CoreException {
 		final Set<ILaunch> running = le.adoptIfRunning ? findRunningLaunch(le.name) : Collections.emptySet();
 		ILaunch subLaunch = running.stream().findFirst().orElse(null);
 		boolean launched = false;
@@ -175,9 +432,7 @@ public class GroupLaunchConfigurationDelegate extends LaunchConfigurationDelegat
 		// if this is the last child, mark the group as "launching finished", so
 		// that from now on the last terminating child will also terminate the
 		// group.
-		if (lastConfig) {
-			group.markLaunched();
-		}
+		launchedCallback.run();
 
 		// in case we adopted the launch, and did not launch outselves, don't
 		// execute the post launch action!
@@ -194,23 +449,22 @@ public class GroupLaunchConfigurationDelegate extends LaunchConfigurationDelegat
 				return true;
 			case WAIT_FOR_TERMINATION:
 				monitor.subTask(NLS.bind(DebugCoreMessages.GroupLaunchConfigurationDelegate_Waiting_for_termination, subLaunch.getLaunchConfiguration().getName()));
-				while (!subLaunch.isTerminated() && !monitor.isCanceled()) {
-					try {
-						Thread.sleep(1000);
-					} catch (InterruptedException e) {
-						break;
-					}
-				}
+				waitForTermination(subLaunch, monitor);
 				monitor.subTask(""); //$NON-NLS-1$
 				break;
 			case DELAY:
 				Integer waitSecs = (Integer) le.actionParam;
 				if (waitSecs != null) {
 					monitor.subTask(NLS.bind(DebugCoreMessages.GroupLaunchConfigurationDelegate_Delaying, waitSecs.toString()));
-					try {
-						Thread.sleep(waitSecs * 1000); // param is milliseconds
-					} catch (InterruptedException e) {
-						// ok
+					long end = System.currentTimeMillis() + waitSecs * 1000L;
+					long delay;
+					while (!monitor.isCanceled() && (delay = end - System.currentTimeMillis()) > 0) {
+						try {
+							Thread.sleep(Math.min(delay, CANCEL_CHECK_INTERVAL));
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+							break;
+						}
 					}
 				}
 				break;
@@ -233,28 +487,87 @@ public class GroupLaunchConfigurationDelegate extends LaunchConfigurationDelegat
 		return true;
 	}
 
+	// blocks until the launch terminated, notified by the launch manager
+	private void waitForTermination(final ILaunch subLaunch, IProgressMonitor monitor) {
+		final CountDownLatch countDownLatch = new CountDownLatch(1);
+		ILaunchesListener2 listener = new ILaunchesListener2() {
+			@Override
+			public void launchesTerminated(ILaunch[] launches) {
+				for (ILaunch launch : launches) {
+					if (launch == subLaunch) {
+						countDownLatch.countDown();
+					}
+				}
+			}
+
+			@Override
+			public void launchesRemoved(ILaunch[] launches) {
+			}
+
+			@Override
+			public void launchesAdded(ILaunch[] launches) {
+			}
+
+			@Override
+			public void launchesChanged(ILaunch[] launches) {
+			}
+		};
+		ILaunchManager launchManager = DebugPlugin.getDefault().getLaunchManager();
+		launchManager.addLaunchListener(listener);
+		try {
+			// the state is checked again along with cancellation, in case the
+			// launch does not report its termination
+			while (!subLaunch.isTerminated() && !monitor.isCanceled()) {
+				if (countDownLatch.await(CANCEL_CHECK_INTERVAL, TimeUnit.MILLISECONDS)) {
+					break;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			launchManager.removeLaunchListener(listener);
+		}
+	}
+
 	// blocks until a specific string is in the log output
 	private boolean waitForOutputMatching(ILaunch launch, IProgressMonitor m, String regexp) {
-		int processCount = launch.getProcesses().length;
-		final ExecutorService executor = Executors.newCachedThreadPool();
-		final CountDownLatch countDownLatch = new CountDownLatch(processCount);
-		Future<Integer> process = null;
-		for (IProcess p : launch.getProcesses()) {
-			process = executor.submit(new ProcessObserver(m, p, countDownLatch));
-			executor.submit(new StreamObserver(m, p, regexp, countDownLatch));
+		IProcess[] processes = launch.getProcesses();
+		if (processes.length == 0) {
+			return false;
 		}
+		Pattern pattern;
 		try {
-			countDownLatch.await();
-		} catch (InterruptedException e) {
-			// should not happen at all!
-		}
-		executor.shutdown();
-		// process terminated before condition
-		if (process == null || process.isDone()) {
+			pattern = StreamMatcher.compile(regexp);
+		} catch (PatternSyntaxException e) {
+			DebugPlugin.log(e);
 			return false;
 		}
-		// condition matched
-		return true;
+		final CountDownLatch countDownLatch = new CountDownLatch(1);
+		StreamMatcher streamMatcher = new StreamMatcher(new Pattern[] { pattern }, countDownLatch);
+		for (IProcess p : processes) {
+			IStreamsProxy streamsProxy = p.getStreamsProxy();
+			if (streamsProxy != null) {
+				streamMatcher.connect(streamsProxy.getOutputStreamMonitor());
+			}
+		}
+		ProcessObserver processObserver = new ProcessObserver(processes, countDownLatch);
+		processObserver.start();
+		try {
+			// the state is checked again along with cancellation, in case the
+			// processes do not report their termination
+			while (!m.isCanceled() && !processObserver.isTerminated()) {
+				if (countDownLatch.await(CANCEL_CHECK_INTERVAL, TimeUnit.MILLISECONDS)) {
+					break;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			processObserver.stop();
+			streamMatcher.disconnect();
+		}
+		// condition matched, unless processes terminated before
+		return streamMatcher.isMatched();
 	}
 
 	@Override
@@ -306,6 +619,7 @@ public class GroupLaunchConfigurationDelegate extends LaunchConfigurationDelegat
 	 */
 	public static List<GroupLaunchElement> createLaunchElements(ILaunchConfiguration configuration) {
 		List<GroupLaunchElement> result = new ArrayList<>();
+		Map<GroupLaunchElement, String> dependencies = new HashMap<>();
 		try {
 			Map<?, ?> attrs = configuration.getAttributes();
 			for (Iterator<?> iterator = attrs.keySet().iterator(); iterator.hasNext();) {
@@ -348,6 +662,9 @@ public class GroupLaunchConfigurationDelegate extends LaunchConfigurationDelegat
 							}
 							el.mode = (String) attrs.get(getProp(index, MODE_PROP));
 							el.enabled = (Boolean) attrs.get(getProp(index, ENABLED_PROP));
+							if (attrs.containsKey(getProp(index, DEPENDENCIES_PROP))) {
+								dependencies.put(el, (String) attrs.get(getProp(index, DEPENDENCIES_PROP)));
+							}
 							try {
 								el.data = findLaunchConfiguration(el.name);
 							} catch (Exception e) {
@@ -367,12 +684,33 @@ public class GroupLaunchConfigurationDelegate extends LaunchConfigurationDelegat
 		} catch (CoreException e) {
 			DebugPlugin.log(e);
 		}
+		for (Map.Entry<GroupLaunchElement, String> entry : dependencies.entrySet()) {
+			List<GroupLaunchElement> elements = new ArrayList<>();
+			for (String index : entry.getValue().split(",")) { //$NON-NLS-1$
+				try {
+					int i = Integer.parseInt(index.trim());
+					if (i >= 0 && i < result.size() && result.get(i) != null) {
+						elements.add(result.get(i));
+					}
+				} catch (NumberFormatException e) {
+					// empty or malformed, ignore
+				}
+			}
+			entry.getKey().dependencies = elements;
+		}
 		return result;
 	}
 
 	public static void storeLaunchElements(ILaunchConfigurationWorkingCopy configuration, List<GroupLaunchElement> input) {
 		int i = 0;
 		removeLaunchElements(configuration);
+		// dependencies are stored as indices of the stored elements
+		Map<GroupLaunchElement, Integer> indices = new HashMap<>();
+		for (GroupLaunchElement el : input) {
+			if (el != null) {
+				indices.put(el, indices.size());
+			}
+		}
 		for (GroupLaunchElement el : input) {
 			if (el == null) {
 				continue;
@@ -386,6 +724,20 @@ public class GroupLaunchConfigurationDelegate extends LaunchConfigurationDelegat
 			configuration.setAttribute(getProp(i, ACTION_PARAM_PROP), el.actionParam != null ? el.actionParam.toString() : null);
 			configuration.setAttribute(getProp(i, MODE_PROP), el.mode);
 			configuration.setAttribute(getProp(i, ENABLED_PROP), el.enabled);
+			if (el.dependencies != null) {
+				StringBuilder dependencies = new StringBuilder();
+				for (GroupLaunchElement dependency : el.dependencies) {
+					Integer index = indices.get(dependency);
+					// removed elements are no longer depended on
+					if (index != null) {
+						if (dependencies.length() > 0) {
+							dependencies.append(',');
+						}
+						dependencies.append(index);
+					}
+				}
+				configuration.setAttribute(getProp(i, DEPENDENCIES_PROP), dependencies.toString());
+			}
 			i++;
 		}
 	}
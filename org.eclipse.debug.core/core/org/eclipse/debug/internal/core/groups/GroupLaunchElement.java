@@ -15,6 +15,8 @@
  *******************************************************************************/
 package org.eclipse.debug.internal.core.groups;
 
+import java.util.List;
+
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.internal.core.DebugCoreMessages;
 
@@ -31,8 +33,8 @@ public class GroupLaunchElement {
 	 * {@link GroupLaunchElement}.
 	 * <p>
 	 * These actions get performed after the associated
-	 * {@link GroupLaunchElement} has been launched, before the next one is
-	 * launched (or launching is finished).
+	 * {@link GroupLaunchElement} has been launched, before the elements
+	 * depending on it are launched (or launching is finished).
 	 */
 	public static enum GroupElementPostLaunchAction {
 		NONE(DebugCoreMessages.GroupLaunchConfigurationDelegate_None), //
@@ -68,4 +70,15 @@ public class GroupLaunchElement {
 	public Object actionParam;
 	public String name;
 	public ILaunchConfiguration data;
+
+	/**
+	 * The elements of the same group which must have been launched, and whose
+	 * post-launch actions must have completed, before this element is
+	 * launched. Elements not depending on each other are launched
+	 * concurrently. <code>null</code> if this element depends on the previous
+	 * element of the group, which launches the elements one after another.
+	 *
+	 * @since 3.14
+	 */
+	public List<GroupLaunchElement> dependencies;
 }
\ No newline at end of file
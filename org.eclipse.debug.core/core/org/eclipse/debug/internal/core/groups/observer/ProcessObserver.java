@@ -13,45 +13,75 @@
  *******************************************************************************/
 package org.eclipse.debug.internal.core.groups.observer;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.TimeUnit;
 
-import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IDebugEventSetListener;
 import org.eclipse.debug.core.model.IProcess;
 
 /**
- * The {@code ProcessObserver} observes a given {@linkplain IProcess process} instance and notifies
- * a {@linkplain CountDownLatch synchronization object} when the process terminates.
+ * The {@code ProcessObserver} observes given {@linkplain IProcess process} instances and notifies
+ * a {@linkplain CountDownLatch synchronization object} when all of them have terminated, on their
+ * {@linkplain DebugEvent#TERMINATE terminate events}.
  */
-public final class ProcessObserver implements Callable<Integer> {
-    private final IProcess p;
-    private final IProgressMonitor pMonitor;
+public final class ProcessObserver implements IDebugEventSetListener {
+    private final IProcess[] processes;
     private final CountDownLatch countDownLatch;
 
-    public ProcessObserver(IProgressMonitor monitor, IProcess p, CountDownLatch countDownLatch) {
-        this.p = p;
-        this.pMonitor = monitor;
+    public ProcessObserver(IProcess[] processes, CountDownLatch countDownLatch) {
+        this.processes = processes;
         this.countDownLatch = countDownLatch;
     }
 
-    @Override
-    public Integer call() throws Exception {
-        try {
-            while (!p.isTerminated() && !pMonitor.isCanceled()) {
-                TimeUnit.MILLISECONDS.sleep(250);
+    /**
+     * Starts listening for the termination of the processes.
+     */
+    public void start() {
+        DebugPlugin.getDefault().addDebugEventListener(this);
+        // terminated before we started listening
+        if (isTerminated()) {
+            countDownLatch.countDown();
+        }
+    }
 
-                if (countDownLatch.getCount() == 0) {
-                    break;
+    /**
+     * Stops listening for the termination of the processes.
+     */
+    public void stop() {
+        DebugPlugin.getDefault().removeDebugEventListener(this);
+    }
+
+    /**
+     * @return whether all processes have terminated
+     */
+    public boolean isTerminated() {
+        for (IProcess p : processes) {
+            if (!p.isTerminated()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void handleDebugEvents(DebugEvent[] events) {
+        for (DebugEvent event : events) {
+            if (event.getKind() == DebugEvent.TERMINATE && isObserved(event.getSource())) {
+                if (isTerminated()) {
+                    countDownLatch.countDown();
                 }
+                return;
             }
-            // check if terminated or timeout
-            if (p.isTerminated()) {
-                return p.getExitValue();
+        }
+    }
+
+    private boolean isObserved(Object source) {
+        for (IProcess p : processes) {
+            if (p == source) {
+                return true;
             }
-            return 0;
-        } finally {
-            countDownLatch.countDown();
         }
+        return false;
     }
 }
@@ -0,0 +1,224 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *      IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core.groups.observer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.debug.core.IStreamListener;
+import org.eclipse.debug.core.model.IStreamMonitor;
+
+/**
+ * The {@code StreamMatcher} searches the lines appended to {@linkplain IStreamMonitor streams}
+ * for {@linkplain Pattern patterns} and notifies a {@linkplain CountDownLatch synchronization
+ * object} the first time each pattern is found.
+ * <p>
+ * Appended text is assembled into lines, such that patterns are found in lines appended in
+ * several chunks, and each line is searched on its own, such that {@code ^} and {@code $} match
+ * at the beginning and the end of the line. The incomplete last line is searched as well, for
+ * output not followed by a line delimiter, unless more text could change the match. At most
+ * {@link #MAX_LINE_LENGTH} characters of a line are kept, longer lines are searched in windows
+ * overlapping by half of that length.
+ * </p>
+ *
+ * @since 3.14
+ */
+public class StreamMatcher implements IStreamListener {
+    /**
+     * Maximum number of characters of a line searched at once
+     */
+    public static final int MAX_LINE_LENGTH = 16 * 1024;
+
+    private final Pattern[] patterns;
+    private final boolean[] matched;
+    private int unmatched;
+    private final CountDownLatch countDownLatch;
+
+    /**
+     * Incomplete last line by stream
+     */
+    private final Map<IStreamMonitor, StringBuilder> lines = new HashMap<>();
+
+    private final List<IStreamMonitor> monitors = new ArrayList<>();
+
+    /**
+     * Creates a matcher for the given patterns.
+     *
+     * @param patterns patterns to search for
+     * @param countDownLatch counted down the first time each pattern is found
+     */
+    public StreamMatcher(Pattern[] patterns, CountDownLatch countDownLatch) {
+        this.patterns = patterns;
+        this.matched = new boolean[patterns.length];
+        this.unmatched = patterns.length;
+        this.countDownLatch = countDownLatch;
+    }
+
+    /**
+     * Compiles the given regular expression to be searched for in lines. Leading and trailing
+     * {@code .*}, which were required to match whole lines, are removed as they only slow down the
+     * search. A leading {@code .*} followed by a quantifier is kept, as the quantifier applies to
+     * it.
+     *
+     * @param regexp regular expression
+     * @return pattern
+     * @throws java.util.regex.PatternSyntaxException if the expression is not valid
+     */
+    public static Pattern compile(String regexp) {
+        String expression = regexp;
+        if (expression.startsWith(".*") && !isQuantifier(expression, 2)) { //$NON-NLS-1$
+            expression = expression.substring(2);
+        }
+        if (expression.endsWith(".*") && !isEscaped(expression, expression.length() - 2)) { //$NON-NLS-1$
+            expression = expression.substring(0, expression.length() - 2);
+        }
+        return Pattern.compile(expression);
+    }
+
+    /**
+     * @return whether a quantifier starts at the given index
+     */
+    private static boolean isQuantifier(String expression, int index) {
+        return index < expression.length() && "?+*{".indexOf(expression.charAt(index)) >= 0; //$NON-NLS-1$
+    }
+
+    /**
+     * @return whether the character at the given index is preceded by an odd number of
+     *         backslashes
+     */
+    private static boolean isEscaped(String expression, int index) {
+        int backslashes = 0;
+        while (index - backslashes > 0 && expression.charAt(index - backslashes - 1) == '\\') {
+            backslashes++;
+        }
+        return backslashes % 2 == 1;
+    }
+
+    /**
+     * Starts searching the given stream, including its buffered contents.
+     *
+     * @param monitor stream monitor or <code>null</code>
+     */
+    public void connect(IStreamMonitor monitor) {
+        if (monitor == null) {
+            return;
+        }
+        // the stream monitor appends to its contents and notifies
+        // listeners while locked, no text is missed or searched twice
+        synchronized (monitor) {
+            streamAppended(monitor.getContents(), monitor);
+            monitor.addListener(this);
+        }
+        synchronized (this) {
+            monitors.add(monitor);
+        }
+    }
+
+    /**
+     * Stops searching all streams.
+     */
+    public void disconnect() {
+        List<IStreamMonitor> connected;
+        synchronized (this) {
+            connected = new ArrayList<>(monitors);
+            monitors.clear();
+            lines.clear();
+        }
+        for (IStreamMonitor monitor : connected) {
+            monitor.removeListener(this);
+        }
+    }
+
+    /**
+     * @param index index of a pattern
+     * @return whether the pattern at the given index was found
+     */
+    public synchronized boolean isMatched(int index) {
+        return matched[index];
+    }
+
+    /**
+     * @return whether any pattern was found
+     */
+    public synchronized boolean isMatched() {
+        return unmatched < patterns.length;
+    }
+
+    @Override
+    public synchronized void streamAppended(String text, IStreamMonitor monitor) {
+        if (text == null || unmatched == 0) {
+            return;
+        }
+        StringBuilder line = lines.get(monitor);
+        if (line == null) {
+            line = new StringBuilder();
+            lines.put(monitor, line);
+        }
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\n' || c == '\r') {
+                append(line, text, start, i);
+                if (line.length() > 0) {
+                    match(line, false);
+                    line.setLength(0);
+                }
+                start = i + 1;
+            }
+        }
+        append(line, text, start, text.length());
+        if (line.length() > 0) {
+            match(line, true);
+        }
+    }
+
+    private void append(StringBuilder line, String text, int start, int end) {
+        int index = start;
+        while (index < end) {
+            int count = Math.min(end - index, MAX_LINE_LENGTH - line.length());
+            line.append(text, index, index + count);
+            index += count;
+            if (line.length() == MAX_LINE_LENGTH) {
+                // keep the second half, such that matches across windows are found
+                match(line, true);
+                line.delete(0, MAX_LINE_LENGTH / 2);
+            }
+        }
+    }
+
+    /**
+     * Searches the given line for the patterns not found yet.
+     *
+     * @param line line to search
+     * @param incomplete whether the line may be continued
+     */
+    private void match(CharSequence line, boolean incomplete) {
+        for (int i = 0; i < patterns.length; i++) {
+            if (matched[i]) {
+                continue;
+            }
+            Matcher matcher = patterns[i].matcher(line);
+            if (matcher.find() && !(incomplete && matcher.requireEnd())) {
+                matched[i] = true;
+                unmatched--;
+                countDownLatch.countDown();
+            }
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core.sourcelookup;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.debug.core.DebugPlugin;
+
+/**
+ * Index of the entries of an archive by name and by file name, such that
+ * source lookups in the archive are hash lookups rather than scans of all
+ * entries. The index is built once, on first use, and shared by all source
+ * containers on the same archive through
+ * {@link SourceLookupUtils#acquireArchive(String)}. The index outlives the
+ * open zip file it was built from, and is reused when the archive is reopened
+ * as long as the archive file is unchanged.
+ *
+ * @since 3.14
+ */
+public class ArchiveIndex {
+
+	/**
+	 * Time stamp and length of the archive file when the index was created.
+	 */
+	private final long fLastModified;
+	private final long fLength;
+
+	/**
+	 * Entries by name, <code>null</code> until built.
+	 */
+	private volatile Map<String, ZipEntry> fEntries;
+
+	/**
+	 * Entries by file name, the last segment of their name, in archive order.
+	 */
+	private Map<String, List<ZipEntry>> fEntriesByFileName;
+
+	/**
+	 * Names of entries that resolve outside of the archive.
+	 */
+	private Set<String> fInvalidNames;
+
+	/**
+	 * Constructs an index of the given archive file. The index is built on
+	 * first use.
+	 *
+	 * @param file archive file to index
+	 */
+	public ArchiveIndex(File file) {
+		fLastModified = file.lastModified();
+		fLength = file.length();
+	}
+
+	/**
+	 * Returns whether the given archive file is unchanged since this index
+	 * was created.
+	 *
+	 * @param file the indexed archive file
+	 * @return whether this index describes the archive file
+	 */
+	public boolean isCurrent(File file) {
+		return file.lastModified() == fLastModified && file.length() == fLength;
+	}
+
+	/**
+	 * Builds the index from the given open zip file of the archive, if not
+	 * yet built. Threads building the index concurrently wait for the first
+	 * one.
+	 *
+	 * @param archive open zip file of the indexed archive
+	 * @throws CoreException if the archive was closed
+	 */
+	public synchronized void build(ZipFile archive) throws CoreException {
+		if (fEntries != null) {
+			return;
+		}
+		Map<String, ZipEntry> entries = new HashMap<>();
+		Map<String, List<ZipEntry>> entriesByFileName = new HashMap<>();
+		Set<String> invalidNames = new HashSet<>();
+		try {
+			Enumeration<? extends ZipEntry> enumeration = archive.entries();
+			while (enumeration.hasMoreElements()) {
+				ZipEntry entry = enumeration.nextElement();
+				String name = entry.getName();
+				entries.put(name, entry);
+				String fileName = getFileName(name);
+				List<ZipEntry> list = entriesByFileName.get(fileName);
+				if (list == null) {
+					list = new ArrayList<>(1);
+					entriesByFileName.put(fileName, list);
+				}
+				list.add(entry);
+				if (!isContained(name)) {
+					invalidNames.add(name);
+				}
+			}
+		} catch (IllegalStateException e) {
+			// archive was closed
+			throw new CoreException(new Status(IStatus.ERROR, DebugPlugin.getUniqueIdentifier(), e.getMessage(), e));
+		}
+		fEntriesByFileName = entriesByFileName;
+		fInvalidNames = invalidNames;
+		fEntries = entries;
+	}
+
+	/**
+	 * Returns the entry with the given name, or <code>null</code> if none.
+	 * The index must have been built.
+	 *
+	 * @param name entry name
+	 * @return entry or <code>null</code>
+	 */
+	public ZipEntry getEntry(String name) {
+		return fEntries.get(name);
+	}
+
+	/**
+	 * Returns the entries whose last segment is the given file name, in
+	 * archive order. The index must have been built.
+	 *
+	 * @param fileName file name without directories
+	 * @return entries, possibly empty
+	 */
+	public List<ZipEntry> getEntriesByFileName(String fileName) {
+		List<ZipEntry> entries = fEntriesByFileName.get(fileName);
+		if (entries == null) {
+			return Collections.emptyList();
+		}
+		return entries;
+	}
+
+	/**
+	 * Returns whether the given entry resolves to a location within the
+	 * archive, as opposed to a location outside of it through
+	 * <code>..</code> segments. The index must have been built.
+	 *
+	 * @param entry entry of the archive
+	 * @return whether the entry name is valid
+	 */
+	public boolean isValid(ZipEntry entry) {
+		return !fInvalidNames.contains(entry.getName());
+	}
+
+	/**
+	 * Returns the last segment of the given entry name.
+	 *
+	 * @param name entry name
+	 * @return the part of the name following the last <code>/</code>
+	 */
+	public static String getFileName(String name) {
+		return name.substring(name.lastIndexOf('/') + 1);
+	}
+
+	/**
+	 * Returns whether the given entry name, resolved relative to the archive
+	 * as a directory, denotes a location below the archive.
+	 */
+	private static boolean isContained(String name) {
+		int depth = 0;
+		int start = 0;
+		int length = name.length();
+		while (start <= length) {
+			int end = start;
+			while (end < length && name.charAt(end) != '/' && name.charAt(end) != '\\') {
+				end++;
+			}
+			int segmentLength = end - start;
+			if (segmentLength == 2 && name.charAt(start) == '.' && name.charAt(start + 1) == '.') {
+				if (--depth < 0) {
+					return false;
+				}
+			} else if (segmentLength > 0 && !(segmentLength == 1 && name.charAt(start) == '.')) {
+				depth++;
+			}
+			start = end + 1;
+		}
+		return depth > 0;
+	}
+}
@@ -0,0 +1,334 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core.sourcelookup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of the files in a directory and its sub-directories by file name,
+ * answering source lookups in the directory tree from memory rather than by
+ * probing every sub-directory.
+ * <p>
+ * The index is built on first use. Every directory of the tree is watched
+ * with a {@link WatchService}, and the index is discarded and rebuilt on next
+ * use when a file or directory is added or removed. When the tree cannot be
+ * watched, the index is not used and source lookups probe the file system.
+ * </p>
+ * <p>
+ * Matches are ordered the same way as a depth first search of the tree
+ * probing each directory for the name: by the position, in pre-order, of the
+ * directory relative to which the name matches.
+ * </p>
+ *
+ * @since 3.14
+ */
+public class DirectoryIndex {
+
+	/**
+	 * Whether file names are compared ignoring case.
+	 */
+	private static final boolean CASE_INSENSITIVE = new File("a").equals(new File("A")); //$NON-NLS-1$ //$NON-NLS-2$
+
+	private static WatchService fgWatchService;
+
+	/**
+	 * Indexes by the keys of their watched directories. Directories shared by
+	 * several trees are watched once.
+	 */
+	private static final Map<WatchKey, Set<DirectoryIndex>> fgIndexes = new HashMap<>();
+
+	private final File fRoot;
+
+	/**
+	 * Paths of files relative to the root, by file name, or <code>null</code>
+	 * if not built.
+	 */
+	private Map<String, List<String>> fFiles;
+
+	/**
+	 * Pre-order position of directories, by path relative to the root.
+	 */
+	private Map<String, Integer> fDirectories;
+
+	private final List<WatchKey> fKeys = new ArrayList<>();
+
+	/**
+	 * Whether the tree could not be watched when last built.
+	 */
+	private boolean fUnwatched;
+
+	/**
+	 * Constructs an index of the given directory and its sub-directories. The
+	 * index is built on first use.
+	 *
+	 * @param root root directory
+	 */
+	public DirectoryIndex(File root) {
+		fRoot = root;
+	}
+
+	/**
+	 * Returns the files matching the given name in the directory tree, in
+	 * search order, or <code>null</code> if the name cannot be answered from
+	 * the index. The name matches a file when it equals the path of the file
+	 * relative to any directory of the tree.
+	 *
+	 * @param name source name, possibly qualified with directories
+	 * @param all whether to return all matching files rather than the first
+	 * @return matching files or <code>null</code>
+	 */
+	public synchronized List<File> find(String name, boolean all) {
+		String path = normalize(name);
+		if (path == null) {
+			return null;
+		}
+		if (fFiles == null && !fUnwatched) {
+			build();
+		}
+		if (fUnwatched) {
+			return null;
+		}
+		List<String> candidates = fFiles.get(getKey(path.substring(path.lastIndexOf('/') + 1)));
+		if (candidates == null) {
+			return Collections.emptyList();
+		}
+		List<String> matches = new ArrayList<>(1);
+		final Map<String, Integer> orders = new HashMap<>();
+		int first = Integer.MAX_VALUE;
+		for (String candidate : candidates) {
+			int baseLength = candidate.length() - path.length();
+			if (baseLength == 0 || (baseLength > 0 && candidate.charAt(baseLength - 1) == '/')) {
+				if (candidate.regionMatches(CASE_INSENSITIVE, baseLength, path, 0, path.length())) {
+					String base = baseLength == 0 ? "" : candidate.substring(0, baseLength - 1); //$NON-NLS-1$
+					Integer order = fDirectories.get(base);
+					if (all) {
+						matches.add(candidate);
+						orders.put(candidate, order);
+					} else if (order.intValue() < first) {
+						first = order.intValue();
+						matches.clear();
+						matches.add(candidate);
+					}
+				}
+			}
+		}
+		if (matches.size() > 1) {
+			Collections.sort(matches, (match1, match2) -> orders.get(match1).compareTo(orders.get(match2)));
+		}
+		List<File> files = new ArrayList<>(matches.size());
+		for (String match : matches) {
+			files.add(new File(fRoot, match));
+		}
+		return files;
+	}
+
+	/**
+	 * Discards the index and stops watching the directory tree. The index is
+	 * rebuilt on next use.
+	 */
+	public synchronized void dispose() {
+		synchronized (fgIndexes) {
+			for (WatchKey key : fKeys) {
+				Set<DirectoryIndex> indexes = fgIndexes.get(key);
+				if (indexes != null) {
+					indexes.remove(this);
+					if (indexes.isEmpty()) {
+						fgIndexes.remove(key);
+						key.cancel();
+					}
+				}
+			}
+		}
+		fKeys.clear();
+		fFiles = null;
+		fDirectories = null;
+		fUnwatched = false;
+	}
+
+	/**
+	 * Builds the index and starts watching the directory tree.
+	 */
+	private void build() {
+		final Path root = fRoot.toPath();
+		final Map<String, List<String>> files = new HashMap<>();
+		final Map<String, Integer> directories = new HashMap<>();
+		final WatchService watchService;
+		try {
+			if (!fRoot.isDirectory()) {
+				// cannot watch for the directory to be created
+				throw new IOException(fRoot.getPath());
+			}
+			watchService = getWatchService();
+			Files.walkFileTree(root, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE, new SimpleFileVisitor<Path>() {
+				@Override
+				public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+					// watch before listing, such that no change is missed
+					WatchKey key = dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE);
+					synchronized (fgIndexes) {
+						Set<DirectoryIndex> indexes = fgIndexes.get(key);
+						if (indexes == null) {
+							indexes = new HashSet<>(1);
+							fgIndexes.put(key, indexes);
+						}
+						if (indexes.add(DirectoryIndex.this)) {
+							fKeys.add(key);
+						}
+					}
+					directories.put(getRelativePath(root, dir), Integer.valueOf(directories.size()));
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+					if (attrs.isRegularFile()) {
+						String key = getKey(file.getFileName().toString());
+						List<String> paths = files.get(key);
+						if (paths == null) {
+							paths = new ArrayList<>(1);
+							files.put(key, paths);
+						}
+						paths.add(getRelativePath(root, file));
+					}
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult visitFileFailed(Path file, IOException exc) {
+					// unreadable entries and symbolic link cycles are skipped
+					return FileVisitResult.CONTINUE;
+				}
+			});
+		} catch (IOException | UnsupportedOperationException e) {
+			dispose();
+			fUnwatched = true;
+			return;
+		}
+		fFiles = files;
+		fDirectories = directories;
+	}
+
+	/**
+	 * Returns the path of the given file relative to the given root, with
+	 * <code>/</code> as separator.
+	 */
+	private static String getRelativePath(Path root, Path file) {
+		StringBuilder path = new StringBuilder();
+		for (Path segment : root.relativize(file)) {
+			String name = segment.toString();
+			if (name.isEmpty()) {
+				continue;
+			}
+			if (path.length() > 0) {
+				path.append('/');
+			}
+			path.append(name);
+		}
+		return path.toString();
+	}
+
+	private static String getKey(String fileName) {
+		return CASE_INSENSITIVE ? fileName.toLowerCase(Locale.ENGLISH) : fileName;
+	}
+
+	/**
+	 * Returns the given name with <code>/</code> as separator, or
+	 * <code>null</code> if it is not a plain relative path.
+	 */
+	private static String normalize(String name) {
+		String path = name.replace('\\', '/');
+		if (path.isEmpty()) {
+			return null;
+		}
+		int start = 0;
+		while (start <= path.length()) {
+			int end = path.indexOf('/', start);
+			if (end < 0) {
+				end = path.length();
+			}
+			int length = end - start;
+			if (length == 0 || (length == 1 && path.charAt(start) == '.') || (length == 2 && path.startsWith("..", start))) { //$NON-NLS-1$
+				return null;
+			}
+			start = end + 1;
+		}
+		return path;
+	}
+
+	private static synchronized WatchService getWatchService() throws IOException {
+		if (fgWatchService == null) {
+			fgWatchService = FileSystems.getDefault().newWatchService();
+			Thread thread = new Thread(DirectoryIndex::watch, "Source Directory Watcher"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			thread.start();
+		}
+		return fgWatchService;
+	}
+
+	/**
+	 * Discards the indexes of directory trees that changed.
+	 */
+	private static void watch() {
+		WatchService watchService = fgWatchService;
+		while (true) {
+			WatchKey key;
+			try {
+				key = watchService.take();
+			} catch (InterruptedException | ClosedWatchServiceException e) {
+				return;
+			}
+			key.pollEvents();
+			List<DirectoryIndex> indexes = null;
+			synchronized (fgIndexes) {
+				Set<DirectoryIndex> watching = fgIndexes.get(key);
+				if (watching != null) {
+					indexes = new ArrayList<>(watching);
+				}
+			}
+			if (indexes == null) {
+				key.cancel();
+				continue;
+			}
+			for (DirectoryIndex index : indexes) {
+				index.dispose();
+			}
+			synchronized (fgIndexes) {
+				if (fgIndexes.containsKey(key)) {
+					// still watched by an index built since
+					key.reset();
+				}
+			}
+		}
+	}
+}
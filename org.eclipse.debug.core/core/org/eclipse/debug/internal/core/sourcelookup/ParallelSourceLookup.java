@@ -0,0 +1,317 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core.sourcelookup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.internal.core.IInternalDebugCoreConstants;
+
+/**
+ * Searches a sequence of source containers for source elements, either one
+ * container after the other or, when enabled by the preference
+ * {@link IInternalDebugCoreConstants#PREF_PARALLEL_SOURCE_LOOKUP},
+ * concurrently on a bounded pool of threads. In both modes the result is the
+ * same: when duplicates are not searched for, the first source element of the
+ * first container in order that has one, otherwise the source elements of all
+ * containers in container order. Errors are aggregated the same way.
+ * <p>
+ * A lookup is canceled through the progress monitor installed for the current
+ * thread with {@link #setMonitor(IProgressMonitor)}. A canceled parallel
+ * lookup throws an {@link OperationCanceledException}, while a canceled
+ * serial lookup stops searching and returns the source elements found so
+ * far, as source lookup did before parallel lookup was introduced.
+ * </p>
+ *
+ * @since 3.14
+ */
+public class ParallelSourceLookup {
+
+	/**
+	 * Searches one source container.
+	 */
+	public interface Query {
+
+		/**
+		 * Returns the source elements found in the container at the given
+		 * index.
+		 *
+		 * @param index index of the container
+		 * @return source elements, possibly empty
+		 * @throws CoreException if the search fails
+		 */
+		Object[] find(int index) throws CoreException;
+	}
+
+	private static final Object[] EMPTY = new Object[0];
+
+	/**
+	 * Maximum number of threads searching containers concurrently.
+	 */
+	private static final int MAX_THREADS = Math.min(8, Math.max(2, Runtime.getRuntime().availableProcessors()));
+
+	/**
+	 * Interval in milliseconds at which waiting for results checks for
+	 * cancellation.
+	 */
+	private static final long CANCEL_POLL_INTERVAL = 50;
+
+	private static ThreadPoolExecutor fgExecutor;
+
+	/**
+	 * Threads of the pool, which search nested containers serially rather
+	 * than waiting for other threads of the pool.
+	 */
+	private static final ThreadLocal<Boolean> fgWorker = new ThreadLocal<>();
+
+	private static final ThreadLocal<IProgressMonitor> fgMonitor = new ThreadLocal<>();
+
+	/**
+	 * Installs the progress monitor through which source lookups in the
+	 * current thread are canceled.
+	 *
+	 * @param monitor progress monitor or <code>null</code>
+	 * @return the previously installed progress monitor, to be restored when
+	 *         done, or <code>null</code>
+	 */
+	public static IProgressMonitor setMonitor(IProgressMonitor monitor) {
+		IProgressMonitor previous = fgMonitor.get();
+		if (monitor == null) {
+			fgMonitor.remove();
+		} else {
+			fgMonitor.set(monitor);
+		}
+		return previous;
+	}
+
+	/**
+	 * @return whether the source lookup in the current thread was canceled
+	 */
+	public static boolean isCanceled() {
+		IProgressMonitor monitor = fgMonitor.get();
+		return monitor != null && monitor.isCanceled();
+	}
+
+	/**
+	 * Returns whether parallel source lookup is enabled.
+	 *
+	 * @return whether parallel source lookup is enabled
+	 */
+	public static boolean isEnabled() {
+		return Platform.getPreferencesService().getBoolean(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_PARALLEL_SOURCE_LOOKUP, false, null);
+	}
+
+	/**
+	 * Searches the given number of source containers for source elements.
+	 *
+	 * @param count number of containers
+	 * @param findDuplicates whether to search all containers rather than
+	 *            stopping at the first source element found
+	 * @param query searches the containers
+	 * @return source elements found, at most one when duplicates are not
+	 *         searched for
+	 * @throws CoreException if no source element was found and searching
+	 *             containers failed
+	 * @throws OperationCanceledException if the parallel lookup was canceled
+	 */
+	public static Object[] findSourceElements(int count, boolean findDuplicates, Query query) throws CoreException {
+		if (count > 1 && fgWorker.get() == null && isEnabled()) {
+			return findParallel(count, findDuplicates, query);
+		}
+		return findSerial(count, findDuplicates, query);
+	}
+
+	private static Object[] findSerial(int count, boolean findDuplicates, Query query) throws CoreException {
+		Results results = new Results(findDuplicates);
+		for (int i = 0; i < count && !isCanceled(); i++) {
+			try {
+				if (results.add(query.find(i))) {
+					break;
+				}
+			} catch (CoreException e) {
+				results.add(e);
+			}
+		}
+		return results.get();
+	}
+
+	private static Object[] findParallel(int count, boolean findDuplicates, final Query query) throws CoreException {
+		final IProgressMonitor monitor = fgMonitor.get();
+		final AtomicBoolean done = new AtomicBoolean();
+		List<Future<Object[]>> futures = new ArrayList<>(count);
+		ThreadPoolExecutor executor = getExecutor();
+		for (int i = 0; i < count; i++) {
+			final int index = i;
+			futures.add(executor.submit(() -> {
+				if (done.get()) {
+					return EMPTY;
+				}
+				IProgressMonitor previous = setMonitor(monitor);
+				try {
+					return query.find(index);
+				} finally {
+					setMonitor(previous);
+				}
+			}));
+		}
+		Results results = new Results(findDuplicates);
+		try {
+			for (Future<Object[]> future : futures) {
+				try {
+					if (results.add(get(future))) {
+						break;
+					}
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if (cause instanceof CoreException) {
+						results.add((CoreException) cause);
+					} else if (cause instanceof RuntimeException) {
+						throw (RuntimeException) cause;
+					} else if (cause instanceof Error) {
+						throw (Error) cause;
+					} else {
+						throw new IllegalStateException(cause);
+					}
+				}
+			}
+		} finally {
+			done.set(true);
+			for (Future<Object[]> future : futures) {
+				future.cancel(false);
+			}
+		}
+		return results.get();
+	}
+
+	/**
+	 * Waits for the result of the given search, checking for cancellation.
+	 */
+	private static Object[] get(Future<Object[]> future) throws ExecutionException {
+		while (true) {
+			checkCanceled();
+			try {
+				return future.get(CANCEL_POLL_INTERVAL, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				// check for cancellation again
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			} catch (CancellationException e) {
+				throw new OperationCanceledException();
+			}
+		}
+	}
+
+	private static void checkCanceled() {
+		if (isCanceled()) {
+			throw new OperationCanceledException();
+		}
+	}
+
+	private static synchronized ThreadPoolExecutor getExecutor() {
+		if (fgExecutor == null) {
+			final AtomicInteger number = new AtomicInteger();
+			ThreadFactory factory = runnable -> {
+				Thread thread = new Thread(() -> {
+					fgWorker.set(Boolean.TRUE);
+					runnable.run();
+				}, "Source Lookup " + number.incrementAndGet()); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			};
+			fgExecutor = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), factory);
+			fgExecutor.allowCoreThreadTimeOut(true);
+		}
+		return fgExecutor;
+	}
+
+	/**
+	 * Collects the source elements and errors of the containers searched, in
+	 * container order.
+	 */
+	private static class Results {
+
+		private List<Object> fElements;
+		private Object[] fFirst;
+		private CoreException fSingle;
+		private MultiStatus fMultiStatus;
+
+		Results(boolean findDuplicates) {
+			if (findDuplicates) {
+				fElements = new ArrayList<>();
+			}
+		}
+
+		/**
+		 * Adds the source elements of the next container and returns whether
+		 * the search is complete.
+		 */
+		boolean add(Object[] objects) {
+			if (objects.length == 0) {
+				return false;
+			}
+			if (fElements != null) {
+				for (int j = 0; j < objects.length; j++) {
+					fElements.add(objects[j]);
+				}
+				return false;
+			}
+			fFirst = objects.length == 1 ? objects : new Object[] { objects[0] };
+			return true;
+		}
+
+		void add(CoreException e) {
+			if (fSingle == null) {
+				fSingle = e;
+			} else if (fMultiStatus == null) {
+				fMultiStatus = new MultiStatus(DebugPlugin.getUniqueIdentifier(), DebugPlugin.ERROR, new IStatus[] { fSingle.getStatus() }, SourceLookupMessages.Source_Lookup_Error, null);
+				fMultiStatus.add(e.getStatus());
+			} else {
+				fMultiStatus.add(e.getStatus());
+			}
+		}
+
+		Object[] get() throws CoreException {
+			if (fFirst != null) {
+				return fFirst;
+			}
+			if (fElements == null) {
+				if (fMultiStatus != null) {
+					throw new CoreException(fMultiStatus);
+				} else if (fSingle != null) {
+					throw fSingle;
+				}
+				return EMPTY;
+			}
+			return fElements.toArray();
+		}
+	}
+}
@@ -0,0 +1,405 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core.sourcelookup;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IResourceDeltaVisitor;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.sourcelookup.ISourceLookupDirector;
+import org.eclipse.debug.core.sourcelookup.ISourceLookupParticipant;
+import org.eclipse.debug.internal.core.IInternalDebugCoreConstants;
+
+/**
+ * Cache of the source elements found by the participants of a source lookup
+ * director, by source name, including names for which no source element was
+ * found. This spares searching all source containers again for the same
+ * names, for example the names of library classes without source, each time
+ * a thread suspends.
+ * <p>
+ * The cache of a director is cleared when its source containers, its
+ * participants or whether it searches duplicates change. Entries whose names
+ * end with the name of a file added to or removed from the workspace are
+ * removed, all entries are removed when a project is added, removed, opened
+ * or closed. Names for which no source element was found are removed when
+ * the content of a file at the root of a project changes, for example a build
+ * path file such as <code>.classpath</code>, or when a project or folder
+ * itself changes, for example its description, such that they are searched
+ * again with the new setup.
+ * Changes outside of the workspace, for example in external archives or
+ * directories, are not tracked. The number of entries is limited by the
+ * preference {@link IInternalDebugCoreConstants#PREF_SOURCE_LOOKUP_CACHE_SIZE},
+ * the least recently used entries being removed first. A size of 0 disables
+ * caching.
+ * </p>
+ *
+ * @since 3.14
+ */
+public class SourceLookupCache {
+
+	/**
+	 * Default maximum number of entries of a cache.
+	 */
+	public static final int DEFAULT_SIZE = 1000;
+
+	/**
+	 * Caches by director.
+	 */
+	private static final Map<ISourceLookupDirector, SourceLookupCache> fgCaches = new WeakHashMap<>();
+
+	private static IResourceChangeListener fgResourceListener;
+
+	/**
+	 * Cache key, identifying a source name of a participant. The participant
+	 * is referenced weakly, as it references its director, which is the weak
+	 * key of the cache.
+	 */
+	private static class Key {
+
+		private final WeakReference<ISourceLookupParticipant> fParticipant;
+		private final String fName;
+		private final int fHashCode;
+
+		Key(ISourceLookupParticipant participant, String name) {
+			fParticipant = new WeakReference<>(participant);
+			fName = name;
+			fHashCode = System.identityHashCode(participant) * 31 + name.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj instanceof Key) {
+				Key key = (Key) obj;
+				ISourceLookupParticipant participant = fParticipant.get();
+				return participant != null && participant == key.fParticipant.get() && fName.equals(key.fName);
+			}
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return fHashCode;
+		}
+	}
+
+	/**
+	 * Source elements by key, in access order.
+	 */
+	private final LinkedHashMap<Key, Object[]> fEntries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private int fMaxSize;
+
+	/**
+	 * Incremented when the cache is invalidated, such that results of
+	 * lookups started before are not cached.
+	 */
+	private long fGeneration;
+
+	private long fHits;
+
+	private long fMisses;
+
+	private SourceLookupCache(int maxSize) {
+		fMaxSize = maxSize;
+	}
+
+	/**
+	 * Returns the cache of the given director, or <code>null</code> if
+	 * caching is disabled.
+	 *
+	 * @param director source lookup director or <code>null</code>
+	 * @return cache or <code>null</code>
+	 */
+	public static SourceLookupCache getCache(ISourceLookupDirector director) {
+		if (director == null) {
+			return null;
+		}
+		int size = Platform.getPreferencesService().getInt(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_SOURCE_LOOKUP_CACHE_SIZE, DEFAULT_SIZE, null);
+		synchronized (fgCaches) {
+			if (size <= 0) {
+				fgCaches.remove(director);
+				return null;
+			}
+			SourceLookupCache cache = fgCaches.get(director);
+			if (cache == null) {
+				if (fgResourceListener == null) {
+					fgResourceListener = new ResourceListener();
+					ResourcesPlugin.getWorkspace().addResourceChangeListener(fgResourceListener, IResourceChangeEvent.POST_CHANGE);
+				}
+				cache = new SourceLookupCache(size);
+				fgCaches.put(director, cache);
+			} else {
+				cache.setMaxSize(size);
+			}
+			return cache;
+		}
+	}
+
+	/**
+	 * Clears the cache of the given director, if any.
+	 *
+	 * @param director source lookup director
+	 */
+	public static void invalidate(ISourceLookupDirector director) {
+		SourceLookupCache cache;
+		synchronized (fgCaches) {
+			cache = fgCaches.get(director);
+		}
+		if (cache != null) {
+			cache.clear();
+		}
+	}
+
+	/**
+	 * Removes the cache of the given director, if any.
+	 *
+	 * @param director source lookup director being disposed
+	 */
+	public static void dispose(ISourceLookupDirector director) {
+		SourceLookupCache cache;
+		synchronized (fgCaches) {
+			cache = fgCaches.remove(director);
+		}
+		if (cache != null) {
+			cache.clear();
+		}
+	}
+
+	/**
+	 * @return the caches of all directors
+	 */
+	private static List<SourceLookupCache> getCaches() {
+		synchronized (fgCaches) {
+			return new ArrayList<>(fgCaches.values());
+		}
+	}
+
+	/**
+	 * Returns the cached source elements of the given participant for the
+	 * given name, or <code>null</code> if not cached. An empty array is
+	 * returned for names for which no source element was found.
+	 *
+	 * @param participant source lookup participant
+	 * @param name source name
+	 * @return source elements or <code>null</code>
+	 */
+	public synchronized Object[] get(ISourceLookupParticipant participant, String name) {
+		Object[] elements = fEntries.get(new Key(participant, name));
+		if (elements == null) {
+			fMisses++;
+			return null;
+		}
+		fHits++;
+		return elements.clone();
+	}
+
+	/**
+	 * Returns the generation of this cache, to be passed to
+	 * {@link #put(ISourceLookupParticipant, String, Object[], long)} with the
+	 * result of a lookup started after.
+	 *
+	 * @return generation of this cache
+	 */
+	public synchronized long getGeneration() {
+		return fGeneration;
+	}
+
+	/**
+	 * Caches the source elements found by the given participant for the given
+	 * name, unless the cache was invalidated since the given generation.
+	 *
+	 * @param participant source lookup participant
+	 * @param name source name
+	 * @param elements source elements found, possibly empty
+	 * @param generation generation of the cache when the lookup started
+	 */
+	public synchronized void put(ISourceLookupParticipant participant, String name, Object[] elements, long generation) {
+		if (generation != fGeneration) {
+			return;
+		}
+		fEntries.put(new Key(participant, name), elements.clone());
+		trim();
+	}
+
+	/**
+	 * Removes all entries.
+	 */
+	public synchronized void clear() {
+		fGeneration++;
+		fEntries.clear();
+	}
+
+	/**
+	 * Removes the entries whose names end with one of the given file names.
+	 *
+	 * @param fileNames names of files added or removed
+	 */
+	synchronized void invalidate(Set<String> fileNames) {
+		fGeneration++;
+		Iterator<Key> keys = fEntries.keySet().iterator();
+		while (keys.hasNext()) {
+			if (fileNames.contains(getFileName(keys.next().fName))) {
+				keys.remove();
+			}
+		}
+	}
+
+	/**
+	 * Removes the entries of names for which no source element was found.
+	 */
+	synchronized void invalidateMisses() {
+		fGeneration++;
+		Iterator<Object[]> elements = fEntries.values().iterator();
+		while (elements.hasNext()) {
+			if (elements.next().length == 0) {
+				elements.remove();
+			}
+		}
+	}
+
+	/**
+	 * @return the number of entries
+	 */
+	public synchronized int size() {
+		return fEntries.size();
+	}
+
+	/**
+	 * @return the number of lookups answered from the cache
+	 */
+	public synchronized long getHitCount() {
+		return fHits;
+	}
+
+	/**
+	 * @return the number of lookups not answered from the cache
+	 */
+	public synchronized long getMissCount() {
+		return fMisses;
+	}
+
+	/**
+	 * @return the fraction of lookups answered from the cache, or 0 if none
+	 */
+	public synchronized double getHitRate() {
+		long total = fHits + fMisses;
+		return total == 0 ? 0 : (double) fHits / total;
+	}
+
+	/**
+	 * Resets the hit and miss counts.
+	 */
+	public synchronized void resetStatistics() {
+		fHits = 0;
+		fMisses = 0;
+	}
+
+	private synchronized void setMaxSize(int maxSize) {
+		fMaxSize = maxSize;
+		trim();
+	}
+
+	private void trim() {
+		Iterator<Key> keys = fEntries.keySet().iterator();
+		while (fEntries.size() > fMaxSize && keys.hasNext()) {
+			keys.next();
+			keys.remove();
+		}
+	}
+
+	/**
+	 * Returns the last segment of the given source name.
+	 */
+	private static String getFileName(String name) {
+		int index = Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\'));
+		return name.substring(index + 1);
+	}
+
+	/**
+	 * Invalidates the caches on files added to or removed from the workspace,
+	 * and on changes that may let names be found that were not found before.
+	 */
+	static class ResourceListener implements IResourceChangeListener {
+
+		@Override
+		public void resourceChanged(IResourceChangeEvent event) {
+			IResourceDelta delta = event.getDelta();
+			if (delta == null) {
+				return;
+			}
+			final Set<String> fileNames = new HashSet<>();
+			final boolean[] clear = new boolean[1];
+			final boolean[] clearMisses = new boolean[1];
+			try {
+				delta.accept(new IResourceDeltaVisitor() {
+					@Override
+					public boolean visit(IResourceDelta child) throws CoreException {
+						IResource resource = child.getResource();
+						if (resource.getType() == IResource.PROJECT && (child.getKind() != IResourceDelta.CHANGED || (child.getFlags() & IResourceDelta.OPEN) != 0)) {
+							clear[0] = true;
+							return false;
+						}
+						if (resource.getType() == IResource.FILE && (child.getKind() == IResourceDelta.ADDED || child.getKind() == IResourceDelta.REMOVED)) {
+							fileNames.add(resource.getName());
+						}
+						if (child.getKind() == IResourceDelta.CHANGED) {
+							if (resource.getType() == IResource.FILE) {
+								// build path and other project setup files
+								if (resource.getParent().getType() == IResource.PROJECT && (child.getFlags() & IResourceDelta.CONTENT) != 0) {
+									clearMisses[0] = true;
+								}
+							} else if ((child.getFlags() & ~IResourceDelta.MARKERS) != 0) {
+								// the project or folder itself changed
+								clearMisses[0] = true;
+							}
+						}
+						return true;
+					}
+				});
+			} catch (CoreException e) {
+				clear[0] = true;
+			}
+			if (!clear[0] && !clearMisses[0] && fileNames.isEmpty()) {
+				return;
+			}
+			for (SourceLookupCache cache : getCaches()) {
+				if (clear[0]) {
+					cache.clear();
+					continue;
+				}
+				if (clearMisses[0]) {
+					cache.invalidateMisses();
+				}
+				if (!fileNames.isEmpty()) {
+					cache.invalidate(fileNames);
+				}
+			}
+		}
+	}
+}
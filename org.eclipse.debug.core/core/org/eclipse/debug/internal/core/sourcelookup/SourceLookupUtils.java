@@ -13,16 +13,29 @@
  *******************************************************************************/
 package org.eclipse.debug.internal.core.sourcelookup;
 
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FilterInputStream;
 import java.io.IOException;
-import java.util.HashMap;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
 import org.eclipse.core.resources.IResourceChangeEvent;
 import org.eclipse.core.resources.IResourceChangeListener;
 import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchesListener2;
+import org.eclipse.debug.internal.core.IInternalDebugCoreConstants;
 
 /**
  * Utility and supporting methods for source location. Most of these
@@ -35,16 +48,166 @@ import org.eclipse.debug.core.ILaunchesListener2;
 public class SourceLookupUtils {
 
 	/**
-	 * Cache of shared zip files. Zip files are closed
-	 * when this class's plug-in is shutdown, when a project
-	 * is about to be closed or deleted, when a launch is
-	 * removed, and when a debug target or process terminates.
+	 * Cache of shared zip files, by name, least recently used first. Zip
+	 * files are closed when this class's plug-in is shutdown, when a project
+	 * is about to be closed or deleted, when a launch is removed, and when a
+	 * debug target or process terminates. Beyond the maximum number of open
+	 * archives, the least recently used archives not in use are closed.
 	 */
-	private static HashMap<String, ZipFile> fgZipFileCache = new HashMap<>(5);
+	private static final LinkedHashMap<String, ArchiveHandle> fgArchives = new LinkedHashMap<>(16, 0.75f, true);
 	private static ArchiveCleaner fgCleaner = null;
 
 	/**
-	 * Returns a zip file with the given name
+	 * Indexes of archives, by name, least recently used first. Indexes are
+	 * kept when their zip files are closed, and reused when the archives are
+	 * reopened unchanged.
+	 */
+	private static final LinkedHashMap<String, ArchiveIndex> fgIndexes = new LinkedHashMap<String, ArchiveIndex>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Entry<String, ArchiveIndex> eldest) {
+			return size() > MAX_ARCHIVE_INDEXES;
+		}
+	};
+
+	/**
+	 * Maximum number of archive indexes kept.
+	 */
+	private static final int MAX_ARCHIVE_INDEXES = 256;
+
+	/**
+	 * Statistics of the zip file cache, guarded by the cache.
+	 */
+	private static int fgOpenArchives;
+	private static long fgArchiveHits;
+	private static long fgArchiveMisses;
+	private static long fgArchiveEvictions;
+
+	/**
+	 * Default maximum number of archives kept open.
+	 *
+	 * @since 3.14
+	 */
+	public static final int DEFAULT_MAX_OPEN_ARCHIVES = 64;
+
+	/**
+	 * Entries up to this size are read at once when their contents are
+	 * requested, such that the archive is not in use while the contents are
+	 * consumed.
+	 */
+	private static final int MAX_BUFFERED_ENTRY_SIZE = 1 << 20;
+
+	/**
+	 * A shared zip file.
+	 */
+	static class ArchiveHandle {
+
+		private final String fName;
+		private volatile ZipFile fZipFile;
+		/**
+		 * Number of references, guarded by the cache.
+		 */
+		int fReferences;
+		/**
+		 * Whether removed from the cache, to be closed when no longer
+		 * referenced. Guarded by the cache.
+		 */
+		boolean fRemoved;
+
+		ArchiveHandle(String name) {
+			fName = name;
+		}
+
+		/**
+		 * Opens the zip file if not yet open. Called with a reference held.
+		 */
+		synchronized ZipFile open() throws IOException {
+			if (fZipFile == null) {
+				fZipFile = new ZipFile(fName);
+				synchronized (fgArchives) {
+					fgOpenArchives++;
+				}
+			}
+			return fZipFile;
+		}
+
+		/**
+		 * Closes the zip file. Called with no reference held.
+		 */
+		synchronized void close() {
+			if (fZipFile != null) {
+				try {
+					fZipFile.close();
+				} catch (IOException e) {
+					DebugPlugin.log(e);
+				}
+				fZipFile = null;
+				synchronized (fgArchives) {
+					fgOpenArchives--;
+				}
+			}
+		}
+	}
+
+	/**
+	 * A reference to a shared zip file, keeping the zip file open until
+	 * closed.
+	 *
+	 * @since 3.14
+	 */
+	public static class ArchiveReference implements AutoCloseable {
+
+		private ArchiveHandle fHandle;
+		private final ZipFile fArchive;
+		private final ArchiveIndex fIndex;
+
+		ArchiveReference(ArchiveHandle handle, ZipFile archive, ArchiveIndex index) {
+			fHandle = handle;
+			fArchive = archive;
+			fIndex = index;
+		}
+
+		/**
+		 * @return the referenced zip file
+		 */
+		public ZipFile getArchive() {
+			return fArchive;
+		}
+
+		/**
+		 * Returns the index of the referenced zip file, building it if not
+		 * yet built.
+		 *
+		 * @return the index of the referenced zip file
+		 * @throws CoreException if the zip file was closed before the index
+		 *             was built
+		 */
+		public ArchiveIndex getIndex() throws CoreException {
+			fIndex.build(fArchive);
+			return fIndex;
+		}
+
+		/**
+		 * Releases this reference. Has no effect if already released.
+		 */
+		@Override
+		public void close() {
+			ArchiveHandle handle;
+			synchronized (this) {
+				handle = fHandle;
+				fHandle = null;
+			}
+			if (handle != null) {
+				release(handle);
+			}
+		}
+	}
+
+	/**
+	 * Returns a zip file with the given name. The zip file is shared and may
+	 * be closed at any time, use {@link #acquireArchive(String)} to keep it
+	 * open while in use.
 	 *
 	 * @param name zip file name
 	 * @return The zip file with the given name
@@ -52,39 +215,295 @@ public class SourceLookupUtils {
 	 * 	file
 	 */
 	public static ZipFile getZipFile(String name) throws IOException {
-		synchronized (fgZipFileCache) {
+		try (ArchiveReference reference = acquireArchive(name)) {
+			return reference.getArchive();
+		}
+	}
+
+	/**
+	 * Returns a reference to the zip file with the given name, opening the
+	 * zip file if not open. The zip file stays open until the reference is
+	 * closed. Zip files are opened outside of the lock of the cache, such
+	 * that opening a zip file does not block accesses to other zip files.
+	 *
+	 * @param name zip file name
+	 * @return a reference to be closed when done
+	 * @exception IOException if unable to create the specified zip
+	 * 	file
+	 * @since 3.14
+	 */
+	public static ArchiveReference acquireArchive(String name) throws IOException {
+		ArchiveHandle handle;
+		boolean opened;
+		synchronized (fgArchives) {
 			if (fgCleaner == null) {
 				fgCleaner = new ArchiveCleaner();
 				DebugPlugin.getDefault().getLaunchManager().addLaunchListener(fgCleaner);
 				ResourcesPlugin.getWorkspace().addResourceChangeListener(fgCleaner, IResourceChangeEvent.PRE_DELETE | IResourceChangeEvent.PRE_CLOSE);
 			}
-			ZipFile zip = fgZipFileCache.get(name);
-			if (zip == null) {
-				zip = new ZipFile(name);
-				fgZipFileCache.put(name, zip);
+			handle = fgArchives.get(name);
+			opened = handle == null;
+			if (opened) {
+				handle = new ArchiveHandle(name);
+				fgArchives.put(name, handle);
+				fgArchiveMisses++;
+			} else {
+				fgArchiveHits++;
+			}
+			handle.fReferences++;
+		}
+		ZipFile zip;
+		ArchiveIndex index;
+		try {
+			index = lookupIndex(name);
+			zip = handle.open();
+		} catch (IOException e) {
+			synchronized (fgArchives) {
+				if (fgArchives.get(name) == handle) {
+					fgArchives.remove(name);
+				}
+			}
+			release(handle);
+			throw e;
+		}
+		if (opened) {
+			trim(getMaxOpenArchives());
+		}
+		return new ArchiveReference(handle, zip, index);
+	}
+
+	/**
+	 * Returns the index of the archive with the given name, replacing the
+	 * index if the archive file changed since it was indexed.
+	 */
+	private static ArchiveIndex lookupIndex(String name) {
+		File file = new File(name);
+		synchronized (fgIndexes) {
+			ArchiveIndex index = fgIndexes.get(name);
+			if (index == null || !index.isCurrent(file)) {
+				// created before the zip file is opened, such that later
+				// changes of the file are detected
+				index = new ArchiveIndex(file);
+				fgIndexes.put(name, index);
 			}
-			return zip;
+			return index;
 		}
 	}
 
+	/**
+	 * Releases a reference to the given archive.
+	 */
+	private static void release(ArchiveHandle handle) {
+		boolean close;
+		synchronized (fgArchives) {
+			close = --handle.fReferences == 0 && handle.fRemoved;
+		}
+		if (close) {
+			handle.close();
+		}
+	}
+
+	/**
+	 * Closes the least recently used archives not in use, until no more than
+	 * the given number of archives are cached.
+	 */
+	private static void trim(int max) {
+		List<ArchiveHandle> evicted = new ArrayList<>();
+		synchronized (fgArchives) {
+			Iterator<ArchiveHandle> handles = fgArchives.values().iterator();
+			int size = fgArchives.size();
+			while (size > max && handles.hasNext()) {
+				ArchiveHandle handle = handles.next();
+				if (handle.fReferences == 0) {
+					handles.remove();
+					handle.fRemoved = true;
+					evicted.add(handle);
+					fgArchiveEvictions++;
+					size--;
+				}
+			}
+		}
+		for (ArchiveHandle handle : evicted) {
+			handle.close();
+		}
+	}
+
+	private static int getMaxOpenArchives() {
+		return Platform.getPreferencesService().getInt(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_MAX_OPEN_ARCHIVES, DEFAULT_MAX_OPEN_ARCHIVES, null);
+	}
+
+	/**
+	 * Returns the contents of the given entry of the given zip file. When the
+	 * zip file is shared, it is kept open until the contents are read, and
+	 * reopened if closed in the meantime. Small entries are read at once,
+	 * such that concurrent readers of the zip file do not wait for each other
+	 * while consuming the contents.
+	 *
+	 * @param archive zip file
+	 * @param entry entry of the zip file
+	 * @return contents of the entry
+	 * @exception IOException if unable to read the entry
+	 * @since 3.14
+	 */
+	public static InputStream getContents(ZipFile archive, ZipEntry entry) throws IOException {
+		try {
+			return getContents(archive, entry, false);
+		} catch (IOException e) {
+			if (!isClosed(archive)) {
+				throw e;
+			}
+			// closed while reading, after being removed from the cache
+			return getContents(archive, entry, true);
+		}
+	}
+
+	/**
+	 * Returns the contents of the given entry, read from the shared zip file
+	 * of the archive if the given zip file is closed or if requested.
+	 */
+	private static InputStream getContents(ZipFile archive, ZipEntry entry, boolean reopen) throws IOException {
+		String name = archive.getName();
+		ArchiveReference reference = null;
+		synchronized (fgArchives) {
+			ArchiveHandle handle = fgArchives.get(name);
+			if (handle != null && handle.fZipFile == archive) {
+				handle.fReferences++;
+				// entries are read from the given zip file, no index needed
+				reference = new ArchiveReference(handle, archive, null);
+			}
+		}
+		ZipFile zip = archive;
+		ZipEntry zipEntry = entry;
+		try {
+			if (reference == null && (reopen || isClosed(archive))) {
+				// the shared zip file was closed, reopen it
+				reference = acquireArchive(name);
+				zip = reference.getArchive();
+				zipEntry = reference.getIndex().getEntry(entry.getName());
+				if (zipEntry == null) {
+					throw new IOException(entry.getName());
+				}
+			}
+			InputStream stream = zip.getInputStream(zipEntry);
+			long size = zipEntry.getSize();
+			if (size >= 0 && size <= MAX_BUFFERED_ENTRY_SIZE) {
+				try {
+					return new ByteArrayInputStream(readAll(stream, (int) size));
+				} finally {
+					stream.close();
+				}
+			}
+			if (reference == null) {
+				return stream;
+			}
+			final ArchiveReference streamReference = reference;
+			reference = null;
+			return new FilterInputStream(stream) {
+				@Override
+				public void close() throws IOException {
+					try {
+						super.close();
+					} finally {
+						streamReference.close();
+					}
+				}
+			};
+		} catch (IllegalStateException e) {
+			// closed while reading
+			throw new IOException(e.getMessage(), e);
+		} catch (CoreException e) {
+			throw new IOException(e.getMessage(), e);
+		} finally {
+			if (reference != null) {
+				reference.close();
+			}
+		}
+	}
+
+	private static boolean isClosed(ZipFile archive) {
+		try {
+			archive.size();
+			return false;
+		} catch (IllegalStateException e) {
+			return true;
+		}
+	}
+
+	private static byte[] readAll(InputStream stream, int size) throws IOException {
+		byte[] bytes = new byte[size];
+		int offset = 0;
+		while (offset < size) {
+			int read = stream.read(bytes, offset, size - offset);
+			if (read < 0) {
+				throw new EOFException();
+			}
+			offset += read;
+		}
+		return bytes;
+	}
+
 	/**
 	 * Closes all zip files that have been opened,
 	 * and removes them from the zip file cache.
+	 * Zip files in use are closed when released.
 	 * This method is only to be called by the debug
 	 * plug-in.
 	 */
 	public static void closeArchives() {
-		synchronized (fgZipFileCache) {
-			for (ZipFile file : fgZipFileCache.values()) {
-				synchronized (file) {
-					try {
-						file.close();
-					} catch (IOException e) {
-						DebugPlugin.log(e);
-					}
+		List<ArchiveHandle> idle = new ArrayList<>();
+		synchronized (fgArchives) {
+			for (ArchiveHandle handle : fgArchives.values()) {
+				handle.fRemoved = true;
+				if (handle.fReferences == 0) {
+					idle.add(handle);
 				}
 			}
-			fgZipFileCache.clear();
+			fgArchives.clear();
+		}
+		for (ArchiveHandle handle : idle) {
+			handle.close();
+		}
+	}
+
+	/**
+	 * @return the number of open shared zip files
+	 * @since 3.14
+	 */
+	public static int getOpenArchiveCount() {
+		synchronized (fgArchives) {
+			return fgOpenArchives;
+		}
+	}
+
+	/**
+	 * @return the number of requests for shared zip files already open
+	 * @since 3.14
+	 */
+	public static long getArchiveHitCount() {
+		synchronized (fgArchives) {
+			return fgArchiveHits;
+		}
+	}
+
+	/**
+	 * @return the number of requests for shared zip files that had to be
+	 *         opened
+	 * @since 3.14
+	 */
+	public static long getArchiveMissCount() {
+		synchronized (fgArchives) {
+			return fgArchiveMisses;
+		}
+	}
+
+	/**
+	 * @return the number of shared zip files closed to stay within the
+	 *         maximum number of open archives
+	 * @since 3.14
+	 */
+	public static long getArchiveEvictionCount() {
+		synchronized (fgArchives) {
+			return fgArchiveEvictions;
 		}
 	}
 
@@ -93,6 +512,9 @@ public class SourceLookupUtils {
 	 */
 	public static void shutdown() {
 		closeArchives();
+		synchronized (fgIndexes) {
+			fgIndexes.clear();
+		}
 		if (fgCleaner != null) {
 			DebugPlugin.getDefault().getLaunchManager().removeLaunchListener(fgCleaner);
 			ResourcesPlugin.getWorkspace().removeResourceChangeListener(fgCleaner);
@@ -24,11 +24,13 @@ import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.model.DebugElement;
 import org.eclipse.debug.core.model.IDebugTarget;
-import org.eclipse.debug.core.model.IMemoryBlockExtension;
+import org.eclipse.debug.core.model.IMemoryBlockExtension2;
 import org.eclipse.debug.core.model.IMemoryBlockRetrieval;
 import org.eclipse.debug.core.model.IMemoryBlockRetrievalExtension;
+import org.eclipse.debug.core.model.MemoryBuffer;
 import org.eclipse.debug.core.model.MemoryByte;
 import org.eclipse.debug.examples.internal.memory.MemoryViewSamplePlugin;
+import org.eclipse.debug.examples.internal.memory.engine.SampleEngine;
 import org.eclipse.debug.examples.internal.memory.launchconfig.SampleModelPresentation;
 import org.eclipse.jface.viewers.IColorProvider;
 
@@ -36,7 +38,7 @@ import org.eclipse.jface.viewers.IColorProvider;
  * Memory Block Implementation
  *
  */
-public class SampleMemoryBlock extends DebugElement implements IMemoryBlockExtension {
+public class SampleMemoryBlock extends DebugElement implements IMemoryBlockExtension2 {
 
 	private String fExpression;
 	private SampleDebugTarget fDebugTarget;
@@ -114,6 +116,25 @@ public class SampleMemoryBlock extends DebugElement implements IMemoryBlockExten
 		}
 	}
 
+	@Override
+	public MemoryBuffer getBufferFromOffset(BigInteger unitOffset, long addressableUnits) throws DebugException {
+		return MemoryBuffer.fromMemoryBytes(getBytesFromOffset(unitOffset, addressableUnits));
+	}
+
+	@Override
+	public MemoryBuffer getBufferFromAddress(BigInteger address, long units) throws DebugException {
+		// the engine generates compact buffers in its scalable mode
+		SampleEngine engine = fDebugTarget.getEngine();
+		MemoryBuffer buffer = engine.getBufferFromAddress(address, units);
+		int missing = (int) units * engine.getAddressableSize() - buffer.length();
+		if (missing <= 0) {
+			return buffer;
+		}
+		// if engine did not return enough memory, pad with dummy memory
+		byte flags = engine.isBigEndian(address) ? MemoryByte.BIG_ENDIAN : MemoryBuffer.UNREADABLE_FLAGS;
+		return MemoryBuffer.concat(buffer, MemoryBuffer.fill(missing, flags));
+	}
+
 	@Override
 	public void connect(Object object) {
 
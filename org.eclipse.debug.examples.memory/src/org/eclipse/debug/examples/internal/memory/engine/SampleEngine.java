@@ -16,10 +16,15 @@ package org.eclipse.debug.examples.internal.memory.engine;
 
 import java.math.BigInteger;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.Hashtable;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.model.MemoryBuffer;
 import org.eclipse.debug.core.model.MemoryByte;
 import org.eclipse.debug.examples.internal.memory.core.SampleDebugTarget;
 import org.eclipse.debug.examples.internal.memory.core.SampleMemoryBlock;
@@ -30,9 +35,35 @@ import org.eclipse.debug.examples.internal.memory.core.SampleThread;
  * Sample engine for sample deug adapter This engine randomly generates content
  * for a memory block. To get to this engine, call
  * {@link SampleDebugTarget#getEngine()};
+ * <p>
+ * When given a {@link SampleEngineConfiguration}, the engine runs in a
+ * scalable mode instead: the content of a large, sparse address space is
+ * generated on demand from a hash of the address, only written memory is
+ * stored, and requests are delayed by a simulated latency. The engine counts
+ * the requests and bytes fetched in either mode.
+ * </p>
  */
 public class SampleEngine {
 
+	/**
+	 * Number of addressable units changing together on a resume in the
+	 * scalable mode.
+	 */
+	public static final int CHANGE_LINE_SIZE = 16;
+
+	/**
+	 * A byte written in the scalable mode.
+	 */
+	private static class WrittenByte {
+		final byte fValue;
+		final int fResume;
+
+		WrittenByte(byte value, int resume) {
+			fValue = value;
+			fResume = resume;
+		}
+	}
+
 	Random fRandom = new Random();
 	byte[] fMemory;
 	Hashtable<BigInteger, SampleMemoryUnit> memoryBlockTable;
@@ -42,6 +73,72 @@ public class SampleEngine {
 
 	Random random = new Random();
 
+	private volatile SampleEngineConfiguration fConfiguration;
+
+	/**
+	 * Number of resumes in the scalable mode, written while synchronized on
+	 * the engine.
+	 */
+	private volatile int fResumeCount;
+
+	/**
+	 * Bytes written in the scalable mode and not changed by a resume since, by
+	 * byte address. Guarded by the engine.
+	 */
+	private final Map<Long, WrittenByte> fWrittenBytes = new HashMap<>();
+
+	private final AtomicLong fRequestCount = new AtomicLong();
+
+	private final AtomicLong fBytesFetched = new AtomicLong();
+
+	/**
+	 * Switches the engine to the scalable mode with the given configuration,
+	 * or back to the default mode if <code>null</code>. Memory written in the
+	 * scalable mode is discarded.
+	 *
+	 * @param configuration configuration or <code>null</code>
+	 */
+	public synchronized void setConfiguration(SampleEngineConfiguration configuration) {
+		fConfiguration = configuration;
+		fWrittenBytes.clear();
+		fResumeCount = 0;
+	}
+
+	/**
+	 * @return the configuration of the scalable mode, or <code>null</code> if
+	 *         the engine runs in the default mode
+	 */
+	public SampleEngineConfiguration getConfiguration() {
+		return fConfiguration;
+	}
+
+	/**
+	 * @return number of memory requests since the statistics were last reset
+	 */
+	public long getRequestCount() {
+		return fRequestCount.get();
+	}
+
+	/**
+	 * @return number of bytes fetched since the statistics were last reset
+	 */
+	public long getBytesFetched() {
+		return fBytesFetched.get();
+	}
+
+	/**
+	 * Resets the request count and the number of bytes fetched.
+	 */
+	public void resetStatistics() {
+		fRequestCount.set(0);
+		fBytesFetched.set(0);
+	}
+
+	private void recordRequest(long length) {
+		fRequestCount.incrementAndGet();
+		fBytesFetched.addAndGet(length * getAddressableSize());
+	}
+
 	/**
 	 * Allow debug adapters to get memory from an address
 	 *
@@ -50,7 +147,132 @@ public class SampleEngine {
 	 * @return memory byte from an address
 	 * @throws RuntimeException
 	 */
-	synchronized public MemoryByte[] getBytesFromAddress(BigInteger address, long length) throws RuntimeException {
+	public MemoryByte[] getBytesFromAddress(BigInteger address, long length) throws RuntimeException {
+		if (fConfiguration != null) {
+			return getBufferFromAddress(address, length).toMemoryBytes();
+		}
+		recordRequest(length);
+		return getTableBytes(address, length);
+	}
+
+	/**
+	 * Allow debug adapters to get memory from an address as a compact buffer
+	 *
+	 * @param address
+	 * @param length number of addressable units
+	 * @return memory from an address
+	 * @throws RuntimeException
+	 */
+	public MemoryBuffer getBufferFromAddress(BigInteger address, long length) throws RuntimeException {
+		SampleEngineConfiguration configuration = fConfiguration;
+		if (configuration == null) {
+			return MemoryBuffer.fromMemoryBytes(getBytesFromAddress(address, length));
+		}
+		recordRequest(length);
+		simulateLatency(configuration, length * getAddressableSize());
+		return generateBytes(configuration, address, (int) length);
+	}
+
+	/**
+	 * Delays the calling thread by the latency of a request for the given
+	 * number of bytes. Called without holding the engine lock, such that
+	 * concurrent requests overlap like requests to a remote target.
+	 */
+	private static void simulateLatency(SampleEngineConfiguration configuration, long bytes) {
+		long latency = configuration.getLatency() + bytes * configuration.getLatencyPerKilobyte() / 1024;
+		if (latency > 0) {
+			try {
+				Thread.sleep(latency);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Generates the content of the scalable address space. The value of each
+	 * byte is a hash of its address and of the last resume in which its line
+	 * changed, unless written since.
+	 */
+	private MemoryBuffer generateBytes(SampleEngineConfiguration configuration, BigInteger address, int length) {
+		int addressableSize = getAddressableSize();
+		if (address.signum() < 0 || address.bitLength() >= 63) {
+			return MemoryBuffer.fill(length * addressableSize, MemoryBuffer.UNREADABLE_FLAGS);
+		}
+		byte[] values = new byte[length * addressableSize];
+		byte[] flags = new byte[values.length];
+		long start = address.longValue();
+		long seed = configuration.getSeed();
+		byte readableFlags = MemoryByte.READABLE | MemoryByte.WRITABLE | MemoryByte.ENDIANESS_KNOWN;
+		if (configuration.isBigEndian()) {
+			readableFlags |= MemoryByte.BIG_ENDIAN;
+		}
+		synchronized (this) {
+			int resumeCount = fResumeCount;
+			if (resumeCount > 0) {
+				readableFlags |= MemoryByte.HISTORY_KNOWN;
+			}
+			long line = -1;
+			int epoch = 0;
+			for (int i = 0; i < length; i++) {
+				long unit = start + i;
+				if (!configuration.isReadable(unit)) {
+					continue;
+				}
+				if (unit / CHANGE_LINE_SIZE != line) {
+					line = unit / CHANGE_LINE_SIZE;
+					epoch = getChangeEpoch(configuration, line, resumeCount);
+				}
+				for (int j = 0; j < addressableSize; j++) {
+					int index = i * addressableSize + j;
+					long byteAddress = unit * addressableSize + j;
+					WrittenByte written = fWrittenBytes.isEmpty() ? null : fWrittenBytes.get(byteAddress);
+					int lastChange = epoch;
+					if (written != null && written.fResume >= epoch) {
+						values[index] = written.fValue;
+						lastChange = written.fResume;
+					} else {
+						values[index] = (byte) mix(seed ^ mix(byteAddress) + epoch);
+					}
+					flags[index] = resumeCount > 0 && lastChange == resumeCount ? (byte) (readableFlags | MemoryByte.CHANGED) : readableFlags;
+				}
+			}
+		}
+		return new MemoryBuffer(values, flags);
+	}
+
+	/**
+	 * Returns the last resume in which the given line changed, or 0 if it
+	 * never changed. Whether a line changes in a resume is decided by a hash,
+	 * such that no state is kept per line.
+	 */
+	private static int getChangeEpoch(SampleEngineConfiguration configuration, long line, int resumeCount) {
+		double changeRate = configuration.getChangeRate();
+		if (changeRate == 0) {
+			return 0;
+		}
+		long lineHash = mix(configuration.getSeed() + mix(line));
+		for (int resume = resumeCount; resume > 0; resume--) {
+			// top 53 bits as a fraction between 0 and 1
+			if ((mix(lineHash + resume) >>> 11) * 0x1.0p-53 < changeRate) {
+				return resume;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * The finalizer of the SplitMix64 generator, mixing all bits of the given
+	 * value.
+	 */
+	private static long mix(long value) {
+		long z = value;
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+
+	synchronized private MemoryByte[] getTableBytes(BigInteger address, long length) {
 
 		if (memoryBlockTable == null) {
 			// create new memoryBlock table
@@ -124,9 +346,33 @@ public class SampleEngine {
 	 * Run the debuggee
 	 */
 	public void resume() {
+		SampleEngineConfiguration configuration = fConfiguration;
+		if (configuration != null) {
+			synchronized (this) {
+				fResumeCount++;
+				pruneWrittenBytes(configuration);
+			}
+			return;
+		}
 		changeValue();
 	}
 
+	/**
+	 * Discards the written bytes whose line changed since they were written,
+	 * such that only the bytes still shown are kept.
+	 */
+	private void pruneWrittenBytes(SampleEngineConfiguration configuration) {
+		int addressableSize = getAddressableSize();
+		Iterator<Map.Entry<Long, WrittenByte>> entries = fWrittenBytes.entrySet().iterator();
+		while (entries.hasNext()) {
+			Map.Entry<Long, WrittenByte> entry = entries.next();
+			long line = entry.getKey().longValue() / addressableSize / CHANGE_LINE_SIZE;
+			if (getChangeEpoch(configuration, line, fResumeCount) > entry.getValue().fResume) {
+				entries.remove();
+			}
+		}
+	}
+
 	/**
 	 * Convenience function to cause changes in a memoryBlock block. Changes
 	 * could result from running the program, changing a variable, etc.
@@ -192,6 +438,11 @@ public class SampleEngine {
 	 */
 	public BigInteger evaluateExpression(String expression, Object evalContext) {
 		BigInteger expAddress = expressionAddressTable.get(expression);
+		SampleEngineConfiguration configuration = fConfiguration;
+		if (expAddress == null && configuration != null) {
+			expAddress = evaluateAddress(expression, configuration);
+			expressionAddressTable.put(expression, expAddress);
+		}
 		if (expAddress == null) {
 			int address = random.nextInt();
 
@@ -206,6 +457,23 @@ public class SampleEngine {
 		return expAddress;
 	}
 
+	/**
+	 * Evaluates an expression in the scalable mode: a hexadecimal address
+	 * prefixed with <code>0x</code> evaluates to itself, any other expression
+	 * to a random line within the address space.
+	 */
+	private BigInteger evaluateAddress(String expression, SampleEngineConfiguration configuration) {
+		if (expression.startsWith("0x")) { //$NON-NLS-1$
+			try {
+				return new BigInteger(expression.substring(2), 16);
+			} catch (NumberFormatException e) {
+				// not an address
+			}
+		}
+		long address = (random.nextLong() >>> 1) % configuration.getAddressSpaceSize();
+		return BigInteger.valueOf(address - address % CHANGE_LINE_SIZE);
+	}
+
 	/**
 	 * Simulates checking if storage retrieval is supported
 	 *
@@ -223,6 +491,22 @@ public class SampleEngine {
 	 * @throws RuntimeException
 	 */
 	public void setValue(BigInteger address, byte[] bytes) throws RuntimeException {
+		SampleEngineConfiguration configuration = fConfiguration;
+		if (configuration != null) {
+			int addressableSize = getAddressableSize();
+			long start = address.longValue();
+			for (int i = 0; i < bytes.length; i += addressableSize) {
+				if (address.bitLength() >= 63 || !configuration.isReadable(start + i / addressableSize)) {
+					throw new IllegalArgumentException("address not writable: " + address.toString(16)); //$NON-NLS-1$
+				}
+			}
+			synchronized (this) {
+				for (int i = 0; i < bytes.length; i++) {
+					fWrittenBytes.put(Long.valueOf(start * addressableSize + i), new WrittenByte(bytes[i], fResumeCount));
+				}
+			}
+			return;
+		}
 		BigInteger convertedAddress = address;
 
 		for (int i = 0; i < bytes.length; i = i + getAddressableSize()) {
@@ -250,6 +534,10 @@ public class SampleEngine {
 	 * @return true if the debuggee is big endian, false otherwise
 	 */
 	public boolean isBigEndian(BigInteger address) {
+		SampleEngineConfiguration configuration = fConfiguration;
+		if (configuration != null) {
+			return configuration.isBigEndian();
+		}
 		// simulate mixed endianess in a memory block
 		// memory before the boundary address is little endian
 		// memory after the boundaress is big endian
@@ -365,6 +653,10 @@ public class SampleEngine {
 	 * @throws CoreException
 	 */
 	public int getAddressSize() throws CoreException {
+		SampleEngineConfiguration configuration = fConfiguration;
+		if (configuration != null) {
+			return configuration.getAddressSize();
+		}
 		return 4;
 	}
 }
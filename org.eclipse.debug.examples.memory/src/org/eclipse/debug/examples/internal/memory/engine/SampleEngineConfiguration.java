@@ -0,0 +1,272 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.debug.examples.internal.memory.engine;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.examples.internal.memory.MemoryViewSamplePlugin;
+
+/**
+ * Configuration of the scalable mode of the {@link SampleEngine}. In this
+ * mode the engine simulates a large, sparse address space whose content is
+ * generated on demand rather than stored, with a configurable latency per
+ * request, rate of change per resume and holes of unreadable memory. This
+ * makes the sample debug target usable as a load generator for benchmarking
+ * the memory view.
+ */
+public class SampleEngineConfiguration {
+
+	/**
+	 * Boolean launch configuration attribute enabling the scalable mode.
+	 */
+	public static final String ATTR_SCALABLE = MemoryViewSamplePlugin.PLUGIN_ID + ".SCALABLE"; //$NON-NLS-1$
+
+	/**
+	 * String launch configuration attribute holding the size of the address
+	 * space, in addressable units. Decimal, or hexadecimal with a
+	 * <code>0x</code> prefix.
+	 */
+	public static final String ATTR_ADDRESS_SPACE_SIZE = MemoryViewSamplePlugin.PLUGIN_ID + ".ADDRESS_SPACE_SIZE"; //$NON-NLS-1$
+
+	/**
+	 * String launch configuration attribute holding the seed of the generated
+	 * content.
+	 */
+	public static final String ATTR_SEED = MemoryViewSamplePlugin.PLUGIN_ID + ".SEED"; //$NON-NLS-1$
+
+	/**
+	 * Integer launch configuration attribute holding the latency of each
+	 * request, in milliseconds.
+	 */
+	public static final String ATTR_LATENCY = MemoryViewSamplePlugin.PLUGIN_ID + ".LATENCY"; //$NON-NLS-1$
+
+	/**
+	 * Integer launch configuration attribute holding the additional latency
+	 * per kilobyte requested, in milliseconds.
+	 */
+	public static final String ATTR_LATENCY_PER_KILOBYTE = MemoryViewSamplePlugin.PLUGIN_ID + ".LATENCY_PER_KILOBYTE"; //$NON-NLS-1$
+
+	/**
+	 * String launch configuration attribute holding the fraction of memory
+	 * changing on each resume, between 0 and 1.
+	 */
+	public static final String ATTR_CHANGE_RATE = MemoryViewSamplePlugin.PLUGIN_ID + ".CHANGE_RATE"; //$NON-NLS-1$
+
+	/**
+	 * String launch configuration attribute holding the distance between
+	 * holes of unreadable memory, in addressable units.
+	 */
+	public static final String ATTR_HOLE_INTERVAL = MemoryViewSamplePlugin.PLUGIN_ID + ".HOLE_INTERVAL"; //$NON-NLS-1$
+
+	/**
+	 * String launch configuration attribute holding the size of the holes of
+	 * unreadable memory, in addressable units.
+	 */
+	public static final String ATTR_HOLE_SIZE = MemoryViewSamplePlugin.PLUGIN_ID + ".HOLE_SIZE"; //$NON-NLS-1$
+
+	private long fAddressSpaceSize = 1L << 32;
+	private long fSeed;
+	private int fLatency;
+	private int fLatencyPerKilobyte;
+	private double fChangeRate = 0.05;
+	private long fHoleInterval;
+	private long fHoleSize;
+	private boolean fBigEndian;
+
+	/**
+	 * Returns the configuration stored in the given launch configuration, or
+	 * <code>null</code> if the scalable mode is not enabled.
+	 *
+	 * @param configuration launch configuration
+	 * @return engine configuration or <code>null</code>
+	 * @throws CoreException if the attributes cannot be read or are invalid
+	 */
+	public static SampleEngineConfiguration fromLaunchConfiguration(ILaunchConfiguration configuration) throws CoreException {
+		if (!configuration.getAttribute(ATTR_SCALABLE, false)) {
+			return null;
+		}
+		SampleEngineConfiguration engineConfiguration = new SampleEngineConfiguration();
+		try {
+			engineConfiguration.setAddressSpaceSize(Long.decode(configuration.getAttribute(ATTR_ADDRESS_SPACE_SIZE, Long.toString(engineConfiguration.getAddressSpaceSize()))));
+			engineConfiguration.setSeed(Long.decode(configuration.getAttribute(ATTR_SEED, "0"))); //$NON-NLS-1$
+			engineConfiguration.setLatency(configuration.getAttribute(ATTR_LATENCY, 0));
+			engineConfiguration.setLatencyPerKilobyte(configuration.getAttribute(ATTR_LATENCY_PER_KILOBYTE, 0));
+			engineConfiguration.setChangeRate(Double.parseDouble(configuration.getAttribute(ATTR_CHANGE_RATE, Double.toString(engineConfiguration.getChangeRate()))));
+			engineConfiguration.setHoles(Long.decode(configuration.getAttribute(ATTR_HOLE_INTERVAL, "0")), Long.decode(configuration.getAttribute(ATTR_HOLE_SIZE, "0"))); //$NON-NLS-1$ //$NON-NLS-2$
+		} catch (IllegalArgumentException e) {
+			throw new CoreException(new Status(IStatus.ERROR, MemoryViewSamplePlugin.PLUGIN_ID, 0, e.getMessage(), e));
+		}
+		return engineConfiguration;
+	}
+
+	/**
+	 * @return size of the address space, in addressable units
+	 */
+	public long getAddressSpaceSize() {
+		return fAddressSpaceSize;
+	}
+
+	/**
+	 * Sets the size of the address space. Memory beyond is unreadable.
+	 *
+	 * @param size size of the address space, in addressable units
+	 */
+	public void setAddressSpaceSize(long size) {
+		if (size <= 0) {
+			throw new IllegalArgumentException("address space size must be positive"); //$NON-NLS-1$
+		}
+		fAddressSpaceSize = size;
+	}
+
+	/**
+	 * @return size of an address, in bytes, large enough for the address
+	 *         space
+	 */
+	public int getAddressSize() {
+		return fAddressSpaceSize > 1L << 32 ? 8 : 4;
+	}
+
+	/**
+	 * @return seed of the generated content
+	 */
+	public long getSeed() {
+		return fSeed;
+	}
+
+	/**
+	 * Sets the seed of the generated content. Engines with the same seed
+	 * generate the same content.
+	 *
+	 * @param seed seed
+	 */
+	public void setSeed(long seed) {
+		fSeed = seed;
+	}
+
+	/**
+	 * @return latency of each request, in milliseconds
+	 */
+	public int getLatency() {
+		return fLatency;
+	}
+
+	/**
+	 * @param latency latency of each request, in milliseconds
+	 */
+	public void setLatency(int latency) {
+		if (latency < 0) {
+			throw new IllegalArgumentException("latency must not be negative"); //$NON-NLS-1$
+		}
+		fLatency = latency;
+	}
+
+	/**
+	 * @return additional latency per kilobyte requested, in milliseconds
+	 */
+	public int getLatencyPerKilobyte() {
+		return fLatencyPerKilobyte;
+	}
+
+	/**
+	 * @param latency additional latency per kilobyte requested, in
+	 *            milliseconds
+	 */
+	public void setLatencyPerKilobyte(int latency) {
+		if (latency < 0) {
+			throw new IllegalArgumentException("latency must not be negative"); //$NON-NLS-1$
+		}
+		fLatencyPerKilobyte = latency;
+	}
+
+	/**
+	 * @return fraction of memory changing on each resume
+	 */
+	public double getChangeRate() {
+		return fChangeRate;
+	}
+
+	/**
+	 * Sets the fraction of memory changing on each resume. Memory changes in
+	 * lines of {@link SampleEngine#CHANGE_LINE_SIZE} addressable units.
+	 *
+	 * @param rate fraction between 0 and 1
+	 */
+	public void setChangeRate(double rate) {
+		if (!(rate >= 0 && rate <= 1)) {
+			throw new IllegalArgumentException("change rate must be between 0 and 1"); //$NON-NLS-1$
+		}
+		fChangeRate = rate;
+	}
+
+	/**
+	 * @return distance between holes of unreadable memory, in addressable
+	 *         units, or 0 if there are no holes
+	 */
+	public long getHoleInterval() {
+		return fHoleInterval;
+	}
+
+	/**
+	 * @return size of the holes of unreadable memory, in addressable units
+	 */
+	public long getHoleSize() {
+		return fHoleSize;
+	}
+
+	/**
+	 * Sets the holes of unreadable memory. The memory at the start of every
+	 * interval is unreadable for the given size.
+	 *
+	 * @param interval distance between holes, in addressable units, or 0 for
+	 *            no holes
+	 * @param size size of the holes, in addressable units
+	 */
+	public void setHoles(long interval, long size) {
+		if (interval < 0 || size < 0 || (interval > 0 && size > interval)) {
+			throw new IllegalArgumentException("invalid holes"); //$NON-NLS-1$
+		}
+		fHoleInterval = interval;
+		fHoleSize = interval == 0 ? 0 : size;
+	}
+
+	/**
+	 * @return whether the memory is big endian
+	 */
+	public boolean isBigEndian() {
+		return fBigEndian;
+	}
+
+	/**
+	 * @param bigEndian whether the memory is big endian
+	 */
+	public void setBigEndian(boolean bigEndian) {
+		fBigEndian = bigEndian;
+	}
+
+	/**
+	 * Returns whether the given address is readable.
+	 *
+	 * @param address address, in addressable units
+	 * @return whether the address is in the address space and not in a hole
+	 */
+	boolean isReadable(long address) {
+		if (address < 0 || address >= fAddressSpaceSize) {
+			return false;
+		}
+		return fHoleInterval == 0 || address % fHoleInterval >= fHoleSize;
+	}
+}
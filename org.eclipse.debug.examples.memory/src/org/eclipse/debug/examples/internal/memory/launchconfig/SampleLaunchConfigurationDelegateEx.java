@@ -17,9 +17,9 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchConfiguration;
-import org.eclipse.debug.core.model.IDebugTarget;
 import org.eclipse.debug.core.model.LaunchConfigurationDelegate;
 import org.eclipse.debug.examples.internal.memory.core.SampleDebugTarget;
+import org.eclipse.debug.examples.internal.memory.engine.SampleEngineConfiguration;
 
 /**
  * Sample Launch configuraiton delegate For creating the debug target that
@@ -29,7 +29,8 @@ public class SampleLaunchConfigurationDelegateEx extends LaunchConfigurationDele
 
 	@Override
 	public void launch(ILaunchConfiguration configuration, String mode, ILaunch launch, IProgressMonitor monitor) throws CoreException {
-		IDebugTarget target = new SampleDebugTarget(launch);
+		SampleDebugTarget target = new SampleDebugTarget(launch);
+		target.getEngine().setConfiguration(SampleEngineConfiguration.fromLaunchConfiguration(configuration));
 		launch.addDebugTarget(target);
 
 	}
@@ -31,17 +31,31 @@ import org.eclipse.debug.tests.launching.LaunchGroupTests;
 import org.eclipse.debug.tests.launching.LaunchHistoryTests;
 import org.eclipse.debug.tests.launching.LaunchManagerTests;
 import org.eclipse.debug.tests.launching.LaunchTests;
+import org.eclipse.debug.tests.launching.ProblemMarkerIndexTests;
 import org.eclipse.debug.tests.launching.RefreshTabTests;
+import org.eclipse.debug.tests.launching.StreamMatcherTests;
+import org.eclipse.debug.tests.launching.StringVariableManagerTests;
+import org.eclipse.debug.tests.sourcelookup.ArchiveSourceContainerTests;
+import org.eclipse.debug.tests.sourcelookup.DirectorySourceContainerTests;
+import org.eclipse.debug.tests.sourcelookup.ParallelSourceLookupTests;
+import org.eclipse.debug.tests.sourcelookup.SourceLookupCacheTests;
 import org.eclipse.debug.tests.sourcelookup.SourceLookupFacilityTests;
 import org.eclipse.debug.tests.statushandlers.StatusHandlerTests;
 import org.eclipse.debug.tests.stepfilters.StepFiltersTests;
+import org.eclipse.debug.tests.view.memory.MemoryBlockTransferTests;
+import org.eclipse.debug.tests.view.memory.MemoryBufferTests;
+import org.eclipse.debug.tests.view.memory.MemoryLineFormatterTests;
+import org.eclipse.debug.tests.view.memory.MemoryPageCacheTests;
 import org.eclipse.debug.tests.view.memory.MemoryRenderingTests;
+import org.eclipse.debug.tests.view.memory.RenderingsUtilTests;
 import org.eclipse.debug.tests.viewer.model.ChildrenUpdateTests;
 import org.eclipse.debug.tests.viewer.model.FilterTransformTests;
+import org.eclipse.debug.tests.viewer.model.ModelDeltaMergerTests;
 import org.eclipse.debug.tests.viewer.model.PresentationContextTests;
 import org.eclipse.debug.tests.viewer.model.VirtualViewerContentTests;
 import org.eclipse.debug.tests.viewer.model.VirtualViewerDeltaTests;
 import org.eclipse.debug.tests.viewer.model.VirtualViewerFilterTests;
+import org.eclipse.debug.tests.viewer.model.VirtualViewerHeadlessTests;
 import org.eclipse.debug.tests.viewer.model.VirtualViewerLazyModeTests;
 import org.eclipse.debug.tests.viewer.model.VirtualViewerSelectionTests;
 import org.eclipse.debug.tests.viewer.model.VirtualViewerStateTests;
@@ -72,6 +86,10 @@ public class AutomatedSuite extends TestSuite {
 	public AutomatedSuite() {
 		// Source lookup tests
 		addTest(new TestSuite(SourceLookupFacilityTests.class));
+		addTest(new TestSuite(ArchiveSourceContainerTests.class));
+		addTest(new TestSuite(ParallelSourceLookupTests.class));
+		addTest(new TestSuite(SourceLookupCacheTests.class));
+		addTest(new TestSuite(DirectorySourceContainerTests.class));
 		// BP tests
 		addTest(new TestSuite(BreakpointOrderingTests.class));
 	    // Note: jface viewer tests were moved out of nightly tests
@@ -86,14 +104,21 @@ public class AutomatedSuite extends TestSuite {
 		addTest(new TestSuite(VirtualViewerStateTests.class));
 		addTest(new TestSuite(VirtualViewerUpdateTests.class));
         addTest(new TestSuite(VirtualViewerFilterTests.class));
+		addTest(new TestSuite(VirtualViewerHeadlessTests.class));
 
 		// Viewer neutral tests
 		addTest(new TestSuite(FilterTransformTests.class));
+		addTest(new TestSuite(ModelDeltaMergerTests.class));
 		addTest(new TestSuite(ChildrenUpdateTests.class));
 		addTest(new TestSuite(PresentationContextTests.class));
 
 		// Memory view
 		addTest(new TestSuite(MemoryRenderingTests.class));
+		addTest(new TestSuite(MemoryBufferTests.class));
+		addTest(new TestSuite(MemoryPageCacheTests.class));
+		addTest(new TestSuite(RenderingsUtilTests.class));
+		addTest(new TestSuite(MemoryLineFormatterTests.class));
+		addTest(new TestSuite(MemoryBlockTransferTests.class));
 
 		// Launch framework
 		addTest(new TestSuite(LaunchConfigurationTests.class));
@@ -104,6 +129,8 @@ public class AutomatedSuite extends TestSuite {
 		addTest(new TestSuite(RefreshTabTests.class));
 		addTest(new TestSuite(ArgumentParsingTests.class));
 		addTest(new TestSuite(LaunchTests.class));
+		addTest(new TestSuite(ProblemMarkerIndexTests.class));
+		addTest(new TestSuite(StringVariableManagerTests.class));
 
 		// Status handlers
 		addTest(new TestSuite(StatusHandlerTests.class));
@@ -122,5 +149,6 @@ public class AutomatedSuite extends TestSuite {
 
 		// Launch Groups
 		addTest(new TestSuite(LaunchGroupTests.class));
+		addTest(new TestSuite(StreamMatcherTests.class));
 	}
 }
@@ -16,7 +16,10 @@ package org.eclipse.debug.tests;
 import junit.framework.Test;
 import junit.framework.TestSuite;
 
+import org.eclipse.debug.tests.launching.StringSubstitutionPerformanceTests;
 import org.eclipse.debug.tests.viewer.model.JFaceViewerPerformanceTests;
+import org.eclipse.debug.tests.view.memory.MemoryRenderingPerformanceTests;
+import org.eclipse.debug.tests.view.memory.MemoryViewBenchmarkTests;
 import org.eclipse.debug.tests.viewer.model.VirtualViewerPerformanceTests;
 
 /**
@@ -44,6 +47,13 @@ public class PerformanceSuite extends TestSuite {
 
         // Virtual viewer tests
         addTest(new TestSuite(VirtualViewerPerformanceTests.class));
+
+        // Memory rendering tests
+        addTest(new TestSuite(MemoryRenderingPerformanceTests.class));
+        addTest(new TestSuite(MemoryViewBenchmarkTests.class));
+
+        // String substitution tests
+        addTest(new TestSuite(StringSubstitutionPerformanceTests.class));
     }
 
 }
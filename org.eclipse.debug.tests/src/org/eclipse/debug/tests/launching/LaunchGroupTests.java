@@ -19,6 +19,8 @@ import java.lang.reflect.Proxy;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -329,6 +331,70 @@ public class LaunchGroupTests extends AbstractLaunchTest {
 		assertTrue("group element should be updated", elements.get(0).name.equals("AnotherTest")); //$NON-NLS-1$//$NON-NLS-2$
 	}
 
+	public void testDependencies() throws Exception {
+		ILaunchConfiguration t1 = getLaunchConfiguration("Test1"); //$NON-NLS-1$
+		ILaunchConfiguration t2 = getLaunchConfiguration("Test2"); //$NON-NLS-1$
+		ILaunchConfiguration t3 = getLaunchConfiguration("Test3"); //$NON-NLS-1$
+		GroupLaunchElement e1 = createLaunchGroupElement(t1, GroupElementPostLaunchAction.DELAY, 2, false);
+		e1.dependencies = new ArrayList<>();
+		GroupLaunchElement e2 = createLaunchGroupElement(t2, GroupElementPostLaunchAction.NONE, null, false);
+		e2.dependencies = new ArrayList<>();
+		GroupLaunchElement e3 = createLaunchGroupElement(t3, GroupElementPostLaunchAction.NONE, null, false);
+		e3.dependencies = Arrays.asList(e1);
+		ILaunchConfiguration grp = createLaunchGroup(DEF_GRP_NAME, e1, e2, e3);
+
+		List<GroupLaunchElement> elements = GroupLaunchConfigurationDelegate.createLaunchElements(grp);
+		assertEquals(0, elements.get(0).dependencies.size());
+		assertEquals(0, elements.get(1).dependencies.size());
+		assertEquals(Arrays.asList(elements.get(0)), elements.get(2).dependencies);
+
+		final Map<String, Long> launched = new ConcurrentHashMap<>();
+		ILaunchListener listener = new ILaunchListener() {
+			@Override
+			public void launchRemoved(ILaunch launch) {
+			}
+
+			@Override
+			public void launchChanged(ILaunch launch) {
+			}
+
+			@Override
+			public void launchAdded(ILaunch launch) {
+				launched.put(launch.getLaunchConfiguration().getName(), System.currentTimeMillis());
+			}
+		};
+		getLaunchManager().addLaunchListener(listener);
+		long start = System.currentTimeMillis();
+		try {
+			grp.launch(ILaunchManager.RUN_MODE, new NullProgressMonitor());
+		} finally {
+			getLaunchManager().removeLaunchListener(listener);
+		}
+
+		assertTrue("Test2 should not wait for Test1", launched.get("Test2") - start < 2000); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue("Test3 should wait for Test1", launched.get("Test3") - start >= 2000); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	public void testDependencyCycle() throws Exception {
+		ILaunchConfiguration t1 = getLaunchConfiguration("Test1"); //$NON-NLS-1$
+		ILaunchConfiguration t2 = getLaunchConfiguration("Test2"); //$NON-NLS-1$
+		GroupLaunchElement e1 = createLaunchGroupElement(t1, GroupElementPostLaunchAction.NONE, null, false);
+		GroupLaunchElement e2 = createLaunchGroupElement(t2, GroupElementPostLaunchAction.NONE, null, false);
+		e1.dependencies = Arrays.asList(e2);
+		e2.dependencies = Arrays.asList(e1);
+		ILaunchConfiguration grp = createLaunchGroup(DEF_GRP_NAME, e1, e2);
+
+		lcToCount = t1;
+		getLaunchManager().addLaunchListener(lcListener);
+		try {
+			grp.launch(ILaunchManager.RUN_MODE, new NullProgressMonitor());
+			fail("cycle not detected"); //$NON-NLS-1$
+		} catch (CoreException e) {
+			// expected
+		}
+		assertEquals("Test1 should not be launched", 0, launchCount.get()); //$NON-NLS-1$
+	}
+
 	private static DummyStream attachDummyProcess(final ILaunch l) {
 		final DummyStream dummy = new DummyStream();
 		final InvocationHandler streamProxyHandler = new InvocationHandler() {
@@ -13,6 +13,12 @@
  *******************************************************************************/
 package org.eclipse.debug.tests.launching;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Platform;
@@ -376,4 +382,45 @@ public class LaunchManagerTests extends AbstractLaunchTest {
 			}
 		}
 	}
+
+	/**
+	 * Tests that the native environment is the environment of the running VM
+	 */
+	public void testNativeEnvironment() throws Exception {
+		Map<String, String> env = getLaunchManager().getNativeEnvironmentCasePreserved();
+		assertEquals(System.getenv(), env);
+		// callers get their own copy
+		env.put("DEBUG_TESTS_VARIABLE", "value"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertFalse(getLaunchManager().getNativeEnvironmentCasePreserved().containsKey("DEBUG_TESTS_VARIABLE")); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the variables of a configuration are added to or replace the
+	 * native environment
+	 */
+	public void testEnvironment() throws Exception {
+		ILaunchConfigurationWorkingCopy wc = getLaunchConfiguration("environment").getWorkingCopy(); //$NON-NLS-1$
+		assertNull(getLaunchManager().getEnvironment(wc));
+		Map<String, String> nativeEnv = System.getenv();
+		String nativeKey = nativeEnv.keySet().iterator().next();
+		Map<String, String> configEnv = new HashMap<>();
+		configEnv.put(nativeKey, "replaced"); //$NON-NLS-1$
+		configEnv.put("DEBUG_TESTS_VARIABLE", "added"); //$NON-NLS-1$ //$NON-NLS-2$
+		wc.setAttribute(ILaunchManager.ATTR_ENVIRONMENT_VARIABLES, configEnv);
+
+		List<String> env = Arrays.asList(getLaunchManager().getEnvironment(wc));
+		assertEquals(nativeEnv.size() + 1, env.size());
+		assertTrue(env.contains(nativeKey + "=replaced")); //$NON-NLS-1$
+		assertTrue(env.contains("DEBUG_TESTS_VARIABLE=added")); //$NON-NLS-1$
+		for (Entry<String, String> entry : nativeEnv.entrySet()) {
+			if (!entry.getKey().equals(nativeKey)) {
+				assertTrue(env.contains(entry.getKey() + '=' + entry.getValue()));
+			}
+		}
+
+		wc.setAttribute(ILaunchManager.ATTR_APPEND_ENVIRONMENT_VARIABLES, false);
+		env = Arrays.asList(getLaunchManager().getEnvironment(wc));
+		assertEquals(2, env.size());
+		assertTrue(env.contains(nativeKey + "=replaced")); //$NON-NLS-1$
+	}
 }
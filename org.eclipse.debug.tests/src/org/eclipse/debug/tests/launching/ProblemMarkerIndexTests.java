@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.launching;
+
+import java.io.ByteArrayInputStream;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.model.LaunchConfigurationDelegate;
+import org.eclipse.debug.internal.core.ProblemMarkerIndex;
+import org.eclipse.debug.tests.AbstractDebugTest;
+
+/**
+ * Tests the index of problem markers of error severity used to check
+ * projects for errors before launching.
+ */
+public class ProblemMarkerIndexTests extends AbstractDebugTest {
+
+	/**
+	 * Delegate with the default detection of launch problems.
+	 */
+	static class DefaultDelegate extends LaunchConfigurationDelegate {
+
+		@Override
+		public void launch(ILaunchConfiguration configuration, String mode, ILaunch launch, IProgressMonitor monitor) throws CoreException {
+		}
+
+		@Override
+		public boolean existsProblems(IProject proj) throws CoreException {
+			return super.existsProblems(proj);
+		}
+	}
+
+	/**
+	 * Delegate considering warnings as launch problems.
+	 */
+	static class WarningDelegate extends DefaultDelegate {
+
+		@Override
+		protected boolean isLaunchProblem(IMarker problemMarker) throws CoreException {
+			return problemMarker.getAttribute(IMarker.SEVERITY, -1) >= IMarker.SEVERITY_WARNING;
+		}
+	}
+
+	private IProject fProject;
+
+	private IFile fFile;
+
+	public ProblemMarkerIndexTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fProject = ResourcesPlugin.getWorkspace().getRoot().getProject("ProblemMarkerIndexTests"); //$NON-NLS-1$
+		fProject.create(null);
+		fProject.open(null);
+		fFile = fProject.getFile("A.txt"); //$NON-NLS-1$
+		fFile.create(new ByteArrayInputStream(new byte[0]), true, null);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		fProject.delete(true, null);
+		super.tearDown();
+	}
+
+	private IMarker createProblem(int severity) throws CoreException {
+		IMarker marker = fFile.createMarker(IMarker.PROBLEM);
+		marker.setAttribute(IMarker.SEVERITY, severity);
+		return marker;
+	}
+
+	public void testErrorCount() throws Exception {
+		ProblemMarkerIndex index = ProblemMarkerIndex.getDefault();
+		IMarker existing = createProblem(IMarker.SEVERITY_ERROR);
+		createProblem(IMarker.SEVERITY_WARNING);
+		// markers existing before the project is indexed are searched
+		assertEquals(1, index.getErrorCount(fProject));
+		IMarker error = createProblem(IMarker.SEVERITY_ERROR);
+		IMarker warning = createProblem(IMarker.SEVERITY_WARNING);
+		assertEquals(2, index.getErrorCount(fProject));
+		warning.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_ERROR);
+		assertEquals(3, index.getErrorCount(fProject));
+		error.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_INFO);
+		assertEquals(2, index.getErrorCount(fProject));
+		existing.delete();
+		warning.delete();
+		assertEquals(0, index.getErrorCount(fProject));
+		// markers other than problems are not counted
+		fFile.createMarker(IMarker.TASK).setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_ERROR);
+		assertEquals(0, index.getErrorCount(fProject));
+		fFile.delete(true, null);
+		assertEquals(0, index.getErrorCount(fProject));
+	}
+
+	public void testClosedProject() throws Exception {
+		ProblemMarkerIndex index = ProblemMarkerIndex.getDefault();
+		createProblem(IMarker.SEVERITY_ERROR);
+		assertEquals(1, index.getErrorCount(fProject));
+		fProject.close(null);
+		try {
+			index.getErrorCount(fProject);
+			fail("closed project searched"); //$NON-NLS-1$
+		} catch (CoreException e) {
+			// expected
+		}
+		fProject.open(null);
+		assertEquals(1, index.getErrorCount(fProject));
+	}
+
+	public void testExistsProblems() throws Exception {
+		DefaultDelegate delegate = new DefaultDelegate();
+		WarningDelegate warnings = new WarningDelegate();
+		assertFalse(delegate.existsProblems(fProject));
+		IMarker marker = createProblem(IMarker.SEVERITY_WARNING);
+		assertFalse(delegate.existsProblems(fProject));
+		// overriding isLaunchProblem is honored
+		assertTrue(warnings.existsProblems(fProject));
+		marker.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_ERROR);
+		assertTrue(delegate.existsProblems(fProject));
+		marker.delete();
+		assertFalse(delegate.existsProblems(fProject));
+	}
+}
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *      IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.launching;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.eclipse.debug.core.IStreamListener;
+import org.eclipse.debug.core.model.IStreamMonitor;
+import org.eclipse.debug.internal.core.groups.observer.StreamMatcher;
+import org.eclipse.debug.tests.AbstractDebugTest;
+
+/**
+ * Tests the line based matching of launch group output.
+ */
+public class StreamMatcherTests extends AbstractDebugTest {
+
+	static class TestStreamMonitor implements IStreamMonitor {
+
+		final List<IStreamListener> listeners = new ArrayList<>();
+		String contents;
+
+		@Override
+		public void addListener(IStreamListener listener) {
+			listeners.add(listener);
+		}
+
+		@Override
+		public String getContents() {
+			return contents;
+		}
+
+		@Override
+		public void removeListener(IStreamListener listener) {
+			listeners.remove(listener);
+		}
+
+		void append(String text) {
+			for (IStreamListener listener : new ArrayList<>(listeners)) {
+				listener.streamAppended(text, this);
+			}
+		}
+	}
+
+	public StreamMatcherTests(String name) {
+		super(name);
+	}
+
+	public void testBufferedContents() throws Exception {
+		TestStreamMonitor monitor = new TestStreamMonitor();
+		monitor.contents = "Server ready\n"; //$NON-NLS-1$
+		CountDownLatch latch = new CountDownLatch(1);
+		StreamMatcher matcher = new StreamMatcher(new Pattern[] { StreamMatcher.compile(".*ready.*") }, latch); //$NON-NLS-1$
+		matcher.connect(monitor);
+		assertTrue(matcher.isMatched());
+		assertEquals(0, latch.getCount());
+		matcher.disconnect();
+		assertTrue(monitor.listeners.isEmpty());
+	}
+
+	public void testChunkBoundaries() throws Exception {
+		TestStreamMonitor monitor = new TestStreamMonitor();
+		StreamMatcher matcher = new StreamMatcher(new Pattern[] { StreamMatcher.compile("^Server started$") }, new CountDownLatch(1)); //$NON-NLS-1$
+		matcher.connect(monitor);
+		monitor.append("Starting\nServer sta"); //$NON-NLS-1$
+		monitor.append("rted"); //$NON-NLS-1$
+		// the line may still continue
+		assertFalse(matcher.isMatched());
+		monitor.append(" slowly\r\nServer started"); //$NON-NLS-1$
+		assertFalse(matcher.isMatched());
+		monitor.append("\r\n"); //$NON-NLS-1$
+		assertTrue(matcher.isMatched());
+		matcher.disconnect();
+	}
+
+	public void testMultiplePatterns() throws Exception {
+		TestStreamMonitor out = new TestStreamMonitor();
+		TestStreamMonitor err = new TestStreamMonitor();
+		CountDownLatch latch = new CountDownLatch(2);
+		StreamMatcher matcher = new StreamMatcher(new Pattern[] {
+				StreamMatcher.compile("listening on \\d+"), //$NON-NLS-1$
+				StreamMatcher.compile("database connected") }, latch); //$NON-NLS-1$
+		matcher.connect(out);
+		matcher.connect(err);
+		out.append("listening "); //$NON-NLS-1$
+		err.append("database "); //$NON-NLS-1$
+		out.append("on 8080\n"); //$NON-NLS-1$
+		assertTrue(matcher.isMatched(0));
+		assertFalse(matcher.isMatched(1));
+		assertEquals(1, latch.getCount());
+		err.append("connected\n"); //$NON-NLS-1$
+		assertTrue(matcher.isMatched(1));
+		assertEquals(0, latch.getCount());
+		matcher.disconnect();
+	}
+
+	public void testCompile() throws Exception {
+		assertEquals("ready", StreamMatcher.compile(".*ready.*").pattern()); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("ready\\.*", StreamMatcher.compile("ready\\.*").pattern()); //$NON-NLS-1$ //$NON-NLS-2$
+		// a leading .* followed by a quantifier is kept
+		String[] quantified = new String[] { ".*?ready", ".*+ready", ".*{2}ready" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		for (String regexp : quantified) {
+			assertEquals(regexp, StreamMatcher.compile(regexp).pattern());
+		}
+		assertTrue(StreamMatcher.compile(".*?ready").matcher("Server ready").find()); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue(StreamMatcher.compile(".*{2}ready").matcher("Server ready").find()); //$NON-NLS-1$ //$NON-NLS-2$
+		// the possessive .*+ consumes the whole line
+		assertFalse(StreamMatcher.compile(".*+ready").matcher("Server ready").find()); //$NON-NLS-1$ //$NON-NLS-2$
+		try {
+			StreamMatcher.compile(".**ready"); //$NON-NLS-1$
+			fail("invalid expression compiled"); //$NON-NLS-1$
+		} catch (PatternSyntaxException e) {
+			// expected
+		}
+	}
+
+	public void testLongLine() throws Exception {
+		TestStreamMonitor monitor = new TestStreamMonitor();
+		StreamMatcher matcher = new StreamMatcher(new Pattern[] { StreamMatcher.compile("NEEDLE") }, new CountDownLatch(1)); //$NON-NLS-1$
+		matcher.connect(monitor);
+		StringBuilder chunk = new StringBuilder();
+		while (chunk.length() < 8192) {
+			chunk.append('x');
+		}
+		for (int i = 0; i < 20; i++) {
+			monitor.append(chunk.toString());
+		}
+		monitor.append("NEE"); //$NON-NLS-1$
+		monitor.append("DLE"); //$NON-NLS-1$
+		assertTrue(matcher.isMatched());
+		matcher.disconnect();
+	}
+}
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.launching;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.core.variables.IStringVariableManager;
+import org.eclipse.core.variables.IValueVariable;
+import org.eclipse.core.variables.VariablesPlugin;
+import org.eclipse.debug.tests.AbstractDebugTest;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+
+/**
+ * Measures the throughput of string substitution when many threads resolve
+ * variable heavy command lines concurrently, as parallel launches and
+ * builders do, while value variables are being changed.
+ */
+public class StringSubstitutionPerformanceTests extends AbstractDebugTest {
+
+	/**
+	 * Number of threads resolving command lines.
+	 */
+	private static final int NUM_THREADS = 16;
+
+	/**
+	 * Number of command lines resolved by each thread per pass.
+	 */
+	private static final int NUM_SUBSTITUTIONS = 5000;
+
+	/**
+	 * Number of value variables referenced by the command line.
+	 */
+	private static final int NUM_VARIABLES = 20;
+
+	private IValueVariable[] fVariables;
+
+	private String fCommandLine;
+
+	public StringSubstitutionPerformanceTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		IStringVariableManager manager = getManager();
+		fVariables = new IValueVariable[NUM_VARIABLES];
+		StringBuilder commandLine = new StringBuilder("${env_var:PATH} -Dversion=${system_property:java.version}"); //$NON-NLS-1$
+		for (int i = 0; i < NUM_VARIABLES; i++) {
+			String name = getName() + '_' + i;
+			// variables reference each other, such that several passes are needed
+			String value = i == 0 ? "value" : "${" + getName() + '_' + (i - 1) + "}/" + i; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			fVariables[i] = manager.newValueVariable(name, null, false, value);
+			commandLine.append(" -D").append(name).append("=${").append(name).append('}'); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		manager.addVariables(fVariables);
+		fCommandLine = commandLine.toString();
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		getManager().removeVariables(fVariables);
+		super.tearDown();
+	}
+
+	private static IStringVariableManager getManager() {
+		return VariablesPlugin.getDefault().getStringVariableManager();
+	}
+
+	/**
+	 * Resolves the command line from 16 threads at once while a value
+	 * variable is changed every millisecond.
+	 */
+	public void testConcurrentSubstitution() throws Exception {
+		final IStringVariableManager manager = getManager();
+		final String expected = manager.performStringSubstitution(fCommandLine);
+		final IValueVariable changing = manager.newValueVariable(getName() + "_changing", null, false, "0"); //$NON-NLS-1$ //$NON-NLS-2$
+		manager.addVariables(new IValueVariable[] { changing });
+		Performance perf = Performance.getDefault();
+		PerformanceMeter meter = perf.createPerformanceMeter(perf.getDefaultScenarioId(this));
+		try {
+			for (int pass = 0; pass < 5; pass++) {
+				final CountDownLatch start = new CountDownLatch(1);
+				final CountDownLatch done = new CountDownLatch(NUM_THREADS);
+				final AtomicReference<Throwable> failure = new AtomicReference<>();
+				List<Thread> threads = new ArrayList<>(NUM_THREADS);
+				for (int i = 0; i < NUM_THREADS; i++) {
+					Thread thread = new Thread(() -> {
+						try {
+							start.await();
+							for (int j = 0; j < NUM_SUBSTITUTIONS; j++) {
+								String result = manager.performStringSubstitution(fCommandLine);
+								if (!expected.equals(result)) {
+									throw new AssertionError(result);
+								}
+							}
+						} catch (Throwable e) {
+							failure.compareAndSet(null, e);
+						} finally {
+							done.countDown();
+						}
+					}, getName() + i);
+					threads.add(thread);
+					thread.start();
+				}
+				meter.start();
+				start.countDown();
+				int changes = 0;
+				while (!done.await(1, TimeUnit.MILLISECONDS)) {
+					changing.setValue(Integer.toString(++changes));
+				}
+				meter.stop();
+				for (Thread thread : threads) {
+					thread.join();
+				}
+				if (failure.get() != null) {
+					throw new AssertionError(failure.get());
+				}
+			}
+			meter.commit();
+			perf.assertPerformance(meter);
+		} finally {
+			meter.dispose();
+			manager.removeVariables(new IValueVariable[] { changing });
+		}
+	}
+}
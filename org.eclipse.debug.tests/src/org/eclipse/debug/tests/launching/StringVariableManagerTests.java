@@ -0,0 +1,267 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.launching;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.internal.variables.StringVariableManager;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences.IPreferenceChangeListener;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.core.variables.IStringVariableManager;
+import org.eclipse.core.variables.IValueVariable;
+import org.eclipse.core.variables.VariablesPlugin;
+import org.eclipse.debug.tests.AbstractDebugTest;
+
+/**
+ * Tests the persistence of value variables by the string variable manager
+ * and the substitutions it caches.
+ */
+public class StringVariableManagerTests extends AbstractDebugTest {
+
+	/**
+	 * Preference holding the persisted value variables.
+	 */
+	private static final String PREF_VALUE_VARIABLES = VariablesPlugin.getUniqueIdentifier() + ".valueVariables"; //$NON-NLS-1$
+
+	private IValueVariable fVariable;
+
+	/**
+	 * Names of the variables added by {@link #addVariable(String, String)}
+	 */
+	private final List<String> fAdded = new ArrayList<>();
+
+	public StringVariableManagerTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fVariable = getManager().newValueVariable(getName(), null, false, "initial"); //$NON-NLS-1$
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		fAdded.add(getName());
+		for (String name : fAdded) {
+			IValueVariable variable = getManager().getValueVariable(name);
+			if (variable != null) {
+				getManager().removeVariables(new IValueVariable[] { variable });
+			}
+		}
+		StringVariableManager.shutdown();
+		super.tearDown();
+	}
+
+	private static IStringVariableManager getManager() {
+		return VariablesPlugin.getDefault().getStringVariableManager();
+	}
+
+	private static IEclipsePreferences getPreferences() {
+		return InstanceScope.INSTANCE.getNode(VariablesPlugin.PI_CORE_VARIABLES);
+	}
+
+	private static String getPersisted() {
+		return getPreferences().get(PREF_VALUE_VARIABLES, ""); //$NON-NLS-1$
+	}
+
+	/**
+	 * Adds a value variable named after the test with the given suffix.
+	 *
+	 * @return the name of the variable
+	 */
+	private String addVariable(String suffix, String value) throws CoreException {
+		String name = getName() + suffix;
+		getManager().addVariables(new IValueVariable[] { getManager().newValueVariable(name, null, false, value) });
+		fAdded.add(name);
+		return name;
+	}
+
+	/**
+	 * Asserts that the substitution of the given expression fails with the
+	 * given status code.
+	 */
+	private static void assertSubstitutionFails(String expression, boolean reportUndefinedVariables, int code) {
+		try {
+			getManager().performStringSubstitution(expression, reportUndefinedVariables);
+			fail("substituted " + expression); //$NON-NLS-1$
+		} catch (CoreException e) {
+			assertEquals(code, e.getStatus().getCode());
+		}
+	}
+
+	/**
+	 * Changes made in a row are persisted once, after a delay.
+	 */
+	public void testDebouncedStore() throws Exception {
+		final AtomicInteger stores = new AtomicInteger();
+		IPreferenceChangeListener listener = event -> {
+			if (PREF_VALUE_VARIABLES.equals(event.getKey())) {
+				stores.incrementAndGet();
+			}
+		};
+		getPreferences().addPreferenceChangeListener(listener);
+		try {
+			getManager().addVariables(new IValueVariable[] { fVariable });
+			for (int i = 0; i < 10; i++) {
+				fVariable.setValue("value" + i); //$NON-NLS-1$
+			}
+			assertFalse("stored without delay", getPersisted().contains(getName())); //$NON-NLS-1$
+			waitWhile(t -> !getPersisted().contains("value9"), t -> "value variables not stored: " + getPersisted()); //$NON-NLS-1$ //$NON-NLS-2$
+			assertEquals(1, stores.get());
+		} finally {
+			getPreferences().removePreferenceChangeListener(listener);
+		}
+	}
+
+	/**
+	 * Pending changes are persisted on shutdown.
+	 */
+	public void testStoreOnShutdown() throws Exception {
+		getManager().addVariables(new IValueVariable[] { fVariable });
+		fVariable.setValue("shutdown"); //$NON-NLS-1$
+		StringVariableManager.shutdown();
+		assertTrue(getPersisted().contains("shutdown")); //$NON-NLS-1$
+	}
+
+	/**
+	 * Value variables are reloaded when the preference is changed by others,
+	 * including back to a value persisted by the manager.
+	 */
+	public void testExternalChange() throws Exception {
+		IEclipsePreferences preferences = getPreferences();
+		getManager().addVariables(new IValueVariable[] { fVariable });
+		StringVariableManager.shutdown();
+		String withVariable = getPersisted();
+		getManager().removeVariables(new IValueVariable[] { fVariable });
+		StringVariableManager.shutdown();
+		String withoutVariable = getPersisted();
+		assertFalse(withVariable.equals(withoutVariable));
+
+		preferences.put(PREF_VALUE_VARIABLES, withVariable);
+		IValueVariable reloaded = getManager().getValueVariable(getName());
+		assertNotNull(reloaded);
+		assertEquals("initial", reloaded.getValue()); //$NON-NLS-1$
+		preferences.put(PREF_VALUE_VARIABLES, withoutVariable);
+		assertNull(getManager().getValueVariable(getName()));
+
+		// back to the value last persisted by the manager
+		getManager().addVariables(new IValueVariable[] { fVariable });
+		StringVariableManager.shutdown();
+		assertEquals(withVariable, getPersisted());
+		preferences.put(PREF_VALUE_VARIABLES, withoutVariable);
+		assertNull(getManager().getValueVariable(getName()));
+		preferences.put(PREF_VALUE_VARIABLES, withVariable);
+		assertNotNull(getManager().getValueVariable(getName()));
+	}
+
+	public void testNestedReferences() throws Exception {
+		String selector = addVariable("_selector", "1"); //$NON-NLS-1$ //$NON-NLS-2$
+		addVariable("_1", "one"); //$NON-NLS-1$ //$NON-NLS-2$
+		String outer = addVariable("_outer", "${" + selector + "}/${" + getName() + "_${" + selector + "}}"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+		String expression = "<${" + getName() + "_${" + selector + "}}>"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		for (int i = 0; i < 2; i++) {
+			assertEquals("<one>", getManager().performStringSubstitution(expression)); //$NON-NLS-1$
+			assertEquals("1/one", getManager().performStringSubstitution("${" + outer + "}")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+	}
+
+	public void testIncompleteReferences() throws Exception {
+		String name = addVariable("_value", "value"); //$NON-NLS-1$ //$NON-NLS-2$
+		String[] expressions = new String[] { "${", "a ${" + name, "${" + name + "}${", "${${" + name + "}" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$
+		String[] results = new String[] { "${", "a ${" + name, "value${", "${value" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		for (int i = 0; i < expressions.length; i++) {
+			assertEquals(results[i], getManager().performStringSubstitution(expressions[i], true));
+			assertEquals(results[i], getManager().performStringSubstitution(expressions[i], false));
+		}
+	}
+
+	public void testCycle() throws Exception {
+		String first = getName() + "_first"; //$NON-NLS-1$
+		String second = addVariable("_second", "${" + first + "}"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		addVariable("_first", "${" + second + "}"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		for (int i = 0; i < 2; i++) {
+			assertSubstitutionFails("${" + first + "}", true, VariablesPlugin.REFERENCE_CYCLE_ERROR); //$NON-NLS-1$ //$NON-NLS-2$
+			assertSubstitutionFails("${" + first + "}", false, VariablesPlugin.REFERENCE_CYCLE_ERROR); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	public void testUndefinedVariables() throws Exception {
+		String name = addVariable("_defined", "defined"); //$NON-NLS-1$ //$NON-NLS-2$
+		String undefined = getName() + "_undefined"; //$NON-NLS-1$
+		String expression = "${" + name + "} ${" + undefined + "}"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		for (int i = 0; i < 2; i++) {
+			assertEquals("defined ${" + undefined + "}", getManager().performStringSubstitution(expression, false)); //$NON-NLS-1$ //$NON-NLS-2$
+			assertSubstitutionFails(expression, true, VariablesPlugin.INTERNAL_ERROR);
+		}
+		addVariable("_undefined", "now defined"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("defined now defined", getManager().performStringSubstitution(expression, false)); //$NON-NLS-1$
+		assertEquals("defined now defined", getManager().performStringSubstitution(expression, true)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Cached substitutions are discarded when value variables are changed,
+	 * removed or added.
+	 */
+	public void testCachedSubstitution() throws Exception {
+		String expression = "${" + getName() + "}"; //$NON-NLS-1$ //$NON-NLS-2$
+		getManager().addVariables(new IValueVariable[] { fVariable });
+		assertEquals("initial", getManager().performStringSubstitution(expression)); //$NON-NLS-1$
+		assertEquals("initial", getManager().performStringSubstitution(expression)); //$NON-NLS-1$
+		fVariable.setValue("changed"); //$NON-NLS-1$
+		assertEquals("changed", getManager().performStringSubstitution(expression)); //$NON-NLS-1$
+		getManager().removeVariables(new IValueVariable[] { fVariable });
+		assertEquals(expression, getManager().performStringSubstitution(expression, false));
+		assertSubstitutionFails(expression, true, VariablesPlugin.INTERNAL_ERROR);
+		addVariable("", "added"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("added", getManager().performStringSubstitution(expression)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Cached substitutions are discarded when the value variables are
+	 * reloaded from the preferences.
+	 */
+	public void testCachedSubstitutionReloaded() throws Exception {
+		String expression = "${" + getName() + "}"; //$NON-NLS-1$ //$NON-NLS-2$
+		getManager().addVariables(new IValueVariable[] { fVariable });
+		StringVariableManager.shutdown();
+		String initial = getPersisted();
+		fVariable.setValue("changed"); //$NON-NLS-1$
+		StringVariableManager.shutdown();
+		assertEquals("changed", getManager().performStringSubstitution(expression)); //$NON-NLS-1$
+		getPreferences().put(PREF_VALUE_VARIABLES, initial);
+		assertEquals("initial", getManager().performStringSubstitution(expression)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Substitutions resolving dynamic variables are never cached.
+	 */
+	public void testDynamicVariablesNotCached() throws Exception {
+		String property = getClass().getName() + '.' + getName();
+		String name = addVariable("_value", "value"); //$NON-NLS-1$ //$NON-NLS-2$
+		String expression = "${" + name + "}:${system_property:" + property + "}"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		try {
+			for (int i = 0; i < 3; i++) {
+				System.setProperty(property, Integer.toString(i));
+				assertEquals("value:" + i, getManager().performStringSubstitution(expression)); //$NON-NLS-1$
+			}
+		} finally {
+			System.clearProperty(property);
+		}
+	}
+}
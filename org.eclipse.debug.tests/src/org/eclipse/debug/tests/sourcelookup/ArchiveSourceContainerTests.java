@@ -0,0 +1,213 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.sourcelookup;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.sourcelookup.ISourceContainer;
+import org.eclipse.debug.core.sourcelookup.containers.ExternalArchiveSourceContainer;
+import org.eclipse.debug.core.sourcelookup.containers.ZipEntryStorage;
+import org.eclipse.debug.internal.core.IInternalDebugCoreConstants;
+import org.eclipse.debug.internal.core.sourcelookup.ArchiveIndex;
+import org.eclipse.debug.internal.core.sourcelookup.SourceLookupUtils;
+import org.eclipse.debug.internal.core.sourcelookup.SourceLookupUtils.ArchiveReference;
+import org.eclipse.debug.tests.AbstractDebugTest;
+
+/**
+ * Tests source lookup in archives through {@link ArchiveIndex}, and the
+ * cache of open archives.
+ */
+public class ArchiveSourceContainerTests extends AbstractDebugTest {
+
+	private File fArchive;
+
+	public ArchiveSourceContainerTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fArchive = File.createTempFile("sources", ".zip"); //$NON-NLS-1$ //$NON-NLS-2$
+		try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(fArchive))) {
+			String[] names = new String[] {
+					"src/a/b/C.java", //$NON-NLS-1$
+					"other/C.java", //$NON-NLS-1$
+					"x/Foo.txt", //$NON-NLS-1$
+					"xFoo.txt", //$NON-NLS-1$
+					"../evil/Bar.java" }; //$NON-NLS-1$
+			for (String name : names) {
+				out.putNextEntry(new ZipEntry(name));
+				out.write(name.getBytes());
+				out.closeEntry();
+			}
+		}
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		SourceLookupUtils.closeArchives();
+		fArchive.delete();
+		super.tearDown();
+	}
+
+	private String findSingle(ExternalArchiveSourceContainer container, String name) throws CoreException {
+		Object[] elements = container.findSourceElements(name);
+		if (elements.length == 0) {
+			return null;
+		}
+		assertEquals(1, elements.length);
+		return ((ZipEntryStorage) elements[0]).getZipEntry().getName();
+	}
+
+	public void testExactAndSuffixMatch() throws Exception {
+		ExternalArchiveSourceContainer container = new ExternalArchiveSourceContainer(fArchive.getAbsolutePath(), false);
+		assertEquals("x/Foo.txt", findSingle(container, "x/Foo.txt")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("src/a/b/C.java", findSingle(container, "C.java")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("src/a/b/C.java", findSingle(container, "b\\C.java")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("xFoo.txt", findSingle(container, "xFoo.txt")); //$NON-NLS-1$ //$NON-NLS-2$
+		// unqualified names only match whole file names
+		assertNull(findSingle(container, "oo.txt")); //$NON-NLS-1$
+		assertNull(findSingle(container, "Missing.java")); //$NON-NLS-1$
+		container.dispose();
+	}
+
+	public void testDetectRoots() throws Exception {
+		ExternalArchiveSourceContainer container = new ExternalArchiveSourceContainer(fArchive.getAbsolutePath(), true);
+		assertEquals("src/a/b/C.java", findSingle(container, "a/b/C.java")); //$NON-NLS-1$ //$NON-NLS-2$
+		// roots cannot be nested in the detected root src/
+		assertNull(findSingle(container, "b/C.java")); //$NON-NLS-1$
+		assertEquals("other/C.java", findSingle(container, "other/C.java")); //$NON-NLS-1$ //$NON-NLS-2$
+		container.dispose();
+	}
+
+	public void testLazyIndex() throws Exception {
+		SourceLookupUtils.closeArchives();
+		ExternalArchiveSourceContainer container = new ExternalArchiveSourceContainer(fArchive.getAbsolutePath(), false);
+		TestSourceDirector director = new TestSourceDirector();
+		director.setSourceContainers(new ISourceContainer[] { container });
+		// the archive is not opened until searched
+		assertEquals(0, SourceLookupUtils.getOpenArchiveCount());
+		assertEquals("x/Foo.txt", findSingle(container, "x/Foo.txt")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(1, SourceLookupUtils.getOpenArchiveCount());
+		director.dispose();
+	}
+
+	public void testInvalidPath() throws Exception {
+		ExternalArchiveSourceContainer container = new ExternalArchiveSourceContainer(fArchive.getAbsolutePath(), false);
+		try {
+			container.findSourceElements("Bar.java"); //$NON-NLS-1$
+			fail("entry outside of the archive not detected"); //$NON-NLS-1$
+		} catch (CoreException e) {
+			// expected
+		}
+		container.dispose();
+	}
+
+	private static ArchiveIndex getIndex(String name) throws Exception {
+		try (ArchiveReference reference = SourceLookupUtils.acquireArchive(name)) {
+			return reference.getIndex();
+		}
+	}
+
+	public void testSharedIndex() throws Exception {
+		String name = fArchive.getAbsolutePath();
+		ArchiveIndex index = getIndex(name);
+		assertSame(index, getIndex(name));
+		assertEquals(2, index.getEntriesByFileName("C.java").size()); //$NON-NLS-1$
+		// the index is kept when the archive is closed
+		SourceLookupUtils.closeArchives();
+		assertSame(index, getIndex(name));
+		// and replaced when the archive changes
+		SourceLookupUtils.closeArchives();
+		try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(fArchive))) {
+			out.putNextEntry(new ZipEntry("y/C.java")); //$NON-NLS-1$
+			out.closeEntry();
+		}
+		ArchiveIndex changed = getIndex(name);
+		assertNotSame(index, changed);
+		assertEquals(1, changed.getEntriesByFileName("C.java").size()); //$NON-NLS-1$
+	}
+
+	public void testStorageEquality() throws Exception {
+		ExternalArchiveSourceContainer container = new ExternalArchiveSourceContainer(fArchive.getAbsolutePath(), false);
+		ZipEntryStorage storage = (ZipEntryStorage) container.findSourceElements("x/Foo.txt")[0]; //$NON-NLS-1$
+		SourceLookupUtils.closeArchives();
+		// the same entry found in the reopened archive
+		ZipEntryStorage reopened = (ZipEntryStorage) container.findSourceElements("x/Foo.txt")[0]; //$NON-NLS-1$
+		assertNotSame(storage.getArchive(), reopened.getArchive());
+		assertEquals(storage, reopened);
+		assertEquals(storage.hashCode(), reopened.hashCode());
+		assertFalse(storage.equals(container.findSourceElements("xFoo.txt")[0])); //$NON-NLS-1$
+		container.dispose();
+	}
+
+	public void testReadClosedArchive() throws Exception {
+		ExternalArchiveSourceContainer container = new ExternalArchiveSourceContainer(fArchive.getAbsolutePath(), false);
+		ZipEntryStorage storage = (ZipEntryStorage) container.findSourceElements("x/Foo.txt")[0]; //$NON-NLS-1$
+		SourceLookupUtils.closeArchives();
+		// the archive is reopened
+		try (InputStream stream = storage.getContents()) {
+			byte[] bytes = new byte[32];
+			int length = stream.read(bytes);
+			assertEquals("x/Foo.txt", new String(bytes, 0, length)); //$NON-NLS-1$
+		}
+		container.dispose();
+	}
+
+	public void testMaxOpenArchives() throws Exception {
+		IEclipsePreferences preferences = InstanceScope.INSTANCE.getNode(DebugPlugin.getUniqueIdentifier());
+		preferences.putInt(IInternalDebugCoreConstants.PREF_MAX_OPEN_ARCHIVES, 2);
+		File[] copies = new File[3];
+		SourceLookupUtils.closeArchives();
+		try {
+			for (int i = 0; i < copies.length; i++) {
+				copies[i] = File.createTempFile("sources", ".zip"); //$NON-NLS-1$ //$NON-NLS-2$
+				Files.copy(fArchive.toPath(), copies[i].toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+			long hits = SourceLookupUtils.getArchiveHitCount();
+			long misses = SourceLookupUtils.getArchiveMissCount();
+			try (ArchiveReference reference = SourceLookupUtils.acquireArchive(copies[0].getAbsolutePath())) {
+				for (int i = 1; i < copies.length; i++) {
+					SourceLookupUtils.getZipFile(copies[i].getAbsolutePath());
+				}
+				// the archive in use is not closed
+				assertEquals(2, SourceLookupUtils.getOpenArchiveCount());
+				assertNotNull(reference.getIndex().getEntry("x/Foo.txt")); //$NON-NLS-1$
+			}
+			SourceLookupUtils.getZipFile(copies[2].getAbsolutePath());
+			assertEquals(3, SourceLookupUtils.getArchiveMissCount() - misses);
+			assertEquals(1, SourceLookupUtils.getArchiveHitCount() - hits);
+		} finally {
+			preferences.remove(IInternalDebugCoreConstants.PREF_MAX_OPEN_ARCHIVES);
+			SourceLookupUtils.closeArchives();
+			for (File copy : copies) {
+				if (copy != null) {
+					copy.delete();
+				}
+			}
+		}
+		assertEquals(0, SourceLookupUtils.getOpenArchiveCount());
+	}
+}
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.sourcelookup;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.sourcelookup.containers.DirectorySourceContainer;
+import org.eclipse.debug.core.sourcelookup.containers.LocalFileStorage;
+import org.eclipse.debug.tests.AbstractDebugTest;
+
+/**
+ * Tests source lookup in directories and their sub-folders through the
+ * directory index.
+ */
+public class DirectorySourceContainerTests extends AbstractDebugTest {
+
+	private File fRoot;
+
+	private TestSourceDirector fDirector;
+
+	public DirectorySourceContainerTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fRoot = Files.createTempDirectory("sources").toFile(); //$NON-NLS-1$
+		createFile("src/a/b/C.java"); //$NON-NLS-1$
+		createFile("src/a/D.java"); //$NON-NLS-1$
+		createFile("C.java"); //$NON-NLS-1$
+		createFile("lib/a/b/C.java"); //$NON-NLS-1$
+		fDirector = new TestSourceDirector();
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		fDirector.dispose();
+		delete(fRoot);
+		super.tearDown();
+	}
+
+	private File createFile(String path) throws Exception {
+		File file = new File(fRoot, path);
+		file.getParentFile().mkdirs();
+		assertTrue(file.createNewFile());
+		return file;
+	}
+
+	private static void delete(File file) {
+		File[] children = file.listFiles();
+		if (children != null) {
+			for (File child : children) {
+				delete(child);
+			}
+		}
+		file.delete();
+	}
+
+	private String[] find(DirectorySourceContainer container, String name) throws CoreException {
+		Object[] elements = container.findSourceElements(name);
+		String[] paths = new String[elements.length];
+		for (int i = 0; i < elements.length; i++) {
+			File file = ((LocalFileStorage) elements[i]).getFile();
+			paths[i] = fRoot.toPath().relativize(file.toPath()).toString().replace(File.separatorChar, '/');
+		}
+		return paths;
+	}
+
+	public void testFind() throws Exception {
+		DirectorySourceContainer container = new DirectorySourceContainer(fRoot, true);
+		container.init(fDirector);
+		// the root is searched first
+		assertEquals(1, find(container, "C.java").length); //$NON-NLS-1$
+		assertEquals("C.java", find(container, "C.java")[0]); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("src/a/D.java", find(container, "D.java")[0]); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("src/a/D.java", find(container, "a\\D.java")[0]); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(0, find(container, "Missing.java").length); //$NON-NLS-1$
+		// names that are not plain relative paths are probed
+		assertEquals("src/a/D.java", find(container, "src/./a/D.java")[0]); //$NON-NLS-1$ //$NON-NLS-2$
+		fDirector.setFindDuplicates(true);
+		assertEquals(3, find(container, "C.java").length); //$NON-NLS-1$
+		assertEquals(2, find(container, "a/b/C.java").length); //$NON-NLS-1$
+		container.dispose();
+	}
+
+	public void testNoSubfolders() throws Exception {
+		DirectorySourceContainer container = new DirectorySourceContainer(fRoot, false);
+		container.init(fDirector);
+		assertEquals(0, find(container, "D.java").length); //$NON-NLS-1$
+		assertEquals("src/a/D.java", find(container, "src/a/D.java")[0]); //$NON-NLS-1$ //$NON-NLS-2$
+		container.dispose();
+	}
+
+	public void testRefresh() throws Exception {
+		DirectorySourceContainer container = new DirectorySourceContainer(fRoot, true);
+		container.init(fDirector);
+		assertEquals(0, find(container, "E.java").length); //$NON-NLS-1$
+		File file = createFile("lib/a/E.java"); //$NON-NLS-1$
+		long end = System.currentTimeMillis() + 30000;
+		while (find(container, "E.java").length == 0) { //$NON-NLS-1$
+			assertTrue("index not refreshed", System.currentTimeMillis() < end); //$NON-NLS-1$
+			Thread.sleep(20);
+		}
+		assertTrue(file.delete());
+		while (find(container, "E.java").length > 0) { //$NON-NLS-1$
+			assertTrue("index not refreshed", System.currentTimeMillis() < end); //$NON-NLS-1$
+			Thread.sleep(20);
+		}
+		container.dispose();
+	}
+}
@@ -0,0 +1,235 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.sourcelookup;
+
+import java.util.Arrays;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.sourcelookup.ISourceContainer;
+import org.eclipse.debug.core.sourcelookup.ISourceContainerType;
+import org.eclipse.debug.core.sourcelookup.containers.AbstractSourceContainer;
+import org.eclipse.debug.core.sourcelookup.containers.CompositeSourceContainer;
+import org.eclipse.debug.internal.core.IInternalDebugCoreConstants;
+import org.eclipse.debug.internal.core.sourcelookup.ParallelSourceLookup;
+import org.eclipse.debug.tests.AbstractDebugTest;
+
+/**
+ * Tests that parallel source lookup finds the same source elements as serial
+ * source lookup, and that it can be canceled.
+ */
+public class ParallelSourceLookupTests extends AbstractDebugTest {
+
+	/**
+	 * Container finding the given elements after the given delay.
+	 */
+	static class DelayedContainer extends AbstractSourceContainer {
+
+		private final long fDelay;
+		private final Object[] fElements;
+		private final boolean fFail;
+
+		DelayedContainer(long delay, boolean fail, Object... elements) {
+			fDelay = delay;
+			fFail = fail;
+			fElements = elements;
+		}
+
+		@Override
+		public Object[] findSourceElements(String name) throws CoreException {
+			try {
+				Thread.sleep(fDelay);
+			} catch (InterruptedException e) {
+				// return early
+			}
+			if (fFail) {
+				throw new CoreException(new Status(IStatus.ERROR, DebugPlugin.getUniqueIdentifier(), name));
+			}
+			return fElements;
+		}
+
+		@Override
+		public String getName() {
+			return "Delayed"; //$NON-NLS-1$
+		}
+
+		@Override
+		public ISourceContainerType getType() {
+			return null;
+		}
+	}
+
+	static class TestCompositeContainer extends CompositeSourceContainer {
+
+		private final ISourceContainer[] fContainers;
+
+		TestCompositeContainer(ISourceContainer... containers) {
+			fContainers = containers;
+		}
+
+		@Override
+		protected ISourceContainer[] createSourceContainers() throws CoreException {
+			return fContainers;
+		}
+
+		@Override
+		public String getName() {
+			return "Composite"; //$NON-NLS-1$
+		}
+
+		@Override
+		public ISourceContainerType getType() {
+			return null;
+		}
+	}
+
+	public ParallelSourceLookupTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		getPreferences().putBoolean(IInternalDebugCoreConstants.PREF_PARALLEL_SOURCE_LOOKUP, true);
+		assertTrue(ParallelSourceLookup.isEnabled());
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		getPreferences().remove(IInternalDebugCoreConstants.PREF_PARALLEL_SOURCE_LOOKUP);
+		super.tearDown();
+	}
+
+	private static IEclipsePreferences getPreferences() {
+		return InstanceScope.INSTANCE.getNode(DebugPlugin.getUniqueIdentifier());
+	}
+
+	/**
+	 * Looks up with the preference enabled and disabled and checks that both
+	 * results are the same.
+	 */
+	private Object[] findBoth(boolean findDuplicates, ParallelSourceLookup.Query query, int count) throws CoreException {
+		Object[] parallel = ParallelSourceLookup.findSourceElements(count, findDuplicates, query);
+		getPreferences().putBoolean(IInternalDebugCoreConstants.PREF_PARALLEL_SOURCE_LOOKUP, false);
+		try {
+			Object[] serial = ParallelSourceLookup.findSourceElements(count, findDuplicates, query);
+			assertEquals(Arrays.asList(serial), Arrays.asList(parallel));
+		} finally {
+			getPreferences().putBoolean(IInternalDebugCoreConstants.PREF_PARALLEL_SOURCE_LOOKUP, true);
+		}
+		return parallel;
+	}
+
+	/**
+	 * The first element in container order is found even though a later
+	 * container answers first.
+	 */
+	public void testFirstInContainerOrder() throws Exception {
+		TestCompositeContainer composite = new TestCompositeContainer(
+				new DelayedContainer(10, false),
+				new DelayedContainer(200, false, "slow"), //$NON-NLS-1$
+				new DelayedContainer(0, false, "fast")); //$NON-NLS-1$
+		Object[] elements = composite.findSourceElements("A.java"); //$NON-NLS-1$
+		assertEquals(Arrays.asList("slow"), Arrays.asList(elements)); //$NON-NLS-1$
+		composite.dispose();
+	}
+
+	public void testDuplicatesInContainerOrder() throws Exception {
+		final ISourceContainer[] containers = new ISourceContainer[] {
+				new DelayedContainer(100, false, "a", "b"), //$NON-NLS-1$ //$NON-NLS-2$
+				new DelayedContainer(0, false),
+				new DelayedContainer(0, false, "c") }; //$NON-NLS-1$
+		Object[] elements = findBoth(true, index -> containers[index].findSourceElements("A.java"), containers.length); //$NON-NLS-1$
+		assertEquals(Arrays.asList("a", "b", "c"), Arrays.asList(elements)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	public void testErrors() throws Exception {
+		final ISourceContainer[] containers = new ISourceContainer[] {
+				new DelayedContainer(0, true),
+				new DelayedContainer(0, true),
+				new DelayedContainer(0, false) };
+		try {
+			findBoth(false, index -> containers[index].findSourceElements("A.java"), containers.length); //$NON-NLS-1$
+			fail("errors not reported"); //$NON-NLS-1$
+		} catch (CoreException e) {
+			assertTrue(e.getStatus().isMultiStatus());
+			assertEquals(2, e.getStatus().getChildren().length);
+		}
+		// errors are ignored when an element is found
+		final ISourceContainer[] found = new ISourceContainer[] {
+				new DelayedContainer(0, true),
+				new DelayedContainer(0, false, "a") }; //$NON-NLS-1$
+		Object[] elements = findBoth(false, index -> found[index].findSourceElements("A.java"), found.length); //$NON-NLS-1$
+		assertEquals(Arrays.asList("a"), Arrays.asList(elements)); //$NON-NLS-1$
+	}
+
+	public void testCancel() throws Exception {
+		ISourceContainer[] containers = new ISourceContainer[20];
+		for (int i = 0; i < containers.length; i++) {
+			containers[i] = new DelayedContainer(200, false);
+		}
+		TestCompositeContainer composite = new TestCompositeContainer(containers);
+		final NullProgressMonitor monitor = new NullProgressMonitor();
+		Thread canceler = new Thread(() -> {
+			try {
+				Thread.sleep(100);
+			} catch (InterruptedException e) {
+				// cancel now
+			}
+			monitor.setCanceled(true);
+		});
+		canceler.start();
+		long time = System.currentTimeMillis();
+		ParallelSourceLookup.setMonitor(monitor);
+		try {
+			composite.findSourceElements("A.java"); //$NON-NLS-1$
+			fail("lookup not canceled"); //$NON-NLS-1$
+		} catch (OperationCanceledException e) {
+			// expected
+		} finally {
+			ParallelSourceLookup.setMonitor(null);
+		}
+		time = System.currentTimeMillis() - time;
+		assertTrue("lookup took " + time + " ms", time < 2000); //$NON-NLS-1$ //$NON-NLS-2$
+		canceler.join();
+		composite.dispose();
+	}
+
+	/**
+	 * A canceled serial lookup returns the source elements found so far.
+	 */
+	public void testCancelSerial() throws Exception {
+		getPreferences().putBoolean(IInternalDebugCoreConstants.PREF_PARALLEL_SOURCE_LOOKUP, false);
+		final NullProgressMonitor monitor = new NullProgressMonitor();
+		final ISourceContainer[] containers = new ISourceContainer[] {
+				new DelayedContainer(0, false, "a"), //$NON-NLS-1$
+				new DelayedContainer(0, false, "b") }; //$NON-NLS-1$
+		ParallelSourceLookup.setMonitor(monitor);
+		try {
+			Object[] elements = ParallelSourceLookup.findSourceElements(containers.length, true, index -> {
+				monitor.setCanceled(true);
+				return containers[index].findSourceElements("A.java"); //$NON-NLS-1$
+			});
+			assertEquals(Arrays.asList("a"), Arrays.asList(elements)); //$NON-NLS-1$
+		} finally {
+			ParallelSourceLookup.setMonitor(null);
+		}
+	}
+}
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.sourcelookup;
+
+import java.io.ByteArrayInputStream;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.sourcelookup.AbstractSourceLookupParticipant;
+import org.eclipse.debug.core.sourcelookup.ISourceContainer;
+import org.eclipse.debug.core.sourcelookup.ISourceContainerType;
+import org.eclipse.debug.core.sourcelookup.ISourceLookupParticipant;
+import org.eclipse.debug.core.sourcelookup.containers.AbstractSourceContainer;
+import org.eclipse.debug.internal.core.IInternalDebugCoreConstants;
+import org.eclipse.debug.internal.core.sourcelookup.SourceLookupCache;
+import org.eclipse.debug.tests.AbstractDebugTest;
+
+/**
+ * Tests the cache of source lookup results of a director.
+ */
+public class SourceLookupCacheTests extends AbstractDebugTest {
+
+	/**
+	 * Container finding names in the test project, counting the searches.
+	 */
+	class CountingContainer extends AbstractSourceContainer {
+
+		int fCount;
+
+		@Override
+		public Object[] findSourceElements(String name) throws CoreException {
+			fCount++;
+			IFile file = fProject.getFile(name);
+			if (file.exists()) {
+				return new Object[] { file };
+			}
+			return EMPTY;
+		}
+
+		@Override
+		public String getName() {
+			return "Counting"; //$NON-NLS-1$
+		}
+
+		@Override
+		public ISourceContainerType getType() {
+			return null;
+		}
+	}
+
+	static class NameParticipant extends AbstractSourceLookupParticipant {
+
+		@Override
+		public String getSourceName(Object object) throws CoreException {
+			return object.toString();
+		}
+	}
+
+	private IProject fProject;
+
+	private TestSourceDirector fDirector;
+
+	private CountingContainer fContainer;
+
+	public SourceLookupCacheTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fProject = ResourcesPlugin.getWorkspace().getRoot().getProject("SourceLookupCacheTests"); //$NON-NLS-1$
+		fProject.create(null);
+		fProject.open(null);
+		fDirector = new TestSourceDirector();
+		fDirector.addParticipants(new ISourceLookupParticipant[] { new NameParticipant() });
+		fContainer = new CountingContainer();
+		fDirector.setSourceContainers(new ISourceContainer[] { fContainer });
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		InstanceScope.INSTANCE.getNode(DebugPlugin.getUniqueIdentifier()).remove(IInternalDebugCoreConstants.PREF_SOURCE_LOOKUP_CACHE_SIZE);
+		fDirector.dispose();
+		fProject.delete(true, null);
+		super.tearDown();
+	}
+
+	public void testNegativeResultsCached() throws Exception {
+		for (int i = 0; i < 5; i++) {
+			assertEquals(0, fDirector.findSourceElements("Missing.txt").length); //$NON-NLS-1$
+		}
+		assertEquals(1, fContainer.fCount);
+		SourceLookupCache cache = SourceLookupCache.getCache(fDirector);
+		assertEquals(4, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+		assertEquals(0.8, cache.getHitRate(), 0.0001);
+	}
+
+	public void testInvalidatedByContainerChange() throws Exception {
+		fDirector.findSourceElements("A.txt"); //$NON-NLS-1$
+		fDirector.findSourceElements("A.txt"); //$NON-NLS-1$
+		assertEquals(1, fContainer.fCount);
+		fDirector.setSourceContainers(new ISourceContainer[] { fContainer });
+		fDirector.findSourceElements("A.txt"); //$NON-NLS-1$
+		assertEquals(2, fContainer.fCount);
+		fDirector.setFindDuplicates(true);
+		fDirector.findSourceElements("A.txt"); //$NON-NLS-1$
+		assertEquals(3, fContainer.fCount);
+	}
+
+	public void testInvalidatedByResourceChange() throws Exception {
+		assertEquals(0, fDirector.findSourceElements("A.txt").length); //$NON-NLS-1$
+		assertEquals(0, fDirector.findSourceElements("B.txt").length); //$NON-NLS-1$
+		IFile file = fProject.getFile("A.txt"); //$NON-NLS-1$
+		file.create(new ByteArrayInputStream(new byte[0]), true, null);
+		Object[] elements = fDirector.findSourceElements("A.txt"); //$NON-NLS-1$
+		assertEquals(1, elements.length);
+		assertEquals(file, elements[0]);
+		// B.txt still cached
+		fDirector.findSourceElements("B.txt"); //$NON-NLS-1$
+		assertEquals(3, fContainer.fCount);
+		file.delete(true, null);
+		assertEquals(0, fDirector.findSourceElements("A.txt").length); //$NON-NLS-1$
+		assertEquals(4, fContainer.fCount);
+	}
+
+	public void testMissesInvalidatedBySetupChange() throws Exception {
+		IFile classpath = fProject.getFile(".classpath"); //$NON-NLS-1$
+		classpath.create(new ByteArrayInputStream(new byte[0]), true, null);
+		IFile file = fProject.getFile("A.txt"); //$NON-NLS-1$
+		file.create(new ByteArrayInputStream(new byte[0]), true, null);
+		assertEquals(1, fDirector.findSourceElements("A.txt").length); //$NON-NLS-1$
+		assertEquals(0, fDirector.findSourceElements("B.txt").length); //$NON-NLS-1$
+		assertEquals(2, fContainer.fCount);
+		// a build path change may let B.txt be found
+		classpath.setContents(new ByteArrayInputStream(new byte[] { 1 }), true, false, null);
+		assertEquals(0, fDirector.findSourceElements("B.txt").length); //$NON-NLS-1$
+		assertEquals(3, fContainer.fCount);
+		// A.txt still cached
+		assertEquals(1, fDirector.findSourceElements("A.txt").length); //$NON-NLS-1$
+		assertEquals(3, fContainer.fCount);
+	}
+
+	public void testSize() throws Exception {
+		InstanceScope.INSTANCE.getNode(DebugPlugin.getUniqueIdentifier()).putInt(IInternalDebugCoreConstants.PREF_SOURCE_LOOKUP_CACHE_SIZE, 2);
+		fDirector.findSourceElements("A.txt"); //$NON-NLS-1$
+		fDirector.findSourceElements("B.txt"); //$NON-NLS-1$
+		fDirector.findSourceElements("C.txt"); //$NON-NLS-1$
+		assertEquals(2, SourceLookupCache.getCache(fDirector).size());
+		// A.txt was evicted
+		fDirector.findSourceElements("A.txt"); //$NON-NLS-1$
+		assertEquals(4, fContainer.fCount);
+		InstanceScope.INSTANCE.getNode(DebugPlugin.getUniqueIdentifier()).putInt(IInternalDebugCoreConstants.PREF_SOURCE_LOOKUP_CACHE_SIZE, 0);
+		assertNull(SourceLookupCache.getCache(fDirector));
+		fDirector.findSourceElements("A.txt"); //$NON-NLS-1$
+		fDirector.findSourceElements("A.txt"); //$NON-NLS-1$
+		assertEquals(6, fContainer.fCount);
+	}
+}
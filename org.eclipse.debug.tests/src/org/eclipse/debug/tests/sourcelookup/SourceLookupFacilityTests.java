@@ -14,10 +14,23 @@
 package org.eclipse.debug.tests.sourcelookup;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
+import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.model.IStackFrame;
+import org.eclipse.debug.core.model.IThread;
+import org.eclipse.debug.internal.ui.DebugUIPlugin;
+import org.eclipse.debug.internal.ui.IInternalDebugUIConstants;
 import org.eclipse.debug.internal.ui.sourcelookup.SourceLookupFacility;
 import org.eclipse.debug.internal.ui.sourcelookup.SourceLookupResult;
 import org.eclipse.debug.tests.AbstractDebugTest;
@@ -50,6 +63,63 @@ public class SourceLookupFacilityTests extends AbstractDebugTest {
 		super(name);
 	}
 
+	/**
+	 * Job of the given thread's family that is not a prefetch job, such as a
+	 * debug command job.
+	 */
+	static class UnrelatedJob extends Job {
+
+		private final Object fFamily;
+
+		UnrelatedJob(Object family) {
+			super("Unrelated"); //$NON-NLS-1$
+			setSystem(true);
+			fFamily = family;
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			return Status.OK_STATUS;
+		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			return family == fFamily;
+		}
+	}
+
+	/**
+	 * Returns a suspended thread with the given stack frames.
+	 */
+	private static IThread createThread(IStackFrame... frames) {
+		return (IThread) Proxy.newProxyInstance(SourceLookupFacilityTests.class.getClassLoader(), new Class<?>[] { IThread.class }, (proxy, method, args) -> {
+			switch (method.getName()) {
+				case "isSuspended": //$NON-NLS-1$
+					return Boolean.TRUE;
+				case "getStackFrames": //$NON-NLS-1$
+					return frames;
+				case "equals": //$NON-NLS-1$
+					return Boolean.valueOf(proxy == args[0]);
+				case "hashCode": //$NON-NLS-1$
+					return Integer.valueOf(System.identityHashCode(proxy));
+				default:
+					return method.getReturnType() == boolean.class ? Boolean.FALSE : null;
+			}
+		});
+	}
+
+	/**
+	 * Has the source lookup facility handle an event set of the given kinds
+	 * of events of the given thread.
+	 */
+	private static void handleEvents(IThread thread, int... kinds) {
+		DebugEvent[] events = new DebugEvent[kinds.length];
+		for (int i = 0; i < kinds.length; i++) {
+			events[i] = new DebugEvent(thread, kinds[i]);
+		}
+		SourceLookupFacility.getDefault().handleDebugEvents(events);
+	}
+
 	/**
 	 * Tests calling
 	 * {@link SourceLookupFacility#lookup(Object, org.eclipse.debug.core.model.ISourceLocator, boolean)}
@@ -338,4 +408,119 @@ public class SourceLookupFacilityTests extends AbstractDebugTest {
 			SourceLookupFacility.shutdown();
 		}
 	}
+
+	/**
+	 * A resume cancels the pending prefetch of the thread, but not other jobs
+	 * of the thread's family.
+	 */
+	public void testResumeCancelsPrefetch() throws Exception {
+		DebugUIPlugin.getDefault().getPreferenceStore().setValue(IInternalDebugUIConstants.PREF_PREFETCH_SOURCE, true);
+		final IThread thread = createThread();
+		final CountDownLatch canceled = new CountDownLatch(1);
+		JobChangeAdapter listener = new JobChangeAdapter() {
+			@Override
+			public void done(IJobChangeEvent event) {
+				if (event.getJob().belongsTo(new SourceLookupFacility.PrefetchFamily(thread)) && event.getResult().getSeverity() == IStatus.CANCEL) {
+					canceled.countDown();
+				}
+			}
+		};
+		Job unrelated = new UnrelatedJob(thread);
+		Job.getJobManager().addJobChangeListener(listener);
+		try {
+			unrelated.schedule(60000);
+			// the prefetch is scheduled with a delay, the resume comes first
+			handleEvents(thread, DebugEvent.SUSPEND, DebugEvent.RESUME);
+			assertTrue("prefetch not canceled", canceled.await(10, TimeUnit.SECONDS)); //$NON-NLS-1$
+			assertEquals(0, Job.getJobManager().find(new SourceLookupFacility.PrefetchFamily(thread)).length);
+			assertEquals(Job.SLEEPING, unrelated.getState());
+		} finally {
+			Job.getJobManager().removeJobChangeListener(listener);
+			unrelated.cancel();
+			DebugUIPlugin.getDefault().getPreferenceStore().setToDefault(IInternalDebugUIConstants.PREF_PREFETCH_SOURCE);
+			SourceLookupFacility.shutdown();
+		}
+	}
+
+	/**
+	 * The source of a frame below the top frame is prefetched on suspend, and
+	 * served from the cache when the frame is selected, even after the cache
+	 * filled up with the results of other lookups.
+	 */
+	public void testPrefetchedFrameCached() throws Exception {
+		DebugUIPlugin.getDefault().getPreferenceStore().setValue(IInternalDebugUIConstants.PREF_PREFETCH_SOURCE, true);
+		TestLaunch launch = new TestLaunch();
+		TestSourceDirector director = (TestSourceDirector) launch.getSourceLocator();
+		TestStackFrame top = new TestStackFrame(launch);
+		TestStackFrame frame = new TestStackFrame(launch);
+		IThread thread = createThread(top, frame);
+		try {
+			handleEvents(thread, DebugEvent.SUSPEND);
+			Job.getJobManager().join(new SourceLookupFacility.PrefetchFamily(thread), null);
+			// the top frame is not prefetched
+			assertEquals(1, director.fLookupCount);
+			ISourceLookupResult result = SourceLookupFacility.getDefault().lookup(frame, director, false);
+			assertNotNull(result.getSourceElement());
+			assertEquals(1, director.fLookupCount);
+			// looked up for display, the result stays cached like the others
+			for (int i = 0; i < 9; i++) {
+				SourceLookupFacility.getDefault().lookup("" + i, director, false); //$NON-NLS-1$
+			}
+			assertEquals(10, director.fLookupCount);
+			assertSame(result, SourceLookupFacility.getDefault().lookup(frame, director, false));
+			assertEquals(10, director.fLookupCount);
+		} finally {
+			DebugUIPlugin.getDefault().getPreferenceStore().setToDefault(IInternalDebugUIConstants.PREF_PREFETCH_SOURCE);
+			SourceLookupFacility.shutdown();
+		}
+	}
+
+	/**
+	 * Prefetched source does not remove the results of displayed source from
+	 * the cache.
+	 */
+	public void testPrefetchKeepsDisplayedResults() throws Exception {
+		DebugUIPlugin.getDefault().getPreferenceStore().setValue(IInternalDebugUIConstants.PREF_PREFETCH_SOURCE, true);
+		TestLaunch launch = new TestLaunch();
+		TestSourceDirector director = (TestSourceDirector) launch.getSourceLocator();
+		IStackFrame[] frames = new IStackFrame[6];
+		for (int i = 0; i < frames.length; i++) {
+			frames[i] = new TestStackFrame(launch);
+		}
+		IThread thread = createThread(frames);
+		try {
+			// fill the cache with displayed results
+			ISourceLookupResult[] results = new ISourceLookupResult[10];
+			for (int i = 0; i < results.length; i++) {
+				results[i] = SourceLookupFacility.getDefault().lookup("" + i, director, false); //$NON-NLS-1$
+			}
+			handleEvents(thread, DebugEvent.SUSPEND);
+			Job.getJobManager().join(new SourceLookupFacility.PrefetchFamily(thread), null);
+			assertEquals(15, director.fLookupCount);
+			for (int i = 0; i < results.length; i++) {
+				assertSame(results[i], SourceLookupFacility.getDefault().lookup("" + i, director, false)); //$NON-NLS-1$
+			}
+			assertEquals(15, director.fLookupCount);
+		} finally {
+			DebugUIPlugin.getDefault().getPreferenceStore().setToDefault(IInternalDebugUIConstants.PREF_PREFETCH_SOURCE);
+			SourceLookupFacility.shutdown();
+		}
+	}
+
+	/**
+	 * With prefetching disabled, a resume cancels no jobs.
+	 */
+	public void testResumeWithoutPrefetch() throws Exception {
+		IThread thread = createThread();
+		Job unrelated = new UnrelatedJob(thread);
+		try {
+			unrelated.schedule(60000);
+			handleEvents(thread, DebugEvent.SUSPEND, DebugEvent.RESUME);
+			assertEquals(0, Job.getJobManager().find(new SourceLookupFacility.PrefetchFamily(thread)).length);
+			assertEquals(Job.SLEEPING, unrelated.getState());
+		} finally {
+			unrelated.cancel();
+			SourceLookupFacility.shutdown();
+		}
+	}
 }
@@ -19,8 +19,14 @@ import org.eclipse.debug.core.sourcelookup.AbstractSourceLookupDirector;
 public class TestSourceDirector extends AbstractSourceLookupDirector {
 
 
+	/**
+	 * Number of source elements looked up
+	 */
+	volatile int fLookupCount;
+
 	@Override
 	public Object getSourceElement(Object element) {
+		fLookupCount++;
 		if (element instanceof String) {
 			return element.toString() + System.currentTimeMillis();
 		} else if (element instanceof IStackFrame) {
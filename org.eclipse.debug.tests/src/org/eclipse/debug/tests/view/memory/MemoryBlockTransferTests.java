@@ -0,0 +1,330 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.view.memory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.model.IMemoryBlockExtension;
+import org.eclipse.debug.core.model.MemoryBlockTransfer;
+import org.eclipse.debug.core.model.MemoryBlockTransfer.Format;
+import org.eclipse.debug.core.model.MemoryBuffer;
+import org.eclipse.debug.core.model.MemoryByte;
+import org.eclipse.debug.tests.AbstractDebugTest;
+import org.eclipse.debug.tests.view.memory.MemoryPageCacheTests.CountingMemoryBlock;
+
+/**
+ * Tests exporting and importing the memory of a memory block.
+ */
+public class MemoryBlockTransferTests extends AbstractDebugTest {
+
+	/**
+	 * Number of addressable units transferred, spanning multiple chunks and
+	 * 64K boundaries.
+	 */
+	private static final int UNITS = 150000;
+
+	private IMemoryBlockExtension fMemoryBlock;
+	private BigInteger fAddress;
+
+	public MemoryBlockTransferTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Writable memory block of random content, with a range of unreadable
+	 * units.
+	 */
+	static class ArrayMemoryBlock extends CountingMemoryBlock {
+
+		private final BigInteger fBaseAddress;
+		private final byte[] fMemory;
+		private final int fHoleStart;
+		private final int fHoleEnd;
+
+		/**
+		 * @param baseAddress address of the first unit
+		 * @param units number of units
+		 * @param holeStart offset of the first unreadable unit
+		 * @param holeEnd offset after the last unreadable unit
+		 */
+		ArrayMemoryBlock(long baseAddress, int units, int holeStart, int holeEnd) {
+			fBaseAddress = BigInteger.valueOf(baseAddress);
+			fMemory = new byte[units];
+			new Random(1).nextBytes(fMemory);
+			fHoleStart = holeStart;
+			fHoleEnd = holeEnd;
+		}
+
+		@Override
+		public MemoryByte[] getBytesFromAddress(BigInteger address, long units) throws DebugException {
+			fReads++;
+			int offset = address.subtract(fBaseAddress).intValue();
+			MemoryByte[] bytes = new MemoryByte[(int) units];
+			for (int i = 0; i < bytes.length; i++) {
+				int index = offset + i;
+				if (index >= 0 && index < fMemory.length && (index < fHoleStart || index >= fHoleEnd)) {
+					bytes[i] = new MemoryByte(fMemory[index], (byte) (MemoryByte.READABLE | MemoryByte.WRITABLE));
+				} else {
+					bytes[i] = new MemoryByte((byte) 0, MemoryBuffer.UNREADABLE_FLAGS);
+				}
+			}
+			return bytes;
+		}
+
+		@Override
+		public BigInteger getBigBaseAddress() throws DebugException {
+			return fBaseAddress;
+		}
+
+		@Override
+		public boolean supportsValueModification() {
+			return true;
+		}
+
+		@Override
+		public void setValue(BigInteger offset, byte[] bytes) throws DebugException {
+			System.arraycopy(bytes, 0, fMemory, offset.intValue(), bytes.length);
+		}
+	}
+
+	/**
+	 * Channel that reads nothing on every other read, like a non-blocking
+	 * channel with no data available yet.
+	 */
+	static class StutteringChannel implements ReadableByteChannel {
+
+		private final ReadableByteChannel fChannel;
+		private boolean fStutter;
+
+		StutteringChannel(ReadableByteChannel channel) {
+			fChannel = channel;
+		}
+
+		@Override
+		public int read(ByteBuffer dst) throws IOException {
+			fStutter = !fStutter;
+			if (fStutter) {
+				return 0;
+			}
+			// small reads, such that records are split across reads
+			ByteBuffer slice = dst.slice();
+			slice.limit(Math.min(slice.remaining(), 1000));
+			int read = fChannel.read(slice);
+			if (read > 0) {
+				dst.position(dst.position() + read);
+			}
+			return read;
+		}
+
+		@Override
+		public boolean isOpen() {
+			return fChannel.isOpen();
+		}
+
+		@Override
+		public void close() throws IOException {
+			fChannel.close();
+		}
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		// 64K boundaries at 0x10000 and 0x20000
+		fMemoryBlock = new ArrayMemoryBlock(0x8000, UNITS, 0, 0);
+		fAddress = fMemoryBlock.getBigBaseAddress();
+	}
+
+	private byte[] readMemory() throws DebugException {
+		MemoryByte[] bytes = fMemoryBlock.getBytesFromAddress(fAddress, UNITS);
+		byte[] values = new byte[bytes.length];
+		for (int i = 0; i < bytes.length; i++) {
+			values[i] = bytes[i].getValue();
+		}
+		return values;
+	}
+
+	private byte[] exportMemory(Format format) throws DebugException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		MemoryBlockTransfer.exportMemory(fMemoryBlock, fAddress, UNITS, format, Channels.newChannel(out), new NullProgressMonitor());
+		return out.toByteArray();
+	}
+
+	private void importMemory(Format format, byte[] content) throws DebugException {
+		MemoryBlockTransfer.importMemory(fMemoryBlock, fAddress, format, Channels.newChannel(new ByteArrayInputStream(content)), new NullProgressMonitor());
+	}
+
+	/**
+	 * Exports the memory, overwrites it and imports it again.
+	 */
+	private void assertRoundTrip(Format format) throws DebugException {
+		byte[] original = readMemory();
+		byte[] exported = exportMemory(format);
+		fMemoryBlock.setValue(BigInteger.ZERO, new byte[UNITS]);
+		assertFalse(Arrays.equals(original, readMemory()));
+		importMemory(format, exported);
+		assertTrue(Arrays.equals(original, readMemory()));
+	}
+
+	public void testRawExport() throws DebugException {
+		byte[] original = readMemory();
+		assertTrue(Arrays.equals(original, exportMemory(Format.RAW)));
+	}
+
+	public void testRawRoundTrip() throws DebugException {
+		assertRoundTrip(Format.RAW);
+	}
+
+	public void testIntelHexRoundTrip() throws DebugException {
+		assertRoundTrip(Format.INTEL_HEX);
+	}
+
+	public void testSRecordRoundTrip() throws DebugException {
+		assertRoundTrip(Format.S_RECORD);
+	}
+
+	public void testInvalidChecksum() throws DebugException {
+		readMemory();
+		byte[] exported = exportMemory(Format.INTEL_HEX);
+		String content = new String(exported);
+		// corrupt the checksum of the first data record
+		int end = content.indexOf('\n', content.indexOf(":10")); //$NON-NLS-1$
+		char checksum = content.charAt(end - 1);
+		content = content.substring(0, end - 1) + (checksum == '0' ? '1' : '0') + content.substring(end);
+		try {
+			importMemory(Format.INTEL_HEX, content.getBytes());
+			fail("invalid record not detected"); //$NON-NLS-1$
+		} catch (DebugException e) {
+			// expected
+		}
+	}
+
+	/**
+	 * Returns an Intel HEX record with the given type, address and data.
+	 */
+	private static String intelHexRecord(int type, int address, byte[] data) {
+		StringBuilder record = new StringBuilder(":"); //$NON-NLS-1$
+		int sum = data.length + (address >>> 8) + (address & 0xFF) + type;
+		record.append(String.format("%02X%04X%02X", data.length, address, type)); //$NON-NLS-1$
+		for (byte b : data) {
+			record.append(String.format("%02X", b & 0xFF)); //$NON-NLS-1$
+			sum += b & 0xFF;
+		}
+		record.append(String.format("%02X", -sum & 0xFF)).append('\n'); //$NON-NLS-1$
+		return record.toString();
+	}
+
+	public void testIntelHexMaximumRecord() throws DebugException {
+		byte[] original = readMemory();
+		byte[] data = new byte[255];
+		for (int i = 0; i < data.length; i++) {
+			data[i] = (byte) ~original[i];
+		}
+		int address = fAddress.intValue();
+		String content = intelHexRecord(4, address >>> 16, new byte[] { (byte) (address >>> 24), (byte) (address >>> 16) })
+				+ intelHexRecord(0, address & 0xFFFF, data)
+				+ intelHexRecord(1, 0, new byte[0]);
+		importMemory(Format.INTEL_HEX, content.getBytes());
+		byte[] imported = readMemory();
+		assertTrue(Arrays.equals(data, Arrays.copyOf(imported, data.length)));
+		assertTrue(Arrays.equals(Arrays.copyOfRange(original, data.length, UNITS), Arrays.copyOfRange(imported, data.length, UNITS)));
+	}
+
+	/**
+	 * Exports memory with unreadable units at 0x1000 to 0x10FF.
+	 */
+	public void testExportUnreadable() throws DebugException {
+		int units = 0x300;
+		IMemoryBlockExtension memoryBlock = new ArrayMemoryBlock(0xF00, units, 0x100, 0x200);
+		BigInteger address = memoryBlock.getBigBaseAddress();
+		MemoryByte[] bytes = memoryBlock.getBytesFromAddress(address, units);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		MemoryBlockTransfer.exportMemory(memoryBlock, address, units, Format.RAW, Channels.newChannel(out), new NullProgressMonitor());
+		byte[] raw = out.toByteArray();
+		assertEquals(units, raw.length);
+		for (int i = 0; i < units; i++) {
+			boolean readable = i < 0x100 || i >= 0x200;
+			assertEquals(readable, bytes[i].isReadable());
+			assertEquals(readable ? bytes[i].getValue() : 0, raw[i]);
+		}
+
+		// records are written for the readable units only
+		out = new ByteArrayOutputStream();
+		MemoryBlockTransfer.exportMemory(memoryBlock, address, units, Format.INTEL_HEX, Channels.newChannel(out), new NullProgressMonitor());
+		int total = 0;
+		for (String line : new String(out.toByteArray()).split("\n")) { //$NON-NLS-1$
+			if (line.startsWith(":") && line.startsWith("00", 7)) { //$NON-NLS-1$ //$NON-NLS-2$
+				total += assertReadableRecord(Integer.parseInt(line.substring(3, 7), 16), Integer.parseInt(line.substring(1, 3), 16));
+			}
+		}
+		assertEquals(0x200, total);
+		out = new ByteArrayOutputStream();
+		MemoryBlockTransfer.exportMemory(memoryBlock, address, units, Format.S_RECORD, Channels.newChannel(out), new NullProgressMonitor());
+		total = 0;
+		for (String line : new String(out.toByteArray()).split("\n")) { //$NON-NLS-1$
+			if (line.startsWith("S3")) { //$NON-NLS-1$
+				total += assertReadableRecord(Integer.parseInt(line.substring(4, 12), 16), Integer.parseInt(line.substring(2, 4), 16) - 5);
+			}
+		}
+		assertEquals(0x200, total);
+	}
+
+	/**
+	 * Asserts that the given record of {@link #testExportUnreadable()} does
+	 * not overlap the unreadable units.
+	 *
+	 * @return the length of the record
+	 */
+	private static int assertReadableRecord(int address, int length) {
+		assertTrue(Integer.toHexString(address), address >= 0xF00 && address + length <= 0x1000 || address >= 0x1100 && address + length <= 0x1200);
+		return length;
+	}
+
+	/**
+	 * Imports through a channel that returns no bytes on some reads.
+	 */
+	public void testImportEmptyReads() throws DebugException {
+		for (Format format : Format.values()) {
+			byte[] original = readMemory();
+			byte[] exported = exportMemory(format);
+			fMemoryBlock.setValue(BigInteger.ZERO, new byte[UNITS]);
+			ReadableByteChannel channel = new StutteringChannel(Channels.newChannel(new ByteArrayInputStream(exported)));
+			MemoryBlockTransfer.importMemory(fMemoryBlock, fAddress, format, channel, new NullProgressMonitor());
+			assertTrue(format.toString(), Arrays.equals(original, readMemory()));
+		}
+	}
+
+	public void testCancel() throws DebugException {
+		NullProgressMonitor monitor = new NullProgressMonitor();
+		monitor.setCanceled(true);
+		try {
+			MemoryBlockTransfer.exportMemory(fMemoryBlock, fAddress, UNITS, Format.RAW, Channels.newChannel(new ByteArrayOutputStream()), monitor);
+			fail("export not canceled"); //$NON-NLS-1$
+		} catch (OperationCanceledException e) {
+			// expected
+		}
+	}
+}
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.view.memory;
+
+import org.eclipse.debug.core.model.MemoryBuffer;
+import org.eclipse.debug.core.model.MemoryByte;
+import org.eclipse.debug.tests.AbstractDebugTest;
+
+/**
+ * Tests the compact memory buffer
+ */
+public class MemoryBufferTests extends AbstractDebugTest {
+
+	private static final byte RW = MemoryByte.READABLE | MemoryByte.WRITABLE;
+
+	public MemoryBufferTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Uniform regions are stored as a single run.
+	 */
+	public void testUniformRuns() {
+		MemoryBuffer buffer = MemoryBuffer.concat(MemoryBuffer.fill(3, MemoryBuffer.UNREADABLE_FLAGS), new MemoryBuffer(new byte[] { 1, 2, 3, 4 }, RW), MemoryBuffer.fill(5, MemoryBuffer.UNREADABLE_FLAGS));
+		assertEquals(12, buffer.length());
+		assertEquals(3, buffer.getRunCount());
+		assertEquals(0, buffer.getRunStart(0));
+		assertEquals(3, buffer.getRunStart(1));
+		assertEquals(7, buffer.getRunStart(2));
+		assertEquals(MemoryBuffer.UNREADABLE_FLAGS, buffer.getFlags(2));
+		assertEquals(RW, buffer.getFlags(3));
+		assertEquals(RW, buffer.getFlags(6));
+		assertEquals(MemoryBuffer.UNREADABLE_FLAGS, buffer.getFlags(7));
+		assertEquals(4, buffer.getValue(6));
+		assertTrue(MemoryBuffer.fill(1 << 20, RW).isUniform(RW));
+	}
+
+	/**
+	 * Conversion from and to memory bytes preserves values and flags.
+	 */
+	public void testMemoryByteAdapter() {
+		MemoryByte[] bytes = new MemoryByte[] {
+				new MemoryByte((byte) 1, RW), new MemoryByte((byte) 2, RW),
+				new MemoryByte((byte) 3, (byte) (RW | MemoryByte.CHANGED)),
+				new MemoryByte((byte) 4, RW) };
+		MemoryBuffer buffer = MemoryBuffer.fromMemoryBytes(bytes);
+		assertEquals(3, buffer.getRunCount());
+		MemoryByte[] converted = buffer.toMemoryBytes();
+		assertEquals(bytes.length, converted.length);
+		for (int i = 0; i < bytes.length; i++) {
+			assertEquals(bytes[i].getValue(), converted[i].getValue());
+			assertEquals(bytes[i].getFlags(), converted[i].getFlags());
+		}
+		MemoryByte[] range = buffer.toMemoryBytes(2, 2);
+		assertEquals(3, range[0].getValue());
+		assertTrue(range[0].isChanged());
+		assertFalse(range[1].isChanged());
+	}
+
+	/**
+	 * Slices keep the flags of the sliced range and clearing or setting flags merges
+	 * runs which became identical.
+	 */
+	public void testSliceAndClearFlags() {
+		byte[] flags = new byte[] { RW, RW, RW | MemoryByte.CHANGED, RW | MemoryByte.CHANGED, RW };
+		MemoryBuffer buffer = new MemoryBuffer(new byte[] { 0, 1, 2, 3, 4 }, flags);
+		MemoryBuffer slice = buffer.slice(1, 3);
+		assertEquals(3, slice.length());
+		assertEquals(1, slice.getValue(0));
+		assertEquals(RW, slice.getFlags(0));
+		assertEquals(RW | MemoryByte.CHANGED, slice.getFlags(2));
+		assertEquals(2, slice.getRunCount());
+
+		MemoryBuffer cleared = buffer.clearFlags(MemoryByte.CHANGED);
+		assertTrue(cleared.isUniform(RW));
+		assertSame(cleared, cleared.clearFlags(MemoryByte.CHANGED));
+
+		MemoryBuffer set = buffer.setFlags(MemoryByte.CHANGED);
+		assertTrue(set.isUniform((byte) (RW | MemoryByte.CHANGED)));
+		assertEquals(1, set.getRunCount());
+		assertSame(set, set.setFlags(MemoryByte.CHANGED));
+	}
+}
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.view.memory;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.eclipse.debug.core.model.MemoryBuffer;
+import org.eclipse.debug.core.model.MemoryByte;
+import org.eclipse.debug.internal.ui.views.memory.renderings.MemoryLineFormatter;
+import org.eclipse.debug.internal.ui.views.memory.renderings.RenderingsUtil;
+import org.eclipse.debug.tests.AbstractDebugTest;
+
+/**
+ * Tests formatting whole lines of memory against the conversion of single
+ * columns.
+ */
+public class MemoryLineFormatterTests extends AbstractDebugTest {
+
+	private static final byte READABLE = MemoryByte.READABLE;
+
+	private static final byte LITTLE = (byte) (MemoryByte.READABLE | MemoryByte.ENDIANESS_KNOWN);
+
+	private static final byte BIG = (byte) (MemoryByte.READABLE | MemoryByte.ENDIANESS_KNOWN | MemoryByte.BIG_ENDIAN);
+
+	public MemoryLineFormatterTests(String name) {
+		super(name);
+	}
+
+	private static byte[] randomBytes(Random random, int length) {
+		byte[] bytes = new byte[length];
+		random.nextBytes(bytes);
+		return bytes;
+	}
+
+	public void testHex() {
+		byte[] values = new byte[] { 0, 1, (byte) 0x7F, (byte) 0x80, (byte) 0xAB, (byte) 0xFF, 0x10, 0x0F };
+		byte[] flags = new byte[] { READABLE, READABLE, READABLE, READABLE, 0, READABLE, READABLE, READABLE };
+		MemoryLineFormatter formatter = new MemoryLineFormatter();
+		formatter.formatHex(new MemoryBuffer(values, flags), 4, "??"); //$NON-NLS-1$
+		assertEquals(2, formatter.getNumColumns());
+		assertEquals("00017F80", formatter.getColumn(0)); //$NON-NLS-1$
+		assertEquals("??FF100F", formatter.getColumn(1)); //$NON-NLS-1$
+		assertEquals(8, formatter.getColumnStart(1));
+		assertEquals(8, formatter.getColumnLength(1));
+		assertEquals("00017F80??FF100F", new String(formatter.getChars(), 0, 16)); //$NON-NLS-1$
+
+		Random random = new Random(3);
+		byte[] bytes = randomBytes(random, 256);
+		formatter.formatHex(new MemoryBuffer(bytes, READABLE), 16, "??"); //$NON-NLS-1$
+		for (int column = 0; column < 16; column++) {
+			byte[] columnBytes = new byte[16];
+			System.arraycopy(bytes, column * 16, columnBytes, 0, 16);
+			assertEquals(RenderingsUtil.convertByteArrayToHexString(columnBytes).toUpperCase(), formatter.getColumn(column));
+		}
+	}
+
+	public void testIntegers() {
+		Random random = new Random(5);
+		MemoryLineFormatter formatter = new MemoryLineFormatter();
+		for (int columnSize = 1; columnSize <= 8; columnSize++) {
+			byte[] bytes = randomBytes(random, columnSize * 32);
+			for (int endianess = RenderingsUtil.LITTLE_ENDIAN; endianess <= RenderingsUtil.BIG_ENDIAN; endianess++) {
+				for (int signed = 0; signed < 2; signed++) {
+					formatter.formatInteger(new MemoryBuffer(bytes, READABLE), columnSize, endianess, signed == 1, "?"); //$NON-NLS-1$
+					assertEquals(32, formatter.getNumColumns());
+					for (int column = 0; column < 32; column++) {
+						byte[] columnBytes = new byte[columnSize];
+						System.arraycopy(bytes, column * columnSize, columnBytes, 0, columnSize);
+						BigInteger expected = signed == 1 ? RenderingsUtil.convertByteArrayToSignedBigInt(columnBytes, endianess, columnSize) : RenderingsUtil.convertByteArrayToUnsignedBigInt(columnBytes, endianess, columnSize);
+						assertEquals(expected.toString(), formatter.getColumn(column));
+					}
+				}
+			}
+		}
+	}
+
+	public void testIntegerLimits() {
+		MemoryLineFormatter formatter = new MemoryLineFormatter();
+		byte[] bytes = new byte[] { (byte) 0x80, 0, 0, 0, 0, 0, 0, 0, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF };
+		formatter.formatInteger(new MemoryBuffer(bytes, READABLE), 8, RenderingsUtil.BIG_ENDIAN, true, "?"); //$NON-NLS-1$
+		assertEquals(Long.toString(Long.MIN_VALUE), formatter.getColumn(0));
+		assertEquals("-1", formatter.getColumn(1)); //$NON-NLS-1$
+		formatter.formatInteger(new MemoryBuffer(bytes, READABLE), 8, RenderingsUtil.BIG_ENDIAN, false, "?"); //$NON-NLS-1$
+		assertEquals("9223372036854775808", formatter.getColumn(0)); //$NON-NLS-1$
+		assertEquals("18446744073709551615", formatter.getColumn(1)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Columns take their endianess from the bytes unless a display endianess
+	 * is given, and are padded if unreadable or of unknown endianess.
+	 */
+	public void testIntegerEndianess() {
+		byte[] values = new byte[] { 1, 0, 1, 0, 1, 0, 1, 0 };
+		byte[] flags = new byte[] { LITTLE, LITTLE, BIG, BIG, LITTLE, BIG, READABLE, 0 };
+		MemoryLineFormatter formatter = new MemoryLineFormatter();
+		formatter.formatInteger(new MemoryBuffer(values, flags), 2, RenderingsUtil.ENDIANESS_UNKNOWN, false, "?"); //$NON-NLS-1$
+		assertEquals("1", formatter.getColumn(0)); //$NON-NLS-1$
+		assertEquals("256", formatter.getColumn(1)); //$NON-NLS-1$
+		assertEquals("??", formatter.getColumn(2)); //$NON-NLS-1$
+		assertEquals("??", formatter.getColumn(3)); //$NON-NLS-1$
+
+		formatter.formatInteger(new MemoryBuffer(values, flags), 2, RenderingsUtil.BIG_ENDIAN, false, "?"); //$NON-NLS-1$
+		assertEquals("256", formatter.getColumn(0)); //$NON-NLS-1$
+		assertEquals("256", formatter.getColumn(2)); //$NON-NLS-1$
+		assertEquals("??", formatter.getColumn(3)); //$NON-NLS-1$
+	}
+}
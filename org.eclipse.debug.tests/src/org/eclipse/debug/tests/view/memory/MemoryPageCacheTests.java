@@ -0,0 +1,509 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.view.memory;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.PlatformObject;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.model.IDebugTarget;
+import org.eclipse.debug.core.model.IMemoryBlock;
+import org.eclipse.debug.core.model.IMemoryBlockChangeReporter;
+import org.eclipse.debug.core.model.IMemoryBlockExtension;
+import org.eclipse.debug.core.model.IMemoryBlockRetrieval;
+import org.eclipse.debug.core.model.MemoryBuffer;
+import org.eclipse.debug.core.model.MemoryByte;
+import org.eclipse.debug.internal.core.MemoryBlockChangeTracker;
+import org.eclipse.debug.internal.ui.DebugUIPlugin;
+import org.eclipse.debug.internal.ui.memory.provisional.AbstractAsyncTableRendering;
+import org.eclipse.debug.internal.ui.preferences.IDebugPreferenceConstants;
+import org.eclipse.debug.internal.ui.viewers.AsynchronousTableViewer;
+import org.eclipse.debug.internal.ui.views.memory.MemoryPageCache;
+import org.eclipse.debug.internal.ui.views.memory.MemoryViewUpdateScheduler;
+import org.eclipse.debug.internal.ui.views.memory.renderings.MemorySegment;
+import org.eclipse.debug.internal.ui.views.memory.renderings.TableRenderingContentDescriptor;
+import org.eclipse.debug.internal.ui.views.memory.renderings.TableRenderingModel;
+import org.eclipse.debug.tests.AbstractDebugTest;
+import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+
+/**
+ * Tests the page cache shared by memory renderings
+ */
+public class MemoryPageCacheTests extends AbstractDebugTest {
+
+	/**
+	 * Memory block whose bytes have the low byte of their address as value,
+	 * counting the number of reads.
+	 */
+	static class CountingMemoryBlock extends PlatformObject implements IMemoryBlockExtension {
+
+		volatile int fReads;
+		volatile long fLastUnits;
+		volatile int fValueOffset;
+
+		@Override
+		public MemoryByte[] getBytesFromAddress(BigInteger address, long units) throws DebugException {
+			fReads++;
+			fLastUnits = units;
+			MemoryByte[] bytes = new MemoryByte[(int) units];
+			for (int i = 0; i < bytes.length; i++) {
+				bytes[i] = new MemoryByte((byte) (address.add(BigInteger.valueOf(i)).byteValue() + fValueOffset));
+			}
+			return bytes;
+		}
+
+		@Override
+		public MemoryByte[] getBytesFromOffset(BigInteger unitOffset, long addressableUnits) throws DebugException {
+			return getBytesFromAddress(unitOffset, addressableUnits);
+		}
+
+		@Override
+		public String getExpression() {
+			return "counting"; //$NON-NLS-1$
+		}
+
+		@Override
+		public BigInteger getBigBaseAddress() throws DebugException {
+			return BigInteger.ZERO;
+		}
+
+		@Override
+		public BigInteger getMemoryBlockStartAddress() throws DebugException {
+			return null;
+		}
+
+		@Override
+		public BigInteger getMemoryBlockEndAddress() throws DebugException {
+			return null;
+		}
+
+		@Override
+		public BigInteger getBigLength() throws DebugException {
+			return BigInteger.valueOf(Long.MAX_VALUE);
+		}
+
+		@Override
+		public int getAddressSize() throws DebugException {
+			return 4;
+		}
+
+		@Override
+		public boolean supportBaseAddressModification() throws DebugException {
+			return false;
+		}
+
+		@Override
+		public boolean supportsChangeManagement() {
+			return false;
+		}
+
+		@Override
+		public void setBaseAddress(BigInteger address) throws DebugException {
+		}
+
+		@Override
+		public void setValue(BigInteger offset, byte[] bytes) throws DebugException {
+		}
+
+		@Override
+		public void connect(Object client) {
+		}
+
+		@Override
+		public void disconnect(Object client) {
+		}
+
+		@Override
+		public Object[] getConnections() {
+			return new Object[0];
+		}
+
+		@Override
+		public void dispose() throws DebugException {
+		}
+
+		@Override
+		public IMemoryBlockRetrieval getMemoryBlockRetrieval() {
+			return null;
+		}
+
+		@Override
+		public int getAddressableSize() throws DebugException {
+			return 1;
+		}
+
+		@Override
+		public long getStartAddress() {
+			return 0;
+		}
+
+		@Override
+		public long getLength() {
+			return Long.MAX_VALUE;
+		}
+
+		@Override
+		public byte[] getBytes() throws DebugException {
+			return new byte[0];
+		}
+
+		@Override
+		public boolean supportsValueModification() {
+			return false;
+		}
+
+		@Override
+		public void setValue(long offset, byte[] bytes) throws DebugException {
+		}
+
+		@Override
+		public String getModelIdentifier() {
+			return "org.eclipse.debug.tests"; //$NON-NLS-1$
+		}
+
+		@Override
+		public IDebugTarget getDebugTarget() {
+			return null;
+		}
+
+		@Override
+		public ILaunch getLaunch() {
+			return null;
+		}
+	}
+
+	/**
+	 * Counting memory block reporting a stamp per page.
+	 */
+	static class StampedMemoryBlock extends CountingMemoryBlock implements IMemoryBlockChangeReporter {
+
+		final long[] fStamps = new long[16];
+
+		@Override
+		public long[] getPageStamps(BigInteger address, int pageSize, int numPages) throws DebugException {
+			int firstPage = address.intValue() / pageSize;
+			long[] stamps = new long[numPages];
+			System.arraycopy(fStamps, firstPage, stamps, 0, numPages);
+			return stamps;
+		}
+	}
+
+	/**
+	 * Counting memory block with a hard start and end address.
+	 */
+	static class BoundedMemoryBlock extends CountingMemoryBlock {
+
+		final BigInteger fStart;
+		final BigInteger fEnd;
+
+		BoundedMemoryBlock(long start, long end) {
+			fStart = BigInteger.valueOf(start);
+			fEnd = BigInteger.valueOf(end);
+		}
+
+		@Override
+		public BigInteger getMemoryBlockStartAddress() throws DebugException {
+			return fStart;
+		}
+
+		@Override
+		public BigInteger getMemoryBlockEndAddress() throws DebugException {
+			return fEnd;
+		}
+	}
+
+	/**
+	 * Visible rendering of a memory block without a control, showing 8 lines
+	 * of 16 units and buffering 2 lines before and after.
+	 */
+	static class UnrenderedRendering extends AbstractAsyncTableRendering {
+
+		private final TableRenderingContentDescriptor fDescriptor = new TableRenderingContentDescriptor(this);
+
+		UnrenderedRendering(IMemoryBlock memoryBlock, long loadAddress) {
+			super("org.eclipse.debug.tests.unrendered"); //$NON-NLS-1$
+			init(null, memoryBlock);
+			fDescriptor.setLoadAddress(BigInteger.valueOf(loadAddress));
+			fDescriptor.setNumLines(8);
+			fDescriptor.setPreBuffer(2);
+			fDescriptor.setPostBuffer(2);
+		}
+
+		@Override
+		public <T> T getAdapter(Class<T> adapter) {
+			if (adapter == TableRenderingContentDescriptor.class) {
+				return adapter.cast(fDescriptor);
+			}
+			return super.getAdapter(adapter);
+		}
+
+		@Override
+		public boolean isVisible() {
+			return true;
+		}
+
+		@Override
+		public int getAddressableUnitPerLine() {
+			return 16;
+		}
+
+		@Override
+		public String getString(String renderingTypeId, BigInteger address, MemoryByte[] data) {
+			return ""; //$NON-NLS-1$
+		}
+
+		@Override
+		public byte[] getBytes(String renderingTypeId, BigInteger address, MemoryByte[] currentValues, String newValue) {
+			return new byte[0];
+		}
+	}
+
+	public MemoryPageCacheTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Memory read through the cache matches the memory block, and reads
+	 * within cached pages do not go to the memory block.
+	 */
+	public void testCachedReads() throws DebugException {
+		CountingMemoryBlock block = new CountingMemoryBlock();
+		MemoryPageCache cache = MemoryPageCache.getCache(block);
+		assertSame(cache, MemoryPageCache.getCache(block));
+
+		Object client = new Object();
+		MemoryBuffer memory = cache.getMemory(client, BigInteger.valueOf(100), 64);
+		assertEquals(64, memory.length());
+		for (int i = 0; i < memory.length(); i++) {
+			assertEquals((byte) (100 + i), memory.getValue(i));
+			assertTrue((memory.getFlags(i) & MemoryByte.READABLE) != 0);
+		}
+		assertEquals(1, block.fReads);
+		assertEquals(64, block.fLastUnits);
+
+		memory = cache.getMemory(client, BigInteger.valueOf(100), 64);
+		assertEquals((byte) 100, memory.getValue(0));
+		assertEquals(1, block.fReads);
+
+		MemoryPageCache.invalidateCache(block);
+		cache.getMemory(client, BigInteger.valueOf(100), 64);
+		assertEquals(2, block.fReads);
+	}
+
+	/**
+	 * After an invalidation only the pages whose stamp changed are read
+	 * again.
+	 */
+	public void testReportedChanges() throws DebugException {
+		StampedMemoryBlock block = new StampedMemoryBlock();
+		MemoryPageCache cache = MemoryPageCache.getCache(block);
+		Object client = new Object();
+		cache.getMemory(client, BigInteger.ZERO, 2048);
+		assertEquals(1, block.fReads);
+
+		MemoryPageCache.invalidateCache(block);
+		cache.getMemory(client, BigInteger.ZERO, 2048);
+		assertEquals(1, block.fReads);
+
+		block.fStamps[1]++;
+		MemoryPageCache.invalidateCache(block);
+		MemoryBuffer memory = cache.getMemory(client, BigInteger.ZERO, 2048);
+		assertEquals(2, block.fReads);
+		assertEquals(1024, block.fLastUnits);
+		assertEquals(2048, memory.length());
+		assertEquals((byte) 1025, memory.getValue(1025));
+	}
+
+	/**
+	 * Only the requested memory within the start and end address of the
+	 * memory block is read, the rest is returned as unreadable.
+	 */
+	public void testClampedReads() throws DebugException {
+		BoundedMemoryBlock block = new BoundedMemoryBlock(100, 1999);
+		MemoryPageCache cache = MemoryPageCache.getCache(block);
+		Object client = new Object();
+		MemoryBuffer memory = cache.getMemory(client, BigInteger.ZERO, 256);
+		assertEquals(1, block.fReads);
+		assertEquals(156, block.fLastUnits);
+		assertEquals(256, memory.length());
+		assertEquals(0, memory.getFlags(99) & MemoryByte.READABLE);
+		assertTrue((memory.getFlags(100) & MemoryByte.READABLE) != 0);
+		assertEquals((byte) 100, memory.getValue(100));
+
+		memory = cache.getMemory(client, BigInteger.valueOf(1900), 200);
+		assertEquals(2, block.fReads);
+		assertEquals(100, block.fLastUnits);
+		assertEquals(200, memory.length());
+		assertEquals(0, memory.getFlags(100) & MemoryByte.READABLE);
+
+		memory = cache.getMemory(client, BigInteger.valueOf(4096), 64);
+		assertEquals(2, block.fReads);
+		assertEquals(64, memory.length());
+		assertEquals(0, memory.getFlags(0) & MemoryByte.READABLE);
+
+		// reads within the part of a page already read are cached
+		cache.getMemory(client, BigInteger.valueOf(120), 16);
+		assertEquals(2, block.fReads);
+	}
+
+	/**
+	 * Memory is read ahead of a moving client only when enabled by the
+	 * preference, and never beyond the end address of the memory block.
+	 */
+	public void testPrefetchOptIn() throws Exception {
+		IPreferenceStore store = DebugUIPlugin.getDefault().getPreferenceStore();
+		assertFalse(store.getBoolean(IDebugPreferenceConstants.PREF_MEMORY_PREFETCH));
+		BoundedMemoryBlock block = new BoundedMemoryBlock(0, 2047);
+		MemoryPageCache cache = MemoryPageCache.getCache(block);
+		Object client = new Object();
+		cache.getMemory(client, BigInteger.ZERO, 64);
+		cache.getMemory(client, BigInteger.valueOf(64), 64);
+		assertEquals(2, block.fReads);
+		try {
+			store.setValue(IDebugPreferenceConstants.PREF_MEMORY_PREFETCH, true);
+			cache.getMemory(client, BigInteger.valueOf(128), 64);
+			cache.getMemory(client, BigInteger.valueOf(192), 64);
+			waitWhile(t -> block.fReads < 5, t -> "Memory not read ahead"); //$NON-NLS-1$
+			assertEquals(1024, block.fLastUnits);
+		} finally {
+			store.setToDefault(IDebugPreferenceConstants.PREF_MEMORY_PREFETCH);
+		}
+	}
+
+	private static BigInteger[] range(long start, long end) {
+		return new BigInteger[] { BigInteger.valueOf(start), BigInteger.valueOf(end) };
+	}
+
+	/**
+	 * Ranges shown by several renderings are merged and loaded at once, such
+	 * that the renderings read from the cache.
+	 */
+	public void testMergedLoad() throws DebugException {
+		List<BigInteger[]> ranges = new ArrayList<>();
+		ranges.add(range(3000, 3500));
+		ranges.add(range(100, 600));
+		ranges.add(range(500, 1500));
+		ranges.add(range(1500, 1600));
+		List<BigInteger[]> merged = MemoryViewUpdateScheduler.mergeRanges(ranges);
+		assertEquals(2, merged.size());
+		assertEquals(BigInteger.valueOf(100), merged.get(0)[0]);
+		assertEquals(BigInteger.valueOf(1600), merged.get(0)[1]);
+		assertEquals(BigInteger.valueOf(3000), merged.get(1)[0]);
+		assertEquals(BigInteger.valueOf(3500), merged.get(1)[1]);
+
+		CountingMemoryBlock block = new CountingMemoryBlock();
+		MemoryPageCache cache = MemoryPageCache.getCache(block);
+		for (BigInteger[] range : merged) {
+			cache.load(range[0], range[1].subtract(range[0]).longValue());
+		}
+		assertEquals(2, block.fReads);
+		cache.getMemory(new Object(), BigInteger.valueOf(500), 1000);
+		cache.getMemory(new Object(), BigInteger.valueOf(3000), 500);
+		assertEquals(2, block.fReads);
+
+		// ranges exceeding the cache are left to the renderings
+		cache.load(BigInteger.valueOf(1L << 32), 1L << 30);
+		assertEquals(2, block.fReads);
+	}
+
+	/**
+	 * Refresh requests of several renderings of a memory block, as made when
+	 * the memory block fires a change event, retrieve the memory once.
+	 */
+	public void testCoalescedRefresh() throws Exception {
+		CountingMemoryBlock block = new CountingMemoryBlock();
+		MemoryPageCache cache = MemoryPageCache.getCache(block);
+		MemoryViewUpdateScheduler scheduler = MemoryViewUpdateScheduler.getDefault();
+		for (int i = 0; i < 8; i++) {
+			scheduler.scheduleRefresh(new UnrenderedRendering(block, 0x1100 + i * 16));
+		}
+		Job.getJobManager().join(scheduler, null);
+		assertEquals(1, block.fReads);
+		assertEquals(0x1270 - 0x10E0, block.fLastUnits);
+		cache.getMemory(new Object(), BigInteger.valueOf(0x10E0), 0x1270 - 0x10E0);
+		assertEquals(1, block.fReads);
+	}
+
+	/**
+	 * A page read again with the same content keeps its version, and lines of
+	 * a rendering with the same version are not compared byte by byte.
+	 */
+	public void testUnchangedPagesNotCompared() throws DebugException {
+		CountingMemoryBlock block = new CountingMemoryBlock();
+		MemoryPageCache cache = MemoryPageCache.getCache(block);
+		Object client = new Object();
+		cache.getMemory(client, BigInteger.ZERO, 64);
+		long version = cache.getVersion(client, BigInteger.ZERO, 16);
+		assertTrue(version > 0);
+
+		MemoryPageCache.invalidateCache(block);
+		cache.getMemory(client, BigInteger.ZERO, 64);
+		assertEquals(2, block.fReads);
+		assertEquals(version, cache.getVersion(client, BigInteger.ZERO, 16));
+
+		block.fValueOffset = 1;
+		MemoryPageCache.invalidateCache(block);
+		cache.getMemory(client, BigInteger.ZERO, 64);
+		assertEquals(3, block.fReads);
+		long changedVersion = cache.getVersion(client, BigInteger.ZERO, 16);
+		assertTrue(changedVersion > version);
+
+		byte flags = MemoryByte.READABLE | MemoryByte.WRITABLE;
+		Shell shell = new Shell(Display.getDefault());
+		try {
+			TableRenderingModel model = new TableRenderingModel(new AsynchronousTableViewer(shell));
+			MemorySegment oldLine = new MemorySegment(BigInteger.ZERO, new MemoryBuffer(new byte[] { 1, 2, 3, 4 }, flags), 4);
+			oldLine.setVersion(version);
+			model.cache(new Object[] { oldLine });
+
+			// different values with the same version show the line is not
+			// compared
+			MemorySegment sameVersion = new MemorySegment(BigInteger.ZERO, new MemoryBuffer(new byte[] { 5, 6, 7, 8 }, flags), 4);
+			sameVersion.setVersion(version);
+			model.compare(new Object[] { sameVersion });
+			for (int i = 0; i < sameVersion.getLength(); i++) {
+				assertEquals(flags | MemoryByte.HISTORY_KNOWN, sameVersion.getFlags(i));
+			}
+
+			MemorySegment newVersion = new MemorySegment(BigInteger.ZERO, new MemoryBuffer(new byte[] { 5, 6, 7, 8 }, flags), 4);
+			newVersion.setVersion(changedVersion);
+			model.compare(new Object[] { newVersion });
+			for (int i = 0; i < newVersion.getLength(); i++) {
+				assertTrue((newVersion.getFlags(i) & MemoryByte.CHANGED) != 0);
+			}
+		} finally {
+			shell.dispose();
+		}
+	}
+
+	/**
+	 * The tracker reports changes by the hash of the content of a page.
+	 */
+	public void testTrackerHashes() {
+		MemoryBlockChangeTracker tracker = new MemoryBlockChangeTracker(new CountingMemoryBlock(), 4);
+		BigInteger page = BigInteger.ONE;
+		byte[] values = new byte[] { 1, 2, 3, 4 };
+		assertTrue(tracker.update(page, new MemoryBuffer(values.clone(), MemoryByte.READABLE)));
+		assertFalse(tracker.update(page, new MemoryBuffer(values.clone(), MemoryByte.READABLE)));
+		assertTrue(tracker.update(page, new MemoryBuffer(values.clone(), MemoryBuffer.UNREADABLE_FLAGS)));
+		values[3] = 5;
+		assertTrue(tracker.update(page, new MemoryBuffer(values.clone(), MemoryBuffer.UNREADABLE_FLAGS)));
+	}
+}
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.view.memory;
+
+import java.util.Random;
+
+import org.eclipse.debug.core.model.MemoryBuffer;
+import org.eclipse.debug.core.model.MemoryByte;
+import org.eclipse.debug.internal.ui.views.memory.renderings.MemoryLineFormatter;
+import org.eclipse.debug.internal.ui.views.memory.renderings.RenderingsUtil;
+import org.eclipse.debug.tests.AbstractDebugTest;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+
+/**
+ * Measures formatting of memory rendering cells.
+ */
+public class MemoryRenderingPerformanceTests extends AbstractDebugTest {
+
+	private static final int NUM_CELLS = 1000000;
+
+	private byte[][] fCells;
+
+	public MemoryRenderingPerformanceTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		Random random = new Random(1);
+		fCells = new byte[1024][8];
+		for (int i = 0; i < fCells.length; i++) {
+			random.nextBytes(fCells[i]);
+		}
+	}
+
+	/**
+	 * Formats 1M eight byte cells as unsigned integers.
+	 */
+	public void testFormatUnsignedCells() {
+		Performance perf = Performance.getDefault();
+		PerformanceMeter meter = perf.createPerformanceMeter(perf.getDefaultScenarioId(this));
+		try {
+			for (int pass = 0; pass < 10; pass++) {
+				int length = 0;
+				meter.start();
+				for (int i = 0; i < NUM_CELLS; i++) {
+					long value = RenderingsUtil.convertByteArrayToLong(fCells[i % fCells.length], RenderingsUtil.LITTLE_ENDIAN);
+					length += Long.toUnsignedString(value).length();
+				}
+				meter.stop();
+				assertTrue(length > 0);
+				System.gc();
+			}
+			meter.commit();
+			perf.assertPerformance(meter);
+		} finally {
+			meter.dispose();
+		}
+	}
+
+	/**
+	 * Formats 1M six byte cells as signed integers.
+	 */
+	public void testFormatSignedCells() {
+		Performance perf = Performance.getDefault();
+		PerformanceMeter meter = perf.createPerformanceMeter(perf.getDefaultScenarioId(this));
+		try {
+			for (int pass = 0; pass < 10; pass++) {
+				int length = 0;
+				meter.start();
+				for (int i = 0; i < NUM_CELLS; i++) {
+					long value = RenderingsUtil.convertByteArrayToLong(fCells[i % fCells.length], RenderingsUtil.BIG_ENDIAN, 6, true);
+					length += Long.toString(value).length();
+				}
+				meter.stop();
+				assertTrue(length > 0);
+				System.gc();
+			}
+			meter.commit();
+			perf.assertPerformance(meter);
+		} finally {
+			meter.dispose();
+		}
+	}
+
+	/**
+	 * Formats 1M four byte cells as hexadecimal, a line of 16 bytes at a
+	 * time.
+	 */
+	public void testFormatHexLines() {
+		MemoryBuffer[] lines = new MemoryBuffer[fCells.length / 2];
+		for (int i = 0; i < lines.length; i++) {
+			byte[] line = new byte[16];
+			System.arraycopy(fCells[i * 2], 0, line, 0, 8);
+			System.arraycopy(fCells[i * 2 + 1], 0, line, 8, 8);
+			lines[i] = new MemoryBuffer(line, MemoryByte.READABLE);
+		}
+		MemoryLineFormatter formatter = new MemoryLineFormatter();
+		Performance perf = Performance.getDefault();
+		PerformanceMeter meter = perf.createPerformanceMeter(perf.getDefaultScenarioId(this));
+		try {
+			for (int pass = 0; pass < 10; pass++) {
+				int length = 0;
+				meter.start();
+				for (int i = 0; i < NUM_CELLS / 4; i++) {
+					formatter.formatHex(lines[i % lines.length], 4, "??"); //$NON-NLS-1$
+					length += formatter.getColumnLength(formatter.getNumColumns() - 1);
+				}
+				meter.stop();
+				assertTrue(length > 0);
+				System.gc();
+			}
+			meter.commit();
+			perf.assertPerformance(meter);
+		} finally {
+			meter.dispose();
+		}
+	}
+}
@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.view.memory;
+
+import java.math.BigInteger;
+
+import org.eclipse.debug.core.model.IMemoryBlockExtension;
+import org.eclipse.debug.core.model.MemoryBuffer;
+import org.eclipse.debug.core.model.MemoryByte;
+import org.eclipse.debug.examples.internal.memory.core.SampleDebugTarget;
+import org.eclipse.debug.examples.internal.memory.engine.SampleEngine;
+import org.eclipse.debug.examples.internal.memory.engine.SampleEngineConfiguration;
+import org.eclipse.debug.internal.ui.views.memory.MemoryPageCache;
+import org.eclipse.debug.tests.AbstractDebugTest;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+
+/**
+ * Measures scrolling through a large, sparse address space served by the
+ * scalable mode of the sample memory engine, with a simulated latency per
+ * request, holes of unreadable memory and memory changing on each resume.
+ * The performance meter reports the scroll time and the growth of the Java
+ * heap while scrolling, that is the memory allocated by the page cache. The
+ * number of bytes fetched from the engine is asserted, since the performance
+ * meter only reports its own dimensions.
+ */
+public class MemoryViewBenchmarkTests extends AbstractDebugTest {
+
+	/**
+	 * Number of addressable units shown on one screen, 64 lines of 16 units.
+	 */
+	private static final int SCREEN_UNITS = 1024;
+
+	/**
+	 * Number of screens scrolled per pass, 4 MB.
+	 */
+	private static final int NUM_SCREENS = 4096;
+
+	private SampleDebugTarget fTarget;
+
+	private SampleEngine fEngine;
+
+	public MemoryViewBenchmarkTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		SampleEngineConfiguration configuration = new SampleEngineConfiguration();
+		configuration.setAddressSpaceSize(64L << 30);
+		configuration.setSeed(1);
+		configuration.setLatency(1);
+		configuration.setChangeRate(0.02);
+		configuration.setHoles(1 << 20, 64 << 10);
+		fTarget = new SampleDebugTarget(null);
+		fEngine = fTarget.getEngine();
+		fEngine.setConfiguration(configuration);
+	}
+
+	/**
+	 * Scrolls down through 4 MB beyond the 4 GB boundary a screen at a
+	 * time, through the page cache shared by the memory renderings. The
+	 * target is resumed between passes, such that all pages become stale.
+	 */
+	public void testScrollSparseMemory() throws Exception {
+		IMemoryBlockExtension block = fTarget.getExtendedMemoryBlock("0x100000000", null); //$NON-NLS-1$
+		MemoryPageCache cache = MemoryPageCache.getCache(block);
+		BigInteger start = block.getBigBaseAddress();
+		BigInteger screen = BigInteger.valueOf(SCREEN_UNITS);
+		Performance perf = Performance.getDefault();
+		PerformanceMeter meter = perf.createPerformanceMeter(perf.getDefaultScenarioId(this));
+		perf.tagAsSummary(meter, "Memory view scroll", new Dimension[] { Dimension.ELAPSED_PROCESS, Dimension.USED_JAVA_HEAP }); //$NON-NLS-1$
+		try {
+			for (int pass = 0; pass < 5; pass++) {
+				fEngine.resume();
+				cache.invalidate();
+				fEngine.resetStatistics();
+				int unreadable = 0;
+				meter.start();
+				BigInteger address = start;
+				for (int i = 0; i < NUM_SCREENS; i++) {
+					MemoryBuffer memory = cache.getMemory(this, address, SCREEN_UNITS);
+					assertNotNull(memory);
+					if ((memory.getFlags(0) & MemoryByte.READABLE) == 0) {
+						unreadable++;
+					}
+					address = address.add(screen);
+				}
+				meter.stop();
+				assertTrue(unreadable > 0);
+				// stale pages are fetched again, each unit exactly once
+				assertEquals((long) NUM_SCREENS * SCREEN_UNITS, fEngine.getBytesFetched());
+			}
+			meter.commit();
+			perf.assertPerformance(meter);
+		} finally {
+			meter.dispose();
+		}
+	}
+}
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.view.memory;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.eclipse.debug.internal.ui.views.memory.renderings.MemoryAddress;
+import org.eclipse.debug.internal.ui.views.memory.renderings.RenderingsUtil;
+import org.eclipse.debug.tests.AbstractDebugTest;
+
+/**
+ * Tests the primitive fast paths of memory rendering conversions against
+ * <code>BigInteger</code> arithmetic.
+ */
+public class RenderingsUtilTests extends AbstractDebugTest {
+
+	private static final int[] ENDIANESS = { RenderingsUtil.LITTLE_ENDIAN, RenderingsUtil.BIG_ENDIAN };
+
+	public RenderingsUtilTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Returns the bytes in big endian order.
+	 */
+	private static byte[] toBigEndian(byte[] bytes, int endianess) {
+		byte[] result = new byte[bytes.length];
+		for (int i = 0; i < bytes.length; i++) {
+			result[i] = endianess == RenderingsUtil.LITTLE_ENDIAN ? bytes[bytes.length - 1 - i] : bytes[i];
+		}
+		return result;
+	}
+
+	public void testLongConversions() {
+		Random random = new Random(42);
+		for (int size = 1; size <= 8; size++) {
+			for (int endianess : ENDIANESS) {
+				for (int i = 0; i < 200; i++) {
+					byte[] bytes = new byte[size];
+					random.nextBytes(bytes);
+					BigInteger signed = new BigInteger(toBigEndian(bytes, endianess));
+					BigInteger unsigned = new BigInteger(1, toBigEndian(bytes, endianess));
+					assertEquals(signed.longValue(), RenderingsUtil.convertByteArrayToLong(bytes, endianess, size, true));
+					assertEquals(unsigned.toString(), Long.toUnsignedString(RenderingsUtil.convertByteArrayToLong(bytes, endianess, size, false)));
+					assertEquals(unsigned, RenderingsUtil.convertByteArrayToUnsignedBigInt(bytes, endianess, size));
+				}
+			}
+		}
+	}
+
+	public void testUnsignedBigIntConversions() {
+		Random random = new Random(7);
+		for (int endianess : ENDIANESS) {
+			byte[] bytes = new byte[16];
+			random.nextBytes(bytes);
+			assertEquals(new BigInteger(1, toBigEndian(bytes, endianess)), RenderingsUtil.convertByteArrayToUnsignedBigInt(bytes, endianess));
+			byte[] longBytes = new byte[8];
+			System.arraycopy(bytes, 0, longBytes, 0, 8);
+			assertEquals(new BigInteger(1, toBigEndian(longBytes, endianess)), RenderingsUtil.convertByteArrayToUnsignedLong(longBytes, endianess));
+		}
+	}
+
+	public void testMemoryAddress() {
+		BigInteger max = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+		MemoryAddress address = MemoryAddress.valueOf(max.subtract(BigInteger.valueOf(15)));
+		assertEquals("fffffffffffffff0", address.toHexString()); //$NON-NLS-1$
+		assertEquals(max, address.add(15).toBigInteger());
+		assertEquals(max.add(BigInteger.ONE), address.add(16).toBigInteger());
+		assertEquals("10000000000000000", address.add(16).toHexString()); //$NON-NLS-1$
+		assertTrue(address.compareTo(address.add(16)) < 0);
+		assertEquals("000000FF", MemoryAddress.valueOf(BigInteger.valueOf(255)).toHexString(8)); //$NON-NLS-1$
+		assertEquals(MemoryAddress.valueOf(BigInteger.TEN), MemoryAddress.valueOf(BigInteger.ONE).add(9));
+	}
+}
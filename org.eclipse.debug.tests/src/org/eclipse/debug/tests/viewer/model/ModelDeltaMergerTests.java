@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.viewer.model;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.debug.internal.ui.viewers.model.ModelDeltaMerger;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.IModelDelta;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.IModelDeltaVisitor;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.ModelDelta;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.PresentationContext;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.VirtualTreeModelViewer;
+import org.eclipse.debug.tests.AbstractDebugTest;
+import org.eclipse.debug.tests.viewer.model.TestModel.TestElement;
+import org.eclipse.jface.viewers.TreePath;
+
+/**
+ * Tests merging of queued model deltas.
+ *
+ * @since 3.14
+ */
+public class ModelDeltaMergerTests extends AbstractDebugTest {
+
+	private Object fRoot;
+	private Object fTarget;
+	private Object fThread;
+	private Object fFrame;
+
+	public ModelDeltaMergerTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fRoot = new Object();
+		fTarget = new Object();
+		fThread = new Object();
+		fFrame = new Object();
+	}
+
+	private ModelDelta createThreadDelta(int threadFlags) {
+		ModelDelta delta = new ModelDelta(fRoot, IModelDelta.NO_CHANGE);
+		delta.addNode(fTarget, 0, IModelDelta.NO_CHANGE).addNode(fThread, 0, threadFlags);
+		return delta;
+	}
+
+	/**
+	 * Counts the nodes in the delta which would cause the viewer to refresh.
+	 */
+	private int countRefreshes(IModelDelta delta) {
+		final int[] count = new int[1];
+		delta.accept(new IModelDeltaVisitor() {
+			@Override
+			public boolean visit(IModelDelta node, int depth) {
+				if ((node.getFlags() & (IModelDelta.CONTENT | IModelDelta.STATE)) != 0) {
+					count[0]++;
+				}
+				return true;
+			}
+		});
+		return count[0];
+	}
+
+	/**
+	 * A storm of content deltas on the same subtree collapses into a single
+	 * delta refreshing the subtree once.
+	 */
+	public void testMergeContentStorm() {
+		IModelDelta merged = createThreadDelta(IModelDelta.CONTENT);
+		for (int i = 0; i < 1000; i++) {
+			merged = ModelDeltaMerger.merge(merged, createThreadDelta(IModelDelta.CONTENT));
+			assertNotNull(merged);
+		}
+		assertEquals(1, countRefreshes(merged));
+		IModelDelta threadDelta = merged.getChildDeltas()[0].getChildDeltas()[0];
+		assertSame(fThread, threadDelta.getElement());
+		assertEquals(IModelDelta.CONTENT, threadDelta.getFlags());
+	}
+
+	/**
+	 * Flags of the same node are combined, distinct nodes are both kept.
+	 */
+	public void testMergeFlagsAndNodes() {
+		ModelDelta second = createThreadDelta(IModelDelta.STATE);
+		((ModelDelta) second.getChildDeltas()[0].getChildDeltas()[0]).addNode(fFrame, 0, IModelDelta.STATE);
+		IModelDelta merged = ModelDeltaMerger.merge(createThreadDelta(IModelDelta.CONTENT), second);
+		assertNotNull(merged);
+		IModelDelta threadDelta = merged.getChildDeltas()[0].getChildDeltas()[0];
+		assertEquals(IModelDelta.CONTENT | IModelDelta.STATE, threadDelta.getFlags());
+		assertEquals(1, threadDelta.getChildDeltas().length);
+		assertSame(fFrame, threadDelta.getChildDeltas()[0].getElement());
+	}
+
+	/**
+	 * Merging must not modify the deltas fired by the model.
+	 */
+	public void testSourceDeltasUnchanged() {
+		ModelDelta first = createThreadDelta(IModelDelta.CONTENT);
+		ModelDelta second = createThreadDelta(IModelDelta.STATE);
+		ModelDeltaMerger.merge(first, second);
+		assertEquals(IModelDelta.CONTENT, first.getChildDeltas()[0].getChildDeltas()[0].getFlags());
+		assertEquals(IModelDelta.STATE, second.getChildDeltas()[0].getChildDeltas()[0].getFlags());
+	}
+
+	/**
+	 * Order dependent deltas are never merged.
+	 */
+	public void testNoMergeOfStructuralDeltas() {
+		assertNull(ModelDeltaMerger.merge(createThreadDelta(IModelDelta.CONTENT), createThreadDelta(IModelDelta.ADDED)));
+		assertNull(ModelDeltaMerger.merge(createThreadDelta(IModelDelta.REMOVED), createThreadDelta(IModelDelta.CONTENT)));
+		assertNull(ModelDeltaMerger.merge(createThreadDelta(IModelDelta.CONTENT), createThreadDelta(IModelDelta.SELECT | IModelDelta.STATE)));
+	}
+
+	/**
+	 * Deltas rooted at different elements are never merged.
+	 */
+	public void testNoMergeOfDifferentRoots() {
+		ModelDelta other = new ModelDelta(new Object(), IModelDelta.CONTENT);
+		assertNull(ModelDeltaMerger.merge(createThreadDelta(IModelDelta.CONTENT), other));
+	}
+
+	/**
+	 * Waits until the given viewer processed the runnables queued before.
+	 */
+	private void syncViewerThread(VirtualTreeModelViewer viewer) throws Exception {
+		FutureTask<Object> task = new FutureTask<>(() -> null);
+		viewer.asyncExecInViewerThread(task);
+		task.get(testTimeout, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * A burst of state deltas fired while the viewer is busy is applied by a
+	 * single model change of the viewer.
+	 */
+	public void testBurstChangesViewerOnce() throws Exception {
+		TestModel model = TestModel.simpleMultiLevel();
+		VirtualTreeModelViewer viewer = new VirtualTreeModelViewer(0, new PresentationContext("TestViewer"), null); //$NON-NLS-1$
+		AtomicInteger changes = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+		try {
+			viewer.asyncExecInViewerThread(() -> {
+				viewer.addModelChangedListener((delta, proxy) -> changes.incrementAndGet());
+				viewer.setAutoExpandLevel(-1);
+				viewer.setInput(model.getRootElement());
+			});
+			// the model proxy fires a delta once installed
+			waitWhile(t -> changes.get() == 0, t -> "model proxy not installed"); //$NON-NLS-1$
+			syncViewerThread(viewer);
+			changes.set(0);
+
+			viewer.asyncExecInViewerThread(() -> {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			TestElement element = model.getRootElement().getChildren()[0];
+			TreePath path = TreePath.EMPTY.createChildPath(element);
+			for (int i = 0; i < 100; i++) {
+				model.postDelta(model.appendElementLabel(path, "-" + i)); //$NON-NLS-1$
+			}
+			release.countDown();
+			syncViewerThread(viewer);
+			assertEquals(1, changes.get());
+		} finally {
+			release.countDown();
+			viewer.asyncExecInViewerThread(() -> {
+				viewer.getPresentationContext().dispose();
+				viewer.dispose();
+			});
+		}
+	}
+}
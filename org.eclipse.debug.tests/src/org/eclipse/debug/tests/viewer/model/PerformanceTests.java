@@ -218,6 +218,51 @@ abstract public class PerformanceTests extends AbstractViewerModelTest implement
         }
     }
 
+	/**
+	 * Refreshes a wide, expanded tree where many sibling elements have
+	 * outstanding updates at the same time. This stresses the scheduling of
+	 * waiting updates in the content provider.
+	 */
+	public void testRefreshWideStruct() throws Exception {
+        TestModel model = new TestModel();
+		model.setRoot(new TestElement(model, "root", new TestElement[0])); //$NON-NLS-1$
+        int numElements = (int)Math.pow(2, getTestModelDepth());
+		model.setElementChildren(TreePath.EMPTY, TestModel.makeMultiLevelElements2(model, new int[] { numElements, 4 }, "model.")); //$NON-NLS-1$
+
+        fViewer.setAutoExpandLevel(-1);
+
+        // Create the listener
+        fListener.reset(TreePath.EMPTY, model.getRootElement(), -1, true, false);
+
+        // Set the input into the view and update the view.
+        fViewer.setInput(model.getRootElement());
+		waitWhile(t -> !fListener.isFinished(), createListenerErrorMessage());
+        model.validateData(fViewer, TreePath.EMPTY);
+
+        Performance perf = Performance.getDefault();
+        PerformanceMeter meter = perf.createPerformanceMeter(perf.getDefaultScenarioId(this));
+        try {
+            for (int i = 0; i < 20; i++) {
+                // Update the model
+				model.setAllAppendix(" - pass " + i); //$NON-NLS-1$
+
+                TestElement element = model.getRootElement();
+                fListener.reset(TreePath.EMPTY, element, -1, false, false);
+
+                meter.start();
+                model.postDelta(new ModelDelta(element, IModelDelta.CONTENT));
+				waitWhile(t -> !fListener.isFinished(ALL_UPDATES_COMPLETE | MODEL_CHANGED_COMPLETE), createListenerErrorMessage());
+                meter.stop();
+                System.gc();
+            }
+
+            meter.commit();
+            perf.assertPerformance(meter);
+        } finally {
+            meter.dispose();
+        }
+    }
+
 	public void testSaveAndRestore() throws Exception {
         //TreeModelViewerAutopopulateAgent autopopulateAgent = new TreeModelViewerAutopopulateAgent(fViewer);
         TestModel model = TestModel.simpleMultiLevel();
@@ -1034,6 +1034,66 @@ new TreePath[] { model.findElement("5"), model.findElement("5.1"), model.findEle
 		assertEquals(new TreeSelection(model.findElement("1")), fViewer.getSelection()); //$NON-NLS-1$
     }
 
+    /**
+     * Saves and restores the state the way the Variables view does on resume
+     * and suspend. The mementos of elements are re-used from the previous
+     * save, except for the elements changed while suspended, and restoring
+     * the state needs no comparison of elements with mementos.
+     */
+	public void testSaveAndRestoreCachedMementos() throws Exception {
+        TestModel model = TestModel.simpleMultiLevel();
+        fViewer.setAutoExpandLevel(-1);
+        fListener.reset(TreePath.EMPTY, model.getRootElement(), -1, true, false);
+        fViewer.setInput(model.getRootElement());
+		waitWhile(t -> !fListener.isFinished(), createListenerErrorMessage());
+        fViewer.setAutoExpandLevel(0);
+		TreeSelection originalSelection = new TreeSelection(model.findElement("1")); //$NON-NLS-1$
+        fViewer.setSelection(originalSelection);
+
+        // Resume: the expanded and selected elements are encoded.
+        int mementoRequests = model.getMementoRequestCount();
+        fListener.reset();
+        fViewer.setInput(null);
+		waitWhile(t -> !fListener.isFinished(STATE_SAVE_COMPLETE), createListenerErrorMessage());
+        int firstSave = model.getMementoRequestCount() - mementoRequests;
+        assertTrue(firstSave > 2);
+
+        // Suspend: the elements are restored from their own mementos.
+        int compareRequests = model.getCompareRequestCount();
+        fListener.reset();
+        fViewer.setInput(model.getRootElement());
+		waitWhile(t -> !fListener.isFinished(CONTENT_SEQUENCE_COMPLETE | STATE_RESTORE_COMPLETE), createListenerErrorMessage());
+        assertEquals(0, model.getCompareRequestCount() - compareRequests);
+		assertTrue(getInternalViewer().getExpandedState(model.findElement("3.1")) == true); //$NON-NLS-1$
+        assertTrue( areTreeSelectionsEqual(originalSelection, (ITreeSelection)fViewer.getSelection()) );
+
+        // The content and state of element "3" change.
+		TreePath elementPath = model.findElement("3"); //$NON-NLS-1$
+        ModelDelta rootDelta = new ModelDelta(model.getRootElement(), IModelDelta.NO_CHANGE);
+        model.getElementDelta(rootDelta, elementPath, true).setFlags(IModelDelta.CONTENT | IModelDelta.STATE);
+        fListener.reset(false, false);
+        fListener.addUpdates(getInternalViewer(), elementPath, model.getElement(elementPath), -1, ALL_UPDATES_COMPLETE);
+        model.postDelta(rootDelta);
+		waitWhile(t -> !fListener.isFinished(ALL_UPDATES_COMPLETE | STATE_RESTORE_COMPLETE), createListenerErrorMessage());
+
+        // Resume: only element "3" and the elements below it are encoded again.
+        mementoRequests = model.getMementoRequestCount();
+        fListener.reset();
+        fViewer.setInput(null);
+		waitWhile(t -> !fListener.isFinished(STATE_SAVE_COMPLETE), createListenerErrorMessage());
+        assertEquals(firstSave - 2, model.getMementoRequestCount() - mementoRequests);
+
+        // Suspend
+        compareRequests = model.getCompareRequestCount();
+        fListener.reset();
+        fViewer.setInput(model.getRootElement());
+		waitWhile(t -> !fListener.isFinished(CONTENT_SEQUENCE_COMPLETE | STATE_RESTORE_COMPLETE), createListenerErrorMessage());
+        assertEquals(0, model.getCompareRequestCount() - compareRequests);
+		assertTrue(getInternalViewer().getExpandedState(model.findElement("2")) == true); //$NON-NLS-1$
+		assertTrue(getInternalViewer().getExpandedState(model.findElement("3.3")) == true); //$NON-NLS-1$
+        assertTrue( areTreeSelectionsEqual(originalSelection, (ITreeSelection)fViewer.getSelection()) );
+    }
+
     /**
      * Test for bug 359859.<br>
      * This test verifies that RESTORE state is handled after SAVE previous state was completed
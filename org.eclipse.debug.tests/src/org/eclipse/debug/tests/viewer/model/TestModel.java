@@ -179,6 +179,9 @@ public class TestModel implements IElementContentProvider, IElementLabelProvider
     private boolean fQueueingUpdates = false;
     private boolean fDelayUpdates = false;
 	private List<IViewerUpdate> fQueuedUpdates = new LinkedList<>();
+    private int fLabelUpdateCount = 0;
+    private int fMementoRequestCount = 0;
+    private int fCompareRequestCount = 0;
 
     /**
      * Constructor private.  Use static factory methods instead.
@@ -239,6 +242,30 @@ public class TestModel implements IElementContentProvider, IElementLabelProvider
         fDelayUpdates = delayUpdates;
     }
 
+    /**
+     * Returns the number of label updates processed by this model.
+     * @return number of label updates
+     */
+    public int getLabelUpdateCount() {
+        return fLabelUpdateCount;
+    }
+
+    /**
+     * Returns the number of element memento requests processed by this model.
+     * @return number of memento requests
+     */
+    public int getMementoRequestCount() {
+        return fMementoRequestCount;
+    }
+
+    /**
+     * Returns the number of element compare requests processed by this model.
+     * @return number of compare requests
+     */
+    public int getCompareRequestCount() {
+        return fCompareRequestCount;
+    }
+
 	public List<IViewerUpdate> getQueuedUpdates() {
         return fQueuedUpdates;
     }
@@ -328,6 +355,7 @@ public class TestModel implements IElementContentProvider, IElementLabelProvider
     }
 
     private void doLabelUpdate(ILabelUpdate update) {
+        fLabelUpdateCount++;
         TestElement element = (TestElement)update.getElement();
         update.setLabel(element.getLabel(), 0);
         if (update instanceof ICheckUpdate &&
@@ -346,6 +374,7 @@ public class TestModel implements IElementContentProvider, IElementLabelProvider
     }
 
     private void doCompareElements(IElementCompareRequest update) {
+        fCompareRequestCount++;
         String elementID = ((TestElement)update.getElement()).getID();
         String mementoID = update.getMemento().getString(ELEMENT_MEMENTO_ID);
         update.setEqual( elementID.equals(mementoID) );
@@ -358,6 +387,7 @@ public class TestModel implements IElementContentProvider, IElementLabelProvider
     }
 
     private void doEncodeElements(IElementMementoRequest update) {
+        fMementoRequestCount++;
         String elementID = ((TestElement)update.getElement()).getID();
         update.getMemento().putString(ELEMENT_MEMENTO_ID, elementID);
         update.done();
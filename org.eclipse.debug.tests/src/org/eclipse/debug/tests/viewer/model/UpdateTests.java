@@ -20,8 +20,11 @@ import java.util.LinkedList;
 import java.util.List;
 
 import org.eclipse.debug.internal.ui.viewers.model.IInternalTreeModelViewer;
+import org.eclipse.debug.internal.ui.viewers.model.ILabelUpdateListener;
+import org.eclipse.debug.internal.ui.viewers.model.TreeModelLabelProvider;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IChildrenCountUpdate;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IHasChildrenUpdate;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.ILabelUpdate;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IModelDelta;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IModelDeltaVisitor;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IViewerUpdate;
@@ -200,6 +203,135 @@ abstract public class UpdateTests extends AbstractViewerModelTest implements ITe
 		addElement(model, "4-new", 4, true); //$NON-NLS-1$
     }
 
+    /**
+     * This test verifies that refreshing the viewer without a model delta
+     * retrieves the labels from the model again, rather than serving labels
+     * retained since the last update.
+     */
+	public void testRefreshLabelsWithoutDelta() throws Exception {
+        TestModel model = TestModel.simpleSingleLevel();
+        fViewer.setAutoExpandLevel(-1);
+
+        // Create the listener
+        fListener.reset(TreePath.EMPTY, model.getRootElement(), -1, true, false);
+
+        // Set the input into the view and update the view.
+        fViewer.setInput(model.getRootElement());
+		waitWhile(t -> !fListener.isFinished(), createListenerErrorMessage());
+        model.validateData(fViewer, TreePath.EMPTY);
+
+        // Change the labels without a delta and refresh the whole viewer.
+        model.setAllAppendix(" - refreshed"); //$NON-NLS-1$
+        final int children = model.getRootElement().getChildren().length;
+        final int labelUpdates = model.getLabelUpdateCount();
+        fViewer.refresh();
+		waitWhile(t -> model.getLabelUpdateCount() - labelUpdates < children, t -> "Labels not retrieved from the model on refresh"); //$NON-NLS-1$
+
+        // Change the label of a single element and refresh that element.
+        TestElement element = model.getRootElement().getChildren()[0];
+        element.setLabelAppendix(" - refreshed again"); //$NON-NLS-1$
+        final int elementLabelUpdates = model.getLabelUpdateCount();
+        fViewer.refresh(element);
+		waitWhile(t -> model.getLabelUpdateCount() == elementLabelUpdates, t -> "Label not retrieved from the model on element refresh"); //$NON-NLS-1$
+    }
+
+    /**
+     * This test verifies that labels are served from the label cache until
+     * they are invalidated by a <code>STATE</code> delta (element only), a
+     * <code>CONTENT</code> delta (element and its sub-tree) or a
+     * <code>REMOVED</code> delta.
+     */
+	public void testLabelCache() throws Exception {
+        TestModel model = TestModel.simpleMultiLevel();
+        fViewer.setAutoExpandLevel(-1);
+
+        // Create the listener
+        fListener.reset(TreePath.EMPTY, model.getRootElement(), -1, true, false);
+
+        // Set the input into the view and update the view.
+        fViewer.setInput(model.getRootElement());
+		waitWhile(t -> !fListener.isFinished(), createListenerErrorMessage());
+        model.validateData(fViewer, TreePath.EMPTY);
+
+        TreePath path1 = model.findElement("1"); //$NON-NLS-1$
+        TreePath path2 = model.findElement("2"); //$NON-NLS-1$
+        TreePath path2_1 = model.findElement("2.1"); //$NON-NLS-1$
+        TreePath path3_1 = model.findElement("3.1"); //$NON-NLS-1$
+        TreePath path3_1_1 = model.findElement("3.1.1"); //$NON-NLS-1$
+        TreePath path3_2_1 = model.findElement("3.2.1"); //$NON-NLS-1$
+
+        TreeModelLabelProvider labelProvider = new TreeModelLabelProvider(fViewer);
+        try {
+            TreePath[] paths = new TreePath[] { path1, path2, path2_1, path3_1_1, path3_2_1 };
+            for (TreePath path : paths) {
+                Assert.assertTrue(updateLabel(labelProvider, model, path));
+            }
+            // Cache hit: the model is not asked for the labels again.
+            for (TreePath path : paths) {
+                Assert.assertFalse(updateLabel(labelProvider, model, path));
+            }
+
+            // STATE invalidates the element only.
+            fListener.reset();
+            model.postDelta(model.makeElementDelta(path2, IModelDelta.STATE));
+			waitWhile(t -> !fListener.isFinished(MODEL_CHANGED_COMPLETE | LABEL_SEQUENCE_COMPLETE), createListenerErrorMessage());
+            Assert.assertTrue(updateLabel(labelProvider, model, path2));
+            Assert.assertFalse(updateLabel(labelProvider, model, path2_1));
+
+            // CONTENT invalidates the element and its sub-tree.
+            fListener.reset();
+            model.postDelta(model.makeElementDelta(path3_1, IModelDelta.CONTENT));
+			waitWhile(t -> !fListener.isFinished(MODEL_CHANGED_COMPLETE | CONTENT_SEQUENCE_COMPLETE | LABEL_SEQUENCE_COMPLETE), createListenerErrorMessage());
+            Assert.assertTrue(updateLabel(labelProvider, model, path3_1_1));
+            Assert.assertFalse(updateLabel(labelProvider, model, path3_2_1));
+
+            // REMOVED invalidates the removed element.
+            fListener.reset();
+            model.postDelta(model.removeElementChild(TreePath.EMPTY, 0));
+			waitWhile(t -> !fListener.isFinished(MODEL_CHANGED_COMPLETE), createListenerErrorMessage());
+            Assert.assertTrue(updateLabel(labelProvider, model, path1));
+        } finally {
+            labelProvider.dispose();
+        }
+    }
+
+    /**
+     * Requests the label of the given element from the given label provider
+     * and waits for the update to complete.
+     *
+     * @return whether the model was asked for the label
+     */
+    private boolean updateLabel(TreeModelLabelProvider labelProvider, TestModel model, TreePath path) throws Exception {
+        final boolean[] complete = new boolean[1];
+        ILabelUpdateListener listener = new ILabelUpdateListener() {
+            @Override
+            public void labelUpdatesBegin() {
+            }
+
+            @Override
+            public void labelUpdatesComplete() {
+                complete[0] = true;
+            }
+
+            @Override
+            public void labelUpdateStarted(ILabelUpdate update) {
+            }
+
+            @Override
+            public void labelUpdateComplete(ILabelUpdate update) {
+            }
+        };
+        int labelUpdates = model.getLabelUpdateCount();
+        labelProvider.addLabelUpdateListener(listener);
+        try {
+            Assert.assertTrue(labelProvider.update(path));
+			waitWhile(t -> !complete[0], t -> "Label update not complete for " + path); //$NON-NLS-1$
+        } finally {
+            labelProvider.removeLabelUpdateListener(listener);
+        }
+        return model.getLabelUpdateCount() != labelUpdates;
+    }
+
     /**
      * This test verifies that when the viewer processes a delta that causes viewer
      * updates it initiates the model update sequence before it finishes processing
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.viewer.model;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.debug.internal.ui.viewers.model.provisional.PresentationContext;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.VirtualTreeModelViewer;
+import org.eclipse.debug.tests.AbstractDebugTest;
+import org.eclipse.debug.tests.viewer.model.TestModel.TestElement;
+import org.eclipse.jface.viewers.TreePath;
+import org.eclipse.jface.viewers.ViewerLabel;
+import org.eclipse.swt.widgets.Display;
+
+/**
+ * Tests the virtual viewer without a display, which retrieves the content
+ * of the model in a thread of its own.
+ */
+public class VirtualViewerHeadlessTests extends AbstractDebugTest {
+
+	private VirtualTreeModelViewer fViewer;
+
+	public VirtualViewerHeadlessTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fViewer = new VirtualTreeModelViewer(0, new PresentationContext("TestViewer"), null); //$NON-NLS-1$
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		runInViewerThread(() -> {
+			fViewer.getPresentationContext().dispose();
+			fViewer.dispose();
+			return null;
+		});
+		super.tearDown();
+	}
+
+	/**
+	 * Runs the given callable in the thread of the viewer and returns its
+	 * result.
+	 */
+	private <T> T runInViewerThread(Callable<T> callable) throws Exception {
+		FutureTask<T> task = new FutureTask<>(callable);
+		fViewer.asyncExecInViewerThread(task);
+		return task.get(testTimeout, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Returns whether the viewer shows the content of the given model.
+	 */
+	private boolean isPopulated(TestModel model) {
+		try {
+			return runInViewerThread(() -> {
+				try {
+					model.validateData(fViewer, TreePath.EMPTY);
+					return Boolean.TRUE;
+				} catch (AssertionError e) {
+					return Boolean.FALSE;
+				}
+			}).booleanValue();
+		} catch (Exception e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	/**
+	 * Returns the label shown by the viewer for the given path.
+	 */
+	private String getText(TreePath path) {
+		try {
+			return runInViewerThread(() -> {
+				ViewerLabel label = fViewer.getElementLabel(path, null);
+				return label == null ? null : label.getText();
+			});
+		} catch (Exception e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	public void testViewerThread() throws Exception {
+		assertFalse(fViewer.isViewerThread());
+		assertTrue(runInViewerThread(() -> Boolean.valueOf(fViewer.isViewerThread())).booleanValue());
+		assertNull(runInViewerThread(() -> Display.getCurrent()));
+	}
+
+	public void testContent() throws Exception {
+		TestModel model = TestModel.simpleMultiLevel();
+		runInViewerThread(() -> {
+			fViewer.setAutoExpandLevel(-1);
+			fViewer.setInput(model.getRootElement());
+			return null;
+		});
+		waitWhile(t -> !isPopulated(model), t -> "viewer not populated"); //$NON-NLS-1$
+
+		// model deltas are processed in the thread of the viewer as well
+		TestElement element = model.getRootElement().getChildren()[0];
+		TreePath path = TreePath.EMPTY.createChildPath(element);
+		waitWhile(t -> !element.getLabel().equals(getText(path)), t -> "label not retrieved"); //$NON-NLS-1$
+		model.postDelta(model.appendElementLabel(path, "-changed")); //$NON-NLS-1$
+		waitWhile(t -> !element.getLabel().equals(getText(path)), t -> "label not updated"); //$NON-NLS-1$
+		assertTrue(element.getLabel().endsWith("-changed")); //$NON-NLS-1$
+	}
+}
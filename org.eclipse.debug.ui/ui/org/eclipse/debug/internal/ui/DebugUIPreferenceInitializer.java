@@ -66,6 +66,8 @@ public class DebugUIPreferenceInitializer extends AbstractPreferenceInitializer
 
 		prefs.setDefault(IInternalDebugUIConstants.PREF_TERMINATE_AND_RELAUNCH_LAUNCH_ACTION, false);
 		prefs.setDefault(IInternalDebugUIConstants.PREF_BREAKPOINT_SORTING_ORDER, IInternalDebugUIConstants.BREAKPOINT_SORTING_ORDER_NAME);
+		prefs.setDefault(IInternalDebugUIConstants.PREF_PREFETCH_SOURCE, false);
+		prefs.setDefault(IInternalDebugUIConstants.PREF_PREFETCH_SOURCE_FRAMES, 5);
 
 		//View Management preference page
 		prefs.setDefault(IDebugUIConstants.PREF_MANAGE_VIEW_PERSPECTIVES, IDebugUIConstants.PREF_MANAGE_VIEW_PERSPECTIVES_DEFAULT);
@@ -145,6 +147,7 @@ public class DebugUIPreferenceInitializer extends AbstractPreferenceInitializer
 		prefs.setDefault(IDebugPreferenceConstants.PREF_RESET_MEMORY_BLOCK, IDebugPreferenceConstants.RESET_VISIBLE);
 		prefs.setDefault(IDebugPreferenceConstants.PREF_TABLE_RENDERING_PRE_BUFFER_SIZE,IDebugPreferenceConstants.DEFAULT_PAGE_SIZE);
 		prefs.setDefault(IDebugPreferenceConstants.PREF_TABLE_RENDERING_POST_BUFFER_SIZE,IDebugPreferenceConstants.DEFAULT_PAGE_SIZE);
+		prefs.setDefault(IDebugPreferenceConstants.PREF_MEMORY_PREFETCH, false);
 
 		/**
 		 * new launch configuration filtering options
@@ -475,6 +475,22 @@ public interface IInternalDebugUIConstants {
 	 */
 	String PREF_BREAKPOINT_SORTING_ORDER = IDebugUIConstants.PLUGIN_ID + ".BreakpointSortingOrder"; //$NON-NLS-1$
 
+	/**
+	 * Boolean preference indicating whether the source of the frames below
+	 * the top frame of a suspended thread is looked up in the background
+	 *
+	 * @since 3.14
+	 */
+	String PREF_PREFETCH_SOURCE = IDebugUIConstants.PLUGIN_ID + ".PrefetchSource"; //$NON-NLS-1$
+
+	/**
+	 * Int preference indicating the number of frames whose source is looked
+	 * up in the background when a thread suspends
+	 *
+	 * @since 3.14
+	 */
+	String PREF_PREFETCH_SOURCE_FRAMES = IDebugUIConstants.PLUGIN_ID + ".PrefetchSourceFrames"; //$NON-NLS-1$
+
 	/**
 	 * Int indicating the breakpoints will be sorted by name
 	 *
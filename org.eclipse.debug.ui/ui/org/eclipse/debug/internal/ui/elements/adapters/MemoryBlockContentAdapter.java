@@ -17,7 +17,6 @@
 package org.eclipse.debug.internal.ui.elements.adapters;
 
 import java.math.BigInteger;
-import java.util.ArrayList;
 import java.util.Vector;
 
 import org.eclipse.core.runtime.CoreException;
@@ -25,6 +24,7 @@ import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.model.IDebugTarget;
 import org.eclipse.debug.core.model.IMemoryBlock;
 import org.eclipse.debug.core.model.IMemoryBlockExtension;
+import org.eclipse.debug.core.model.MemoryBuffer;
 import org.eclipse.debug.core.model.MemoryByte;
 import org.eclipse.debug.internal.ui.DebugUIMessages;
 import org.eclipse.debug.internal.ui.DebugUIPlugin;
@@ -32,6 +32,7 @@ import org.eclipse.debug.internal.ui.memory.provisional.AbstractAsyncTableRender
 import org.eclipse.debug.internal.ui.memory.provisional.MemoryViewPresentationContext;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IPresentationContext;
 import org.eclipse.debug.internal.ui.viewers.provisional.AsynchronousContentAdapter;
+import org.eclipse.debug.internal.ui.views.memory.MemoryPageCache;
 import org.eclipse.debug.internal.ui.views.memory.MemoryViewUtil;
 import org.eclipse.debug.internal.ui.views.memory.renderings.MemorySegment;
 import org.eclipse.debug.internal.ui.views.memory.renderings.TableRenderingContentDescriptor;
@@ -252,15 +253,14 @@ public class MemoryBlockContentAdapter extends AsynchronousContentAdapter {
 
 		DebugException dbgEvt = null;
 
-		String adjustedAddress = startAddress.toString(16);
-
 		// align to the closest boundary based on addressable size per line
 		if (descriptor.isAlignAddressToBoundary() && descriptor.getMemoryBlock() instanceof IMemoryBlockExtension) {
 			startAddress = MemoryViewUtil.alignToBoundary(startAddress, tableRendering.getAddressableUnitPerLine());
 		}
 
 		IMemoryBlockExtension extMemoryBlock = null;
-		MemoryByte[] memoryBuffer = null;
+		MemoryBuffer memoryBuffer = null;
+		MemoryPageCache cache = null;
 
 		long reqNumBytes = 0;
 		try {
@@ -272,7 +272,8 @@ public class MemoryBlockContentAdapter extends AsynchronousContentAdapter {
 
 				long reqNumberOfUnits = tableRendering.getAddressableUnitPerLine() * numberOfLines;
 
-				memoryBuffer = extMemoryBlock.getBytesFromAddress(startAddress, reqNumberOfUnits);
+				cache = MemoryPageCache.getCache(extMemoryBlock);
+				memoryBuffer = cache.getMemory(tableRendering, startAddress, reqNumberOfUnits);
 
 				if (memoryBuffer == null) {
 					DebugException e = new DebugException(DebugUIPlugin.newErrorStatus(DebugUIMessages.MemoryViewContentProvider_Unable_to_retrieve_content, null));
@@ -290,11 +291,8 @@ public class MemoryBlockContentAdapter extends AsynchronousContentAdapter {
 				int prefillNumBytes = 0;
 
 				// number of bytes need to prefill
-				if (!startAddress.toString(16).endsWith("0")) //$NON-NLS-1$
-				{
-					adjustedAddress = startAddress.toString(16).substring(0, adjustedAddress.length() - 1);
-					adjustedAddress += "0"; //$NON-NLS-1$
-					BigInteger adjustedStart = new BigInteger(adjustedAddress, 16);
+				BigInteger adjustedStart = MemoryViewUtil.alignToBoundary(startAddress, 16);
+				if (!adjustedStart.equals(startAddress)) {
 					prefillNumBytes = startAddress.subtract(adjustedStart).intValue();
 					startAddress = adjustedStart;
 				}
@@ -307,40 +305,9 @@ public class MemoryBlockContentAdapter extends AsynchronousContentAdapter {
 
 				numberOfLines = reqNumBytes / tableRendering.getBytesPerLine();
 
-				// create memory byte for IMemoryBlock
-				memoryBuffer = new MemoryByte[(int) reqNumBytes];
-
-				// prefill buffer to ensure double-word alignment
-				for (int i = 0; i < prefillNumBytes; i++) {
-					MemoryByte tmp = new MemoryByte();
-					tmp.setValue((byte) 0);
-					tmp.setWritable(false);
-					tmp.setReadable(false);
-					tmp.setEndianessKnown(false);
-					memoryBuffer[i] = tmp;
-				}
-
-				// fill buffer with memory returned by debug adapter
-				int j = prefillNumBytes; // counter for memoryBuffer
-				for (int i = 0; i < memory.length; i++) {
-					MemoryByte tmp = new MemoryByte();
-					tmp.setValue(memory[i]);
-					tmp.setReadable(true);
-					tmp.setWritable(true);
-					tmp.setEndianessKnown(false);
-					memoryBuffer[j] = tmp;
-					j++;
-				}
-
-				// append to buffer to fill up the entire line
-				for (int i = j; i < memoryBuffer.length; i++) {
-					MemoryByte tmp = new MemoryByte();
-					tmp.setValue((byte) 0);
-					tmp.setWritable(false);
-					tmp.setReadable(false);
-					tmp.setEndianessKnown(false);
-					memoryBuffer[i] = tmp;
-				}
+				// prefill buffer to ensure double-word alignment and append
+				// to buffer to fill up the entire line
+				memoryBuffer = MemoryViewUtil.padMemory(memory, prefillNumBytes, (int) reqNumBytes);
 			}
 		} catch (DebugException e) {
 			memoryBuffer = makeDummyContent(numberOfLines, tableRendering.getBytesPerLine());
@@ -356,23 +323,8 @@ public class MemoryBlockContentAdapter extends AsynchronousContentAdapter {
 		}
 
 		// if debug adapter did not return enough memory, create dummy memory
-		if (memoryBuffer.length < reqNumBytes) {
-			ArrayList<MemoryByte> newBuffer = new ArrayList<>();
-
-			for (int i = 0; i < memoryBuffer.length; i++) {
-				newBuffer.add(memoryBuffer[i]);
-			}
-
-			for (int i = memoryBuffer.length; i < reqNumBytes; i++) {
-				MemoryByte mb = new MemoryByte();
-				mb.setReadable(false);
-				mb.setWritable(false);
-				mb.setEndianessKnown(false);
-				newBuffer.add(mb);
-			}
-
-			memoryBuffer = newBuffer.toArray(new MemoryByte[newBuffer.size()]);
-
+		if (memoryBuffer.length() < reqNumBytes) {
+			memoryBuffer = MemoryBuffer.concat(memoryBuffer, MemoryBuffer.fill((int) reqNumBytes - memoryBuffer.length(), MemoryBuffer.UNREADABLE_FLAGS));
 		}
 
 		boolean manageDelta = true;
@@ -389,11 +341,11 @@ public class MemoryBlockContentAdapter extends AsynchronousContentAdapter {
 		}
 
 		// put memory information into MemoryViewLine
-		return organizeLines(numberOfLines, memoryBuffer, startAddress, manageDelta, context);
+		return organizeLines(numberOfLines, memoryBuffer, startAddress, manageDelta, context, cache);
 
 	}
 
-	private Object[] organizeLines(long numberOfLines, MemoryByte[] memoryBuffer, BigInteger address, boolean manageDelta, MemoryViewPresentationContext context) {
+	private Object[] organizeLines(long numberOfLines, MemoryBuffer memoryBuffer, BigInteger address, boolean manageDelta, MemoryViewPresentationContext context, MemoryPageCache cache) {
 		Vector<MemorySegment> lineCache = new Vector<>();
 		IMemoryRendering rendering = context.getRendering();
 		if (!(rendering instanceof AbstractAsyncTableRendering)) {
@@ -403,34 +355,21 @@ public class MemoryBlockContentAdapter extends AsynchronousContentAdapter {
 		AbstractAsyncTableRendering tableRendering = (AbstractAsyncTableRendering) rendering;
 		int addressableUnit = tableRendering.getBytesPerLine() / tableRendering.getAddressableSize();
 
+		if (manageDelta) {
+			// turn off both change and known bits to make sure that
+			// the change bits returned by debug adapters do not take
+			// any effect
+			memoryBuffer = memoryBuffer.clearFlags((byte) (MemoryByte.HISTORY_KNOWN | MemoryByte.CHANGED));
+		}
+
 		for (int i = 0; i < numberOfLines; i++) {
 			int bytesPerLine = tableRendering.getBytesPerLine();
-			MemoryByte[] memory = new MemoryByte[bytesPerLine];
-
-			// counter for memory, starts from 0 to number of bytes per line
-			int k = 0;
-			// j is the counter for memArray, memory returned by debug adapter
-			for (int j = i * bytesPerLine; j < i * bytesPerLine + bytesPerLine; j++) {
-
-				byte changeFlag = memoryBuffer[j].getFlags();
-				if (manageDelta) {
-					// turn off both change and known bits to make sure that
-					// the change bits returned by debug adapters do not take
-					// any effect
-
-					changeFlag |= MemoryByte.HISTORY_KNOWN;
-					changeFlag ^= MemoryByte.HISTORY_KNOWN;
-
-					changeFlag |= MemoryByte.CHANGED;
-					changeFlag ^= MemoryByte.CHANGED;
-				}
-
-				MemoryByte newByteObj = new MemoryByte(memoryBuffer[j].getValue(), changeFlag);
-				memory[k] = newByteObj;
-				k++;
-			}
+			MemoryBuffer memory = memoryBuffer.slice(i * bytesPerLine, bytesPerLine);
 
 			MemorySegment newLine = new MemorySegment(address, memory, addressableUnit);
+			if (cache != null) {
+				newLine.setVersion(cache.getVersion(tableRendering, address, addressableUnit));
+			}
 			lineCache.add(newLine);
 			address = address.add(BigInteger.valueOf(addressableUnit));
 		}
@@ -439,24 +378,12 @@ public class MemoryBlockContentAdapter extends AsynchronousContentAdapter {
 
 	/**
 	 * @param numberOfLines
-	 * @return an array of dummy MemoryByte
+	 * @return a buffer of dummy memory
 	 */
-	private MemoryByte[] makeDummyContent(long numberOfLines, int bytesPerLine) {
-		MemoryByte[] memoryBuffer;
+	private MemoryBuffer makeDummyContent(long numberOfLines, int bytesPerLine) {
 		// make up dummy memory, needed for recovery in case the debug adapter
 		// is capable of retrieving memory again
-
-		int numBytes = (int) (bytesPerLine * numberOfLines);
-		memoryBuffer = new MemoryByte[numBytes];
-
-		for (int i = 0; i < memoryBuffer.length; i++) {
-			memoryBuffer[i] = new MemoryByte();
-			memoryBuffer[i].setValue((byte) 0);
-			memoryBuffer[i].setWritable(false);
-			memoryBuffer[i].setReadable(false);
-			memoryBuffer[i].setEndianessKnown(false);
-		}
-		return memoryBuffer;
+		return MemoryBuffer.fill((int) (bytesPerLine * numberOfLines), MemoryBuffer.UNREADABLE_FLAGS);
 	}
 
 	protected AbstractAsyncTableRendering getTableRendering(MemoryViewPresentationContext context) {
@@ -28,6 +28,8 @@ import org.eclipse.debug.internal.ui.viewers.model.provisional.IPresentationCont
 import org.eclipse.debug.internal.ui.viewers.provisional.AsynchronousLabelAdapter;
 import org.eclipse.debug.internal.ui.views.launch.DebugElementHelper;
 import org.eclipse.debug.internal.ui.views.memory.renderings.AbstractBaseTableRendering;
+import org.eclipse.debug.internal.ui.views.memory.renderings.ILineFormattingRendering;
+import org.eclipse.debug.internal.ui.views.memory.renderings.MemoryLineFormatter;
 import org.eclipse.debug.internal.ui.views.memory.renderings.MemorySegment;
 import org.eclipse.debug.internal.ui.views.memory.renderings.TableRenderingContentDescriptor;
 import org.eclipse.debug.ui.IDebugUIConstants;
@@ -45,6 +47,16 @@ import org.eclipse.swt.graphics.RGB;
 
 public class MemorySegmentLabelAdapter extends AsynchronousLabelAdapter {
 
+	/**
+	 * Formatter of each thread computing labels, reused across lines.
+	 */
+	private static final ThreadLocal<MemoryLineFormatter> fgFormatter = new ThreadLocal<MemoryLineFormatter>() {
+		@Override
+		protected MemoryLineFormatter initialValue() {
+			return new MemoryLineFormatter();
+		}
+	};
+
 	@Override
 	protected String[] getLabels(Object element, IPresentationContext context)
 			throws CoreException {
@@ -64,9 +76,14 @@ public class MemorySegmentLabelAdapter extends AsynchronousLabelAdapter {
 					String[] labels = new String[numColumns+2];
 					labels[0] = addressStr;
 
+					MemoryLineFormatter formatter = formatLine(element, tableRendering, numColumns);
 					for (int i=0; i<=numColumns; i++)
 					{
-						labels[i+1] = getColumnText(element, i+1, tableRendering, tableRendering.getAdapter(TableRenderingContentDescriptor.class));
+						if (formatter != null && i < numColumns) {
+							labels[i+1] = formatter.getColumn(i);
+						} else {
+							labels[i+1] = getColumnText(element, i+1, tableRendering, tableRendering.getAdapter(TableRenderingContentDescriptor.class));
+						}
 					}
 
 					labels[labels.length - 1 ] = IInternalDebugCoreConstants.EMPTY_STRING;
@@ -77,6 +94,28 @@ public class MemorySegmentLabelAdapter extends AsynchronousLabelAdapter {
 		return new String[0];
 	}
 
+	/**
+	 * Formats all columns of the given line at once if the rendering supports
+	 * it and no label provider customizes the columns.
+	 *
+	 * @return the formatter holding the columns, or <code>null</code> if the
+	 *         columns have to be converted one by one
+	 */
+	private MemoryLineFormatter formatLine(Object element, AbstractAsyncTableRendering tableRendering, int numColumns) {
+		if (!(element instanceof MemorySegment) || !(tableRendering instanceof ILineFormattingRendering)) {
+			return null;
+		}
+		MemorySegment segment = (MemorySegment) element;
+		if (segment.getLength() != tableRendering.getBytesPerLine() || tableRendering.getAdapter(ILabelProvider.class) != null) {
+			return null;
+		}
+		MemoryLineFormatter formatter = fgFormatter.get();
+		if (!((ILineFormattingRendering) tableRendering).formatLine(segment.getBuffer(), formatter) || formatter.getNumColumns() != numColumns) {
+			return null;
+		}
+		return formatter;
+	}
+
 	private String getColumnText(Object element, int columnIndex, AbstractAsyncTableRendering tableRendering, TableRenderingContentDescriptor descriptor) {
 		String columnLabel = null;
 
@@ -115,7 +154,7 @@ public class MemorySegmentLabelAdapter extends AsynchronousLabelAdapter {
 			if (element instanceof MemorySegment)
 			{
 				MemorySegment segment = (MemorySegment)element;
-				if (segment.getBytes().length != tableRendering.getBytesPerLine())
+				if (segment.getLength() != tableRendering.getBytesPerLine())
 					return IInternalDebugCoreConstants.EMPTY_STRING;
 			}
 
@@ -173,7 +212,7 @@ public class MemorySegmentLabelAdapter extends AsynchronousLabelAdapter {
 		if (element instanceof MemorySegment)
 		{
 			MemorySegment segment = (MemorySegment)element;
-			if (segment.getBytes().length != tableRendering.getBytesPerLine())
+			if (segment.getLength() != tableRendering.getBytesPerLine())
 				return null;
 
 			ILabelProvider labelProvider = tableRendering.getAdapter(ILabelProvider.class);
@@ -189,24 +228,11 @@ public class MemorySegmentLabelAdapter extends AsynchronousLabelAdapter {
 				}
 			}
 
-			int start = (columnIndex-1)*tableRendering.getBytesPerColumn();
-
-			MemoryByte[] bytes = ((MemorySegment)element).getBytes(start, tableRendering.getBytesPerColumn());
-			boolean allKnown = true;
-			boolean unchanged = true;
-			for (int i=0; i<bytes.length; i++)
-			{
-				if (!bytes[i].isHistoryKnown())
-					allKnown = false;
-
-				if (bytes[i].isChanged())
-					unchanged = false;
-			}
-
-			if (allKnown)
+			byte flags = getColumnFlags(segment, columnIndex, tableRendering);
+			if ((flags & MemoryByte.HISTORY_KNOWN) != 0)
 			{
 				// mark changed elements with changed icon
-				if (!unchanged)
+				if ((flags & MemoryByte.CHANGED) != 0)
 					return DebugPluginImages.getImageDescriptor(IInternalDebugUIConstants.IMG_OBJECT_MEMORY_CHANGED);
 
 			}
@@ -243,7 +269,7 @@ public class MemorySegmentLabelAdapter extends AsynchronousLabelAdapter {
 		if (element instanceof MemorySegment)
 		{
 			MemorySegment segment = (MemorySegment)element;
-			if (segment.getBytes().length != tableRendering.getBytesPerLine())
+			if (segment.getLength() != tableRendering.getBytesPerLine())
 				return null;
 
 			IFontProvider fontProvider = tableRendering.getAdapter(IFontProvider.class);
@@ -296,7 +322,7 @@ public class MemorySegmentLabelAdapter extends AsynchronousLabelAdapter {
 		if (element instanceof MemorySegment)
 		{
 			MemorySegment segment = (MemorySegment)element;
-			if (segment.getBytes().length != tableRendering.getBytesPerLine())
+			if (segment.getLength() != tableRendering.getBytesPerLine())
 				return null;
 
 			IColorProvider colorProvider = tableRendering.getAdapter(IColorProvider.class);
@@ -321,7 +347,7 @@ public class MemorySegmentLabelAdapter extends AsynchronousLabelAdapter {
 		if (element instanceof MemorySegment)
 		{
 			MemorySegment segment = (MemorySegment)element;
-			if (segment.getBytes().length != tableRendering.getBytesPerLine())
+			if (segment.getLength() != tableRendering.getBytesPerLine())
 				return null;
 
 			IColorProvider colorProvider = tableRendering.getAdapter(IColorProvider.class);
@@ -335,23 +361,11 @@ public class MemorySegmentLabelAdapter extends AsynchronousLabelAdapter {
 				}
 			}
 
-			int start = (columnIndex-1)*tableRendering.getBytesPerColumn();
-			MemoryByte[] bytes = segment.getBytes(start, tableRendering.getBytesPerColumn());
-			boolean allKnown = true;
-			boolean unchanged = true;
-			for (int i=0; i<bytes.length; i++)
-			{
-				if (!bytes[i].isHistoryKnown())
-					allKnown = false;
-
-				if (bytes[i].isChanged())
-					unchanged = false;
-			}
-
-			if (allKnown)
+			byte flags = getColumnFlags(segment, columnIndex, tableRendering);
+			if ((flags & MemoryByte.HISTORY_KNOWN) != 0)
 			{
 				// mark changed elements in changed color
-				if (!unchanged)
+				if ((flags & MemoryByte.CHANGED) != 0)
 					return DebugUIPlugin.getPreferenceColor(IDebugUIConstants.PREF_CHANGED_DEBUG_ELEMENT_COLOR).getRGB();
 
 				return DebugUIPlugin.getPreferenceColor(IDebugUIConstants.PREF_MEMORY_HISTORY_KNOWN_COLOR).getRGB();
@@ -363,6 +377,32 @@ public class MemorySegmentLabelAdapter extends AsynchronousLabelAdapter {
 		return null;
 	}
 
+	/**
+	 * Returns {@link MemoryByte#HISTORY_KNOWN} if the history of all bytes of
+	 * the given column is known, combined with {@link MemoryByte#CHANGED} if
+	 * any of them changed. The flags are read from the segment, without
+	 * creating its memory bytes.
+	 */
+	private static byte getColumnFlags(MemorySegment segment, int columnIndex, AbstractAsyncTableRendering tableRendering)
+	{
+		int length = tableRendering.getBytesPerColumn();
+		int start = (columnIndex-1)*length;
+		byte flags = MemoryByte.HISTORY_KNOWN;
+		if (start < 0 || start + length > segment.getLength())
+			return flags;
+
+		for (int i=start; i<start+length; i++)
+		{
+			byte byteFlags = segment.getFlags(i);
+			if ((byteFlags & MemoryByte.HISTORY_KNOWN) == 0)
+				flags &= ~MemoryByte.HISTORY_KNOWN;
+
+			if ((byteFlags & MemoryByte.CHANGED) != 0)
+				flags |= MemoryByte.CHANGED;
+		}
+		return flags;
+	}
+
 	@Override
 	protected RGB[] getBackgrounds(Object element, IPresentationContext context)
 			throws CoreException {
@@ -413,13 +453,11 @@ public class MemorySegmentLabelAdapter extends AsynchronousLabelAdapter {
 
 	private MemoryRenderingElement getMemoryRenderingElement(MemorySegment line, BigInteger lineAddress, int offset, AbstractBaseTableRendering rendering) {
 		BigInteger cellAddress = lineAddress.add(BigInteger.valueOf(offset));
+		// the bytes are returned in a new array, such that the memory bytes of
+		// the line are not overwritten by clients
 		MemoryByte[] bytes = line.getBytes(offset, rendering.getBytesPerColumn());
-		// make a copy to ensure that the memory bytes are not overwritten
-		// by clients
-		MemoryByte[] copy = new MemoryByte[bytes.length];
-		System.arraycopy(bytes, 0, copy, 0, bytes.length);
 		MemoryRenderingElement renderingElement = new MemoryRenderingElement(
-				rendering, cellAddress, copy);
+				rendering, cellAddress, bytes);
 		return renderingElement;
 	}
 
@@ -42,6 +42,8 @@ import org.eclipse.debug.internal.ui.IInternalDebugUIConstants;
 import org.eclipse.debug.internal.ui.memory.IPersistableDebugElement;
 import org.eclipse.debug.internal.ui.preferences.IDebugPreferenceConstants;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IModelChangedListener;
+import org.eclipse.debug.internal.ui.views.memory.MemoryPageCache;
+import org.eclipse.debug.internal.ui.views.memory.MemoryViewUpdateScheduler;
 import org.eclipse.debug.internal.ui.views.memory.MemoryViewUtil;
 import org.eclipse.debug.internal.ui.views.memory.renderings.AbstractBaseTableRendering;
 import org.eclipse.debug.internal.ui.views.memory.renderings.AbstractVirtualContentTableModel;
@@ -2005,13 +2007,9 @@ public abstract class AbstractAsyncTableRendering extends AbstractBaseTableRende
 			MemorySegment line = (MemorySegment) element;
 			int offset = (col - 1) * (getAddressableUnitPerColumn() * getAddressableSize());
 
-			// make a copy of the bytes to ensure that data cannot be changed
-			// by caller
-			MemoryByte[] bytes = line.getBytes(offset, getAddressableUnitPerColumn() * getAddressableSize());
-			MemoryByte[] retBytes = new MemoryByte[bytes.length];
-
-			System.arraycopy(bytes, 0, retBytes, 0, bytes.length);
-			return retBytes;
+			// the bytes are returned in a new array, such that data cannot be
+			// changed by caller
+			return line.getBytes(offset, getAddressableUnitPerColumn() * getAddressableSize());
 		}
 		return new MemoryByte[0];
 	}
@@ -2104,6 +2102,24 @@ public abstract class AbstractAsyncTableRendering extends AbstractBaseTableRende
 			return;
 		}
 
+		// memory read before the refresh may be out of date
+		MemoryPageCache.invalidateCache(getMemoryBlock());
+		fTableViewer.refresh();
+	}
+
+	/**
+	 * Refresh the table viewer from the memory cached for the memory block,
+	 * without invalidating the cache. Used when the memory of all renderings
+	 * of the memory block was just loaded into the cache.
+	 *
+	 * @since 3.14
+	 * @noreference This method is not intended to be referenced by clients.
+	 */
+	public void refreshFromCache() {
+		if (!fIsCreated) {
+			return;
+		}
+
 		fTableViewer.refresh();
 	}
 
@@ -2436,7 +2452,7 @@ public abstract class AbstractAsyncTableRendering extends AbstractBaseTableRende
 			}
 
 			showTable();
-			refresh();
+			MemoryViewUpdateScheduler.getDefault().scheduleRefresh(this);
 		}
 
 		updateRenderingLabel(true);
@@ -2826,8 +2842,7 @@ public abstract class AbstractAsyncTableRendering extends AbstractBaseTableRende
 
 					if (col > 0) {
 						int start = (col - 1) * getBytesPerColumn();
-						int end = start + getBytesPerColumn();
-						MemoryByte[] bytes = line.getBytes(start, end);
+						MemoryByte[] bytes = line.getBytes(start, getBytesPerColumn());
 
 						String str = getToolTipText((BigInteger) address, bytes);
 
@@ -295,6 +295,15 @@ public interface IDebugPreferenceConstants {
 	 */
 	String PREF_TABLE_RENDERING_POST_BUFFER_SIZE = "org.eclispe.debug.ui.memory.postBufferSize"; //$NON-NLS-1$
 
+	/**
+	 * Boolean preference controlling whether memory is read ahead of the
+	 * memory renderings, in the direction they move through a memory block.
+	 * Off by default.
+	 *
+	 * @since 3.14
+	 */
+	String PREF_MEMORY_PREFETCH = IDebugUIConstants.PLUGIN_ID + ".memory.prefetch"; //$NON-NLS-1$
+
     /**
      * The layout mode in Debug view.
      *
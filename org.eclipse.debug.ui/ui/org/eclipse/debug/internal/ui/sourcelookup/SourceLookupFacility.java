@@ -15,9 +15,14 @@
  *******************************************************************************/
 package org.eclipse.debug.internal.ui.sourcelookup;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -36,6 +41,8 @@ import org.eclipse.debug.core.model.IStackFrame;
 import org.eclipse.debug.core.model.IThread;
 import org.eclipse.debug.core.sourcelookup.AbstractSourceLookupDirector;
 import org.eclipse.debug.core.sourcelookup.ISourceLookupDirector;
+import org.eclipse.debug.core.sourcelookup.containers.ZipEntryStorage;
+import org.eclipse.debug.internal.core.sourcelookup.ParallelSourceLookup;
 import org.eclipse.debug.internal.ui.DebugUIPlugin;
 import org.eclipse.debug.internal.ui.DelegatingModelPresentation;
 import org.eclipse.debug.internal.ui.IInternalDebugUIConstants;
@@ -93,6 +100,13 @@ public class SourceLookupFacility implements IPageListener, IPartListener2, IPro
 		ArrayList<Object> fEntryStack = null;
 		int fSize;
 
+		/**
+		 * Keys of the entries put by prefetching and not looked up since.
+		 *
+		 * @since 3.14
+		 */
+		Set<Object> fPrefetched = new HashSet<>();
+
 		/**
 		 * Constructor
 		 *
@@ -106,13 +120,60 @@ public class SourceLookupFacility implements IPageListener, IPartListener2, IPro
 		@Override
 		public SourceLookupResult put(Object key, SourceLookupResult value) {
 			shuffle(key);
+			fPrefetched.remove(key);
 			return super.put(key, value);
 		}
 
+		/**
+		 * Puts a prefetched result as the least recently used entry. Only
+		 * other prefetched entries are removed to make room, such that
+		 * prefetching never removes the results of displayed source. The
+		 * result is not put if there is no room.
+		 *
+		 * @param key key
+		 * @param value prefetched result
+		 * @since 3.14
+		 */
+		void putPrefetched(Object key, SourceLookupResult value) {
+			if (containsKey(key)) {
+				return;
+			}
+			if (fEntryStack.size() >= fSize) {
+				Object evicted = null;
+				for (int i = fEntryStack.size() - 1; i >= 0 && evicted == null; i--) {
+					if (fPrefetched.contains(fEntryStack.get(i))) {
+						evicted = fEntryStack.get(i);
+					}
+				}
+				if (evicted == null) {
+					return;
+				}
+				remove(evicted);
+			}
+			fEntryStack.add(key);
+			fPrefetched.add(key);
+			super.put(key, value);
+		}
+
+		/**
+		 * Makes a prefetched entry the most recently used entry, once it is
+		 * looked up for display.
+		 *
+		 * @param key key
+		 * @since 3.14
+		 */
+		void used(Object key) {
+			if (fPrefetched.remove(key)) {
+				fEntryStack.remove(key);
+				fEntryStack.add(0, key);
+			}
+		}
+
 		@Override
 		public SourceLookupResult remove(Object key) {
 			SourceLookupResult oldResult = super.remove(key);
 			fEntryStack.remove(key);
+			fPrefetched.remove(key);
 			return oldResult;
 		}
 
@@ -136,6 +197,7 @@ public class SourceLookupFacility implements IPageListener, IPartListener2, IPro
 		@Override
 		public void clear() {
 			fEntryStack.clear();
+			fPrefetched.clear();
 			super.clear();
 		}
 	}
@@ -159,6 +221,22 @@ public class SourceLookupFacility implements IPageListener, IPartListener2, IPro
 	 */
 	private static LRU fLookupResults = new LRU(10);
 
+	/**
+	 * Lookups in progress by artifact and locator, such that a lookup of the
+	 * same artifact waits for the result rather than searching again. Guarded
+	 * by {@link #fLookupResults}.
+	 *
+	 * @since 3.14
+	 */
+	private static Map<Object, CompletableFuture<SourceLookupResult>> fPendingLookups = new HashMap<>();
+
+	/**
+	 * Delay in milliseconds before the source of the frames of a suspended
+	 * thread is prefetched, such that the source of the top frame is looked
+	 * up first.
+	 */
+	private static final long PREFETCH_DELAY = 100;
+
 	/**
 	 * Used to generate annotations for stack frames
 	 */
@@ -208,9 +286,18 @@ public class SourceLookupFacility implements IPageListener, IPartListener2, IPro
 		for (int i = 0; i < events.length; i++) {
 			final DebugEvent event = events[i];
 			switch (event.getKind()) {
+				case DebugEvent.SUSPEND:
+					if (!event.isEvaluation() && event.getSource() instanceof IThread) {
+						schedulePrefetch((IThread) event.getSource());
+					}
+					break;
 				case DebugEvent.TERMINATE:
 				case DebugEvent.RESUME:
 					if (!event.isEvaluation()) {
+						if (isPrefetchEnabled()) {
+							// prefetched source is for frames no longer current
+							Job.getJobManager().cancel(new PrefetchFamily(event.getSource()));
+						}
 						Job uijob = new UIJob("clear source selection") { //$NON-NLS-1$
 							@Override
 							public IStatus runInUIThread(IProgressMonitor monitor) {
@@ -227,7 +314,12 @@ public class SourceLookupFacility implements IPageListener, IPartListener2, IPro
 					if (event.getSource() instanceof IStackFrame) {
 						if (event.getDetail() == DebugEvent.CONTENT) {
 							frame = (IStackFrame) event.getSource();
-							fLookupResults.remove(new ArtifactWithLocator(frame, frame.getLaunch().getSourceLocator()));
+							ArtifactWithLocator key = new ArtifactWithLocator(frame, frame.getLaunch().getSourceLocator());
+							synchronized (fLookupResults) {
+								fLookupResults.remove(key);
+								// a lookup in progress may miss the change
+								fPendingLookups.remove(key);
+							}
 						}
 					}
 					break;
@@ -292,6 +384,33 @@ public class SourceLookupFacility implements IPageListener, IPartListener2, IPro
 		}
 	}
 
+	/**
+	 * Schedules the source of the top frames of the given thread to be looked
+	 * up in the background, if enabled.
+	 *
+	 * @param thread suspended thread
+	 */
+	private void schedulePrefetch(IThread thread) {
+		if (!isPrefetchEnabled()) {
+			return;
+		}
+		// leave room in the cache for the frame being displayed
+		int count = Math.min(DebugUIPlugin.getDefault().getPreferenceStore().getInt(IInternalDebugUIConstants.PREF_PREFETCH_SOURCE_FRAMES), fLookupResults.fSize - 1);
+		if (count > 0) {
+			SourcePrefetchJob job = new SourcePrefetchJob(thread, count);
+			Job.getJobManager().cancel(new PrefetchFamily(thread));
+			job.schedule(PREFETCH_DELAY);
+		}
+	}
+
+	/**
+	 * @return whether the source of the frames of suspended threads is
+	 *         prefetched
+	 */
+	private static boolean isPrefetchEnabled() {
+		return DebugUIPlugin.getDefault().getPreferenceStore().getBoolean(IInternalDebugUIConstants.PREF_PREFETCH_SOURCE);
+	}
+
 	/**
 	 * Performs source lookup for the given artifact and returns the result.
 	 *
@@ -304,16 +423,68 @@ public class SourceLookupFacility implements IPageListener, IPartListener2, IPro
 	 * @return a source lookup result
 	 */
 	public SourceLookupResult lookup(Object artifact, ISourceLocator locator, boolean force) {
-		SourceLookupResult result = null;
-		synchronized (fLookupResults) {
-			ArtifactWithLocator key = new ArtifactWithLocator(artifact, locator);
-			if (!force) {
-				result = fLookupResults.get(key);
-				if (result != null) {
-					return result;
+		return lookup(artifact, locator, force, false);
+	}
+
+	/**
+	 * Performs source lookup for the given artifact and returns the result.
+	 * The cache is only locked to get and put results, such that lookups of
+	 * different artifacts run concurrently. A lookup of an artifact already
+	 * being looked up waits for its result.
+	 *
+	 * @param artifact object for which source is to be resolved
+	 * @param locator the source locator to use, or <code>null</code>
+	 * @param force If we should ignore the cached value and re-look up
+	 * @param prefetch whether the source is looked up ahead of display, in
+	 *            which case the result does not remove displayed results from
+	 *            the cache
+	 * @return a source lookup result
+	 */
+	private SourceLookupResult lookup(Object artifact, ISourceLocator locator, boolean force, boolean prefetch) {
+		ArtifactWithLocator key = new ArtifactWithLocator(artifact, locator);
+		while (true) {
+			CompletableFuture<SourceLookupResult> pending;
+			boolean owner = false;
+			synchronized (fLookupResults) {
+				if (!force) {
+					SourceLookupResult result = fLookupResults.get(key);
+					if (result != null) {
+						if (!prefetch) {
+							fLookupResults.used(key);
+						}
+						return result;
+					}
 				}
+				pending = force ? null : fPendingLookups.get(key);
+				if (pending == null) {
+					pending = new CompletableFuture<>();
+					fPendingLookups.put(key, pending);
+					owner = true;
+				}
+			}
+			if (owner) {
+				return lookup(key, pending, prefetch);
 			}
-			result = new SourceLookupResult(artifact, null, null, null);
+			// null if the other lookup was not cached, look up again
+			SourceLookupResult result = pending.join();
+			if (result != null) {
+				return result;
+			}
+		}
+	}
+
+	/**
+	 * Looks up the source of the artifact of the given key without holding
+	 * the cache lock, caches the result unless the lookup was canceled or
+	 * invalidated meanwhile, and completes the given future with the cached
+	 * result or <code>null</code>.
+	 */
+	private SourceLookupResult lookup(ArtifactWithLocator key, CompletableFuture<SourceLookupResult> pending, boolean prefetch) {
+		SourceLookupResult cached = null;
+		try {
+			Object artifact = key.artifact;
+			ISourceLocator locator = key.locator;
+			SourceLookupResult result = new SourceLookupResult(artifact, null, null, null);
 			IDebugElement debugElement = null;
 			if (artifact instanceof IDebugElement) {
 				debugElement = (IDebugElement) artifact;
@@ -370,11 +541,31 @@ public class SourceLookupFacility implements IPageListener, IPartListener2, IPro
 				result.setEditorInput(editorInput);
 				result.setEditorId(editorId);
 				result.setSourceElement(sourceElement);
-				fLookupResults.put(key, result);
+				// a canceled lookup may have missed the source element
+				if (!ParallelSourceLookup.isCanceled()) {
+					cached = result;
+				}
+			}
+			return result;
+		} finally {
+			synchronized (fLookupResults) {
+				if (fPendingLookups.get(key) == pending) {
+					fPendingLookups.remove(key);
+					if (cached != null) {
+						if (prefetch) {
+							fLookupResults.putPrefetched(key, cached);
+						} else {
+							fLookupResults.put(key, cached);
+						}
+					}
+				} else {
+					// invalidated while looking up
+					cached = null;
+				}
 			}
+			pending.complete(cached);
 		}
-		return result;
-    }
+	}
 
     /**
      * Returns the model presentation for the given debug model, or <code>null</code>
@@ -669,7 +860,10 @@ public class SourceLookupFacility implements IPageListener, IPartListener2, IPro
 		DebugPlugin.getDefault().removeDebugEventListener(this);
         fEditorsByPage.clear();
         fPresentation.dispose();
-		fLookupResults.clear();
+		synchronized (fLookupResults) {
+			fLookupResults.clear();
+			fPendingLookups.clear();
+		}
     }
 
 	/**
@@ -701,7 +895,13 @@ public class SourceLookupFacility implements IPageListener, IPartListener2, IPro
 		protected IStatus run(IProgressMonitor monitor) {
 			if (!monitor.isCanceled()) {
 				if (!fTarget.isTerminated()) {
-					ISourceLookupResult result = lookup(fTarget, fLocator, fForce);
+					ISourceLookupResult result;
+					IProgressMonitor previous = ParallelSourceLookup.setMonitor(monitor);
+					try {
+						result = lookup(fTarget, fLocator, fForce);
+					} finally {
+						ParallelSourceLookup.setMonitor(previous);
+					}
 					if (!monitor.isCanceled() && !fTarget.isTerminated() && fPage != null) {
 						new SourceDisplayJob(result, fPage).schedule();
 					}
@@ -722,6 +922,104 @@ public class SourceLookupFacility implements IPageListener, IPartListener2, IPro
 
 	}
 
+	/**
+	 * A job looking up the source of the top frames of a suspended thread,
+	 * such that the results are cached when the frames are selected. The
+	 * top frame is skipped, as it is looked up for display on suspend.
+	 * Canceled when the thread resumes or terminates.
+	 */
+	class SourcePrefetchJob extends Job {
+
+		private IThread fThread;
+		private int fCount;
+
+		/**
+		 * Constructs a new source prefetch job.
+		 *
+		 * @param thread suspended thread
+		 * @param count number of frames below the top frame to look up
+		 */
+		public SourcePrefetchJob(IThread thread, int count) {
+			super("Debug Source Prefetch"); //$NON-NLS-1$
+			setPriority(Job.DECORATE);
+			setSystem(true);
+			fThread = thread;
+			fCount = count;
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			IStackFrame[] frames;
+			try {
+				frames = fThread.getStackFrames();
+			} catch (DebugException e) {
+				return Status.OK_STATUS;
+			}
+			IProgressMonitor previous = ParallelSourceLookup.setMonitor(monitor);
+			try {
+				for (int i = 1; i < frames.length && i <= fCount; i++) {
+					if (monitor.isCanceled() || !fThread.isSuspended()) {
+						return Status.CANCEL_STATUS;
+					}
+					IStackFrame frame = frames[i];
+					ILaunch launch = frame.getLaunch();
+					if (launch == null) {
+						continue;
+					}
+					SourceLookupResult result = lookup(frame, launch.getSourceLocator(), false, true);
+					warm(result.getSourceElement());
+				}
+			} finally {
+				ParallelSourceLookup.setMonitor(previous);
+			}
+			return Status.OK_STATUS;
+		}
+
+		/**
+		 * Reads the contents of source in archives, such that the archive is
+		 * open and its contents are in the file system cache when displayed.
+		 */
+		private void warm(Object sourceElement) {
+			if (sourceElement instanceof ZipEntryStorage) {
+				try (InputStream contents = ((ZipEntryStorage) sourceElement).getContents()) {
+					byte[] buffer = new byte[8192];
+					while (contents.read(buffer) >= 0) {
+						// discard
+					}
+				} catch (CoreException | IOException e) {
+					// reported when displayed
+				}
+			}
+		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			if (family instanceof PrefetchFamily) {
+				Object element = ((PrefetchFamily) family).fElement;
+				return element == fThread || element == fThread.getDebugTarget();
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Family of the source prefetch jobs of a thread, or of the threads of a
+	 * debug target.
+	 */
+	public static class PrefetchFamily {
+
+		private final Object fElement;
+
+		/**
+		 * Constructs the family of the prefetch jobs of the given element.
+		 *
+		 * @param element thread or debug target
+		 */
+		public PrefetchFamily(Object element) {
+			fElement = element;
+		}
+	}
+
 	class SourceDisplayJob extends UIJob {
 
 		private ISourceLookupResult fResult;
@@ -16,7 +16,9 @@
 package org.eclipse.debug.internal.ui.viewers.model;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.debug.internal.ui.DebugUIPlugin;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IChildrenCountUpdate;
@@ -39,6 +41,12 @@ class ChildrenCountUpdate extends ViewerUpdateMonitor implements IChildrenCountU
 	 */
 	private List<ViewerUpdateMonitor> fBatchedRequests = null;
 
+	/**
+	 * Element paths of the batched requests, used to detect duplicate
+	 * requests without scanning the whole batch.
+	 */
+	private Set<TreePath> fBatchedPaths = null;
+
     /**
      * Flag whether filtering is enabled in viewer.  If filtering is enabled, then a
      * children update is performed on child elements to filter them as part of the
@@ -159,15 +167,18 @@ class ChildrenCountUpdate extends ViewerUpdateMonitor implements IChildrenCountU
 	@Override
 	boolean coalesce(ViewerUpdateMonitor request) {
 		if (request instanceof ChildrenCountUpdate) {
-			if (getElementPath().equals(request.getElementPath())) {
+			if (containsUpdate(request.getElementPath())) {
 				// duplicate request
 				return true;
 			} else if (getElementContentProvider().equals(request.getElementContentProvider())) {
 				if (fBatchedRequests == null) {
 					fBatchedRequests = new ArrayList<>(4);
 					fBatchedRequests.add(this);
+					fBatchedPaths = new HashSet<>();
+					fBatchedPaths.add(getElementPath());
 				}
 				fBatchedRequests.add(request);
+				fBatchedPaths.add(request.getElementPath());
 				return true;
 			}
 		}
@@ -194,12 +205,8 @@ class ChildrenCountUpdate extends ViewerUpdateMonitor implements IChildrenCountU
 	boolean containsUpdate(TreePath path) {
 	    if (getElementPath().equals(path)) {
 	        return true;
-	    } else if (fBatchedRequests != null) {
-	        for (int i = 0; i < fBatchedRequests.size(); i++) {
-	            if (fBatchedRequests.get(i).getElementPath().equals(path)) {
-	                return true;
-	            }
-	        }
+	    } else if (fBatchedPaths != null) {
+	        return fBatchedPaths.contains(path);
 	    }
 	    return false;
 	}
@@ -15,7 +15,6 @@
 package org.eclipse.debug.internal.ui.viewers.model;
 
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IElementCompareRequest;
-import org.eclipse.debug.internal.ui.viewers.model.provisional.ITreeModelViewer;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.ModelDelta;
 import org.eclipse.jface.viewers.TreePath;
 import org.eclipse.ui.IMemento;
@@ -67,15 +66,15 @@ public class ElementCompareRequest extends MementoUpdate implements IElementComp
 
 	@Override
 	public void done() {
-        ITreeModelViewer viewer = getContentProvider().getViewer();
+        IInternalTreeModelViewer viewer = getContentProvider().getViewer();
         if (viewer == null)
 		 {
 			return;  // disposed
 		}
-        if (viewer.getDisplay().getThread() == Thread.currentThread()) {
+        if (viewer.isViewerThread()) {
             fProvider.getStateTracker().compareFinished(ElementCompareRequest.this, fDelta);
         } else {
-			viewer.getDisplay().asyncExec(() -> {
+			viewer.asyncExecInViewerThread(() -> {
 				if (getContentProvider().isDisposed()) {
 					return;
 				}
@@ -15,10 +15,8 @@ package org.eclipse.debug.internal.ui.viewers.model;
 
 import org.eclipse.debug.internal.ui.viewers.model.ViewerStateTracker.IElementMementoCollector;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IElementMementoRequest;
-import org.eclipse.debug.internal.ui.viewers.model.provisional.ITreeModelViewer;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.ModelDelta;
 import org.eclipse.jface.viewers.TreePath;
-import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.IMemento;
 
 /**
@@ -48,17 +46,14 @@ class ElementMementoRequest extends MementoUpdate implements IElementMementoRequ
 
 	@Override
 	public void done() {
-		ITreeModelViewer viewer = getContentProvider().getViewer();
+		IInternalTreeModelViewer viewer = getContentProvider().getViewer();
 		if (viewer == null) {
 			return; // disposed
 		}
-		Display display = viewer.getDisplay();
-		if (display != null) {
-			if (display.getThread() == Thread.currentThread()) {
-				doComplete();
-			} else {
-				display.asyncExec(this::doComplete);
-			}
+		if (viewer.isViewerThread()) {
+			doComplete();
+		} else {
+			viewer.asyncExecInViewerThread(this::doComplete);
 		}
 	}
 
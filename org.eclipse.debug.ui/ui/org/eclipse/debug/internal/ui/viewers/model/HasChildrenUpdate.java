@@ -16,7 +16,9 @@
 package org.eclipse.debug.internal.ui.viewers.model;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.debug.internal.ui.DebugUIPlugin;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IElementContentProvider;
@@ -32,6 +34,12 @@ class HasChildrenUpdate extends ViewerUpdateMonitor implements IHasChildrenUpdat
 
 	private List<ViewerUpdateMonitor> fBatchedRequests = null;
 
+	/**
+	 * Element paths of the batched requests, used to detect duplicate
+	 * requests without scanning the whole batch.
+	 */
+	private Set<TreePath> fBatchedPaths = null;
+
     /**
      * Constructs a request to update an element
      *
@@ -79,15 +87,18 @@ class HasChildrenUpdate extends ViewerUpdateMonitor implements IHasChildrenUpdat
 	@Override
 	boolean coalesce(ViewerUpdateMonitor request) {
 		if (request instanceof HasChildrenUpdate) {
-			if (getElementPath().equals(request.getElementPath())) {
+			if (containsUpdate(request.getElementPath())) {
 				// duplicate request
 				return true;
 			} else if (getElementContentProvider().equals(request.getElementContentProvider())) {
 				if (fBatchedRequests == null) {
 					fBatchedRequests = new ArrayList<>();
 					fBatchedRequests.add(this);
+					fBatchedPaths = new HashSet<>();
+					fBatchedPaths.add(getElementPath());
 				}
 				fBatchedRequests.add(request);
+				fBatchedPaths.add(request.getElementPath());
 				return true;
 			}
 		}
@@ -114,12 +125,8 @@ class HasChildrenUpdate extends ViewerUpdateMonitor implements IHasChildrenUpdat
 	boolean containsUpdate(TreePath path) {
         if (getElementPath().equals(path)) {
             return true;
-        } else if (fBatchedRequests != null) {
-            for (int i = 0; i < fBatchedRequests.size(); i++) {
-                if (fBatchedRequests.get(i).getElementPath().equals(path)) {
-                    return true;
-                }
-            }
+        } else if (fBatchedPaths != null) {
+            return fBatchedPaths.contains(path);
         }
         return false;
     }
@@ -32,6 +32,30 @@ import org.eclipse.swt.graphics.RGB;
  */
 public interface IInternalTreeModelViewer extends ITreeModelViewer {
 
+    /**
+     * Returns whether the calling thread is the thread in which this viewer
+     * and its content and label providers process updates.  For viewers
+     * backed by a display this is the display thread.
+     *
+     * @return whether the caller runs in the viewer's thread
+     * @since 3.14
+     */
+    default boolean isViewerThread() {
+        return getDisplay().getThread() == Thread.currentThread();
+    }
+
+    /**
+     * Executes the given runnable asynchronously in the thread in which this
+     * viewer processes updates.  For viewers backed by a display this is
+     * equivalent to <code>Display.asyncExec()</code>.
+     *
+     * @param runnable runnable to execute
+     * @since 3.14
+     */
+    default void asyncExecInViewerThread(Runnable runnable) {
+        getDisplay().asyncExec(runnable);
+    }
+
     /**
      * Returns this viewer's filters.
      *
@@ -39,6 +39,17 @@ public interface ITreeModelLabelProvider extends IBaseLabelProvider {
      */
     boolean update(TreePath elementPath);
 
+    /**
+     * Discards any labels retained for the given element and its sub-tree,
+     * such that they are retrieved again from the model. Called when the
+     * viewer is refreshed without a model delta, or when its input changes.
+     *
+     * @param element element being refreshed, or <code>null</code> if the
+     *            whole viewer is refreshed
+     * @since 3.14
+     */
+    void refreshLabels(Object element);
+
     /**
      * Registers the specified listener for view label update notifications.
      * @param listener Listener to add
@@ -483,6 +483,7 @@ public class InternalTreeModelViewer extends TreeViewer implements IInternalTree
         // Bug 326917
         super.unmapAllElements();
 		((ITreeModelContentProvider)getContentProvider()).postInputChanged(this, oldInput, input);
+		((ITreeModelLabelProvider)getLabelProvider()).refreshLabels(null);
 		super.inputChanged(input, oldInput);
 
 		resetColumns(input);
@@ -609,6 +610,7 @@ public class InternalTreeModelViewer extends TreeViewer implements IInternalTree
 	@Override
 	protected void internalRefresh(Object element, boolean updateLabels) {
 	    ITreeModelContentProvider contentProvider = (ITreeModelContentProvider)getContentProvider();
+	    ((ITreeModelLabelProvider)getLabelProvider()).refreshLabels(element);
 
         if (element == null) {
             internalRefresh(getControl(), getRoot(), true, updateLabels);
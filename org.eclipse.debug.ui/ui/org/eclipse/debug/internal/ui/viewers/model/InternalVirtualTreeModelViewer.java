@@ -26,6 +26,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IColumnPresentation;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IColumnPresentationFactory;
@@ -110,6 +113,17 @@ public class InternalVirtualTreeModelViewer extends Viewer
      */
     private Display fDisplay;
 
+    /**
+     * Executor used to process updates when the viewer is not backed by a
+     * display, <code>null</code> otherwise.
+     */
+    private ExecutorService fExecutor;
+
+    /**
+     * Thread of {@link #fExecutor}.
+     */
+    private volatile Thread fExecutorThread;
+
     /**
      * The object that allows the model to identify what this view
      * is presenting.
@@ -191,6 +205,28 @@ public class InternalVirtualTreeModelViewer extends Viewer
      */
     private Runnable fValidateRunnable;
 
+    /**
+     * Creates a headless virtual viewer.  The viewer is not backed by a
+     * display, instead it processes model deltas and content updates in a
+     * thread of its own.  All calls to the viewer must be made in that thread,
+     * see {@link #asyncExecInViewerThread(Runnable)}.  Labels are retrieved,
+     * but images, fonts and colors are not available from a headless viewer.
+     *
+     * @param style viewer style flags
+     * @param context presentation context
+     * @param itemValidator optional item validator
+     * @since 3.14
+     */
+    public InternalVirtualTreeModelViewer(int style, IPresentationContext context, IVirtualItemValidator itemValidator) {
+        this(null, style, context, itemValidator);
+        fExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Virtual Tree Model Viewer (" + context.getId() + ")"); //$NON-NLS-1$ //$NON-NLS-2$
+            thread.setDaemon(true);
+            fExecutorThread = thread;
+            return thread;
+        });
+    }
+
     public InternalVirtualTreeModelViewer(Display display, int style, IPresentationContext context, IVirtualItemValidator itemValidator) {
         fDisplay = display;
         fContext = context;
@@ -217,11 +253,36 @@ public class InternalVirtualTreeModelViewer extends Viewer
         return null;
     }
 
+    /**
+     * Returns the display used by this viewer, or <code>null</code> if this
+     * is a headless viewer.
+     */
     @Override
 	public Display getDisplay() {
         return fDisplay;
     }
 
+    @Override
+	public boolean isViewerThread() {
+        if (fExecutor != null) {
+            return Thread.currentThread() == fExecutorThread;
+        }
+        return fDisplay.getThread() == Thread.currentThread();
+    }
+
+    @Override
+	public void asyncExecInViewerThread(Runnable runnable) {
+        if (fExecutor != null) {
+            try {
+                fExecutor.execute(runnable);
+            } catch (RejectedExecutionException e) {
+                // viewer is disposed
+            }
+        } else {
+            fDisplay.asyncExec(runnable);
+        }
+    }
+
     @Override
 	public void setInput(Object input) {
         Object oldInput = fInput;
@@ -494,12 +555,14 @@ public class InternalVirtualTreeModelViewer extends Viewer
 
     @Override
 	public void refresh() {
+        getLabelProvider().refreshLabels(null);
         refresh(fTree);
         validate();
     }
 
     @Override
 	public void refresh(Object element) {
+        getLabelProvider().refreshLabels(element);
         VirtualItem[] items = findItems(element);
         for (int i = 0; i < items.length; i++) {
             refresh(items[i]);
@@ -555,12 +618,13 @@ public class InternalVirtualTreeModelViewer extends Viewer
 					fTree.validate();
 				}
 			};
-            getDisplay().asyncExec(fValidateRunnable);
+            asyncExecInViewerThread(fValidateRunnable);
         }
     }
 
     @Override
 	protected void inputChanged(Object input, Object oldInput) {
+        getLabelProvider().refreshLabels(null);
         resetColumns(input);
     }
 
@@ -1078,6 +1142,12 @@ public class InternalVirtualTreeModelViewer extends Viewer
 
         fTree.removeItemListener(this);
         fTree.dispose();
+
+        if (fExecutor != null) {
+            // Runnables already queued are still executed, but find the
+            // content provider disposed.
+            fExecutor.shutdown();
+        }
     }
 
     /**
@@ -43,6 +43,7 @@ class LabelUpdate extends Request implements ILabelUpdate, ICheckUpdate {
 	private Object fViewerInput;
 	private boolean fChecked;
 	private boolean fGrayed;
+	private int fCacheGeneration;
 
 	/**
 	 * @param viewerInput input at the time the request was made
@@ -138,10 +139,47 @@ class LabelUpdate extends Request implements ILabelUpdate, ICheckUpdate {
 	 */
 	public void performUpdate() {
 	    fProvider.setElementData(fElementPath, fNumColumns, fLabels, fImageDescriptors, fFontDatas, fForegrounds, fBackgrounds, fChecked, fGrayed);
+	    fProvider.cacheLabel(this);
 
 		fProvider.updateComplete(this);
 	}
 
+	/**
+	 * Copies the label data from the given completed update for the same
+	 * element and columns into this update.
+	 *
+	 * @param update completed update to copy data from
+	 */
+	void copyLabelData(LabelUpdate update) {
+		fLabels = update.fLabels;
+		fImageDescriptors = update.fImageDescriptors;
+		fFontDatas = update.fFontDatas;
+		fForegrounds = update.fForegrounds;
+		fBackgrounds = update.fBackgrounds;
+		fChecked = update.fChecked;
+		fGrayed = update.fGrayed;
+	}
+
+	/**
+	 * Returns the generation of the label provider's label cache at the time
+	 * this update was started.
+	 *
+	 * @return label cache generation
+	 */
+	int getCacheGeneration() {
+		return fCacheGeneration;
+	}
+
+	/**
+	 * Sets the generation of the label provider's label cache at the time
+	 * this update was started.
+	 *
+	 * @param generation label cache generation
+	 */
+	void setCacheGeneration(int generation) {
+		fCacheGeneration = generation;
+	}
+
 	@Override
 	public Object getElement() {
 		return getElementPath().getLastSegment();
@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.ui.viewers.model;
+
+import org.eclipse.debug.internal.ui.viewers.model.provisional.IModelDelta;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.ModelDelta;
+
+/**
+ * Helper class which structurally merges model deltas that are queued for
+ * processing in the UI thread.
+ * <p>
+ * Only deltas that carry nothing but {@link IModelDelta#CONTENT} and
+ * {@link IModelDelta#STATE} flags are merged. Such deltas are idempotent: the
+ * viewer refreshes the same nodes no matter how many times the flags were
+ * reported, so a storm of them can be collapsed into a single delta whose
+ * nodes carry the union of all flags. Deltas with structural or control flags
+ * (add, remove, select, expand, etc.) depend on their order and are never
+ * merged.
+ * </p>
+ * <p>
+ * This class not intended to be subclassed or instantiated. For internal use only.
+ * </p>
+ * @since 3.14
+ */
+public class ModelDeltaMerger {
+
+	/**
+	 * Flags which may be merged without changing the outcome of a model update.
+	 */
+	private static final int MERGEABLE_FLAGS = IModelDelta.CONTENT | IModelDelta.STATE;
+
+	private ModelDeltaMerger() {
+	}
+
+	/**
+	 * Returns whether the given delta may be merged with other deltas, that is
+	 * whether all its nodes carry only content and/or state flags.
+	 *
+	 * @param delta delta to check
+	 * @return whether delta is mergeable
+	 */
+	public static boolean isMergeable(IModelDelta delta) {
+		if ((delta.getFlags() & ~MERGEABLE_FLAGS) != 0) {
+			return false;
+		}
+		IModelDelta[] children = delta.getChildDeltas();
+		for (int i = 0; i < children.length; i++) {
+			if (!isMergeable(children[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Merges the two given deltas into a new delta. Returns <code>null</code>
+	 * if the deltas cannot be merged, i.e. if either of them is not
+	 * {@link #isMergeable(IModelDelta) mergeable}, or if they are rooted at
+	 * different elements. The second delta is never modified, the first one
+	 * is extended in place only if it is itself the result of a previous merge.
+	 *
+	 * @param first delta which was fired first
+	 * @param second delta which was fired after the first
+	 * @return merged delta or <code>null</code>
+	 */
+	public static ModelDelta merge(IModelDelta first, IModelDelta second) {
+		Object element = first.getElement();
+		if (element == null || !element.equals(second.getElement()) || !isMergeable(first) || !isMergeable(second)) {
+			return null;
+		}
+		ModelDelta result;
+		if (first instanceof MergedModelDelta) {
+			// Already a private copy created by a previous merge, extend it in place.
+			result = (ModelDelta) first;
+		} else {
+			result = copy(first);
+		}
+		mergeInto(result, second);
+		return result;
+	}
+
+	private static ModelDelta copy(IModelDelta delta) {
+		MergedModelDelta copy = new MergedModelDelta(delta.getElement(), delta.getIndex(), delta.getFlags(), delta.getChildCount());
+		copyChildren(copy, delta);
+		return copy;
+	}
+
+	private static void copyChildren(ModelDelta target, IModelDelta source) {
+		IModelDelta[] children = source.getChildDeltas();
+		for (int i = 0; i < children.length; i++) {
+			IModelDelta child = children[i];
+			ModelDelta node = target.addNode(child.getElement(), child.getIndex(), child.getFlags(), child.getChildCount());
+			copyChildren(node, child);
+		}
+	}
+
+	private static void mergeInto(ModelDelta target, IModelDelta source) {
+		target.setFlags(target.getFlags() | source.getFlags());
+		if (source.getIndex() != -1) {
+			target.setIndex(source.getIndex());
+		}
+		if (source.getChildCount() != -1) {
+			target.setChildCount(source.getChildCount());
+		}
+		IModelDelta[] children = source.getChildDeltas();
+		for (int i = 0; i < children.length; i++) {
+			IModelDelta child = children[i];
+			ModelDelta node = target.getChildDelta(child.getElement());
+			if (node == null) {
+				node = target.addNode(child.getElement(), child.getIndex(), child.getFlags(), child.getChildCount());
+				copyChildren(node, child);
+			} else {
+				mergeInto(node, child);
+			}
+		}
+	}
+
+	/**
+	 * Marker class for root deltas created by the merger, which are owned by
+	 * the merger and may thus be modified by subsequent merges.
+	 */
+	private static class MergedModelDelta extends ModelDelta {
+		MergedModelDelta(Object element, int index, int flags, int childCount) {
+			super(element, index, flags, childCount);
+		}
+	}
+}
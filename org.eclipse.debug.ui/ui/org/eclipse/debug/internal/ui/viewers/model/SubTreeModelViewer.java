@@ -617,6 +617,11 @@ public class SubTreeModelViewer extends TreeModelViewer {
             return fBaseProvider.update( createFullPath(elementPath) );
         }
 
+        @Override
+		public void refreshLabels(Object element) {
+            fBaseProvider.refreshLabels(element);
+        }
+
         @Override
 		public void addLabelUpdateListener(ILabelUpdateListener listener) {
             fBaseProvider.addLabelUpdateListener(listener);
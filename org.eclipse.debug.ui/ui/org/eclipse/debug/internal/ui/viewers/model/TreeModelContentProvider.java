@@ -30,6 +30,7 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.ListenerList;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
@@ -57,7 +58,6 @@ import org.eclipse.jface.viewers.TreePath;
 import org.eclipse.jface.viewers.TreeSelection;
 import org.eclipse.jface.viewers.Viewer;
 import org.eclipse.jface.viewers.ViewerFilter;
-import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.progress.WorkbenchJob;
 
 /**
@@ -126,6 +126,13 @@ public class TreeModelContentProvider implements ITreeModelContentProvider, ICon
      */
 	private Map<TreePath, List<ViewerUpdateMonitor>> fRequestsInProgress = new HashMap<>();
 
+    /**
+     * Index of the lists in {@link #fRequestsInProgress} organized as a tree of
+     * path segments. Used to check whether a request is blocked by requests
+     * running on its parent elements without hashing every parent path.
+     */
+    private final RequestPathNode fRequestsInProgressIndex = new RequestPathNode(null);
+
     /**
      * Map of dependent requests waiting for parent requests to complete:
      * element path -> list of requests
@@ -166,7 +173,7 @@ public class TreeModelContentProvider implements ITreeModelContentProvider, ICon
 		}
 		fDelayedDoModelChangeJob.shutdown();
 
-        Assert.isTrue( getViewer().getDisplay().getThread() == Thread.currentThread() );
+        Assert.isTrue( getViewer().isViewerThread() );
 
         // cancel pending updates
 		for (List<ViewerUpdateMonitor> requests : fRequestsInProgress.values()) {
@@ -201,7 +208,7 @@ public class TreeModelContentProvider implements ITreeModelContentProvider, ICon
             fViewer = (IInternalTreeModelViewer) viewer;
         }
 
-        Assert.isTrue( fViewer.getDisplay().getThread() == Thread.currentThread() );
+        Assert.isTrue( fViewer.isViewerThread() );
 
         if (oldInput != null) {
             fStateTracker.saveViewerState(oldInput);
@@ -210,7 +217,7 @@ public class TreeModelContentProvider implements ITreeModelContentProvider, ICon
 
     @Override
 	public void postInputChanged(IInternalTreeModelViewer viewer, Object oldInput, Object newInput) {
-        Assert.isTrue( getViewer().getDisplay().getThread() == Thread.currentThread() );
+        Assert.isTrue( getViewer().isViewerThread() );
 
         cancelSubtreeUpdates(TreePath.EMPTY);
         disposeAllModelProxies();
@@ -363,7 +370,7 @@ public class TreeModelContentProvider implements ITreeModelContentProvider, ICon
      * Removes all model proxies
      */
     private void disposeAllModelProxies() {
-        Assert.isTrue( getViewer().getDisplay().getThread() == Thread.currentThread() );
+        Assert.isTrue( getViewer().isViewerThread() );
 		for (IModelProxy proxy : fModelProxies.values()) {
             proxy.dispose();
         }
@@ -389,6 +396,73 @@ public class TreeModelContentProvider implements ITreeModelContentProvider, ICon
         }
     }
 
+    /**
+     * Node in the index of running requests. Each node corresponds to a
+     * segment of a scheduling path and references the list of requests in
+     * progress for that path, if any.
+     */
+    private static class RequestPathNode {
+        private final RequestPathNode fParent;
+        private Map<Object, RequestPathNode> fChildren;
+        private List<ViewerUpdateMonitor> fRequests;
+
+        RequestPathNode(RequestPathNode parent) {
+            fParent = parent;
+        }
+
+        void put(TreePath path, List<ViewerUpdateMonitor> requests) {
+            RequestPathNode node = this;
+            for (int i = 0; i < path.getSegmentCount(); i++) {
+                if (node.fChildren == null) {
+                    node.fChildren = new HashMap<>(4);
+                }
+                Object segment = path.getSegment(i);
+                RequestPathNode child = node.fChildren.get(segment);
+                if (child == null) {
+                    child = new RequestPathNode(node);
+                    node.fChildren.put(segment, child);
+                }
+                node = child;
+            }
+            node.fRequests = requests;
+        }
+
+        void remove(TreePath path) {
+            RequestPathNode node = this;
+            for (int i = 0; i < path.getSegmentCount() && node != null; i++) {
+                node = node.fChildren != null ? node.fChildren.get(path.getSegment(i)) : null;
+            }
+            if (node == null) {
+                return;
+            }
+            node.fRequests = null;
+            // Prune nodes which no longer hold any requests.
+            int segment = path.getSegmentCount() - 1;
+            while (node.fParent != null && node.fRequests == null && (node.fChildren == null || node.fChildren.isEmpty())) {
+                node.fParent.fChildren.remove(path.getSegment(segment--));
+                node = node.fParent;
+            }
+        }
+
+        /**
+         * Returns whether there are running requests for the given path or
+         * any of its parent paths.
+         */
+        boolean isBlocked(TreePath path) {
+            RequestPathNode node = this;
+            for (int i = 0; node != null; i++) {
+                if (node.fRequests != null && !node.fRequests.isEmpty()) {
+                    return true;
+                }
+                if (i == path.getSegmentCount() || node.fChildren == null) {
+                    return false;
+                }
+                node = node.fChildren.get(path.getSegment(i));
+            }
+            return false;
+        }
+    }
+
 	private static class DelayedDoModelChange {
 		public final IModelDelta delta;
 		public final IModelProxy proxy;
@@ -411,6 +485,11 @@ public class TreeModelContentProvider implements ITreeModelContentProvider, ICon
 			setUser(false);
 		}
 
+		/**
+		 * Processes the queue in the thread of a viewer without a display.
+		 */
+		private final Runnable fHeadlessRunnable = () -> runInUIThread(new NullProgressMonitor());
+
 		@Override
 		public IStatus runInUIThread(IProgressMonitor monitor) {
 			List<Object> currentBatch = new ArrayList<>();
@@ -452,6 +531,28 @@ public class TreeModelContentProvider implements ITreeModelContentProvider, ICon
 		}
 
 		public void runDelayed(final IModelDelta delta, final IModelProxy proxy) {
+			synchronized (fQueue) {
+				if (shutdown) {
+					return;
+				}
+				// Try to fold the delta into the last queued one from the same
+				// proxy, so that storms of content/state deltas result in a
+				// single viewer update.
+				int last = fQueue.size() - 1;
+				if (last >= 0 && fQueue.get(last) instanceof DelayedDoModelChange) {
+					DelayedDoModelChange previous = (DelayedDoModelChange) fQueue.get(last);
+					if (previous.proxy == proxy) {
+						IModelDelta merged = ModelDeltaMerger.merge(previous.delta, delta);
+						if (merged != null) {
+							fQueue.set(last, new DelayedDoModelChange(merged, proxy));
+							if (DebugUIPlugin.DEBUG_CONTENT_PROVIDER) {
+								DebugUIPlugin.trace("Merged delayed delta, queue size: " + fQueue.size()); //$NON-NLS-1$
+							}
+							return;
+						}
+					}
+				}
+			}
 			runDelayed(new DelayedDoModelChange(delta, proxy));
 		}
 
@@ -469,7 +570,14 @@ public class TreeModelContentProvider implements ITreeModelContentProvider, ICon
 					DebugUIPlugin.trace("Delayed queue size: " + fQueue.size()); //$NON-NLS-1$
 				}
 			}
-			schedule();
+			IInternalTreeModelViewer viewer = getViewer();
+			if (viewer != null && viewer.getDisplay() == null) {
+				// Headless viewer: process the queue in the viewer's own
+				// thread rather than in the UI thread.
+				viewer.asyncExecInViewerThread(fHeadlessRunnable);
+			} else {
+				schedule();
+			}
 		}
 
 		public void shutdown() {
@@ -490,19 +598,19 @@ public class TreeModelContentProvider implements ITreeModelContentProvider, ICon
 
     @Override
 	public void modelChanged(final IModelDelta delta, final IModelProxy proxy) {
-        Display display = null;
+        IInternalTreeModelViewer viewer = null;
 
         // Check if the viewer is still available, i.e. if the content provider
         // is not disposed.
         synchronized(this) {
             if (fViewer != null && !proxy.isDisposed()) {
-                display = fViewer.getDisplay();
+                viewer = fViewer;
             }
         }
-        if (display != null) {
+        if (viewer != null) {
             // If we're in display thread, process the delta immediately to
             // avoid "skid" in processing events.
-            if (Thread.currentThread().equals(display.getThread())) {
+            if (viewer.isViewerThread()) {
                 doModelChanged(delta, proxy);
             }
             else {
@@ -558,6 +666,7 @@ public class TreeModelContentProvider implements ITreeModelContentProvider, ICon
 		}
 
 		fRevealPath = null;
+        fStateTracker.modelChanged(delta);
         IModelDelta[] deltaArray = new IModelDelta[] { delta };
         updateNodes(deltaArray, mask & (IModelDelta.REMOVED | IModelDelta.UNINSTALL));
         updateNodes(deltaArray, mask & ITreeModelContentProvider.UPDATE_MODEL_DELTA_FLAGS
@@ -674,49 +783,49 @@ public class TreeModelContentProvider implements ITreeModelContentProvider, ICon
 
     @Override
 	public void unmapPath(TreePath path) {
-        Assert.isTrue( getViewer().getDisplay().getThread() == Thread.currentThread() );
+        Assert.isTrue( getViewer().isViewerThread() );
         fTransform.clear(path);
         cancelSubtreeUpdates(path);
     }
 
 
     boolean addFilteredIndex(TreePath parentPath, int index, Object element) {
-        Assert.isTrue( getViewer().getDisplay().getThread() == Thread.currentThread() );
+        Assert.isTrue( getViewer().isViewerThread() );
         return fTransform.addFilteredIndex(parentPath, index, element);
     }
 
     void removeElementFromFilters(TreePath parentPath, int index) {
-        Assert.isTrue( getViewer().getDisplay().getThread() == Thread.currentThread() );
+        Assert.isTrue( getViewer().isViewerThread() );
         fTransform.removeElementFromFilters(parentPath, index);
     }
 
     boolean removeElementFromFilters(TreePath parentPath, Object element) {
-        Assert.isTrue( getViewer().getDisplay().getThread() == Thread.currentThread() );
+        Assert.isTrue( getViewer().isViewerThread() );
         return fTransform.removeElementFromFilters(parentPath, element);
     }
 
     void setModelChildCount(TreePath parentPath, int childCount) {
-        Assert.isTrue( getViewer().getDisplay().getThread() == Thread.currentThread() );
+        Assert.isTrue( getViewer().isViewerThread() );
         fTransform.setModelChildCount(parentPath, childCount);
     }
 
     boolean isFiltered(TreePath parentPath, int index) {
-        Assert.isTrue( getViewer().getDisplay().getThread() == Thread.currentThread() );
+        Assert.isTrue( getViewer().isViewerThread() );
         return fTransform.isFiltered(parentPath, index);
     }
 
     int[] getFilteredChildren(TreePath parent) {
-        Assert.isTrue( getViewer().getDisplay().getThread() == Thread.currentThread() );
+        Assert.isTrue( getViewer().isViewerThread() );
         return fTransform.getFilteredChildren(parent);
     }
 
     void clearFilteredChild(TreePath parent, int modelIndex) {
-        Assert.isTrue( getViewer().getDisplay().getThread() == Thread.currentThread() );
+        Assert.isTrue( getViewer().isViewerThread() );
         fTransform.clear(parent, modelIndex);
     }
 
     void clearFilters(TreePath parent) {
-        Assert.isTrue( getViewer().getDisplay().getThread() == Thread.currentThread() );
+        Assert.isTrue( getViewer().isViewerThread() );
         fTransform.clear(parent);
     }
 
@@ -726,12 +835,13 @@ public class TreeModelContentProvider implements ITreeModelContentProvider, ICon
      * @param update the update to notify about
      */
     void updateStarted(ViewerUpdateMonitor update) {
-        Assert.isTrue( getViewer().getDisplay().getThread() == Thread.currentThread() );
+        Assert.isTrue( getViewer().isViewerThread() );
 
 		List<ViewerUpdateMonitor> requests = fRequestsInProgress.get(update.getSchedulingPath());
         if (requests == null) {
 			requests = new ArrayList<>();
             fRequestsInProgress.put(update.getSchedulingPath(), requests);
+            fRequestsInProgressIndex.put(update.getSchedulingPath(), requests);
         }
         requests.add(update);
         if (!fModelSequenceRunning) {
@@ -762,7 +872,7 @@ public class TreeModelContentProvider implements ITreeModelContentProvider, ICon
     	}
 
     	// Wait a single cycle to allow viewer to queue requests triggered by completed updates.
-		getViewer().getDisplay().asyncExec(() -> {
+		getViewer().asyncExecInViewerThread(() -> {
 			if (isDisposed()) {
 				return;
 			}
@@ -795,6 +905,7 @@ public class TreeModelContentProvider implements ITreeModelContentProvider, ICon
 				}
 				if (requests != null && requests.isEmpty()) {
 					fRequestsInProgress.remove(update.getSchedulingPath());
+					fRequestsInProgressIndex.remove(update.getSchedulingPath());
 				}
 			}
 			if (fRequestsInProgress.isEmpty() && fWaitingRequests.isEmpty() && fModelSequenceRunning) {
@@ -872,7 +983,7 @@ public class TreeModelContentProvider implements ITreeModelContentProvider, ICon
      * @param path Path of element.
      */
     private void cancelSubtreeUpdates(TreePath path) {
-        Assert.isTrue( getViewer().getDisplay().getThread() == Thread.currentThread() );
+        Assert.isTrue( getViewer().isViewerThread() );
 		for (Entry<TreePath, List<ViewerUpdateMonitor>> entry : fRequestsInProgress.entrySet()) {
             TreePath entryPath = entry.getKey();
             if (entryPath.startsWith(path, null)) {
@@ -907,7 +1018,7 @@ public class TreeModelContentProvider implements ITreeModelContentProvider, ICon
      * @param update the update the schedule
      */
     private void schedule(final ViewerUpdateMonitor update) {
-    	Assert.isTrue(getViewer().getDisplay().getThread() == Thread.currentThread());
+    	Assert.isTrue(getViewer().isViewerThread());
 
         TreePath schedulingPath = update.getSchedulingPath();
 		List<ViewerUpdateMonitor> requests = fWaitingRequests.get(schedulingPath);
@@ -932,7 +1043,7 @@ public class TreeModelContentProvider implements ITreeModelContentProvider, ICon
                 }
             }
             if (inProgressList == null || inProgressList.isEmpty()) {
-				getViewer().getDisplay().asyncExec(() -> {
+				getViewer().asyncExecInViewerThread(() -> {
 					if (isDisposed()) {
 						return;
 					}
@@ -974,7 +1085,7 @@ public class TreeModelContentProvider implements ITreeModelContentProvider, ICon
      * @return True if there are outstanding children updates for given element.
      */
     boolean areChildrenUpdatesPending(TreePath path) {
-        Assert.isTrue( getViewer().getDisplay().getThread() == Thread.currentThread() );
+        Assert.isTrue( getViewer().isViewerThread() );
 		List<ViewerUpdateMonitor> requests = fWaitingRequests.get(path);
         if (requests != null) {
             for (int i = 0; i < requests.size(); i++) {
@@ -1010,7 +1121,7 @@ public class TreeModelContentProvider implements ITreeModelContentProvider, ICon
      * be <code>null</code> to start the shortest path request.
      */
     private void trigger(TreePath schedulingPath) {
-    	Assert.isTrue(getViewer().getDisplay().getThread() == Thread.currentThread());
+    	Assert.isTrue(getViewer().isViewerThread());
 
         if (fWaitingRequests.isEmpty()) {
             return;
@@ -1043,17 +1154,7 @@ public class TreeModelContentProvider implements ITreeModelContentProvider, ICon
      * @return Returns true if requests are running.
      */
     private boolean isRequestBlocked(TreePath requestPath) {
-        TreePath parentPath = requestPath;
-		List<ViewerUpdateMonitor> parentRequests = fRequestsInProgress.get(parentPath);
-        while (parentRequests == null || parentRequests.isEmpty()) {
-            parentPath = parentPath.getParentPath();
-            if (parentPath == null) {
-                // no running requests: start request
-                return false;
-            }
-            parentRequests = fRequestsInProgress.get(parentPath);
-        }
-        return true;
+        return fRequestsInProgressIndex.isBlocked(requestPath);
     }
 
     /**
@@ -1103,7 +1204,7 @@ public class TreeModelContentProvider implements ITreeModelContentProvider, ICon
      *            index at which an element was removed
      */
     private void rescheduleUpdates(TreePath parentPath, int modelIndex) {
-        Assert.isTrue( getViewer().getDisplay().getThread() == Thread.currentThread() );
+        Assert.isTrue( getViewer().isViewerThread() );
 
 		List<ViewerUpdateMonitor> requests = fRequestsInProgress.get(parentPath);
 		List<IChildrenUpdate> reCreate = null;
@@ -1159,7 +1260,7 @@ public class TreeModelContentProvider implements ITreeModelContentProvider, ICon
     }
 
 	private void doUpdateChildCount(TreePath path) {
-        Assert.isTrue( getViewer().getDisplay().getThread() == Thread.currentThread() );
+        Assert.isTrue( getViewer().isViewerThread() );
 
 		Object element = getElement(path);
 		IElementContentProvider contentAdapter = ViewerAdapterService.getContentProvider(element);
@@ -1170,7 +1271,7 @@ public class TreeModelContentProvider implements ITreeModelContentProvider, ICon
 	}
 
 	void doUpdateElement(TreePath parentPath, int modelIndex) {
-        Assert.isTrue( getViewer().getDisplay().getThread() == Thread.currentThread() );
+        Assert.isTrue( getViewer().isViewerThread() );
 
 		Object parent = getElement(parentPath);
 		IElementContentProvider contentAdapter = ViewerAdapterService.getContentProvider(parent);
@@ -1181,7 +1282,7 @@ public class TreeModelContentProvider implements ITreeModelContentProvider, ICon
 	}
 
 	private void doUpdateHasChildren(TreePath path) {
-        Assert.isTrue( getViewer().getDisplay().getThread() == Thread.currentThread() );
+        Assert.isTrue( getViewer().isViewerThread() );
 
 		Object element = getElement(path);
 		IElementContentProvider contentAdapter = ViewerAdapterService.getContentProvider(element);
@@ -1198,7 +1299,7 @@ public class TreeModelContentProvider implements ITreeModelContentProvider, ICon
 	 * @return Returns true if there are outstanding updates.
 	 */
     boolean areElementUpdatesPending(TreePath path) {
-        Assert.isTrue( getViewer().getDisplay().getThread() == Thread.currentThread() );
+        Assert.isTrue( getViewer().isViewerThread() );
 
         TreePath parentPath = path.getParentPath();
 		List<ViewerUpdateMonitor> requests = fWaitingRequests.get(path);
@@ -1729,7 +1830,7 @@ public class TreeModelContentProvider implements ITreeModelContentProvider, ICon
 
 	@Override
 	public void updateChildCount(TreePath treePath, int currentChildCount) {
-        Assert.isTrue( getViewer().getDisplay().getThread() == Thread.currentThread() );
+        Assert.isTrue( getViewer().isViewerThread() );
 
 		if (DebugUIPlugin.DEBUG_CONTENT_PROVIDER && DebugUIPlugin.DEBUG_TEST_PRESENTATION_ID(getPresentationContext())) {
 			DebugUIPlugin.trace("updateChildCount(" + getElement(treePath) + ", " + currentChildCount + ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
@@ -1739,7 +1840,7 @@ public class TreeModelContentProvider implements ITreeModelContentProvider, ICon
 
 	@Override
 	public void updateElement(TreePath parentPath, int viewIndex) {
-        Assert.isTrue( getViewer().getDisplay().getThread() == Thread.currentThread() );
+        Assert.isTrue( getViewer().isViewerThread() );
 
 		int modelIndex = viewToModelIndex(parentPath, viewIndex);
 		if (DebugUIPlugin.DEBUG_CONTENT_PROVIDER && DebugUIPlugin.DEBUG_TEST_PRESENTATION_ID(getPresentationContext())) {
@@ -1750,7 +1851,7 @@ public class TreeModelContentProvider implements ITreeModelContentProvider, ICon
 
 	@Override
 	public void updateHasChildren(TreePath path) {
-        Assert.isTrue( getViewer().getDisplay().getThread() == Thread.currentThread() );
+        Assert.isTrue( getViewer().isViewerThread() );
 
 		if (DebugUIPlugin.DEBUG_CONTENT_PROVIDER && DebugUIPlugin.DEBUG_TEST_PRESENTATION_ID(getPresentationContext())) {
 			DebugUIPlugin.trace("updateHasChildren(" + getElement(path)); //$NON-NLS-1$
@@ -1765,13 +1866,13 @@ public class TreeModelContentProvider implements ITreeModelContentProvider, ICon
 	 * @param update Update to perform.
 	 */
 	void scheduleViewerUpdate(ViewerUpdateMonitor update) {
-	    Display display;
+	    IInternalTreeModelViewer viewer;
 	    Runnable updateJob = null;
 	    synchronized(this) {
 	        if (isDisposed()) {
 				return;
 			}
-	        display = getViewer().getDisplay();
+	        viewer = getViewer();
 	        fCompletedUpdates.add(update);
             if (fCompletedUpdatesRunnable == null) {
 				fCompletedUpdatesRunnable = () -> {
@@ -1784,7 +1885,7 @@ public class TreeModelContentProvider implements ITreeModelContentProvider, ICon
 	    }
 
 	    if (updateJob != null) {
-            if (Thread.currentThread() == display.getThread()) {
+            if (viewer.isViewerThread()) {
             	performUpdates();
             } else {
 				fDelayedDoModelChangeJob.runDelayed(updateJob);
@@ -1796,7 +1897,7 @@ public class TreeModelContentProvider implements ITreeModelContentProvider, ICon
 	 * Perform the updates pointed to by given array on the viewer.
 	 */
 	private void performUpdates() {
-        Assert.isTrue( getViewer().getDisplay().getThread() == Thread.currentThread() );
+        Assert.isTrue( getViewer().isViewerThread() );
 
 		List<ViewerUpdateMonitor> jobCompletedUpdates;
         synchronized(this) {
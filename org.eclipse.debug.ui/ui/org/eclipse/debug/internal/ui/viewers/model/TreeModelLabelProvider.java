@@ -16,16 +16,24 @@
 package org.eclipse.debug.internal.ui.viewers.model;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.ListenerList;
 import org.eclipse.core.runtime.SafeRunner;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.ILaunchesListener;
 import org.eclipse.debug.internal.ui.DebugUIPlugin;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IElementLabelProvider;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.ILabelUpdate;
@@ -35,6 +43,7 @@ import org.eclipse.debug.internal.ui.viewers.model.provisional.IModelDeltaVisito
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IModelProxy;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IPresentationContext;
 import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.jface.util.IPropertyChangeListener;
 import org.eclipse.jface.viewers.ColumnLabelProvider;
 import org.eclipse.jface.viewers.TreePath;
 import org.eclipse.jface.viewers.ViewerCell;
@@ -80,6 +89,101 @@ public class TreeModelLabelProvider extends ColumnLabelProvider
 	 */
 	private Map<RGB, Color> fColorCache = new HashMap<>();
 
+	/**
+	 * Maximum number of element labels kept in the label cache.
+	 */
+	private static final int LABEL_CACHE_SIZE = 5000;
+
+	/**
+	 * Cache of completed label updates keyed by element path. Cached labels
+	 * are used to serve label requests for elements which did not change
+	 * since their label was last retrieved, without asking the element label
+	 * provider to compute the label again. Entries are invalidated by model
+	 * deltas with <code>CONTENT</code> (element and its sub-tree) and
+	 * <code>STATE</code> (element only) flags, by removal of launches, and
+	 * by changes in the presentation context. The cache is cleared when the
+	 * viewer input changes. Accessed only in the UI thread.
+	 */
+	private Map<TreePath, LabelUpdate> fLabelCache = new LinkedHashMap<TreePath, LabelUpdate>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Entry<TreePath, LabelUpdate> eldest) {
+			if (size() > LABEL_CACHE_SIZE) {
+				unindexLabel(eldest.getKey());
+				return true;
+			}
+			return false;
+		}
+	};
+
+	/**
+	 * Index of the label cache, mapping each element to the cached paths
+	 * which contain the element as one of their segments. Used to find the
+	 * labels affected by a model delta without scanning the whole cache.
+	 */
+	private Map<Object, Set<TreePath>> fLabelCacheIndex = new HashMap<>();
+
+	/**
+	 * Incremented whenever cache entries are invalidated. Updates which were
+	 * started in an earlier generation may carry stale data and are not
+	 * cached.
+	 */
+	private int fLabelCacheGeneration = 0;
+
+	/**
+	 * Label cache statistics.
+	 */
+	private int fLabelCacheHits = 0;
+	private int fLabelCacheMisses = 0;
+
+	/**
+	 * Clears the label cache when the presentation context changes, e.g.
+	 * when a view option changes the presentation of labels.
+	 */
+	private IPropertyChangeListener fContextListener = event -> {
+		if (isDisposed()) {
+			return;
+		}
+		if (fViewer.isViewerThread()) {
+			clearLabelCache();
+		} else {
+			fViewer.asyncExecInViewerThread(() -> {
+				if (!isDisposed()) {
+					clearLabelCache();
+				}
+			});
+		}
+	};
+
+	/**
+	 * Drops the cached labels of removed launches and their elements.
+	 */
+	private ILaunchesListener fLaunchesListener = new ILaunchesListener() {
+		@Override
+		public void launchesRemoved(final ILaunch[] launches) {
+			IInternalTreeModelViewer viewer = fViewer;
+			if (viewer == null) {
+				return;
+			}
+			viewer.asyncExecInViewerThread(() -> {
+				if (!isDisposed()) {
+					for (ILaunch launch : launches) {
+						invalidateLabelCache(launch, true);
+					}
+				}
+			});
+		}
+
+		@Override
+		public void launchesAdded(ILaunch[] launches) {
+		}
+
+		@Override
+		public void launchesChanged(ILaunch[] launches) {
+		}
+	};
+
 	/**
 	 * Label listeners
 	 */
@@ -110,11 +214,16 @@ public class TreeModelLabelProvider extends ColumnLabelProvider
     class CancelPendingUpdatesVisitor implements IModelDeltaVisitor {
         @Override
 		public boolean visit(IModelDelta delta, int depth) {
+            if ((delta.getFlags() & (IModelDelta.REPLACED | IModelDelta.REMOVED)) > 0) {
+                invalidateLabelCache(delta.getElement(), true);
+            }
             if ((delta.getFlags() & IModelDelta.CONTENT) > 0) {
                 cancelElementUpdates(delta.getElement(), true);
+                invalidateLabelCache(delta.getElement(), true);
                 return false;
             } else if ((delta.getFlags() & IModelDelta.STATE) > 0) {
                 cancelElementUpdates(delta.getElement(), false);
+                invalidateLabelCache(delta.getElement(), false);
                 return true;
             }
             return true;
@@ -133,6 +242,8 @@ public class TreeModelLabelProvider extends ColumnLabelProvider
 	public TreeModelLabelProvider(IInternalTreeModelViewer viewer) {
 		fViewer = viewer;
 		fViewer.addModelChangedListener(this);
+		fViewer.getPresentationContext().addPropertyChangeListener(fContextListener);
+		DebugPlugin.getDefault().getLaunchManager().addLaunchListener(fLaunchesListener);
 	}
 
 	/**
@@ -144,7 +255,7 @@ public class TreeModelLabelProvider extends ColumnLabelProvider
 	 */
 	@Override
 	public Image getImage(ImageDescriptor descriptor) {
-		if (descriptor == null) {
+		if (descriptor == null || getDisplay() == null) {
 			return null;
 		}
 		Image image = fImageCache.get(descriptor);
@@ -158,7 +269,7 @@ public class TreeModelLabelProvider extends ColumnLabelProvider
 	/**
 	 * Returns the display to use for resource allocation.
 	 *
-	 * @return display
+	 * @return display or <code>null</code> if the viewer is headless
 	 */
 	private Display getDisplay() {
 		return fViewer.getDisplay();
@@ -173,7 +284,7 @@ public class TreeModelLabelProvider extends ColumnLabelProvider
 	 */
 	@Override
 	public Font getFont(FontData fontData) {
-		if (fontData == null) {
+		if (fontData == null || getDisplay() == null) {
 			return null;
 		}
 		Font font = fFontCache.get(fontData);
@@ -193,7 +304,7 @@ public class TreeModelLabelProvider extends ColumnLabelProvider
 	 */
 	@Override
 	public Color getColor(RGB rgb) {
-		if (rgb == null) {
+		if (rgb == null || getDisplay() == null) {
 			return null;
 		}
 		Color color = fColorCache.get(rgb);
@@ -206,9 +317,11 @@ public class TreeModelLabelProvider extends ColumnLabelProvider
 
 	@Override
 	public void dispose() {
-        Assert.isTrue(fViewer.getDisplay().getThread() == Thread.currentThread());
+        Assert.isTrue(fViewer.isViewerThread());
 
 	    fViewer.removeModelChangedListener(this);
+	    fViewer.getPresentationContext().removePropertyChangeListener(fContextListener);
+	    DebugPlugin.getDefault().getLaunchManager().removeLaunchListener(fLaunchesListener);
 	    fViewer = null;
 
 		List<ILabelUpdate> complete = null;
@@ -234,6 +347,8 @@ public class TreeModelLabelProvider extends ColumnLabelProvider
 		    }
 		}
 		fPendingUpdates.clear();
+		fLabelCache.clear();
+		fLabelCacheIndex.clear();
 		for (Image image : fImageCache.values()) {
 			image.dispose();
 		}
@@ -260,7 +375,7 @@ public class TreeModelLabelProvider extends ColumnLabelProvider
 
 	@Override
 	public boolean update(TreePath elementPath) {
-        Assert.isTrue(fViewer.getDisplay().getThread() == Thread.currentThread());
+        Assert.isTrue(fViewer.isViewerThread());
 
 	    cancelPathUpdates(elementPath);
 
@@ -283,7 +398,7 @@ public class TreeModelLabelProvider extends ColumnLabelProvider
                     startRequests(this);
 		        }
 		    };
-		    fViewer.getDisplay().asyncExec(fPendingUpdatesRunnable);
+		    fViewer.asyncExecInViewerThread(fPendingUpdatesRunnable);
 			return true;
 		} else {
 		    return false;
@@ -295,7 +410,7 @@ public class TreeModelLabelProvider extends ColumnLabelProvider
 	 * @param elementPath Element to cancel updates for.
      */
     private void cancelPathUpdates(TreePath elementPath) {
-        Assert.isTrue(fViewer.getDisplay().getThread() == Thread.currentThread());
+        Assert.isTrue(fViewer.isViewerThread());
 		for (ILabelUpdate currentUpdate : fUpdatesInProgress) {
             if (elementPath.equals(currentUpdate.getElementPath())) {
                 currentUpdate.cancel();
@@ -333,18 +448,147 @@ public class TreeModelLabelProvider extends ColumnLabelProvider
         }
 	    if (!fPendingUpdates.isEmpty()) {
 			List<ILabelUpdate> list = null;
+			List<LabelUpdate> cachedUpdates = null;
+			Object input = fViewer.getInput();
 			for (Entry<IElementLabelProvider, List<ILabelUpdate>> entry : fPendingUpdates.entrySet()) {
 				list = entry.getValue();
-				for (ILabelUpdate update : list) {
+				for (Iterator<ILabelUpdate> itr = list.iterator(); itr.hasNext();) {
+					LabelUpdate update = (LabelUpdate) itr.next();
+					update.setCacheGeneration(fLabelCacheGeneration);
 					updateStarted(update);
+					LabelUpdate cached = fLabelCache.get(update.getElementPath());
+					if (cached != null && cached.getViewerInput() == input && Arrays.equals(cached.getColumnIds(), update.getColumnIds())) {
+						// Element did not change since its label was last retrieved.
+						fLabelCacheHits++;
+						itr.remove();
+						update.copyLabelData(cached);
+						if (cachedUpdates == null) {
+							cachedUpdates = new ArrayList<>();
+						}
+						cachedUpdates.add(update);
+					} else {
+						fLabelCacheMisses++;
+					}
                 }
-				entry.getKey().update(list.toArray(new ILabelUpdate[list.size()]));
+				if (!list.isEmpty()) {
+					entry.getKey().update(list.toArray(new ILabelUpdate[list.size()]));
+				}
             }
+			// Complete updates served from cache only after all updates were
+			// started, so that the label update sequence is not ended early.
+			if (cachedUpdates != null) {
+				for (LabelUpdate update : cachedUpdates) {
+					update.performUpdate();
+				}
+			}
+			if (DebugUIPlugin.DEBUG_UPDATE_SEQUENCE && DebugUIPlugin.DEBUG_TEST_PRESENTATION_ID(getPresentationContext())) {
+				DebugUIPlugin.trace("LABEL CACHE hit rate: " + getLabelCacheHitRate()); //$NON-NLS-1$
+			}
 	    }
 	    fPendingUpdates.clear();
 	    fPendingUpdatesRunnable = null;
 	}
 
+	/**
+	 * Adds the given completed label update to the label cache, unless the
+	 * cache was invalidated since the update was started.
+	 *
+	 * @param update completed label update
+	 */
+	void cacheLabel(LabelUpdate update) {
+		if (update.getCacheGeneration() == fLabelCacheGeneration && !update.isCanceled()) {
+			TreePath path = update.getElementPath();
+			if (fLabelCache.put(path, update) == null) {
+				for (int i = 0; i < path.getSegmentCount(); i++) {
+					Set<TreePath> paths = fLabelCacheIndex.get(path.getSegment(i));
+					if (paths == null) {
+						paths = new HashSet<>();
+						fLabelCacheIndex.put(path.getSegment(i), paths);
+					}
+					paths.add(path);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Removes the given path from the label cache index.
+	 *
+	 * @param path path of a label removed from the cache
+	 */
+	private void unindexLabel(TreePath path) {
+		for (int i = 0; i < path.getSegmentCount(); i++) {
+			Set<TreePath> paths = fLabelCacheIndex.get(path.getSegment(i));
+			if (paths != null) {
+				paths.remove(path);
+				if (paths.isEmpty()) {
+					fLabelCacheIndex.remove(path.getSegment(i));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Removes cached labels of elements affected by the given delta node.
+	 *
+	 * @param element element of the delta node
+	 * @param subtree whether the labels of the element's sub-tree should be
+	 * removed as well
+	 */
+	private void invalidateLabelCache(Object element, boolean subtree) {
+		fLabelCacheGeneration++;
+		if (fLabelCache.isEmpty()) {
+			return;
+		}
+		if (subtree && element.equals(fViewer.getInput())) {
+			clearLabelCache();
+			return;
+		}
+		Set<TreePath> paths = fLabelCacheIndex.get(element);
+		if (paths == null) {
+			return;
+		}
+		for (TreePath path : paths.toArray(new TreePath[paths.size()])) {
+			if (subtree || element.equals(path.getLastSegment())) {
+				fLabelCache.remove(path);
+				unindexLabel(path);
+			}
+		}
+	}
+
+	@Override
+	public void refreshLabels(Object element) {
+		if (isDisposed()) {
+			return;
+		}
+		Assert.isTrue(fViewer.isViewerThread());
+		if (element == null) {
+			clearLabelCache();
+		} else {
+			invalidateLabelCache(element, true);
+		}
+	}
+
+	/**
+	 * Clears the label cache.
+	 */
+	private void clearLabelCache() {
+		fLabelCacheGeneration++;
+		fLabelCache.clear();
+		fLabelCacheIndex.clear();
+	}
+
+	/**
+	 * Returns the ratio of label requests which were served from the label
+	 * cache since this label provider was created.
+	 *
+	 * @return hit rate between 0 and 1
+	 */
+	double getLabelCacheHitRate() {
+		int total = fLabelCacheHits + fLabelCacheMisses;
+		return total == 0 ? 0 : (double) fLabelCacheHits / total;
+	}
+
     /**
     * Cancels all running updates for the given element.  If seachFullPath is true,
     * all updates will be canceled which have the given element anywhere in their
@@ -396,7 +640,7 @@ public class TreeModelLabelProvider extends ColumnLabelProvider
 
 		if (fComplete == null) {
 			fComplete = new LinkedList<>();
-			fViewer.getDisplay().asyncExec(() -> {
+			fViewer.asyncExecInViewerThread(() -> {
 				if (isDisposed()) {
 					return;
 				}
@@ -433,7 +677,7 @@ public class TreeModelLabelProvider extends ColumnLabelProvider
 	 * @param update Update that was started
 	 */
 	void updateStarted(ILabelUpdate update) {
-	    Assert.isTrue(fViewer.getDisplay().getThread() == Thread.currentThread());
+	    Assert.isTrue(fViewer.isViewerThread());
 
 		boolean begin = fUpdatesInProgress.isEmpty();
 		fUpdatesInProgress.add(update);
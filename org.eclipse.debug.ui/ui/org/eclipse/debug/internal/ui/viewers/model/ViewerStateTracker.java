@@ -139,6 +139,83 @@ class ViewerStateTracker {
         }
     }
 
+    /**
+     * Mementos of the elements at one path of the viewer, and the nodes of
+     * the child elements at paths below.
+     */
+    private static class MementoNode {
+        IMemento fMemento;
+		Map<Object, MementoNode> fChildren;
+
+        MementoNode getChild(Object element, boolean create) {
+            MementoNode child = fChildren != null ? fChildren.get(element) : null;
+            if (child == null && create) {
+                if (fChildren == null) {
+					fChildren = new HashMap<>();
+                }
+                child = new MementoNode();
+                fChildren.put(element, child);
+            }
+            return child;
+        }
+    }
+
+    /**
+     * Saved viewer state in a compact form. Rather than as a tree of delta
+     * nodes, each with a list of children and a map to look them up, the
+     * nodes of the state delta are kept in arrays in depth-first order. The
+     * delta is created again when the state is restored.
+     */
+    private static class SavedState {
+        private final Object[] fElements;
+        private final int[] fParents;
+        private final int[] fIndexes;
+        private final int[] fFlags;
+        private final int[] fChildCounts;
+        private int fCount;
+
+        SavedState(ModelDelta rootDelta) {
+            final int[] count = new int[1];
+			rootDelta.accept((delta, depth) -> {
+				count[0]++;
+				return true;
+			});
+            fElements = new Object[count[0]];
+            fParents = new int[count[0]];
+            fIndexes = new int[count[0]];
+            fFlags = new int[count[0]];
+            fChildCounts = new int[count[0]];
+            add(rootDelta, -1);
+        }
+
+        private void add(IModelDelta delta, int parent) {
+            int node = fCount++;
+            fElements[node] = delta.getElement();
+            fParents[node] = parent;
+            fIndexes[node] = delta.getIndex();
+            fFlags[node] = delta.getFlags();
+            fChildCounts[node] = delta.getChildCount();
+            for (IModelDelta child : delta.getChildDeltas()) {
+                add(child, node);
+            }
+        }
+
+        /**
+         * Creates the state delta for the given viewer input.
+         *
+         * @param input the viewer input
+         * @return the state delta
+         */
+        ModelDelta toDelta(Object input) {
+            ModelDelta[] deltas = new ModelDelta[fCount];
+            deltas[0] = new ModelDelta(input, fIndexes[0], fFlags[0], fChildCounts[0]);
+            for (int i = 1; i < fCount; i++) {
+                deltas[i] = deltas[fParents[i]].addNode(fElements[i], fIndexes[i], fFlags[i], fChildCounts[i]);
+            }
+            return deltas[0];
+        }
+    }
+
     /**
      * Content provider that is using this state tracker.
      */
@@ -151,7 +228,19 @@ class ViewerStateTracker {
     /**
      * Map of viewer states keyed by viewer input mementos
      */
-	private Map<String, ModelDelta> fViewerStates = new LRUMap<>(20);
+	private Map<String, SavedState> fViewerStates = new LRUMap<>(20);
+
+    /**
+     * Element mementos encoded by previous state saves or matched by previous
+     * state restores, by viewer input and element path. Switching back and
+     * forth between inputs (e.g. stack frames in the Variables view) saves and
+     * restores the state of the same expanded elements repeatedly. Their
+     * mementos are re-used rather than encoded again when saving, and elements
+     * are restored without comparing them when their memento is the saved one.
+     * The mementos of the elements below an element are discarded when the
+     * model reports a change of the element.
+     */
+	private Map<Object, MementoNode> fElementMementos = new LRUMap<>(20);
 
     /**
      * Pending viewer state to be restored
@@ -223,7 +312,7 @@ class ViewerStateTracker {
      * Cancels pending updates.
      */
     void dispose() {
-        Assert.isTrue( fContentProvider.getViewer().getDisplay().getThread() == Thread.currentThread() );
+        Assert.isTrue( fContentProvider.getViewer().isViewerThread() );
 		for (IElementMementoCollector emc : fPendingStateSaves) {
 			emc.cancel();
         }
@@ -232,6 +321,7 @@ class ViewerStateTracker {
 			ecr.cancel();
         }
         fCompareRequestsInProgress.clear();
+        fElementMementos.clear();
 
         if (fPendingSetTopItem != null) {
             fPendingSetTopItem.dispose();
@@ -245,7 +335,7 @@ class ViewerStateTracker {
      *            viewer input
      */
     private void startRestoreViewerState(final Object input) {
-        Assert.isTrue( fContentProvider.getViewer().getDisplay().getThread() == Thread.currentThread() );
+        Assert.isTrue( fContentProvider.getViewer().isViewerThread() );
 
         fPendingState = null;
         final IElementMementoProvider defaultProvider = ViewerAdapterService.getMementoProvider(input);
@@ -271,19 +361,19 @@ class ViewerStateTracker {
                         try {
                             keyMemento.save(writer);
                             final String keyMementoString = writer.toString();
-                            ModelDelta stateDelta = fViewerStates.get(keyMementoString);
-                            if (stateDelta != null) {
+                            if (fViewerStates.containsKey(keyMementoString)) {
                                 if (DebugUIPlugin.DEBUG_STATE_SAVE_RESTORE && DebugUIPlugin.DEBUG_TEST_PRESENTATION_ID(fContentProvider.getPresentationContext()))  {
                                 	DebugUIPlugin.trace("STATE RESTORE INPUT COMARE ENDED : " + fRequest + " - MATCHING STATE FOUND"); //$NON-NLS-1$ //$NON-NLS-2$
                                 }
 
                                 // Process start of restore in an async cycle because we may still be inside inputChanged()
                                 // call. I.e. the "input.equals(fContentProvider.getViewer().getInput())" test may fail.
-								fContentProvider.getViewer().getDisplay().asyncExec(() -> {
+								fContentProvider.getViewer().asyncExecInViewerThread(() -> {
 									if (!fContentProvider.isDisposed()
 											&& input.equals(fContentProvider.getViewer().getInput())) {
-										ModelDelta stateDelta2 = fViewerStates.remove(keyMementoString);
-										if (stateDelta2 != null) {
+										SavedState savedState = fViewerStates.remove(keyMementoString);
+										if (savedState != null) {
+											ModelDelta stateDelta2 = savedState.toDelta(input);
 											if (DebugUIPlugin.DEBUG_STATE_SAVE_RESTORE
 													&& DebugUIPlugin.DEBUG_TEST_PRESENTATION_ID(
 															fContentProvider.getPresentationContext())) {
@@ -291,7 +381,6 @@ class ViewerStateTracker {
 												DebugUIPlugin.trace("\tRESTORE: " + stateDelta2.toString()); //$NON-NLS-1$
 												notifyStateUpdate(input, STATE_RESTORE_SEQUENCE_BEGINS, null);
 											}
-											stateDelta2.setElement(input);
 											fPendingState = stateDelta2;
 											doInitialRestore(fPendingState);
 										}
@@ -671,7 +760,7 @@ class ViewerStateTracker {
 
             @Override
 			public void requestComplete(ElementMementoRequest request) {
-                Assert.isTrue( fContentProvider.getViewer().getDisplay().getThread() == Thread.currentThread() );
+                Assert.isTrue( fContentProvider.getViewer().isViewerThread() );
 
                 notifyStateUpdate(input, TreeModelContentProvider.UPDATE_COMPLETE, request);
                 if (DebugUIPlugin.DEBUG_STATE_SAVE_RESTORE && DebugUIPlugin.DEBUG_TEST_PRESENTATION_ID(fContentProvider.getPresentationContext())) {
@@ -679,6 +768,9 @@ class ViewerStateTracker {
                 }
 
                 if (!request.isCanceled() && (request.getStatus() == null || request.getStatus().isOK())) {
+                    if (request.getMemento() != inputMemento) {
+                        cacheMemento(input, request.getElementPath(), request.getMemento());
+                    }
                     boolean requestsComplted = false;
                     if (!fCanceled) {
                         fRequests.remove(request);
@@ -689,7 +781,7 @@ class ViewerStateTracker {
                         StringWriter writer = new StringWriter();
                         try {
                             keyMemento.save(writer);
-                            fViewerStates.put(writer.toString(), rootDelta);
+                            fViewerStates.put(writer.toString(), new SavedState(rootDelta));
                         } catch (IOException e) {
                             DebugUIPlugin.log(e);
                         }
@@ -705,7 +797,7 @@ class ViewerStateTracker {
 
             @Override
 			public void cancel() {
-                Assert.isTrue( fContentProvider.getViewer().getDisplay().getThread() == Thread.currentThread() );
+                Assert.isTrue( fContentProvider.getViewer().isViewerThread() );
 
                 if (fCanceled) {
                     return;
@@ -724,7 +816,7 @@ class ViewerStateTracker {
 
             @Override
 			public void processReqeusts() {
-                Assert.isTrue( fContentProvider.getViewer().getDisplay().getThread() == Thread.currentThread() );
+                Assert.isTrue( fContentProvider.getViewer().isViewerThread() );
 
 				Map<IElementMementoProvider, List<IElementMementoRequest>> providers = new HashMap<>();
 				for (IElementMementoRequest request : fRequests) {
@@ -749,12 +841,13 @@ class ViewerStateTracker {
 
             @Override
 			public void addRequest(ElementMementoRequest request) {
-                Assert.isTrue( fContentProvider.getViewer().getDisplay().getThread() == Thread.currentThread() );
+                Assert.isTrue( fContentProvider.getViewer().isViewerThread() );
 
                 fRequests.add(request);
             }
 
         };
+		final Map<ModelDelta, IMemento> cachedMementos = new HashMap<>();
 		IModelDeltaVisitor visitor = (delta, depth) -> {
 			// Add the CONTENT flag to all nodes with an EXPAND flag.
 			// During restoring, this flag is used as a marker indicating
@@ -770,26 +863,109 @@ class ViewerStateTracker {
 						fContentProvider.getViewerTreePath(delta), inputMemento, (ModelDelta) delta));
 			} else {
 				// If this is another node element, save the memento to a children memento.
+				// Re-use the memento encoded by an earlier save if available.
 				if (!(delta.getElement() instanceof XMLMemento)) {
-					manager.addRequest(new ElementMementoRequest(fContentProvider, input, manager, delta.getElement(),
-							fContentProvider.getViewerTreePath(delta), childrenMemento.createChild("CHILD_ELEMENT"), //$NON-NLS-1$
-							(ModelDelta) delta));
+					TreePath path = fContentProvider.getViewerTreePath(delta);
+					IMemento cachedMemento = getCachedMemento(input, path);
+					if (cachedMemento != null) {
+						cachedMementos.put((ModelDelta) delta, cachedMemento);
+					} else {
+						manager.addRequest(new ElementMementoRequest(fContentProvider, input, manager,
+								delta.getElement(), path, childrenMemento.createChild("CHILD_ELEMENT"), //$NON-NLS-1$
+								(ModelDelta) delta));
+					}
 				}
 			}
 			return true;
 		};
         rootDelta.accept(visitor);
+        // Replace the elements once all paths are known.
+		for (Entry<ModelDelta, IMemento> entry : cachedMementos.entrySet()) {
+            entry.getKey().setElement(entry.getValue());
+        }
         stateSaveStarted(input, manager);
         manager.processReqeusts();
     }
 
+    /**
+     * Returns the memento of the element at the given path, encoded by a
+     * previous state save or matched by a previous state restore.
+     *
+     * @param input the viewer input
+     * @param path the path of the element
+     * @return the memento or <code>null</code> if none
+     */
+    private IMemento getCachedMemento(Object input, TreePath path) {
+        MementoNode node = fElementMementos.get(input);
+        for (int i = 0; node != null && i < path.getSegmentCount(); i++) {
+            node = node.getChild(path.getSegment(i), false);
+        }
+        return node != null ? node.fMemento : null;
+    }
+
+    /**
+     * Remembers the memento of the element at the given path.
+     *
+     * @param input the viewer input
+     * @param path the path of the element
+     * @param memento the memento of the element
+     */
+    private void cacheMemento(Object input, TreePath path, IMemento memento) {
+        MementoNode node = fElementMementos.get(input);
+        if (node == null) {
+            node = new MementoNode();
+            fElementMementos.put(input, node);
+        }
+        for (int i = 0; i < path.getSegmentCount(); i++) {
+            node = node.getChild(path.getSegment(i), true);
+        }
+        node.fMemento = memento;
+    }
+
+    /**
+     * Discards the cached mementos of the elements changed by the given model
+     * delta. The memento of an element with changed state is discarded, as are
+     * the mementos of all elements below an element with changed content, or
+     * a removed or replaced element.
+     *
+     * @param delta model delta received by the content provider
+     */
+    void modelChanged(IModelDelta delta) {
+        MementoNode node = fElementMementos.get(delta.getElement());
+        if (node != null) {
+            discardMementos(node, delta);
+        }
+    }
+
+    private void discardMementos(MementoNode node, IModelDelta delta) {
+        if ((delta.getFlags() & IModelDelta.STATE) != 0) {
+            node.fMemento = null;
+        }
+        if ((delta.getFlags() & IModelDelta.CONTENT) != 0) {
+            node.fChildren = null;
+        }
+        if (node.fChildren == null) {
+            return;
+        }
+        for (IModelDelta childDelta : delta.getChildDeltas()) {
+            if ((childDelta.getFlags() & (IModelDelta.REMOVED | IModelDelta.REPLACED)) != 0) {
+                node.fChildren.remove(childDelta.getElement());
+            } else {
+                MementoNode child = node.fChildren.get(childDelta.getElement());
+                if (child != null) {
+                    discardMementos(child, childDelta);
+                }
+            }
+        }
+    }
+
     /**
      * Called when a state save is starting.
      * @param input the {@link ModelDelta} input
      * @param manager the manager to notify
      */
     private void stateSaveStarted(Object input, IElementMementoCollector manager) {
-        Assert.isTrue( fContentProvider.getViewer().getDisplay().getThread() == Thread.currentThread() );
+        Assert.isTrue( fContentProvider.getViewer().isViewerThread() );
 
         notifyStateUpdate(input, STATE_SAVE_SEQUENCE_BEGINS, null);
         fPendingStateSaves.add(manager);
@@ -801,7 +977,7 @@ class ViewerStateTracker {
      * @param manager the manager to notify
      */
     private void stateSaveComplete(Object input, IElementMementoCollector manager) {
-        Assert.isTrue( fContentProvider.getViewer().getDisplay().getThread() == Thread.currentThread() );
+        Assert.isTrue( fContentProvider.getViewer().isViewerThread() );
 
         notifyStateUpdate(input, STATE_SAVE_SEQUENCE_COMPLETE, null);
         fPendingStateSaves.remove(manager);
@@ -818,7 +994,7 @@ class ViewerStateTracker {
      * @return whether any state saving is in progress
      */
     private boolean isSavingState() {
-        Assert.isTrue( fContentProvider.getViewer().getDisplay().getThread() == Thread.currentThread() );
+        Assert.isTrue( fContentProvider.getViewer().isViewerThread() );
 
         return !fPendingStateSaves.isEmpty();
     }
@@ -831,7 +1007,7 @@ class ViewerStateTracker {
      *            viewer input
      */
     protected void restoreViewerState(final Object input) {
-        Assert.isTrue( fContentProvider.getViewer().getDisplay().getThread() == Thread.currentThread() );
+        Assert.isTrue( fContentProvider.getViewer().isViewerThread() );
 
         fPendingState = null;
         if (isSavingState()) {
@@ -945,12 +1121,13 @@ class ViewerStateTracker {
     void restorePendingStateOnUpdate(final TreePath path, final int modelIndex, final boolean knowsHasChildren,
         final boolean knowsChildCount, final boolean checkChildrenRealized)
     {
-        Assert.isTrue( fContentProvider.getViewer().getDisplay().getThread() == Thread.currentThread() );
+        Assert.isTrue( fContentProvider.getViewer().isViewerThread() );
 
         if (fPendingState == null) {
             return;
         }
 
+		final List<ModelDelta> mementoDeltas = new ArrayList<>();
 		IModelDeltaVisitor visitor = (delta, depth) -> {
 
 			Object element = delta.getElement();
@@ -958,35 +1135,7 @@ class ViewerStateTracker {
 			// Only process if the depth in the delta matches the tree path.
 			if (depth == path.getSegmentCount()) {
 				if (element instanceof IMemento) {
-					IElementMementoProvider provider = ViewerAdapterService.getMementoProvider(potentialMatch);
-					if (provider == null) {
-						provider = ViewerAdapterService.getMementoProvider(fContentProvider.getViewer().getInput());
-					}
-					if (provider != null) {
-						CompareRequestKey key = new CompareRequestKey(path, delta);
-						ElementCompareRequest existingRequest = fCompareRequestsInProgress.get(key);
-						if (existingRequest != null) {
-							// Check all the running compare updates for a
-							// matching tree path.
-							// If found, just update the flags.
-							existingRequest.setKnowsHasChildren(knowsHasChildren);
-							existingRequest.setKnowsChildCount(knowsChildCount);
-							existingRequest.setCheckChildrenRealized(checkChildrenRealized);
-						} else {
-							// Start a new compare request
-							ElementCompareRequest compareRequest = new ElementCompareRequest(fContentProvider,
-									fContentProvider.getViewer().getInput(), potentialMatch, path, (IMemento) element,
-									(ModelDelta) delta, modelIndex, knowsHasChildren, knowsChildCount,
-									checkChildrenRealized);
-							fCompareRequestsInProgress.put(key, compareRequest);
-							if (DebugUIPlugin.DEBUG_STATE_SAVE_RESTORE && DebugUIPlugin
-									.DEBUG_TEST_PRESENTATION_ID(fContentProvider.getPresentationContext())) {
-								DebugUIPlugin.trace("\tSTATE BEGIN: " + compareRequest); //$NON-NLS-1$
-							}
-							notifyStateUpdate(element, TreeModelContentProvider.UPDATE_BEGINS, compareRequest);
-							provider.compareElements(new IElementCompareRequest[] { compareRequest });
-						}
-					}
+					mementoDeltas.add((ModelDelta) delta);
 				} else if (element.equals(potentialMatch)) {
 					// Element comparison already succeeded, and it matches
 					// our element.
@@ -1003,6 +1152,9 @@ class ViewerStateTracker {
         try {
             fInStateRestore = true;
             fPendingState.accept(visitor);
+            if (!mementoDeltas.isEmpty()) {
+                compareElement(path, modelIndex, mementoDeltas, knowsHasChildren, knowsChildCount, checkChildrenRealized);
+            }
         }
         finally {
             fInStateRestore = false;
@@ -1010,11 +1162,75 @@ class ViewerStateTracker {
         checkIfRestoreComplete();
     }
 
+    /**
+     * Compares the element at the given path with the mementos of the given
+     * pending state deltas. If the element was encoded into one of the
+     * mementos by a previous state save, or matched one of them in a previous
+     * restore, the element is restored from that delta without comparing it
+     * with any of the mementos.
+     *
+     * @param path the tree path of the element
+     * @param modelIndex the index in the current model
+     * @param mementoDeltas the pending state deltas to compare the element with
+     * @param knowsHasChildren if the content provider knows it has children already
+     * @param knowsChildCount if the content provider knows the current child count already
+     * @param checkChildrenRealized if any realized children should be checked or not
+     */
+    private void compareElement(TreePath path, int modelIndex, List<ModelDelta> mementoDeltas, boolean knowsHasChildren,
+        boolean knowsChildCount, boolean checkChildrenRealized)
+    {
+        Object input = fContentProvider.getViewer().getInput();
+        Object element = path.getSegmentCount() != 0 ? path.getLastSegment() : input;
+        IMemento cachedMemento = getCachedMemento(input, path);
+        if (cachedMemento != null) {
+            for (ModelDelta delta : mementoDeltas) {
+                if (delta.getElement() == cachedMemento) {
+                    ElementCompareRequest compareRequest = new ElementCompareRequest(fContentProvider, input, element,
+                        path, cachedMemento, delta, modelIndex, knowsHasChildren, knowsChildCount, checkChildrenRealized);
+                    compareRequest.setEqual(true);
+                    notifyStateUpdate(cachedMemento, TreeModelContentProvider.UPDATE_BEGINS, compareRequest);
+                    compareFinished(compareRequest, delta);
+                    return;
+                }
+            }
+        }
+
+        IElementMementoProvider provider = ViewerAdapterService.getMementoProvider(element);
+        if (provider == null) {
+            provider = ViewerAdapterService.getMementoProvider(input);
+        }
+        if (provider == null) {
+            return;
+        }
+        for (ModelDelta delta : mementoDeltas) {
+            CompareRequestKey key = new CompareRequestKey(path, delta);
+            ElementCompareRequest existingRequest = fCompareRequestsInProgress.get(key);
+            if (existingRequest != null) {
+                // Check all the running compare updates for a matching tree path.
+                // If found, just update the flags.
+                existingRequest.setKnowsHasChildren(knowsHasChildren);
+                existingRequest.setKnowsChildCount(knowsChildCount);
+                existingRequest.setCheckChildrenRealized(checkChildrenRealized);
+            } else {
+                // Start a new compare request
+                ElementCompareRequest compareRequest = new ElementCompareRequest(fContentProvider, input, element,
+                    path, (IMemento) delta.getElement(), delta, modelIndex, knowsHasChildren, knowsChildCount,
+                    checkChildrenRealized);
+                fCompareRequestsInProgress.put(key, compareRequest);
+                if (DebugUIPlugin.DEBUG_STATE_SAVE_RESTORE && DebugUIPlugin.DEBUG_TEST_PRESENTATION_ID(fContentProvider.getPresentationContext())) {
+                	DebugUIPlugin.trace("\tSTATE BEGIN: " + compareRequest); //$NON-NLS-1$
+                }
+                notifyStateUpdate(delta.getElement(), TreeModelContentProvider.UPDATE_BEGINS, compareRequest);
+                provider.compareElements(new IElementCompareRequest[] { compareRequest });
+            }
+        }
+    }
+
     /**
      * Checks whether restoring pending state is already complete.
      */
     void checkIfRestoreComplete() {
-        Assert.isTrue( fContentProvider.getViewer().getDisplay().getThread() == Thread.currentThread() );
+        Assert.isTrue( fContentProvider.getViewer().isViewerThread() );
 
         if (fPendingState == null) {
             return;
@@ -1256,7 +1472,7 @@ class ViewerStateTracker {
 
         @Override
 		public void viewerUpdatesComplete() {
-            Assert.isTrue( fContentProvider.getViewer().getDisplay().getThread() == Thread.currentThread() );
+            Assert.isTrue( fContentProvider.getViewer().isViewerThread() );
 
             IInternalTreeModelViewer viewer = fContentProvider.getViewer();
             if (viewer == null || fPendingSetTopItem != this) {
@@ -1437,6 +1653,7 @@ class ViewerStateTracker {
         fCompareRequestsInProgress.remove(new CompareRequestKey(request.getElementPath(), delta));
         if (!request.isCanceled()) {
             if (request.isEqual()) {
+                cacheMemento(request.getViewerInput(), request.getElementPath(), request.getMemento());
                 delta.setElement(request.getElement());
                 restorePendingStateNode(delta, request.knowsHasChildren(), request.knowChildCount(), request.checkChildrenRealized());
             } else if (request.getModelIndex() != -1) {
@@ -20,10 +20,8 @@ import org.eclipse.debug.internal.ui.DebugUIPlugin;
 import org.eclipse.debug.internal.ui.viewers.AsynchronousSchedulingRuleFactory;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IElementContentProvider;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IPresentationContext;
-import org.eclipse.debug.internal.ui.viewers.model.provisional.ITreeModelViewer;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IViewerUpdate;
 import org.eclipse.jface.viewers.TreePath;
-import org.eclipse.swt.widgets.Display;
 
 /**
  * @since 3.3
@@ -280,20 +278,19 @@ public abstract class ViewerUpdateMonitor extends Request implements IViewerUpda
     abstract protected int doHashCode();
 
     /**
-     * Executes the given runnable in the UI thread.  If method is called in
-     * UI thread, then runnable is executed immediately, otherwise it's executed
-     * using <code>Display.asyncExec()</code>.  Runnable is not executed if update is
+     * Executes the given runnable in the viewer's (UI) thread.  If method is called in
+     * that thread, then runnable is executed immediately, otherwise it's executed
+     * asynchronously in the viewer's thread.  Runnable is not executed if update is
      * canceled or content provider is disposed.
      * @since 3.8
      */
 	protected void execInDisplayThread(Runnable runnable) {
-   	    ITreeModelViewer viewer = getContentProvider().getViewer();
+   	    IInternalTreeModelViewer viewer = getContentProvider().getViewer();
    	    if (viewer != null  && !isCanceled()) {
-   	    	Display display = viewer.getDisplay();
-   	    	if (Thread.currentThread() == display.getThread()) {
+   	    	if (viewer.isViewerThread()) {
    	    		runnable.run();
    	    	} else {
-   	    		display.asyncExec(runnable);
+   	    		viewer.asyncExecInViewerThread(runnable);
    	    	}
 	    }
 	}
@@ -66,6 +66,35 @@ public class VirtualTreeModelViewer extends InternalVirtualTreeModelViewer {
         super(display, style, context, validator);
     }
 
+    /**
+     * Creates a headless virtual tree model viewer.  The viewer does not use
+     * a display, it calls the data providers and processes model deltas in a
+     * thread of its own instead.  Clients must call the viewer's methods, including
+     * {@link #dispose()}, in that thread using {@link #asyncExecInViewerThread(Runnable)}.
+     * @param style style flags.
+     * @param context Viewer's presentation context.
+     * @param validator Optional validator that is used to determine which items should be
+     * considered visible when SWT.VIRTUAL style is used.  If <code>null</code> then the
+     * standard validator is used that updates only the selected items.
+     *
+     * @since 3.14
+     */
+    public VirtualTreeModelViewer(int style, IPresentationContext context, IVirtualItemValidator validator) {
+        super(style, context, validator);
+    }
+
+    /**
+     * Executes the given runnable asynchronously in the thread in which this
+     * viewer processes updates.
+     *
+     * @param runnable runnable to execute
+     * @since 3.14
+     */
+    @Override
+	public void asyncExecInViewerThread(Runnable runnable) {
+        super.asyncExecInViewerThread(runnable);
+    }
+
     /**
      * Returns this viewer's presentation context.
      *
@@ -0,0 +1,625 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.ui.views.memory;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IDebugEventSetListener;
+import org.eclipse.debug.core.IMemoryBlockListener;
+import org.eclipse.debug.core.model.IDebugElement;
+import org.eclipse.debug.core.model.IMemoryBlock;
+import org.eclipse.debug.core.model.IMemoryBlockExtension;
+import org.eclipse.debug.core.model.MemoryBuffer;
+import org.eclipse.debug.internal.core.MemoryBlockChangeTracker;
+import org.eclipse.debug.internal.ui.DebugUIPlugin;
+import org.eclipse.debug.internal.ui.preferences.IDebugPreferenceConstants;
+
+/**
+ * Page based cache of the memory of a memory block, shared by all renderings
+ * of the memory block.
+ * <p>
+ * Memory is cached in pages, and the least recently used pages are evicted
+ * once the cache is full. Only the memory requested by clients is read, within
+ * the hard start and end address of the memory block, so a page may hold only
+ * a part of its memory. Clients may opt in to read ahead: when a client moves
+ * through the memory block, the pages following in the direction of the move
+ * are then read in the background. All pages become stale when the memory
+ * block's debug target suspends, the memory block reports a change or a
+ * rendering is refreshed. Stale pages are read again when requested, unless
+ * the memory block reports them as unchanged through
+ * {@link org.eclipse.debug.core.model.IMemoryBlockChangeReporter}.
+ * </p>
+ * <p>
+ * Each cached page has a version, which only changes when a page read again
+ * has a different content. Clients compare the versions of two reads with
+ * {@link #getVersion(Object, BigInteger, long)} to find memory that did not
+ * change, without comparing its bytes.
+ * </p>
+ *
+ * @since 3.14
+ */
+public class MemoryPageCache implements IDebugEventSetListener {
+
+	/**
+	 * Size of a page, in addressable units.
+	 */
+	private static final int PAGE_SIZE = 1024;
+
+	/**
+	 * Maximum number of pages cached per memory block.
+	 */
+	private static final int MAX_PAGES = 256;
+
+	/**
+	 * Number of pages read ahead in the direction of a move, when reading
+	 * ahead is enabled.
+	 */
+	private static final int PREFETCH_PAGES = 4;
+
+	private static final BigInteger BIG_PAGE_SIZE = BigInteger.valueOf(PAGE_SIZE);
+
+	private static final Map<IMemoryBlockExtension, MemoryPageCache> fgCaches = new HashMap<>();
+
+	private static IMemoryBlockListener fgMemoryBlockListener;
+
+	private final IMemoryBlockExtension fMemoryBlock;
+
+	/**
+	 * Tracks which pages changed since they were read.
+	 */
+	private final MemoryBlockChangeTracker fTracker;
+
+	/**
+	 * Cached pages by page index, in access order.
+	 */
+	private final LinkedHashMap<BigInteger, CachedPage> fPages = new LinkedHashMap<BigInteger, CachedPage>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<BigInteger, CachedPage> eldest) {
+			return size() > MAX_PAGES;
+		}
+	};
+
+	/**
+	 * Incremented whenever the cache is invalidated, such that pages read
+	 * before the invalidation are not added to the cache as current.
+	 */
+	private int fGeneration;
+
+	/**
+	 * Address last read by each client, used to determine the direction in
+	 * which a client moves.
+	 */
+	private final Map<Object, BigInteger> fLastAddresses = new WeakHashMap<>();
+
+	/**
+	 * Versions of the pages last returned to each client.
+	 */
+	private final Map<Object, ReadVersions> fReadVersions = new WeakHashMap<>();
+
+	/**
+	 * Last version assigned to a page. Versions only grow, such that a page
+	 * never gets a version it or another page had before.
+	 */
+	private long fLastVersion;
+
+	private final PrefetchJob fPrefetchJob = new PrefetchJob();
+
+	/**
+	 * The part of a page held by the cache.
+	 */
+	private static class CachedPage {
+
+		/**
+		 * Offset of the first unit held, in addressable units.
+		 */
+		final int fStart;
+
+		/**
+		 * Offset following the last unit held, in addressable units.
+		 */
+		final int fEnd;
+
+		final MemoryBuffer fContent;
+
+		final long fVersion;
+
+		CachedPage(int start, int end, MemoryBuffer content, long version) {
+			fStart = start;
+			fEnd = end;
+			fContent = content;
+			fVersion = version;
+		}
+
+		boolean covers(int start, int end) {
+			return fStart <= start && end <= fEnd;
+		}
+
+		MemoryBuffer get(int start, int end, int addressableSize) {
+			return fContent.slice((start - fStart) * addressableSize, (end - start) * addressableSize);
+		}
+	}
+
+	/**
+	 * Versions of the pages of a read.
+	 */
+	private static class ReadVersions {
+
+		final BigInteger fFirstPage;
+
+		final long[] fVersions;
+
+		ReadVersions(BigInteger firstPage, long[] versions) {
+			fFirstPage = firstPage;
+			fVersions = versions;
+		}
+	}
+
+	/**
+	 * Reads pages ahead of the clients.
+	 */
+	private class PrefetchJob extends Job {
+
+		private BigInteger fStart;
+		private BigInteger fEnd;
+
+		PrefetchJob() {
+			super("Memory Prefetch"); //$NON-NLS-1$
+			setSystem(true);
+			setPriority(Job.DECORATE);
+		}
+
+		synchronized void prefetch(BigInteger start, BigInteger end) {
+			fStart = start;
+			fEnd = end;
+			schedule();
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			BigInteger start;
+			BigInteger end;
+			synchronized (this) {
+				start = fStart;
+				end = fEnd;
+			}
+			if (monitor.isCanceled() || start == null) {
+				return Status.CANCEL_STATUS;
+			}
+			try {
+				BigInteger[] range = clamp(start, end);
+				if (range != null) {
+					getRange(range[0], range[1], null);
+				}
+			} catch (DebugException e) {
+				// read ahead is best effort, the error is reported when the
+				// memory is actually requested
+			}
+			return Status.OK_STATUS;
+		}
+	}
+
+	/**
+	 * Returns the cache for the given memory block, creating it if needed.
+	 *
+	 * @param memoryBlock memory block
+	 * @return the cache of the memory block
+	 */
+	public static synchronized MemoryPageCache getCache(IMemoryBlockExtension memoryBlock) {
+		MemoryPageCache cache = fgCaches.get(memoryBlock);
+		if (cache == null) {
+			if (fgMemoryBlockListener == null) {
+				fgMemoryBlockListener = new IMemoryBlockListener() {
+					@Override
+					public void memoryBlocksAdded(IMemoryBlock[] memory) {
+					}
+
+					@Override
+					public void memoryBlocksRemoved(IMemoryBlock[] memory) {
+						for (int i = 0; i < memory.length; i++) {
+							disposeCache(memory[i]);
+						}
+					}
+				};
+				DebugPlugin.getDefault().getMemoryBlockManager().addListener(fgMemoryBlockListener);
+			}
+			cache = new MemoryPageCache(memoryBlock);
+			fgCaches.put(memoryBlock, cache);
+		}
+		return cache;
+	}
+
+	/**
+	 * Invalidates the cache of the given memory block, if any. Called after
+	 * the memory of the memory block has been modified, or when a rendering
+	 * of the memory block is refreshed.
+	 *
+	 * @param memoryBlock memory block
+	 */
+	public static void invalidateCache(IMemoryBlock memoryBlock) {
+		MemoryPageCache cache;
+		synchronized (MemoryPageCache.class) {
+			cache = fgCaches.get(memoryBlock);
+		}
+		if (cache != null) {
+			cache.invalidate();
+		}
+	}
+
+	private static void disposeCache(IMemoryBlock memoryBlock) {
+		MemoryPageCache cache;
+		synchronized (MemoryPageCache.class) {
+			cache = fgCaches.remove(memoryBlock);
+		}
+		if (cache != null) {
+			cache.dispose();
+		}
+	}
+
+	private MemoryPageCache(IMemoryBlockExtension memoryBlock) {
+		fMemoryBlock = memoryBlock;
+		fTracker = new MemoryBlockChangeTracker(memoryBlock, PAGE_SIZE);
+		DebugPlugin.getDefault().addDebugEventListener(this);
+	}
+
+	/**
+	 * Returns memory from the memory block, reading the parts of the requested
+	 * range that are not cached. Memory outside of the hard start and end
+	 * address of the memory block is returned as unreadable, without reading
+	 * it. If enabled by the {@link IDebugPreferenceConstants#PREF_MEMORY_PREFETCH}
+	 * preference, pages following the requested range in the direction the
+	 * client moves are read ahead.
+	 *
+	 * @param client the client reading memory, used to track the direction
+	 *            in which the client moves through the memory block
+	 * @param address address at which to begin retrieving bytes
+	 * @param units number of addressable units to retrieve
+	 * @return the memory, or <code>null</code> if the memory block returned
+	 *         no memory
+	 * @throws DebugException if the memory block fails to retrieve memory
+	 */
+	public MemoryBuffer getMemory(Object client, BigInteger address, long units) throws DebugException {
+		if (units <= 0) {
+			return MemoryViewUtil.getBufferFromAddress(fMemoryBlock, address, units);
+		}
+		int addressableSize = fMemoryBlock.getAddressableSize();
+		BigInteger end = address.add(BigInteger.valueOf(units));
+		BigInteger[] range = clamp(address, end);
+		if (range == null) {
+			synchronized (this) {
+				fReadVersions.put(client, new ReadVersions(BigInteger.ZERO, new long[0]));
+			}
+			return MemoryBuffer.fill((int) units * addressableSize, MemoryBuffer.UNREADABLE_FLAGS);
+		}
+		BigInteger firstPage = getPage(range[0]);
+		long[] versions = new long[getPage(range[1].subtract(BigInteger.ONE)).subtract(firstPage).intValue() + 1];
+		MemoryBuffer memory = getRange(range[0], range[1], versions);
+		synchronized (this) {
+			if (memory == null) {
+				fReadVersions.remove(client);
+				return null;
+			}
+			fReadVersions.put(client, new ReadVersions(firstPage, versions));
+		}
+
+		if (isPrefetchEnabled()) {
+			int direction = 0;
+			synchronized (this) {
+				BigInteger lastAddress = fLastAddresses.put(client, address);
+				if (lastAddress != null) {
+					direction = address.compareTo(lastAddress);
+				}
+			}
+			BigInteger prefetchSize = BigInteger.valueOf(PREFETCH_PAGES * PAGE_SIZE);
+			if (direction > 0) {
+				BigInteger prefetchStart = getPage(range[1].subtract(BigInteger.ONE)).add(BigInteger.ONE).multiply(BIG_PAGE_SIZE);
+				fPrefetchJob.prefetch(prefetchStart, prefetchStart.add(prefetchSize));
+			} else if (direction < 0) {
+				BigInteger prefetchEnd = getPage(range[0]).multiply(BIG_PAGE_SIZE);
+				fPrefetchJob.prefetch(prefetchEnd.subtract(prefetchSize), prefetchEnd);
+			}
+		}
+
+		if (range[0].equals(address) && range[1].equals(end)) {
+			return memory;
+		}
+		int before = range[0].subtract(address).intValue() * addressableSize;
+		int after = end.subtract(range[1]).intValue() * addressableSize;
+		return MemoryBuffer.concat(MemoryBuffer.fill(before, MemoryBuffer.UNREADABLE_FLAGS), memory, MemoryBuffer.fill(after, MemoryBuffer.UNREADABLE_FLAGS));
+	}
+
+	/**
+	 * Reads the parts of the given range that are not cached or have changed,
+	 * without reading ahead. Used to retrieve the memory requested by several
+	 * clients at once, before the clients read it. Ranges larger than the
+	 * cache are not read, as their pages would evict each other.
+	 *
+	 * @param address address at which to begin retrieving bytes
+	 * @param units number of addressable units to retrieve
+	 * @throws DebugException if the memory block fails to retrieve memory
+	 */
+	public void load(BigInteger address, long units) throws DebugException {
+		if (units <= 0) {
+			return;
+		}
+		BigInteger[] range = clamp(address, address.add(BigInteger.valueOf(units)));
+		if (range == null) {
+			return;
+		}
+		BigInteger numPages = getPage(range[1].subtract(BigInteger.ONE)).subtract(getPage(range[0])).add(BigInteger.ONE);
+		if (numPages.compareTo(BigInteger.valueOf(MAX_PAGES)) > 0) {
+			return;
+		}
+		getRange(range[0], range[1], null);
+	}
+
+	/**
+	 * Returns the version of the given range of the memory last returned to
+	 * the given client by {@link #getMemory(Object, BigInteger, long)}. Two
+	 * reads of a range have the same version only if the memory of the range
+	 * did not change in between. Changes are detected by the hash of the
+	 * pages, see {@link MemoryBlockChangeTracker}.
+	 *
+	 * @param client the client reading memory
+	 * @param address address at which the range begins, within the memory
+	 *            last returned to the client
+	 * @param units number of addressable units in the range
+	 * @return the version of the range, or -1 if unknown
+	 */
+	public synchronized long getVersion(Object client, BigInteger address, long units) {
+		ReadVersions read = fReadVersions.get(client);
+		if (read == null || units <= 0) {
+			return -1;
+		}
+		// pages outside of the read are outside of the memory block, their
+		// memory is unreadable and never changes
+		int first = Math.max(0, getPage(address).subtract(read.fFirstPage).intValue());
+		int last = Math.min(read.fVersions.length - 1, getPage(address.add(BigInteger.valueOf(units - 1))).subtract(read.fFirstPage).intValue());
+		long version = 0;
+		for (int i = first; i <= last; i++) {
+			// a changed page gets a version greater than all versions before
+			version = Math.max(version, read.fVersions[i]);
+		}
+		return version;
+	}
+
+	/**
+	 * Returns whether pages are read ahead of the clients.
+	 *
+	 * @return whether pages are read ahead
+	 */
+	private static boolean isPrefetchEnabled() {
+		return DebugUIPlugin.getDefault().getPreferenceStore().getBoolean(IDebugPreferenceConstants.PREF_MEMORY_PREFETCH);
+	}
+
+	/**
+	 * Returns the part of the given range within the hard start and end
+	 * address of the memory block.
+	 *
+	 * @param start first address of the range
+	 * @param end address following the range
+	 * @return the start and end of the part within the memory block, or
+	 *         <code>null</code> if the range is outside of the memory block
+	 * @throws DebugException if the memory block fails to report its start
+	 *             or end address
+	 */
+	private BigInteger[] clamp(BigInteger start, BigInteger end) throws DebugException {
+		BigInteger blockStart = fMemoryBlock.getMemoryBlockStartAddress();
+		if (blockStart != null) {
+			start = start.max(blockStart);
+		}
+		BigInteger blockEnd = fMemoryBlock.getMemoryBlockEndAddress();
+		if (blockEnd != null) {
+			end = end.min(blockEnd.add(BigInteger.ONE));
+		}
+		if (start.signum() < 0) {
+			start = BigInteger.ZERO;
+		}
+		if (start.compareTo(end) >= 0) {
+			return null;
+		}
+		return new BigInteger[] { start, end };
+	}
+
+	/**
+	 * Returns the memory of the given range, reading each contiguous part of
+	 * the range that is not cached or has changed from the memory block at
+	 * once.
+	 *
+	 * @param start first address of the range
+	 * @param end address following the range
+	 * @param versions array receiving the version of each page of the range,
+	 *            or <code>null</code>
+	 * @return the memory, or <code>null</code> if the memory block returned
+	 *         no memory
+	 * @throws DebugException if the memory block fails to retrieve memory
+	 */
+	private MemoryBuffer getRange(BigInteger start, BigInteger end, long[] versions) throws DebugException {
+		BigInteger firstPage = getPage(start);
+		int numPages = getPage(end.subtract(BigInteger.ONE)).subtract(firstPage).intValue() + 1;
+		// the part of each page within the range
+		int[] from = new int[numPages];
+		int[] to = new int[numPages];
+		for (int i = 0; i < numPages; i++) {
+			BigInteger pageAddress = firstPage.add(BigInteger.valueOf(i)).multiply(BIG_PAGE_SIZE);
+			from[i] = i == 0 ? start.subtract(pageAddress).intValue() : 0;
+			to[i] = i == numPages - 1 ? end.subtract(pageAddress).intValue() : PAGE_SIZE;
+		}
+
+		int generation;
+		CachedPage[] cached = new CachedPage[numPages];
+		synchronized (this) {
+			generation = fGeneration;
+			for (int i = 0; i < numPages; i++) {
+				cached[i] = fPages.get(firstPage.add(BigInteger.valueOf(i)));
+			}
+		}
+		boolean[] retrieve = fTracker.getPagesToRetrieve(firstPage, numPages);
+		int addressableSize = fMemoryBlock.getAddressableSize();
+		MemoryBuffer[] parts = new MemoryBuffer[numPages];
+		for (int i = 0; i < numPages; i++) {
+			if (retrieve[i]) {
+				cached[i] = null;
+			} else if (cached[i] != null && cached[i].covers(from[i], to[i])) {
+				parts[i] = cached[i].get(from[i], to[i], addressableSize);
+				if (versions != null) {
+					versions[i] = cached[i].fVersion;
+				}
+			}
+		}
+		int i = 0;
+		while (i < numPages) {
+			if (parts[i] != null) {
+				i++;
+				continue;
+			}
+			int last = i;
+			while (last < numPages && parts[last] == null) {
+				last++;
+			}
+			BigInteger readAddress = firstPage.add(BigInteger.valueOf(i)).multiply(BIG_PAGE_SIZE).add(BigInteger.valueOf(from[i]));
+			long units = (long) (last - 1 - i) * PAGE_SIZE + to[last - 1] - from[i];
+			MemoryBuffer memory = MemoryViewUtil.getBufferFromAddress(fMemoryBlock, readAddress, units);
+			if (memory == null) {
+				return null;
+			}
+			int length = (int) units * addressableSize;
+			boolean complete = memory.length() >= length;
+			if (!complete) {
+				// the memory block did not return enough memory, pad with
+				// unreadable bytes and do not cache the result
+				memory = MemoryBuffer.concat(memory, MemoryBuffer.fill(length - memory.length(), MemoryBuffer.UNREADABLE_FLAGS));
+			}
+			int offset = 0;
+			for (int j = i; j < last; j++) {
+				int partLength = (to[j] - from[j]) * addressableSize;
+				parts[j] = memory.slice(offset, partLength);
+				offset += partLength;
+			}
+			synchronized (this) {
+				for (int j = i; j < last; j++) {
+					long version;
+					if (complete && generation == fGeneration) {
+						version = cachePage(firstPage.add(BigInteger.valueOf(j)), from[j], to[j], parts[j], cached[j], addressableSize);
+					} else {
+						// memory which is not cached is never the same version
+						version = ++fLastVersion;
+					}
+					if (versions != null) {
+						versions[j] = version;
+					}
+				}
+			}
+			i = last;
+		}
+		return numPages == 1 ? parts[0] : MemoryBuffer.concat(parts);
+	}
+
+	/**
+	 * Adds memory just read to the cache, merged with the current part of the
+	 * page held by the cache if the two are contiguous. The page keeps its
+	 * version if its content did not change.
+	 *
+	 * @param page index of the page
+	 * @param start offset of the first unit read within the page
+	 * @param end offset following the last unit read within the page
+	 * @param read the memory read
+	 * @param current the current part of the page held by the cache, or
+	 *            <code>null</code> if none
+	 * @param addressableSize addressable size of the memory block
+	 * @return the version of the page
+	 */
+	private long cachePage(BigInteger page, int start, int end, MemoryBuffer read, CachedPage current, int addressableSize) {
+		MemoryBuffer content = read;
+		if (current != null && current.fStart <= end && start <= current.fEnd) {
+			List<MemoryBuffer> parts = new ArrayList<>(3);
+			if (current.fStart < start) {
+				parts.add(current.get(current.fStart, start, addressableSize));
+			}
+			parts.add(read);
+			if (end < current.fEnd) {
+				parts.add(current.get(end, current.fEnd, addressableSize));
+			}
+			if (parts.size() > 1) {
+				content = MemoryBuffer.concat(parts.toArray(new MemoryBuffer[parts.size()]));
+			}
+			start = Math.min(current.fStart, start);
+			end = Math.max(current.fEnd, end);
+		}
+		// the retrieved content is always used, the hash only tells whether
+		// the page changed
+		boolean changed = fTracker.update(page, content);
+		CachedPage previous = fPages.get(page);
+		long version = !changed && previous != null ? previous.fVersion : ++fLastVersion;
+		fPages.put(page, new CachedPage(start, end, content, version));
+		return version;
+	}
+
+	private static BigInteger getPage(BigInteger address) {
+		BigInteger[] result = address.divideAndRemainder(BIG_PAGE_SIZE);
+		if (result[1].signum() < 0) {
+			return result[0].subtract(BigInteger.ONE);
+		}
+		return result[0];
+	}
+
+	/**
+	 * Marks all cached pages as stale.
+	 */
+	public synchronized void invalidate() {
+		fGeneration++;
+		fTracker.invalidate();
+	}
+
+	@Override
+	public void handleDebugEvents(DebugEvent[] events) {
+		for (int i = 0; i < events.length; i++) {
+			DebugEvent event = events[i];
+			Object source = event.getSource();
+			if (event.getKind() == DebugEvent.CHANGE && source == fMemoryBlock) {
+				invalidate();
+				return;
+			}
+			if (event.getKind() == DebugEvent.SUSPEND && source instanceof IDebugElement && ((IDebugElement) source).getDebugTarget() == fMemoryBlock.getDebugTarget()) {
+				invalidate();
+				return;
+			}
+		}
+	}
+
+	private void dispose() {
+		DebugPlugin.getDefault().removeDebugEventListener(this);
+		fPrefetchJob.cancel();
+		synchronized (this) {
+			fGeneration++;
+			fPages.clear();
+			fReadVersions.clear();
+		}
+		fTracker.clear();
+	}
+}
@@ -0,0 +1,249 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.ui.views.memory;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.model.IDebugTarget;
+import org.eclipse.debug.core.model.IMemoryBlock;
+import org.eclipse.debug.core.model.IMemoryBlockExtension;
+import org.eclipse.debug.internal.ui.DebugUIPlugin;
+import org.eclipse.debug.internal.ui.memory.provisional.AbstractAsyncTableRendering;
+import org.eclipse.debug.internal.ui.views.memory.renderings.TableRenderingContentDescriptor;
+import org.eclipse.swt.widgets.Control;
+
+/**
+ * Coalesces the refreshes of the renderings in the memory view.
+ * <p>
+ * When the memory of a memory block changes, for example when its debug
+ * target suspends, every rendering of the memory block needs to be refreshed.
+ * Rather than having each rendering retrieve its memory independently, the
+ * refresh requests are collected. The memory ranges shown by the visible
+ * renderings of each memory block are merged and loaded into the
+ * {@link MemoryPageCache} of the memory block at once, then the renderings
+ * are refreshed from the cache. Renderings that are hidden at that time are
+ * not refreshed; a rendering is refreshed when it becomes visible again.
+ * </p>
+ * <p>
+ * A request arriving while the scheduler is idle is handled at once. The
+ * requests arriving within a short delay after that are handled together.
+ * The cache invalidates itself when the memory changes, so memory loaded for
+ * the first request is not loaded again for the following ones.
+ * </p>
+ *
+ * @since 3.14
+ */
+public class MemoryViewUpdateScheduler {
+
+	/**
+	 * Delay in milliseconds after a load during which refresh requests are
+	 * collected.
+	 */
+	private static final long COALESCE_DELAY = 50;
+
+	private static MemoryViewUpdateScheduler fgDefault;
+
+	/**
+	 * Renderings waiting to be refreshed, by memory block, in the order
+	 * requested.
+	 */
+	private final Map<IMemoryBlock, Set<AbstractAsyncTableRendering>> fPending = new LinkedHashMap<>();
+
+	/**
+	 * Time in milliseconds at which the last load started.
+	 */
+	private long fLastLoad;
+
+	private final Job fLoadJob = new Job("Memory View Update") { //$NON-NLS-1$
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			Map<IMemoryBlock, Set<AbstractAsyncTableRendering>> pending;
+			synchronized (MemoryViewUpdateScheduler.this) {
+				pending = new LinkedHashMap<>(fPending);
+				fPending.clear();
+				fLastLoad = System.currentTimeMillis();
+			}
+			final List<AbstractAsyncTableRendering> renderings = new ArrayList<>();
+			for (Map.Entry<IMemoryBlock, Set<AbstractAsyncTableRendering>> entry : pending.entrySet()) {
+				if (monitor.isCanceled()) {
+					return Status.CANCEL_STATUS;
+				}
+				List<AbstractAsyncTableRendering> visible = new ArrayList<>();
+				for (AbstractAsyncTableRendering rendering : entry.getValue()) {
+					if (rendering.isVisible()) {
+						visible.add(rendering);
+					}
+				}
+				if (visible.isEmpty()) {
+					continue;
+				}
+				load(entry.getKey(), visible);
+				renderings.addAll(visible);
+			}
+			if (!renderings.isEmpty()) {
+				DebugUIPlugin.getStandardDisplay().asyncExec(() -> {
+					for (AbstractAsyncTableRendering rendering : renderings) {
+						Control control = rendering.getControl();
+						if (control != null && !control.isDisposed() && rendering.isVisible()) {
+							rendering.refreshFromCache();
+						}
+					}
+				});
+			}
+			return Status.OK_STATUS;
+		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			return family == MemoryViewUpdateScheduler.this;
+		}
+	};
+
+	/**
+	 * Returns the shared scheduler.
+	 *
+	 * @return the shared scheduler
+	 */
+	public static synchronized MemoryViewUpdateScheduler getDefault() {
+		if (fgDefault == null) {
+			fgDefault = new MemoryViewUpdateScheduler();
+		}
+		return fgDefault;
+	}
+
+	private MemoryViewUpdateScheduler() {
+		fLoadJob.setSystem(true);
+	}
+
+	/**
+	 * Requests the given rendering to be refreshed, at once if the scheduler
+	 * is idle, otherwise together with the other renderings requested within a
+	 * short delay. Hidden renderings are not refreshed.
+	 *
+	 * @param rendering the rendering to refresh
+	 */
+	public void scheduleRefresh(AbstractAsyncTableRendering rendering) {
+		IMemoryBlock memoryBlock = rendering.getMemoryBlock();
+		if (memoryBlock == null) {
+			return;
+		}
+		long delay;
+		synchronized (this) {
+			Set<AbstractAsyncTableRendering> renderings = fPending.get(memoryBlock);
+			if (renderings == null) {
+				renderings = new LinkedHashSet<>();
+				fPending.put(memoryBlock, renderings);
+			}
+			renderings.add(rendering);
+			long elapsed = System.currentTimeMillis() - fLastLoad;
+			delay = elapsed >= 0 && elapsed < COALESCE_DELAY ? COALESCE_DELAY - elapsed : 0;
+		}
+		// the job takes all renderings pending when it runs
+		fLoadJob.schedule(delay);
+	}
+
+	/**
+	 * Loads the memory shown by the given renderings into the cache of the
+	 * memory block, one retrieval per merged range.
+	 */
+	private void load(IMemoryBlock memoryBlock, List<AbstractAsyncTableRendering> renderings) {
+		if (!(memoryBlock instanceof IMemoryBlockExtension)) {
+			return;
+		}
+		IDebugTarget target = memoryBlock.getDebugTarget();
+		if (target != null && (target.isDisconnected() || target.isTerminated())) {
+			return;
+		}
+		List<BigInteger[]> ranges = new ArrayList<>();
+		for (AbstractAsyncTableRendering rendering : renderings) {
+			BigInteger[] range = getRange(rendering);
+			if (range != null) {
+				ranges.add(range);
+			}
+		}
+		MemoryPageCache cache = MemoryPageCache.getCache((IMemoryBlockExtension) memoryBlock);
+		for (BigInteger[] range : mergeRanges(ranges)) {
+			try {
+				cache.load(range[0], range[1].subtract(range[0]).longValue());
+			} catch (DebugException e) {
+				// the renderings report the error when they retrieve the memory
+			}
+		}
+	}
+
+	/**
+	 * Returns the range of memory loaded by the given rendering, including
+	 * its buffers, or <code>null</code> if not known.
+	 */
+	private BigInteger[] getRange(AbstractAsyncTableRendering rendering) {
+		TableRenderingContentDescriptor descriptor = rendering.getAdapter(TableRenderingContentDescriptor.class);
+		if (descriptor == null || descriptor.getLoadAddress() == null || descriptor.getNumLines() <= 0) {
+			return null;
+		}
+		int unitsPerLine = rendering.getAddressableUnitPerLine();
+		if (unitsPerLine <= 0) {
+			return null;
+		}
+		BigInteger loadAddress = descriptor.getLoadAddress();
+		if (descriptor.isAlignAddressToBoundary()) {
+			loadAddress = MemoryViewUtil.alignToBoundary(loadAddress, unitsPerLine);
+		}
+		BigInteger start = loadAddress.subtract(BigInteger.valueOf((long) descriptor.getPreBuffer() * unitsPerLine)).max(descriptor.getStartAddress());
+		BigInteger end = loadAddress.add(BigInteger.valueOf((long) (descriptor.getNumLines() + descriptor.getPostBuffer()) * unitsPerLine)).min(descriptor.getEndAddress().add(BigInteger.ONE));
+		if (end.compareTo(start) <= 0) {
+			return null;
+		}
+		return new BigInteger[] { start, end };
+	}
+
+	/**
+	 * Merges overlapping and adjacent ranges of memory.
+	 *
+	 * @param ranges ranges as pairs of start address and exclusive end address
+	 * @return the merged ranges, ordered by start address
+	 */
+	public static List<BigInteger[]> mergeRanges(List<BigInteger[]> ranges) {
+		List<BigInteger[]> sorted = new ArrayList<>(ranges);
+		Collections.sort(sorted, new Comparator<BigInteger[]>() {
+			@Override
+			public int compare(BigInteger[] range1, BigInteger[] range2) {
+				return range1[0].compareTo(range2[0]);
+			}
+		});
+		List<BigInteger[]> merged = new ArrayList<>();
+		BigInteger[] current = null;
+		for (BigInteger[] range : sorted) {
+			if (current != null && range[0].compareTo(current[1]) <= 0) {
+				current[1] = current[1].max(range[1]);
+			} else {
+				current = new BigInteger[] { range[0], range[1] };
+				merged.add(current);
+			}
+		}
+		return merged;
+	}
+}
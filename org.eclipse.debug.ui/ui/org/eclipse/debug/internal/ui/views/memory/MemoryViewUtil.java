@@ -21,12 +21,16 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.IMemoryBlockManager;
 import org.eclipse.debug.core.model.IDebugElement;
 import org.eclipse.debug.core.model.IDebugTarget;
 import org.eclipse.debug.core.model.IMemoryBlockExtension;
+import org.eclipse.debug.core.model.IMemoryBlockExtension2;
 import org.eclipse.debug.core.model.IMemoryBlockRetrieval;
+import org.eclipse.debug.core.model.MemoryBuffer;
+import org.eclipse.debug.core.model.MemoryByte;
 import org.eclipse.debug.internal.core.IInternalDebugCoreConstants;
 import org.eclipse.debug.internal.ui.DebugUIPlugin;
 import org.eclipse.jface.dialogs.MessageDialog;
@@ -164,6 +168,46 @@ public class MemoryViewUtil {
 		return integer;
 	}
 
+	/**
+	 * Retrieves memory from the given memory block as a compact buffer. Uses
+	 * the buffer based retrieval of {@link IMemoryBlockExtension2} when
+	 * implemented by the memory block and adapts the <code>MemoryByte</code>
+	 * based retrieval otherwise.
+	 *
+	 * @param memoryBlock memory block to retrieve memory from
+	 * @param address address at which to begin retrieving bytes
+	 * @param units number of addressable units to retrieve
+	 * @return the memory, or <code>null</code> if the memory block returned
+	 *         no memory
+	 * @throws DebugException if the memory block fails to retrieve memory
+	 */
+	public static MemoryBuffer getBufferFromAddress(IMemoryBlockExtension memoryBlock, BigInteger address, long units) throws DebugException {
+		if (memoryBlock instanceof IMemoryBlockExtension2) {
+			return ((IMemoryBlockExtension2) memoryBlock).getBufferFromAddress(address, units);
+		}
+		MemoryByte[] bytes = memoryBlock.getBytesFromAddress(address, units);
+		if (bytes == null) {
+			return null;
+		}
+		return MemoryBuffer.fromMemoryBytes(bytes);
+	}
+
+	/**
+	 * Returns a buffer with the content of an <code>IMemoryBlock</code>
+	 * preceded and followed by the given number of unreadable bytes.
+	 *
+	 * @param memory content of the memory block
+	 * @param prefillNumBytes number of unreadable bytes before the content
+	 * @param totalNumBytes total length of the buffer
+	 * @return the padded buffer
+	 */
+	public static MemoryBuffer padMemory(byte[] memory, int prefillNumBytes, int totalNumBytes) {
+		byte flags = (byte) (MemoryByte.READABLE | MemoryByte.WRITABLE);
+		MemoryBuffer content = new MemoryBuffer(memory, flags);
+		int appendNumBytes = Math.max(0, totalNumBytes - prefillNumBytes - memory.length);
+		return MemoryBuffer.concat(MemoryBuffer.fill(prefillNumBytes, MemoryBuffer.UNREADABLE_FLAGS), content, MemoryBuffer.fill(appendNumBytes, MemoryBuffer.UNREADABLE_FLAGS));
+	}
+
 	public static void addHistory(String expression) {
 		if (!MEMORY_BLOCKS_HISTORY.contains(expression))
 			MEMORY_BLOCKS_HISTORY.add(0, expression);
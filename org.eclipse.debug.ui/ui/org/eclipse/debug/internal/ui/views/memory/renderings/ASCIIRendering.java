@@ -78,22 +78,19 @@ public class ASCIIRendering extends AbstractAsyncTextRendering{
 		BigInteger address,
 		MemoryByte[] data) {
 
-		MemoryByte[] copy = new MemoryByte[data.length];
+		MemoryByte[] copy = data;
 
 		// If a byte equals zero, it represents null in a string
 		// and often causes subsequent string not displayed or printed properly
-		// Replace all null with 1's
+		// Replace all null with 1's, only copying the data if there is a null
 		for (int i=0; i<data.length; i++){
-			copy[i] = new MemoryByte();
 			if (data[i].getValue() == 0)
 			{
-				copy[i].setValue((byte)1);
+				if (copy == data) {
+					copy = data.clone();
+				}
+				copy[i] = new MemoryByte((byte)1, data[i].getFlags());
 			}
-			else
-			{
-				copy[i].setValue(data[i].getValue());
-			}
-			copy[i].setFlags(data[i].getFlags());
 		}
 
 		return super.getString(renderingId, address, copy);
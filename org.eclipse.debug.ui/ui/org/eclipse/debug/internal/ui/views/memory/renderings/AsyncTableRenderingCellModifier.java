@@ -27,6 +27,7 @@ import org.eclipse.debug.core.model.MemoryByte;
 import org.eclipse.debug.internal.ui.DebugUIMessages;
 import org.eclipse.debug.internal.ui.DebugUIPlugin;
 import org.eclipse.debug.internal.ui.memory.provisional.AbstractAsyncTableRendering;
+import org.eclipse.debug.internal.ui.views.memory.MemoryPageCache;
 import org.eclipse.debug.internal.ui.views.memory.MemoryViewUtil;
 import org.eclipse.debug.ui.memory.MemoryRenderingElement;
 import org.eclipse.jface.viewers.ICellModifier;
@@ -247,6 +248,7 @@ public class AsyncTableRenderingCellModifier implements ICellModifier {
 					} else {
 						memoryBlk.setValue(offsetFromMBBase.longValue(), newByteValues);
 					}
+		            MemoryPageCache.invalidateCache(memoryBlk);
 		        } catch (DebugException e) {
 		            MemoryViewUtil.openError(DebugUIMessages.MemoryViewCellModifier_failure_title, DebugUIMessages.MemoryViewCellModifier_failed, e);
 		        } catch (NumberFormatException e) {
@@ -27,13 +27,15 @@ import org.eclipse.debug.internal.ui.viewers.TableUpdatePolicy;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IModelChangedListener;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IModelDelta;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IModelProxy;
+import org.eclipse.debug.internal.ui.views.memory.MemoryViewUpdateScheduler;
 import org.eclipse.debug.ui.memory.IMemoryRendering;
 import org.eclipse.ui.progress.UIJob;
 
 /**
- * This update policy updates immediately after a model changed event.  The update policy will
+ * This update policy updates after a model changed event.  The update policy will
  * only update if the rendering is visible.  Cache from the content manager is cleared
- * when the memory block has changed when the rendering is not visible
+ * when the memory block has changed when the rendering is not visible.  Refreshes are
+ * coalesced with those of other renderings by the <code>MemoryViewUpdateScheduler</code>.
  *
  */
 public class AsyncTableRenderingUpdatePolicy extends TableUpdatePolicy
@@ -142,7 +144,9 @@ public class AsyncTableRenderingUpdatePolicy extends TableUpdatePolicy
 							}
 							else
 							{
-								rendering.refresh();
+								// refreshed together with the other renderings
+								// of the memory block
+								MemoryViewUpdateScheduler.getDefault().scheduleRefresh(rendering);
 							}
 						}
 					}
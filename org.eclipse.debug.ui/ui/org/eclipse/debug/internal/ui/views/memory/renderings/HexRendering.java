@@ -16,6 +16,7 @@ package org.eclipse.debug.internal.ui.views.memory.renderings;
 
 import java.math.BigInteger;
 
+import org.eclipse.debug.core.model.MemoryBuffer;
 import org.eclipse.debug.core.model.MemoryByte;
 import org.eclipse.debug.internal.ui.DebugUIPlugin;
 import org.eclipse.debug.internal.ui.memory.provisional.AbstractAsyncTableRendering;
@@ -24,7 +25,7 @@ import org.eclipse.debug.ui.IDebugUIConstants;
 /**
  * @since 3.1
  */
-public class HexRendering extends AbstractAsyncTableRendering {
+public class HexRendering extends AbstractAsyncTableRendering implements ILineFormattingRendering {
 
 	public HexRendering(String renderingId)
 	{
@@ -34,15 +35,15 @@ public class HexRendering extends AbstractAsyncTableRendering {
 	@Override
 	public String getString(String dataType, BigInteger address,
 			MemoryByte[] data) {
-		StringBuffer strBuffer = new StringBuffer();
-
-		String paddedStr = DebugUIPlugin.getDefault().getPreferenceStore().getString(IDebugUIConstants.PREF_PADDED_STR);
+		String paddedStr = DebugUIPlugin.getDefault().getPreferenceStore().getString(IDebugUIConstants.PREF_PADDED_STR).toUpperCase();
+		StringBuilder strBuffer = new StringBuilder(data.length * 2);
 
 		for (int i=0; i<data.length; i++)
 		{
 			if (data[i].isReadable())
 			{
-				strBuffer.append(new String(RenderingsUtil.convertByteToCharArray(data[i].getValue())));
+				int index = (data[i].getValue() & 0xFF) * 2;
+				strBuffer.append(MemoryLineFormatter.HEX_PAIRS, index, 2);
 			}
 			else
 			{
@@ -51,7 +52,18 @@ public class HexRendering extends AbstractAsyncTableRendering {
 			}
 		}
 
-		return strBuffer.toString().toUpperCase();
+		return strBuffer.toString();
+	}
+
+	@Override
+	public boolean formatLine(MemoryBuffer line, MemoryLineFormatter formatter) {
+		// subclasses may customize the conversion of single columns
+		if (getClass() != HexRendering.class) {
+			return false;
+		}
+		String paddedStr = DebugUIPlugin.getDefault().getPreferenceStore().getString(IDebugUIConstants.PREF_PADDED_STR);
+		formatter.formatHex(line, getBytesPerColumn(), paddedStr);
+		return true;
 	}
 
 	@Override
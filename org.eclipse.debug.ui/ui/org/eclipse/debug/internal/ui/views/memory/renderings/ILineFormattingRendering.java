@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.ui.views.memory.renderings;
+
+import org.eclipse.debug.core.model.MemoryBuffer;
+
+/**
+ * Implemented by table renderings that are able to format all columns of a
+ * line at once, rather than converting each column through
+ * <code>getString(String, BigInteger, MemoryByte[])</code>.
+ *
+ * @since 3.14
+ */
+public interface ILineFormattingRendering {
+
+	/**
+	 * Formats the given line of memory into the formatter, one formatter
+	 * column per rendering column.
+	 *
+	 * @param line the memory of a complete line
+	 * @param formatter the formatter to format the line into
+	 * @return whether the line was formatted, <code>false</code> if the
+	 *         columns have to be converted one by one
+	 */
+	boolean formatLine(MemoryBuffer line, MemoryLineFormatter formatter);
+}
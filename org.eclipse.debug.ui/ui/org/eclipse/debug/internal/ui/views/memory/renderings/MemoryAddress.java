@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.ui.views.memory.renderings;
+
+import java.math.BigInteger;
+
+/**
+ * An immutable, non-negative memory address. Addresses that fit into 64 bits
+ * are held and computed as an unsigned <code>long</code>, only larger
+ * addresses fall back to <code>BigInteger</code> arithmetic.
+ *
+ * @since 3.14
+ */
+public final class MemoryAddress implements Comparable<MemoryAddress> {
+
+	private static final BigInteger UNSIGNED_LONG_MASK = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+
+	/**
+	 * Address as unsigned long, valid if {@link #fBigValue} is
+	 * <code>null</code>.
+	 */
+	private final long fValue;
+
+	/**
+	 * Address beyond 64 bits, or <code>null</code>. Addresses that fit into
+	 * 64 bits are never held as <code>BigInteger</code>.
+	 */
+	private final BigInteger fBigValue;
+
+	private MemoryAddress(long value, BigInteger bigValue) {
+		fValue = value;
+		fBigValue = bigValue;
+	}
+
+	/**
+	 * Returns the address with the given value.
+	 *
+	 * @param address non-negative address
+	 * @return memory address
+	 */
+	public static MemoryAddress valueOf(BigInteger address) {
+		if (address.signum() >= 0 && address.bitLength() <= 64) {
+			return new MemoryAddress(address.longValue(), null);
+		}
+		return new MemoryAddress(0, address);
+	}
+
+	/**
+	 * Returns this address increased by the given number of addressable
+	 * units.
+	 *
+	 * @param units non-negative number of units to add
+	 * @return the resulting address
+	 */
+	public MemoryAddress add(long units) {
+		if (fBigValue == null) {
+			long result = fValue + units;
+			// unsigned overflow
+			if (Long.compareUnsigned(result, fValue) >= 0) {
+				return new MemoryAddress(result, null);
+			}
+		}
+		return new MemoryAddress(0, toBigInteger().add(BigInteger.valueOf(units)));
+	}
+
+	/**
+	 * @return this address as <code>BigInteger</code>
+	 */
+	public BigInteger toBigInteger() {
+		if (fBigValue != null) {
+			return fBigValue;
+		}
+		if (fValue >= 0) {
+			return BigInteger.valueOf(fValue);
+		}
+		return BigInteger.valueOf(fValue).and(UNSIGNED_LONG_MASK);
+	}
+
+	/**
+	 * @return lower case hexadecimal representation of this address, without
+	 *         leading zeros
+	 */
+	public String toHexString() {
+		if (fBigValue != null) {
+			return fBigValue.toString(16);
+		}
+		return Long.toHexString(fValue);
+	}
+
+	/**
+	 * Returns the upper case hexadecimal representation of this address,
+	 * padded with leading zeros to the given number of characters.
+	 *
+	 * @param minLength minimum number of characters
+	 * @return formatted address
+	 */
+	public String toHexString(int minLength) {
+		String hex = toHexString();
+		StringBuilder buffer = new StringBuilder(Math.max(minLength, hex.length()));
+		for (int i = hex.length(); i < minLength; i++) {
+			buffer.append('0');
+		}
+		for (int i = 0; i < hex.length(); i++) {
+			buffer.append(Character.toUpperCase(hex.charAt(i)));
+		}
+		return buffer.toString();
+	}
+
+	@Override
+	public int compareTo(MemoryAddress other) {
+		if (fBigValue == null && other.fBigValue == null) {
+			return Long.compareUnsigned(fValue, other.fValue);
+		}
+		return toBigInteger().compareTo(other.toBigInteger());
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return obj instanceof MemoryAddress && compareTo((MemoryAddress) obj) == 0;
+	}
+
+	@Override
+	public int hashCode() {
+		if (fBigValue != null) {
+			return fBigValue.hashCode();
+		}
+		return Long.hashCode(fValue);
+	}
+
+	@Override
+	public String toString() {
+		return toHexString();
+	}
+}
@@ -0,0 +1,301 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.ui.views.memory.renderings;
+
+import org.eclipse.debug.core.model.MemoryBuffer;
+import org.eclipse.debug.core.model.MemoryByte;
+
+/**
+ * Formats all columns of a line of memory in one pass into a reusable
+ * character buffer. Columns are sliced from the buffer by their start and
+ * length, such that formatting a line allocates no intermediate arrays,
+ * <code>BigInteger</code>s or strings once the buffers have grown to the
+ * size of a line.
+ * <p>
+ * A formatter is not thread safe, each thread formatting lines should use its
+ * own formatter.
+ * </p>
+ *
+ * @since 3.14
+ */
+public final class MemoryLineFormatter {
+
+	/**
+	 * Upper case hexadecimal representation of each byte value, two
+	 * characters per byte.
+	 */
+	static final char[] HEX_PAIRS = new char[512];
+
+	private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray(); //$NON-NLS-1$
+
+	static {
+		for (int i = 0; i < 256; i++) {
+			HEX_PAIRS[i * 2] = HEX_DIGITS[i >>> 4];
+			HEX_PAIRS[i * 2 + 1] = HEX_DIGITS[i & 0xF];
+		}
+	}
+
+	/**
+	 * Maximum number of decimal digits of a long, plus sign.
+	 */
+	private static final int MAX_DECIMAL_CHARS = 20;
+
+	private char[] fChars = new char[256];
+	private int fLength;
+
+	private int[] fColumnEnds = new int[16];
+	private int fNumColumns;
+
+	private byte[] fValues = new byte[64];
+	private byte[] fFlags = new byte[64];
+
+	private final char[] fDigits = new char[MAX_DECIMAL_CHARS];
+
+	/**
+	 * Bit shift of each byte of a column for little and big endian, indexed
+	 * by endianess. Recomputed when the column size changes.
+	 */
+	private final int[][] fShifts = new int[2][];
+	private int fShiftsColumnSize = -1;
+
+	/**
+	 * Formats the given line of memory as hexadecimal, two upper case
+	 * characters per byte.
+	 *
+	 * @param line the memory to format
+	 * @param bytesPerColumn number of bytes per column
+	 * @param paddedStr string to display for each unreadable byte
+	 */
+	public void formatHex(MemoryBuffer line, int bytesPerColumn, String paddedStr) {
+		int length = line.length();
+		load(line);
+		String padding = paddedStr.toUpperCase();
+		for (int i = 0; i < length; i++) {
+			if ((fFlags[i] & MemoryByte.READABLE) != 0) {
+				int index = (fValues[i] & 0xFF) * 2;
+				ensureCapacity(2);
+				fChars[fLength++] = HEX_PAIRS[index];
+				fChars[fLength++] = HEX_PAIRS[index + 1];
+			} else {
+				append(padding);
+			}
+			if ((i + 1) % bytesPerColumn == 0 || i == length - 1) {
+				endColumn();
+			}
+		}
+	}
+
+	/**
+	 * Formats the given line of memory as decimal integers. Supports columns
+	 * of up to eight bytes.
+	 *
+	 * @param line the memory to format
+	 * @param bytesPerColumn number of bytes per column, at most eight
+	 * @param displayEndianess endianess to display the columns in, or
+	 *            {@link RenderingsUtil#ENDIANESS_UNKNOWN} to take the
+	 *            endianess from the bytes of each column
+	 * @param signed whether the integers are signed
+	 * @param paddedStr string to display for each byte of a column that is
+	 *            unreadable or whose endianess is not known
+	 */
+	public void formatInteger(MemoryBuffer line, int bytesPerColumn, int displayEndianess, boolean signed, String paddedStr) {
+		if (bytesPerColumn > 8) {
+			throw new IllegalArgumentException();
+		}
+		load(line);
+		computeShifts(bytesPerColumn);
+		int length = line.length();
+		int signShift = 64 - bytesPerColumn * 8;
+		for (int start = 0; start < length; start += bytesPerColumn) {
+			int end = Math.min(start + bytesPerColumn, length);
+			int endianess = getEndianess(start, end, displayEndianess);
+			if (endianess == RenderingsUtil.ENDIANESS_UNKNOWN || end - start != bytesPerColumn) {
+				for (int i = start; i < end; i++) {
+					append(paddedStr);
+				}
+				endColumn();
+				continue;
+			}
+			int[] shifts = fShifts[endianess];
+			long value = 0;
+			for (int i = 0; i < bytesPerColumn; i++) {
+				value |= (fValues[start + i] & 0xFFL) << shifts[i];
+			}
+			if (signed && signShift > 0) {
+				value = (value << signShift) >> signShift;
+			}
+			appendDecimal(value, signed);
+			endColumn();
+		}
+	}
+
+	/**
+	 * @return number of columns formatted
+	 */
+	public int getNumColumns() {
+		return fNumColumns;
+	}
+
+	/**
+	 * Returns the buffer holding the formatted columns. The buffer is reused
+	 * by the next line formatted.
+	 *
+	 * @return the character buffer
+	 */
+	public char[] getChars() {
+		return fChars;
+	}
+
+	/**
+	 * @param column column index
+	 * @return offset of the given column in the character buffer
+	 */
+	public int getColumnStart(int column) {
+		return column == 0 ? 0 : fColumnEnds[column - 1];
+	}
+
+	/**
+	 * @param column column index
+	 * @return number of characters of the given column
+	 */
+	public int getColumnLength(int column) {
+		return fColumnEnds[column] - getColumnStart(column);
+	}
+
+	/**
+	 * @param column column index
+	 * @return the formatted column
+	 */
+	public String getColumn(int column) {
+		return new String(fChars, getColumnStart(column), getColumnLength(column));
+	}
+
+	/**
+	 * Resets the formatter and copies values and flags of the line into the
+	 * reusable arrays, walking the flag runs rather than looking up the flags
+	 * of each byte.
+	 */
+	private void load(MemoryBuffer line) {
+		fLength = 0;
+		fNumColumns = 0;
+		int length = line.length();
+		if (fValues.length < length) {
+			fValues = new byte[length];
+			fFlags = new byte[length];
+		}
+		line.getValues(0, fValues, 0, length);
+		int runCount = line.getRunCount();
+		for (int run = 0; run < runCount; run++) {
+			int runEnd = run + 1 < runCount ? line.getRunStart(run + 1) : length;
+			byte flags = line.getRunFlags(run);
+			for (int i = line.getRunStart(run); i < runEnd; i++) {
+				fFlags[i] = flags;
+			}
+		}
+	}
+
+	/**
+	 * Returns the endianess of the bytes between start and end, as
+	 * {@link AbstractIntegerRendering#getBytesEndianess(MemoryByte[])} does,
+	 * unless a display endianess is given. Unreadable bytes have no
+	 * endianess.
+	 */
+	private int getEndianess(int start, int end, int displayEndianess) {
+		int endianess = displayEndianess;
+		for (int i = start; i < end; i++) {
+			byte flags = fFlags[i];
+			if ((flags & MemoryByte.READABLE) == 0) {
+				return RenderingsUtil.ENDIANESS_UNKNOWN;
+			}
+			if (displayEndianess != RenderingsUtil.ENDIANESS_UNKNOWN) {
+				continue;
+			}
+			if ((flags & MemoryByte.ENDIANESS_KNOWN) == 0) {
+				return RenderingsUtil.ENDIANESS_UNKNOWN;
+			}
+			int byteEndianess = (flags & MemoryByte.BIG_ENDIAN) != 0 ? RenderingsUtil.BIG_ENDIAN : RenderingsUtil.LITTLE_ENDIAN;
+			if (i == start) {
+				endianess = byteEndianess;
+			} else if (byteEndianess != endianess) {
+				return RenderingsUtil.ENDIANESS_UNKNOWN;
+			}
+		}
+		return endianess;
+	}
+
+	private void computeShifts(int bytesPerColumn) {
+		if (fShiftsColumnSize == bytesPerColumn) {
+			return;
+		}
+		int[] little = new int[bytesPerColumn];
+		int[] big = new int[bytesPerColumn];
+		for (int i = 0; i < bytesPerColumn; i++) {
+			little[i] = i * 8;
+			big[i] = (bytesPerColumn - 1 - i) * 8;
+		}
+		fShifts[RenderingsUtil.LITTLE_ENDIAN] = little;
+		fShifts[RenderingsUtil.BIG_ENDIAN] = big;
+		fShiftsColumnSize = bytesPerColumn;
+	}
+
+	private void appendDecimal(long value, boolean signed) {
+		int pos = MAX_DECIMAL_CHARS;
+		boolean negative = false;
+		if (!signed && value < 0) {
+			// unsigned value beyond Long.MAX_VALUE, split off the last digit
+			long quotient = (value >>> 1) / 5;
+			fDigits[--pos] = (char) ('0' + (value - quotient * 10));
+			value = quotient;
+		} else if (value < 0) {
+			negative = true;
+		}
+		// accumulate negative to handle Long.MIN_VALUE
+		long remaining = negative ? value : -value;
+		do {
+			fDigits[--pos] = (char) ('0' - (remaining % 10));
+			remaining /= 10;
+		} while (remaining != 0);
+		if (negative) {
+			fDigits[--pos] = '-';
+		}
+		int count = MAX_DECIMAL_CHARS - pos;
+		ensureCapacity(count);
+		System.arraycopy(fDigits, pos, fChars, fLength, count);
+		fLength += count;
+	}
+
+	private void append(String str) {
+		int length = str.length();
+		ensureCapacity(length);
+		str.getChars(0, length, fChars, fLength);
+		fLength += length;
+	}
+
+	private void endColumn() {
+		if (fNumColumns == fColumnEnds.length) {
+			int[] ends = new int[fColumnEnds.length * 2];
+			System.arraycopy(fColumnEnds, 0, ends, 0, fNumColumns);
+			fColumnEnds = ends;
+		}
+		fColumnEnds[fNumColumns++] = fLength;
+	}
+
+	private void ensureCapacity(int additional) {
+		if (fLength + additional > fChars.length) {
+			char[] chars = new char[Math.max(fChars.length * 2, fLength + additional)];
+			System.arraycopy(fChars, 0, chars, 0, fLength);
+			fChars = chars;
+		}
+	}
+}
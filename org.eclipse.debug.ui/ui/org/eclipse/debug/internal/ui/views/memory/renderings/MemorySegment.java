@@ -15,17 +15,31 @@
 package org.eclipse.debug.internal.ui.views.memory.renderings;
 
 import java.math.BigInteger;
-import java.util.ArrayList;
 
 import org.eclipse.core.runtime.PlatformObject;
+import org.eclipse.debug.core.model.MemoryBuffer;
 import org.eclipse.debug.core.model.MemoryByte;
 
 public class MemorySegment extends PlatformObject {
 
 	private BigInteger fAddress;
 	private BigInteger fEndAddress;
+	/**
+	 * Compact content of this segment, <code>null</code> once the content
+	 * has been converted to {@link #fBytes}.
+	 */
+	private MemoryBuffer fBuffer;
+	/**
+	 * Memory bytes of this segment, created on demand since the memory bytes
+	 * are only needed for segments that are rendered.
+	 */
 	private MemoryByte[] fBytes;
 	private int fNumAddressableUnits;
+	/**
+	 * Version of the memory of this segment in the memory page cache, -1 if
+	 * unknown.
+	 */
+	private long fVersion = -1;
 
 	public MemorySegment(BigInteger address, MemoryByte[] bytes, int numAddressableUnits)
 	{
@@ -34,14 +48,121 @@ public class MemorySegment extends PlatformObject {
 		fNumAddressableUnits = numAddressableUnits;
 	}
 
+	public MemorySegment(BigInteger address, MemoryBuffer buffer, int numAddressableUnits)
+	{
+		fAddress = address;
+		fBuffer = buffer;
+		fNumAddressableUnits = numAddressableUnits;
+	}
+
 	public BigInteger getAddress() {
 		return fAddress;
 	}
 
-	public MemoryByte[] getBytes() {
+	public synchronized MemoryByte[] getBytes() {
+		if (fBytes == null) {
+			fBytes = fBuffer.toMemoryBytes();
+			fBuffer = null;
+		}
 		return fBytes;
 	}
 
+	/**
+	 * @return the content of this segment as a compact buffer
+	 */
+	public synchronized MemoryBuffer getBuffer() {
+		if (fBuffer != null) {
+			return fBuffer;
+		}
+		return MemoryBuffer.fromMemoryBytes(fBytes);
+	}
+
+	/**
+	 * Replaces the content of this segment, unless its memory bytes have
+	 * already been created.
+	 *
+	 * @param buffer new content, must have the same length
+	 * @return whether the content was replaced
+	 */
+	synchronized boolean setBuffer(MemoryBuffer buffer) {
+		if (fBuffer == null) {
+			return false;
+		}
+		fBuffer = buffer;
+		return true;
+	}
+
+	/**
+	 * Marks the content of this segment as known to be unchanged since it was
+	 * last retrieved, unless its memory bytes have already been created.
+	 *
+	 * @return whether the content was marked
+	 */
+	synchronized boolean setUnchanged() {
+		if (fBuffer == null) {
+			return false;
+		}
+		fBuffer = fBuffer.setFlags(MemoryByte.HISTORY_KNOWN);
+		return true;
+	}
+
+	/**
+	 * @return the version of the memory of this segment in the memory page
+	 *         cache, or -1 if unknown
+	 * @see org.eclipse.debug.internal.ui.views.memory.MemoryPageCache#getVersion(Object, BigInteger, long)
+	 */
+	public long getVersion() {
+		return fVersion;
+	}
+
+	/**
+	 * Sets the version of the memory of this segment in the memory page
+	 * cache.
+	 *
+	 * @param version version, or -1 if unknown
+	 */
+	public void setVersion(long version) {
+		fVersion = version;
+	}
+
+	/**
+	 * @return the number of bytes in this segment
+	 */
+	public synchronized int getLength() {
+		if (fBuffer != null) {
+			return fBuffer.length();
+		}
+		return fBytes.length;
+	}
+
+	/**
+	 * Returns the attribute flags of a byte of this segment, without creating
+	 * its memory bytes.
+	 *
+	 * @param index zero-based offset of the byte
+	 * @return the attribute flags of the byte
+	 */
+	public synchronized byte getFlags(int index) {
+		if (fBuffer != null) {
+			return fBuffer.getFlags(index);
+		}
+		return fBytes[index].getFlags();
+	}
+
+	/**
+	 * Returns the value of a byte of this segment, without creating its
+	 * memory bytes.
+	 *
+	 * @param index zero-based offset of the byte
+	 * @return the value of the byte
+	 */
+	public synchronized byte getValue(int index) {
+		if (fBuffer != null) {
+			return fBuffer.getValue(index);
+		}
+		return fBytes[index].getValue();
+	}
+
 	public int getNumAddressableUnits() {
 		return fNumAddressableUnits;
 	}
@@ -63,25 +184,27 @@ public class MemorySegment extends PlatformObject {
 	}
 
 	/**
+	 * Returns the given range of bytes in a new array. The memory bytes of a
+	 * segment whose memory bytes have not been created are created for the
+	 * range only.
+	 *
 	 * @param start - zero-based start offset
 	 * @param length - number of bytes to get
 	 * @return the bytes from start offset to the end.
 	 */
-	public MemoryByte[] getBytes(int start, int length)
+	public synchronized MemoryByte[] getBytes(int start, int length)
 	{
-		if (start < 0)
+		if (start < 0 || start + length > getLength())
 			return new MemoryByte[0];
 
-		if (start + length > fBytes.length)
-			return new MemoryByte[0];
+		if (fBuffer != null)
+			return fBuffer.toMemoryBytes(start, length);
 
-		ArrayList<MemoryByte> ret = new ArrayList<>();
+		MemoryByte[] bytes = fBytes;
 
-		for (int i=start; i< start+length; i++)
-		{
-			ret.add(fBytes[i]);
-		}
-		return ret.toArray(new MemoryByte[ret.size()]);
+		MemoryByte[] ret = new MemoryByte[length];
+		System.arraycopy(bytes, start, ret, 0, length);
+		return ret;
 	}
 
 }
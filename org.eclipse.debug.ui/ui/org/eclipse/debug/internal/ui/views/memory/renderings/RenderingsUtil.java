@@ -25,6 +25,8 @@ public class RenderingsUtil {
 	public static final int BIG_ENDIAN = 1;
 	public static final int ENDIANESS_UNKNOWN = 2;
 
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray(); //$NON-NLS-1$
+
 	/**
 	 * Pad byte array with zero's with the byte array's length
 	 * is shorter that what's expected the conversion functions.
@@ -74,37 +76,7 @@ public class RenderingsUtil {
 
 	static public BigInteger convertByteArrayToUnsignedLong(byte[] array, int endianess)
 	{
-		if (array.length < 8)
-		{
-			array = fillArray(array, 8, endianess);
-		}
-
-		BigInteger value = new BigInteger("0"); //$NON-NLS-1$
-		if (endianess == RenderingsUtil.LITTLE_ENDIAN)
-		{
-			for (int i=0; i< 8; i++)
-			{
-				byte[] temp = new byte[1];
-				temp[0] = array[i];
-				BigInteger b = new BigInteger(temp);
-				b = b.and(new BigInteger("ff", 16)); //$NON-NLS-1$
-				b = b.shiftLeft(i*8);
-				value = value.or(b);
-			}
-		}
-		else
-		{
-			for (int i=0; i< 8; i++)
-			{
-				byte[] temp = new byte[1];
-				temp[0] = array[i];
-				BigInteger b = new BigInteger(temp);
-				b = b.and(new BigInteger("ff", 16)); //$NON-NLS-1$
-				b = b.shiftLeft((7-i)*8);
-				value = value.or(b);
-			}
-		}
-		return value;
+		return convertByteArrayToUnsignedBigInt(array, endianess, 8);
 	}
 
 	/**
@@ -141,6 +113,39 @@ public class RenderingsUtil {
         return value;
 	}
 
+	/**
+	 * Convert the first <code>arraySize</code> bytes of a byte array of up to
+	 * 8 bytes to long, without creating a <code>BigInteger</code>.
+	 * @param array
+	 * @param endianess
+	 * @param arraySize number of bytes to convert, at most 8
+	 * @param signed whether the most significant bit is a sign bit
+	 * @return result of the conversion in long, the unsigned value of 8 bytes
+	 *  is returned as a negative long
+	 */
+	static public long convertByteArrayToLong(byte[] array, int endianess, int arraySize, boolean signed)
+	{
+		if (array.length < arraySize)
+		{
+			array = fillArray(array, arraySize, endianess);
+		}
+
+		long value = 0;
+		for (int i=0; i<arraySize; i++)
+		{
+			// most significant byte first
+			long b = endianess == RenderingsUtil.LITTLE_ENDIAN ? array[arraySize-1-i] : array[i];
+			value = (value << 8) | (b & 0xff);
+		}
+		if (signed && arraySize < 8)
+		{
+			// sign extend
+			int shift = 64 - arraySize*8;
+			value = (value << shift) >> shift;
+		}
+		return value;
+	}
+
 	static public BigInteger convertByteArrayToSignedBigInt(byte[] array, int endianess)
 	{
 		if (array.length < 16)
@@ -193,37 +198,7 @@ public class RenderingsUtil {
 
 	static public BigInteger convertByteArrayToUnsignedBigInt(byte[] array, int endianess)
 	{
-		if (array.length < 16)
-		{
-			array = fillArray(array, 16, endianess);
-		}
-
-		BigInteger value = new BigInteger("0"); //$NON-NLS-1$
-		if (endianess == RenderingsUtil.LITTLE_ENDIAN)
-		{
-			for (int i=0; i< 16; i++)
-			{
-				byte[] temp = new byte[1];
-				temp[0] = array[i];
-				BigInteger b = new BigInteger(temp);
-				b = b.and(new BigInteger("ff", 16)); //$NON-NLS-1$
-				b = b.shiftLeft(i*8);
-				value = value.or(b);
-			}
-		}
-		else
-		{
-			for (int i=0; i< 16; i++)
-			{
-				byte[] temp = new byte[1];
-				temp[0] = array[i];
-				BigInteger b = new BigInteger(temp);
-				b = b.and(new BigInteger("ff", 16)); //$NON-NLS-1$
-				b = b.shiftLeft((15-i)*8);
-				value = value.or(b);
-			}
-		}
-		return value;
+		return convertByteArrayToUnsignedBigInt(array, endianess, 16);
 	}
 
 	static public BigInteger convertByteArrayToUnsignedBigInt(byte[] array, int endianess, int arraySize)
@@ -233,32 +208,20 @@ public class RenderingsUtil {
 			array = fillArray(array, arraySize, endianess);
 		}
 
-		BigInteger value = new BigInteger("0"); //$NON-NLS-1$
+		// magnitude in big endian order
+		byte[] magnitude = new byte[arraySize];
 		if (endianess == RenderingsUtil.LITTLE_ENDIAN)
 		{
-			for (int i=0; i< arraySize; i++)
+			for (int i=0; i<arraySize; i++)
 			{
-				byte[] temp = new byte[1];
-				temp[0] = array[i];
-				BigInteger b = new BigInteger(temp);
-				b = b.and(new BigInteger("ff", 16)); //$NON-NLS-1$
-				b = b.shiftLeft(i*8);
-				value = value.or(b);
+				magnitude[i] = array[arraySize-1-i];
 			}
 		}
 		else
 		{
-			for (int i=0; i< arraySize; i++)
-			{
-				byte[] temp = new byte[1];
-				temp[0] = array[i];
-				BigInteger b = new BigInteger(temp);
-				b = b.and(new BigInteger("ff", 16)); //$NON-NLS-1$
-				b = b.shiftLeft((arraySize-1-i)*8);
-				value = value.or(b);
-			}
+			System.arraycopy(array, 0, magnitude, 0, arraySize);
 		}
-		return value;
+		return new BigInteger(1, magnitude);
 	}
 
 	/**
@@ -506,27 +469,22 @@ public class RenderingsUtil {
 	 */
 	static public String convertByteArrayToHexString(byte[] byteArray)
 	{
-		StringBuffer strBuffer = new StringBuffer();
-		char charArray[];
+		char[] charArray = new char[byteArray.length * 2];
 
 		for (int i=0; i<byteArray.length;i ++)
 		{
-			charArray = RenderingsUtil.convertByteToCharArray(byteArray[i]);
-			strBuffer.append(charArray);
+			int val = byteArray[i] & 0xFF;
+			charArray[i * 2] = HEX_DIGITS[val >>> 4];
+			charArray[i * 2 + 1] = HEX_DIGITS[val & 0xF];
 		}
 
-		return strBuffer.toString();
+		return new String(charArray);
 	}
 
 	static public char[] convertByteToCharArray(byte aByte)
 	{
-		char charArray[] = new char[2];
-		int val = aByte;
-		if (val<0) val += 256;
-		charArray[0] = Character.forDigit(val/16, 16);
-		charArray[1] = Character.forDigit(val%16, 16);
-
-		return charArray;
+		int val = aByte & 0xFF;
+		return new char[] { HEX_DIGITS[val >>> 4], HEX_DIGITS[val & 0xF] };
 	}
 
 	/**
@@ -15,6 +15,7 @@ package org.eclipse.debug.internal.ui.views.memory.renderings;
 
 import java.math.BigInteger;
 
+import org.eclipse.debug.core.model.MemoryBuffer;
 import org.eclipse.debug.core.model.MemoryByte;
 import org.eclipse.debug.internal.ui.DebugUIPlugin;
 import org.eclipse.debug.ui.IDebugUIConstants;
@@ -23,7 +24,7 @@ import org.eclipse.debug.ui.IDebugUIConstants;
  *
  * Represent a signed integer rendering.
  */
-public class SignedIntegerRendering extends AbstractIntegerRendering {
+public class SignedIntegerRendering extends AbstractIntegerRendering implements ILineFormattingRendering {
 
 	private int fColSize;
 	private BigInteger fMax;
@@ -58,6 +59,11 @@ public class SignedIntegerRendering extends AbstractIntegerRendering {
 		{
 			result = RenderingsUtil.convertByteArrayToLong(byteArray, endianess);
 		}
+		else if (columnSize < 8 && byteArray.length == columnSize)
+		{
+			// fits into a long, avoid creating a BigInteger
+			result = RenderingsUtil.convertByteArrayToLong(byteArray, endianess, columnSize, true);
+		}
 		else if (columnSize == 16)
 		{
 			BigInteger bigRet = RenderingsUtil.convertByteArrayToSignedBigInt(byteArray, endianess);
@@ -69,7 +75,7 @@ public class SignedIntegerRendering extends AbstractIntegerRendering {
 			return bigRet.toString();
 		}
 
-		ret = Long.valueOf(result).toString();
+		ret = Long.toString(result);
 
 		return ret;
 	}
@@ -189,6 +195,18 @@ public class SignedIntegerRendering extends AbstractIntegerRendering {
 		return convertToString(byteArray, columnSize, endianess);
 	}
 
+	@Override
+	public boolean formatLine(MemoryBuffer line, MemoryLineFormatter formatter) {
+		// subclasses may customize the conversion of single columns, and
+		// columns beyond eight bytes need BigInteger arithmetic
+		if (getClass() != SignedIntegerRendering.class || getBytesPerColumn() > 8) {
+			return false;
+		}
+		String paddedStr = DebugUIPlugin.getDefault().getPreferenceStore().getString(IDebugUIConstants.PREF_PADDED_STR);
+		formatter.formatInteger(line, getBytesPerColumn(), getDisplayEndianess(), true, paddedStr);
+		return true;
+	}
+
 	@Override
 	public byte[] getBytes(String dataType, BigInteger address, MemoryByte[] currentValues, String data) {
 
@@ -22,6 +22,7 @@ import org.eclipse.debug.core.model.IMemoryBlockExtension;
 import org.eclipse.debug.core.model.MemoryByte;
 import org.eclipse.debug.internal.ui.DebugUIMessages;
 import org.eclipse.debug.internal.ui.DebugUIPlugin;
+import org.eclipse.debug.internal.ui.views.memory.MemoryPageCache;
 import org.eclipse.debug.internal.ui.views.memory.MemoryViewUtil;
 import org.eclipse.debug.ui.IDebugUIConstants;
 import org.eclipse.debug.ui.memory.AbstractTableRendering;
@@ -209,6 +210,7 @@ public class TableRenderingCellModifier implements ICellModifier {
 			} else {
 				memoryBlk.setValue(offset.longValue(), bytes);
 			}
+            MemoryPageCache.invalidateCache(memoryBlk);
         } catch (DebugException e) {
             MemoryViewUtil.openError(DebugUIMessages.MemoryViewCellModifier_failure_title, DebugUIMessages.MemoryViewCellModifier_failed, e);
         } catch (NumberFormatException e) {
@@ -27,12 +27,14 @@ import org.eclipse.debug.core.model.IDebugElement;
 import org.eclipse.debug.core.model.IDebugTarget;
 import org.eclipse.debug.core.model.IMemoryBlock;
 import org.eclipse.debug.core.model.IMemoryBlockExtension;
+import org.eclipse.debug.core.model.MemoryBuffer;
 import org.eclipse.debug.core.model.MemoryByte;
 import org.eclipse.debug.internal.ui.DebugUIMessages;
 import org.eclipse.debug.internal.ui.DebugUIPlugin;
 import org.eclipse.debug.internal.ui.IInternalDebugUIConstants;
 import org.eclipse.debug.internal.ui.memory.IMemoryRenderingUpdater;
 import org.eclipse.debug.internal.ui.preferences.IDebugPreferenceConstants;
+import org.eclipse.debug.internal.ui.views.memory.MemoryPageCache;
 import org.eclipse.debug.internal.ui.views.memory.MemoryViewUtil;
 import org.eclipse.debug.ui.DebugUITools;
 import org.eclipse.debug.ui.IDebugUIConstants;
@@ -313,9 +315,6 @@ public class TableRenderingContentProvider extends BasicDebugViewContentProvider
 
 		DebugException dbgEvt = null;
 
-		// calculate address size
-		String adjustedAddress = startingAddress.toString(16);
-
 		int addressSize;
 		try {
 			addressSize = getAddressSize(startingAddress);
@@ -333,7 +332,7 @@ public class TableRenderingContentProvider extends BasicDebugViewContentProvider
 		}
 
 		IMemoryBlockExtension extMemoryBlock = null;
-		MemoryByte[] memoryBuffer = null;
+		MemoryBuffer memoryBuffer = null;
 
 		String paddedString = DebugUIPlugin.getDefault().getPreferenceStore().getString(IDebugUIConstants.PREF_PADDED_STR);
 
@@ -348,7 +347,7 @@ public class TableRenderingContentProvider extends BasicDebugViewContentProvider
 
 				long reqNumberOfUnits = getTableRendering(fInput).getAddressableUnitPerLine() * numberOfLines;
 
-				memoryBuffer =	extMemoryBlock.getBytesFromAddress(startingAddress,	reqNumberOfUnits);
+				memoryBuffer = MemoryPageCache.getCache(extMemoryBlock).getMemory(this, startingAddress, reqNumberOfUnits);
 
 				if(memoryBuffer == null)
 				{
@@ -370,11 +369,9 @@ public class TableRenderingContentProvider extends BasicDebugViewContentProvider
 				int prefillNumBytes = 0;
 
 				// number of bytes need to prefill
-				if (!startingAddress.toString(16).endsWith("0")) //$NON-NLS-1$
+				BigInteger adjustedStart = MemoryViewUtil.alignToBoundary(startingAddress, 16);
+				if (!adjustedStart.equals(startingAddress))
 				{
-					adjustedAddress = startingAddress.toString(16).substring(0, adjustedAddress.length() - 1);
-					adjustedAddress += "0"; //$NON-NLS-1$
-					BigInteger adjustedStart = new BigInteger(adjustedAddress, 16);
 					prefillNumBytes = startingAddress.subtract(adjustedStart).intValue();
 					startingAddress = adjustedStart;
 				}
@@ -388,43 +385,9 @@ public class TableRenderingContentProvider extends BasicDebugViewContentProvider
 
 				numberOfLines = reqNumBytes / getTableRendering(fInput).getBytesPerLine();
 
-				// create memory byte for IMemoryBlock
-				memoryBuffer = new MemoryByte[(int)reqNumBytes];
-
-				// prefill buffer to ensure double-word alignment
-				for (int i=0; i<prefillNumBytes; i++)
-				{
-					MemoryByte tmp = new MemoryByte();
-					tmp.setValue((byte)0);
-					tmp.setWritable(false);
-					tmp.setReadable(false);
-					tmp.setEndianessKnown(false);
-					memoryBuffer[i] = tmp;
-				}
-
-				// fill buffer with memory returned by debug adapter
-				int j = prefillNumBytes; 							// counter for memoryBuffer
-				for (int i=0; i<memory.length; i++)
-				{
-					MemoryByte tmp = new MemoryByte();
-					tmp.setValue(memory[i]);
-					tmp.setReadable(true);
-					tmp.setWritable(true);
-					tmp.setEndianessKnown(false);
-					memoryBuffer[j] = tmp;
-					j++;
-				}
-
-				// append to buffer to fill up the entire line
-				for (int i=j; i<memoryBuffer.length; i++)
-				{
-					MemoryByte tmp = new MemoryByte();
-					tmp.setValue((byte)0);
-					tmp.setWritable(false);
-					tmp.setReadable(false);
-					tmp.setEndianessKnown(false);
-					memoryBuffer[i] = tmp;
-				}
+				// prefill buffer to ensure double-word alignment and append
+				// to buffer to fill up the entire line
+				memoryBuffer = MemoryViewUtil.padMemory(memory, prefillNumBytes, (int)reqNumBytes);
 			}
 		}
 		catch (DebugException e)
@@ -444,26 +407,9 @@ public class TableRenderingContentProvider extends BasicDebugViewContentProvider
 		}
 
 		// if debug adapter did not return enough memory, create dummy memory
-		if (memoryBuffer.length < reqNumBytes)
+		if (memoryBuffer.length() < reqNumBytes)
 		{
-			ArrayList<MemoryByte> newBuffer = new ArrayList<>();
-
-			for (int i=0; i<memoryBuffer.length; i++)
-			{
-				newBuffer.add(memoryBuffer[i]);
-			}
-
-			for (int i=memoryBuffer.length; i<reqNumBytes; i++)
-			{
-				MemoryByte mb = new MemoryByte();
-				mb.setReadable(false);
-				mb.setWritable(false);
-				mb.setEndianessKnown(false);
-				newBuffer.add(mb);
-			}
-
-			memoryBuffer = newBuffer.toArray(new MemoryByte[newBuffer.size()]);
-
+			memoryBuffer = MemoryBuffer.concat(memoryBuffer, MemoryBuffer.fill((int)reqNumBytes - memoryBuffer.length(), MemoryBuffer.UNREADABLE_FLAGS));
 		}
 
 		// clear line cache
@@ -471,7 +417,7 @@ public class TableRenderingContentProvider extends BasicDebugViewContentProvider
 		{
 			lineCache.clear();
 		}
-		String address = startingAddress.toString(16);
+		MemoryAddress address = MemoryAddress.valueOf(startingAddress);
 		// save address of the top of buffer
 		fBufferTopAddress = startingAddress;
 
@@ -493,56 +439,30 @@ public class TableRenderingContentProvider extends BasicDebugViewContentProvider
 		}
 	}
 
-	private void organizeLines(long numberOfLines, boolean updateDelta, int addressLength, MemoryByte[] memoryBuffer, String paddedString, String address, boolean manageDelta)
+	private void organizeLines(long numberOfLines, boolean updateDelta, int addressLength, MemoryBuffer memoryBuffer, String paddedString, MemoryAddress address, boolean manageDelta)
 	{
+		if (manageDelta)
+		{
+			// turn off both change and known bits to make sure that
+			// the change bits returned by debug adapters do not take
+			// any effect
+			memoryBuffer = memoryBuffer.clearFlags((byte)(MemoryByte.HISTORY_KNOWN | MemoryByte.CHANGED));
+		}
+
+		int addressableUnit = getTableRendering(fInput).getBytesPerLine()/getTableRendering(fInput).getAddressableSize();
 		for (int i = 0; i < numberOfLines; i++)
 		{   //chop the raw memory up
-			String tmpAddress = address.toUpperCase();
-			if (tmpAddress.length() < addressLength)
-			{
-				while  (tmpAddress.length() < addressLength)
-				{
-					tmpAddress = "0" + tmpAddress; //$NON-NLS-1$
-				}
-			}
+			String tmpAddress = address.toHexString(addressLength);
 			int bytesPerLine = getTableRendering(fInput).getBytesPerLine();
-			MemoryByte[] memory = new MemoryByte[bytesPerLine];
+			MemoryByte[] memory = memoryBuffer.toMemoryBytes(i * bytesPerLine, bytesPerLine);
 			boolean isMonitored = true;
 
-			// counter for memory, starts from 0 to number of bytes per line
-			int k = 0;
-			// j is the counter for memArray, memory returned by debug adapter
-			for (int j = i * bytesPerLine;
-				j < i * bytesPerLine + bytesPerLine;
-				j++)
+			if (!manageDelta)
 			{
-
-				byte changeFlag = memoryBuffer[j].getFlags();
-				if (manageDelta)
+				// If a byte is marked as unknown, the line is not monitored
+				for (int j = 0; j < memory.length && isMonitored; j++)
 				{
-					// turn off both change and known bits to make sure that
-					// the change bits returned by debug adapters do not take
-					// any effect
-
-					changeFlag |= MemoryByte.HISTORY_KNOWN;
-					changeFlag ^= MemoryByte.HISTORY_KNOWN;
-
-					changeFlag |= MemoryByte.CHANGED;
-					changeFlag ^= MemoryByte.CHANGED;
-				}
-
-				MemoryByte newByteObj = new MemoryByte(memoryBuffer[j].getValue(), changeFlag);
-				memory[k] =  newByteObj;
-				k++;
-
-
-				if (!manageDelta)
-				{
-					// If the byte is marked as unknown, the line is not monitored
-					if (!memoryBuffer[j].isHistoryKnown())
-					{
-						isMonitored = false;
-					}
+					isMonitored = memory[j].isHistoryKnown();
 				}
 			}
 
@@ -600,33 +520,19 @@ public class TableRenderingContentProvider extends BasicDebugViewContentProvider
 
 
 			// increment row address
-			BigInteger bigInt = new BigInteger(address, 16);
-			fBufferEndAddress = bigInt;
-			int addressableUnit = getTableRendering(fInput).getBytesPerLine()/getTableRendering(fInput).getAddressableSize();
-			address = bigInt.add(BigInteger.valueOf(addressableUnit)).toString(16);
+			fBufferEndAddress = address.toBigInteger();
+			address = address.add(addressableUnit);
 		}
 	}
 
 	/**
 	 * @param numberOfLines
-	 * @return an array of dummy MemoryByte
+	 * @return a buffer of dummy memory
 	 */
-	private MemoryByte[] makeDummyContent(long numberOfLines) {
-		MemoryByte[] memoryBuffer;
+	private MemoryBuffer makeDummyContent(long numberOfLines) {
 		// make up dummy memory, needed for recovery in case the debug adapter
 		// is capable of retrieving memory again
-
-		int numBytes = (int)(getTableRendering(fInput).getBytesPerLine() * numberOfLines);
-		memoryBuffer = new MemoryByte[numBytes];
-
-		for (int i=0; i<memoryBuffer.length; i++){
-			memoryBuffer[i] = new MemoryByte();
-			memoryBuffer[i].setValue((byte)0);
-			memoryBuffer[i].setWritable(false);
-			memoryBuffer[i].setReadable(false);
-			memoryBuffer[i].setEndianessKnown(false);
-		}
-		return memoryBuffer;
+		return MemoryBuffer.fill((int)(getTableRendering(fInput).getBytesPerLine() * numberOfLines), MemoryBuffer.UNREADABLE_FLAGS);
 	}
 
 	@Override
@@ -761,9 +667,6 @@ public class TableRenderingContentProvider extends BasicDebugViewContentProvider
 	 */
 	public int getAddressSize(BigInteger address) throws DebugException
 	{
-		// calculate address size
-		 String adjustedAddress = address.toString(16);
-
 		 int addressSize = 0;
 		 if (fInput.getMemoryBlock() instanceof IMemoryBlockExtension)
 		 {
@@ -773,7 +676,8 @@ public class TableRenderingContentProvider extends BasicDebugViewContentProvider
 		 // handle IMemoryBlock and invalid address size returned by IMemoryBlockExtension
 		 if (addressSize <= 0)
 		 {
-			 if (adjustedAddress.length() > 8)
+			 // more than 8 hex digits
+			 if (address.bitLength() > 32)
 			 {
 				 addressSize = 8;
 			 }
@@ -903,8 +807,8 @@ public class TableRenderingContentProvider extends BasicDebugViewContentProvider
 			int numberOfLines = buffer.length / numBytesPerLine;
 			boolean updateDelta = false;
 			int addressLength = getAddressSize(lineAddress) * IInternalDebugUIConstants.CHAR_PER_BYTE;
-			MemoryByte[] memoryBuffer = buffer;
-			String address =renderingLines[0].getAddress();
+			MemoryBuffer memoryBuffer = MemoryBuffer.fromMemoryBytes(buffer);
+			MemoryAddress address = MemoryAddress.valueOf(lineAddress);
 			String paddedString = DebugUITools.getPreferenceStore().getString(IDebugUIConstants.PREF_PADDED_STR);
 
 			// set to false to preserve information delta information
@@ -960,7 +864,7 @@ public class TableRenderingContentProvider extends BasicDebugViewContentProvider
 	private TableRenderingLine[] convertBytesToLines(MemoryByte[] bytes, int bytesPerLine, BigInteger startAddress)
 	{
 		int numOfLines = bytes.length / bytesPerLine;
-		String address = startAddress.toString(16);
+		MemoryAddress address = MemoryAddress.valueOf(startAddress);
 		int addressLength;
 		try {
 			addressLength = getAddressSize(startAddress) * IInternalDebugUIConstants.CHAR_PER_BYTE;
@@ -970,29 +874,21 @@ public class TableRenderingContentProvider extends BasicDebugViewContentProvider
 		}
 		ArrayList<TableRenderingLine> lines = new ArrayList<>();
 		String paddedString = DebugUITools.getPreferenceStore().getString(IDebugUIConstants.PREF_PADDED_STR);
+		int addressableUnit = getTableRendering(fInput).getBytesPerLine()/getTableRendering(fInput).getAddressableSize();
 
 		for (int i=0; i<numOfLines; i++)
 		{
 			MemoryByte[] temp = new MemoryByte[bytesPerLine];
 			System.arraycopy(bytes, i*bytesPerLine, temp, 0, bytesPerLine);
 
-			String tmpAddress = address.toUpperCase();
-			if (tmpAddress.length() < addressLength)
-			{
-				while (tmpAddress.length() < addressLength)
-				{
-					tmpAddress = "0" + tmpAddress; //$NON-NLS-1$
-				}
-			}
+			String tmpAddress = address.toHexString(addressLength);
 
 			TableRenderingLine newLine = new TableRenderingLine(tmpAddress, temp, lines.size(), paddedString);
 			lines.add(newLine);
 
 			// increment row address
-			BigInteger bigInt = new BigInteger(address, 16);
-			fBufferEndAddress = bigInt;
-			int addressableUnit = getTableRendering(fInput).getBytesPerLine()/getTableRendering(fInput).getAddressableSize();
-			address = bigInt.add(BigInteger.valueOf(addressableUnit)).toString(16);
+			fBufferEndAddress = address.toBigInteger();
+			address = address.add(addressableUnit);
 		}
 
 		return lines.toArray(new TableRenderingLine[lines.size()]);
@@ -28,6 +28,7 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.debug.core.model.IMemoryBlock;
 import org.eclipse.debug.core.model.IMemoryBlockExtension;
+import org.eclipse.debug.core.model.MemoryBuffer;
 import org.eclipse.debug.core.model.MemoryByte;
 import org.eclipse.debug.internal.ui.memory.provisional.AbstractAsyncTableRendering;
 import org.eclipse.debug.internal.ui.memory.provisional.MemoryViewPresentationContext;
@@ -194,6 +195,13 @@ public class TableRenderingModel extends AbstractVirtualContentTableModel implem
 
 				if (oldSegment != null) {
 					if (oldSegment.getNumAddressableUnits() == newSegment.getNumAddressableUnits()) {
+						// memory of the same version did not change
+						if (newSegment.getVersion() >= 0 && newSegment.getVersion() == oldSegment.getVersion() && newSegment.setUnchanged()) {
+							continue;
+						}
+						if (compareBuffers(newSegment, oldSegment)) {
+							continue;
+						}
 						MemoryByte[] newBytes = newSegment.getBytes();
 						MemoryByte[] oldBytes = oldSegment.getBytes();
 
@@ -319,6 +327,33 @@ public class TableRenderingModel extends AbstractVirtualContentTableModel implem
 		add(newSegments);
 	}
 
+	/**
+	 * Computes the change flags of a segment whose memory bytes have not been
+	 * created, without creating them.
+	 *
+	 * @return whether the change flags were computed
+	 */
+	private boolean compareBuffers(MemorySegment newSegment, MemorySegment oldSegment) {
+		MemoryBuffer newBuffer = newSegment.getBuffer();
+		if (newBuffer.length() != oldSegment.getLength()) {
+			return false;
+		}
+		int length = newBuffer.length();
+		byte[] values = new byte[length];
+		byte[] flags = new byte[length];
+		newBuffer.getValues(0, values, 0, length);
+		for (int i = 0; i < length; i++) {
+			byte newFlags = (byte) (newBuffer.getFlags(i) | MemoryByte.HISTORY_KNOWN);
+			boolean newReadable = (newFlags & MemoryByte.READABLE) != 0;
+			boolean oldReadable = (oldSegment.getFlags(i) & MemoryByte.READABLE) != 0;
+			if (newReadable != oldReadable || (newReadable && values[i] != oldSegment.getValue(i))) {
+				newFlags |= MemoryByte.CHANGED;
+			}
+			flags[i] = newFlags;
+		}
+		return newSegment.setBuffer(new MemoryBuffer(values, flags));
+	}
+
 	private MemoryByte[] convertSegmentsToBytes(MemorySegment[] segments) {
 		ArrayList<MemoryByte> toReturn = new ArrayList<>();
 		for (int i = 0; i < segments.length; i++) {
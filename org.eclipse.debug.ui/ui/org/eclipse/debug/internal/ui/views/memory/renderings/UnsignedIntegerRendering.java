@@ -15,6 +15,7 @@ package org.eclipse.debug.internal.ui.views.memory.renderings;
 
 import java.math.BigInteger;
 
+import org.eclipse.debug.core.model.MemoryBuffer;
 import org.eclipse.debug.core.model.MemoryByte;
 import org.eclipse.debug.internal.ui.DebugUIPlugin;
 import org.eclipse.debug.ui.IDebugUIConstants;
@@ -22,7 +23,7 @@ import org.eclipse.debug.ui.IDebugUIConstants;
 /**
  * Represent unsigned integer rendering
  */
-public class UnsignedIntegerRendering extends AbstractIntegerRendering {
+public class UnsignedIntegerRendering extends AbstractIntegerRendering implements ILineFormattingRendering {
 
 	/**
 	 * @param memBlock
@@ -52,8 +53,13 @@ public class UnsignedIntegerRendering extends AbstractIntegerRendering {
 		}
 		else if (columnSize == 8)
 		{
-			BigInteger value = RenderingsUtil.convertByteArrayToUnsignedLong(byteArray, endianess);
-			return value.toString();
+			result = RenderingsUtil.convertByteArrayToLong(byteArray, endianess);
+			return Long.toUnsignedString(result);
+		}
+		else if (columnSize < 8 && byteArray.length == columnSize)
+		{
+			// fits into a long, avoid creating a BigInteger
+			result = RenderingsUtil.convertByteArrayToLong(byteArray, endianess, columnSize, false);
 		}
 		else if (columnSize == 16)
 		{
@@ -66,7 +72,7 @@ public class UnsignedIntegerRendering extends AbstractIntegerRendering {
 			return bigRet.toString();
 		}
 
-		ret = Long.valueOf(result).toString();
+		ret = Long.toString(result);
 
 		return ret;
 	}
@@ -172,6 +178,18 @@ public class UnsignedIntegerRendering extends AbstractIntegerRendering {
 		return convertToString(byteArray, columnSize, endianess);
 	}
 
+	@Override
+	public boolean formatLine(MemoryBuffer line, MemoryLineFormatter formatter) {
+		// subclasses may customize the conversion of single columns, and
+		// columns beyond eight bytes need BigInteger arithmetic
+		if (getClass() != UnsignedIntegerRendering.class || getBytesPerColumn() > 8) {
+			return false;
+		}
+		String paddedStr = DebugUIPlugin.getDefault().getPreferenceStore().getString(IDebugUIConstants.PREF_PADDED_STR);
+		formatter.formatInteger(line, getBytesPerColumn(), getDisplayEndianess(), false, paddedStr);
+		return true;
+	}
+
 	@Override
 	public byte[] getBytes(String dataType, BigInteger address, MemoryByte[] currentValues, String data) {
 
@@ -30,6 +30,7 @@ import org.eclipse.debug.internal.ui.IInternalDebugUIConstants;
 import org.eclipse.debug.internal.ui.memory.IMemoryBlockConnection;
 import org.eclipse.debug.internal.ui.memory.IPersistableDebugElement;
 import org.eclipse.debug.internal.ui.preferences.IDebugPreferenceConstants;
+import org.eclipse.debug.internal.ui.views.memory.MemoryPageCache;
 import org.eclipse.debug.internal.ui.views.memory.MemoryViewUtil;
 import org.eclipse.debug.internal.ui.views.memory.renderings.AbstractBaseTableRendering;
 import org.eclipse.debug.internal.ui.views.memory.renderings.CopyTableRenderingToClipboardAction;
@@ -2144,6 +2145,9 @@ public abstract class AbstractTableRendering extends AbstractBaseTableRendering
 		IMemoryBlock mem = getMemoryBlock();
 		BigInteger address;
 
+		// memory read before the refresh may be out of date
+		MemoryPageCache.invalidateCache(mem);
+
 		if (mem instanceof IMemoryBlockExtension)
 		{
 			try {